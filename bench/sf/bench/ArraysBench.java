@@ -0,0 +1,935 @@
+/**
+ * \file
+ * Defines the ArraysBench class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.bench;
+
+/* #imports {{{ */
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import sf.lang.*;
+/* }}} #imports */
+
+/**
+ * Benchmarks of the \c sf.lang.arrays class.
+ * Run it with <tt>make bench</tt>. Arguments are passed through the \c ARGS
+ * variable, like in <tt>make bench ARGS="-t 500 4096 copy"</tt>. See the \c
+ * Runner class for the list of arguments.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public final class ArraysBench
+{
+    // public static void main(String[] args);/*{{{*/
+    /**
+     * Application entry point.
+     * @param args Command line arguments.
+     * @since 2.5
+     **/
+    public static void main(String[] args)
+    {
+        Runner.main(BENCHMARKS, args);
+    }/*}}}*/
+
+    /** \name Benchmarks */ //@{
+    // static abstract class bytes extends Benchmark;/*{{{*/
+    /**
+     * Base for benchmarks that work over a byte array of random data.
+     **/
+    static abstract class bytes extends Benchmark
+    {
+        bytes(String name) { super(name); }
+
+        public void setup(int size) {
+            data = new byte[size];
+            temp = new byte[size];
+            new Random(size).nextBytes(data);
+        }
+
+        byte[] data;
+        byte[] temp;
+    }/*}}}*/
+    // static abstract class ints extends Benchmark;/*{{{*/
+    /**
+     * Base for benchmarks that work over an integer array of random data.
+     * The size is the number of bytes of the array, so there are \c size/4
+     * elements.
+     **/
+    static abstract class ints extends Benchmark
+    {
+        ints(String name) { super(name); }
+
+        public void setup(int size) {
+            Random random = new Random(size);
+            values = new int[size / 4];
+            for (int i = 0; i < values.length; i++)
+                values[i] = random.nextInt();
+        }
+
+        int[] values;
+    }/*}}}*/
+    // static abstract class mapped extends bytes;/*{{{*/
+    /**
+     * Base for benchmarks over a memory mapped temporary file holding the
+     * random data.
+     **/
+    static abstract class mapped extends bytes
+    {
+        mapped(String name) { super(name); }
+
+        public void setup(int size) {
+            super.setup(size);
+            if (file != null) file.close();
+            try {
+                File temp = File.createTempFile("bench", ".bin");
+                temp.deleteOnExit();
+                file = new MappedFile();
+                file.open(temp.getPath(), MappedFile.WRITE);
+                file.setLength(size);
+                file.copy(0, data, 0, -1);
+            }
+            catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        MappedFile file;
+    }/*}}}*/
+    // static abstract class base64 extends bytes;/*{{{*/
+    /**
+     * Base for the encoding benchmarks. Holds the Base64 text of the random
+     * data and the \c java.util.Base64 codec used for comparison. It is from
+     * Java 8 and is reached through reflection, since the library builds for
+     * older versions. Runs that use it fail when it is not available.
+     **/
+    static abstract class base64 extends bytes
+    {
+        base64(String name) { this(name, null, null, null); }
+        base64(String name, String factory, String method, Class<?> arg) {
+            super(name);
+            m_factory = factory;
+            m_method  = method;
+            m_arg     = arg;
+        }
+
+        public void setup(int size) {
+            super.setup(size);
+            text = arrays.toBase64(data, arrays.BASE64);
+            if ((m_factory == null) || (codec != null)) return;
+            try {
+                codec  = Class.forName("java.util.Base64").getMethod(m_factory).invoke(null);
+                method = codec.getClass().getMethod(m_method, m_arg);
+            }
+            catch (Exception ex) {
+                codec = null;
+            }
+        }
+
+        final Object invoke(Object arg) {
+            if (codec == null) throw new UnsupportedOperationException();
+            try {
+                return method.invoke(codec, arg);
+            }
+            catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        final String m_factory, m_method;
+        final Class<?> m_arg;
+        String text;
+        Object codec;
+        Method method;
+    }/*}}}*/
+    // static final class NullWriter extends Writer;/*{{{*/
+    /**
+     * Writer that discards everything.
+     **/
+    static final class NullWriter extends Writer
+    {
+        public void write(char[] buffer, int off, int len) { }
+        public void flush() { }
+        public void close() { }
+    }/*}}}*/
+    // static final class NullStream extends OutputStream;/*{{{*/
+    /**
+     * Stream that discards everything.
+     **/
+    static final class NullStream extends OutputStream
+    {
+        public void write(int b) { }
+        public void write(byte[] buffer, int off, int len) { }
+    }/*}}}*/
+    // static final Benchmark[] BENCHMARKS;/*{{{*/
+    /**
+     * The list of benchmarks available.
+     **/
+    static final Benchmark[] BENCHMARKS = {
+        new bytes("copy") {
+            public int run() { return arrays.copy(temp, 0, data, 0, -1); }
+        },
+        new bytes("move") {
+            public int run() { return arrays.move(data, 1, data, 0, -1); }
+        },
+        new bytes("set") {
+            public int run() { return arrays.set(data, (byte)0x55, 0, -1); }
+        },
+        new bytes("realloc") {
+            public int run() { return arrays.realloc(data, data.length + 1).length; }
+        },
+        new bytes("insert") {
+            public int run() { return arrays.insert(data, data.length / 2, (byte)1).length; }
+        },
+        new bytes("remove") {
+            public int run() { return arrays.length(arrays.remove(data, data.length / 2)); }
+        },
+        new bytes("append") {
+            public void setup(int size) {
+                super.setup(size);
+                temp = new byte[16];
+            }
+            public int run() { return arrays.append(data, temp).length; }
+        },
+        new ints("join") {
+            /* Boxed values, converted by String.valueOf(). */
+            public void setup(int size) {
+                super.setup(size);
+                boxed = new Integer[values.length];
+                for (int i = 0; i < values.length; i++) boxed[i] = values[i];
+            }
+            public int run() { return arrays.join(boxed, ",").length(); }
+            Integer[] boxed;
+        },
+        new ints("joinInts") {
+            public int run() { return arrays.join(values, ",").length(); }
+        },
+        new ints("joinWriter") {
+            public int run() { return (int)arrays.join(values, ",", new NullWriter()); }
+        },
+        new ints("insertAll") {
+            /* Inserts one hundredth of the elements, at most 1000. */
+            public void setup(int size) {
+                super.setup(size);
+                extra = new int[Math.max(1, Math.min(1000, values.length / 100))];
+            }
+            public int run() { return arrays.insertAll(values, values.length / 2, extra).length; }
+            int[] extra;
+        },
+        new ints("insertLoop") {
+            public void setup(int size) {
+                super.setup(size);
+                extra = new int[Math.max(1, Math.min(1000, values.length / 100))];
+            }
+            public int run() {
+                int[] array = values;
+                for (int i = 0; i < extra.length; i++)
+                    array = arrays.insert(array, (values.length / 2) + i, extra[i]);
+                return array.length;
+            }
+            int[] extra;
+        },
+        new ints("removeRange") {
+            public void setup(int size) {
+                super.setup(size);
+                count = Math.max(1, Math.min(1000, values.length / 100));
+            }
+            public int run() { return arrays.length(arrays.removeRange(values, values.length / 2, (values.length / 2) + count)); }
+            int count;
+        },
+        new ints("removeLoop") {
+            /* Same elements of removeRange, removed one at a time. */
+            public void setup(int size) {
+                super.setup(size);
+                count = Math.max(1, Math.min(1000, values.length / 100));
+            }
+            public int run() {
+                int[] array = values.clone();
+                for (int i = 0; i < count; i++)
+                    array = arrays.remove(array, values.length / 2);
+                return arrays.length(array);
+            }
+            int count;
+        },
+        new ints("removeIf") {
+            /* Removes about one hundredth of the elements, spread over the array. */
+            public int run() {
+                return arrays.length(arrays.removeIf(values.clone(), new IntPredicate() {
+                    public boolean test(int value) { return ((value & 127) == 0); }
+                }));
+            }
+        },
+        new ints("sorted.binarySearch") {
+            /* 1000 lookups in a sorted array. */
+            public void setup(int size) {
+                super.setup(size);
+                java.util.Arrays.sort(values);
+            }
+            public int run() {
+                int found = 0;
+                for (int i = 0; i < 1000; i++)
+                    found += sorted.binarySearch(values, values[(i * 7919) % values.length]);
+                return found;
+            }
+        },
+        new ints("sorted.insertSorted") {
+            public void setup(int size) {
+                super.setup(size);
+                java.util.Arrays.sort(values);
+            }
+            public int run() { return sorted.insertSorted(values, 12345, false).length; }
+        },
+        new ints("sorted.intersection") {
+            /* A list with one hundredth of the elements against a large one. */
+            public void setup(int size) {
+                super.setup(size);
+                java.util.Arrays.sort(values);
+                small = new int[(values.length + 99) / 100];
+                for (int i = 0; i < small.length; i++)
+                    small[i] = values[i * 100];
+            }
+            public int run() { return sorted.intersection(values, small).length; }
+            int[] small;
+        },
+        new ints("sorted.union") {
+            public void setup(int size) {
+                super.setup(size);
+                java.util.Arrays.sort(values);
+                other = new int[values.length];
+                for (int i = 0; i < other.length; i++)
+                    other[i] = values[i] + 1;
+            }
+            public int run() { return sorted.union(values, other).length; }
+            int[] other;
+        },
+        new bytes("slice") {
+            public int run() { return arrays.slice(data, data.length / 4, data.length / 2).length; }
+        },
+        new bytes("slice.crc16") {
+            /* Checksum of a sub-range through a copy. */
+            public int run() { return arrays.crc16(arrays.slice(data, data.length / 4, data.length / 2)); }
+        },
+        new bytes("view.crc16") {
+            /* Checksum of a sub-range through a view. */
+            public int run() { return arrays.crc16(new ByteSlice(data, data.length / 4, data.length / 2)); }
+        },
+        new bytes("pool.slice") {
+            public int run() {
+                byte[] temp = pool.slice(data, data.length / 4, data.length / 2);
+                pool.release(temp);
+                return temp.length;
+            }
+            final ArrayPool pool = new ArrayPool();
+        },
+        new bytes("getChars") {
+            public void setup(int size) {
+                super.setup(size);
+                text = arrays.toString(data);
+            }
+            public int run() { return strings.getChars(text, 0, -1).length; }
+            String text;
+        },
+        new bytes("pool.getChars") {
+            public void setup(int size) {
+                super.setup(size);
+                text = arrays.toString(data);
+            }
+            public int run() {
+                char[] temp = pool.getChars(text, 0, -1);
+                pool.release(temp);
+                return temp.length;
+            }
+            final ArrayPool pool = new ArrayPool(Integer.MAX_VALUE, ArrayPool.DEPTH);
+            String text;
+        },
+        new bytes("indexOf") {
+            /* The value is at the last position. */
+            public void setup(int size) {
+                super.setup(size);
+                for (int i = 0; i < size; i++) data[i] = (byte)(i % 10);
+                if (size > 0) data[size - 1] = (byte)'\n';
+            }
+            public int run() { return arrays.indexOf(data, (byte)'\n', 0, -1); }
+        },
+        new bytes("indexOfLoop") {
+            /* What callers did before: a hand written loop. */
+            public void setup(int size) {
+                super.setup(size);
+                for (int i = 0; i < size; i++) data[i] = (byte)(i % 10);
+                if (size > 0) data[size - 1] = (byte)'\n';
+            }
+            public int run() {
+                for (int i = 0; i < data.length; i++)
+                    if (data[i] == '\n') return i;
+                return -1;
+            }
+        },
+        new bytes("lastIndexOf") {
+            public void setup(int size) {
+                super.setup(size);
+                for (int i = 0; i < size; i++) data[i] = (byte)(i % 10);
+                if (size > 0) data[0] = (byte)'\n';
+            }
+            public int run() { return arrays.lastIndexOf(data, (byte)'\n', 0, -1); }
+        },
+        new bytes("mismatch") {
+            /* Equal arrays: every byte is compared. */
+            public void setup(int size) {
+                super.setup(size);
+                temp = data.clone();
+            }
+            public int run() { return arrays.mismatch(data, 0, temp, 0, -1); }
+        },
+        new bytes("mismatchLoop") {
+            public void setup(int size) {
+                super.setup(size);
+                temp = data.clone();
+            }
+            public int run() {
+                for (int i = 0; i < data.length; i++)
+                    if (data[i] != temp[i]) return i;
+                return -1;
+            }
+        },
+        new bytes("readInt") {
+            public int run() {
+                int limit = data.length - 4, sum = 0;
+                for (int i = 0; i <= limit; i += 4)
+                    sum += arrays.readInt(data, i);
+                return sum;
+            }
+        },
+        new bytes("readLong") {
+            public int run() {
+                int limit = data.length - 8;
+                long sum = 0;
+                for (int i = 0; i <= limit; i += 8)
+                    sum += arrays.readLong(data, i);
+                return (int)sum;
+            }
+        },
+        new bytes("readLittleEndInt") {
+            public int run() {
+                int limit = data.length - 4, sum = 0;
+                for (int i = 0; i <= limit; i += 4)
+                    sum += arrays.readLittleEndInt(data, i);
+                return sum;
+            }
+        },
+        new bytes("readLittleEndLong") {
+            public int run() {
+                int limit = data.length - 8;
+                long sum = 0;
+                for (int i = 0; i <= limit; i += 8)
+                    sum += arrays.readLittleEndLong(data, i);
+                return (int)sum;
+            }
+        },
+        new bytes("writeInt") {
+            public int run() {
+                int limit = data.length - 4;
+                for (int i = 0; i <= limit; i += 4)
+                    arrays.writeInt(data, i, i);
+                return limit;
+            }
+        },
+        new bytes("writeLong") {
+            public int run() {
+                int limit = data.length - 8;
+                for (int i = 0; i <= limit; i += 8)
+                    arrays.writeLong(data, i, i);
+                return limit;
+            }
+        },
+        new bytes("writeLittleEndInt") {
+            public int run() {
+                int limit = data.length - 4;
+                for (int i = 0; i <= limit; i += 4)
+                    arrays.writeLittleEndInt(data, i, i);
+                return limit;
+            }
+        },
+        new bytes("writeLittleEndLong") {
+            public int run() {
+                int limit = data.length - 8;
+                for (int i = 0; i <= limit; i += 8)
+                    arrays.writeLittleEndLong(data, i, i);
+                return limit;
+            }
+        },
+        new bytes("readInts") {
+            public void setup(int size) {
+                super.setup(size);
+                ints = new int[size / 4];
+            }
+            public int run() { return arrays.readInts(data, 0, ints, 0, -1); }
+            int[] ints;
+        },
+        new bytes("readLittleEndLongs") {
+            public void setup(int size) {
+                super.setup(size);
+                longs = new long[size / 8];
+            }
+            public int run() { return arrays.readLittleEndLongs(data, 0, longs, 0, -1); }
+            long[] longs;
+        },
+        new bytes("readLittleEndInts") {
+            /* A dump of a Little-Endian device converted in one pass. */
+            public void setup(int size) {
+                super.setup(size);
+                ints = new int[size / 4];
+            }
+            public int run() { return arrays.readInts(data, 0, ints, 0, -1, java.nio.ByteOrder.LITTLE_ENDIAN); }
+            int[] ints;
+        },
+        new bytes("readLittleEndIntsLoop") {
+            /* Same conversion done with a native read and a swap per value. */
+            public void setup(int size) {
+                super.setup(size);
+                ints = new int[size / 4];
+            }
+            public int run() {
+                arrays.readInts(data, 0, ints, 0, -1);
+                for (int i = 0; i < ints.length; i++)
+                    ints[i] = numbers.reverse(ints[i]);
+                return ints.length;
+            }
+            int[] ints;
+        },
+        new bytes("writeInts") {
+            public void setup(int size) {
+                super.setup(size);
+                ints = new int[size / 4];
+            }
+            public int run() { return arrays.writeInts(data, 0, ints, 0, -1); }
+            int[] ints;
+        },
+        new bytes("writeLittleEndLongs") {
+            public void setup(int size) {
+                super.setup(size);
+                longs = new long[size / 8];
+            }
+            public int run() { return arrays.writeLittleEndLongs(data, 0, longs, 0, -1); }
+            long[] longs;
+        },
+        new bytes("toString") {
+            public int run() { return arrays.toString(data).length(); }
+        },
+        new bytes("toHex") {
+            public void setup(int size) {
+                super.setup(size);
+                chars = new char[size * 2];
+            }
+            public int run() { return arrays.toHex(data, 0, -1, chars, 0); }
+            char[] chars;
+        },
+        new bytes("toHexWriter") {
+            public int run() { return arrays.toHex(data, 0, -1, new java.io.CharArrayWriter(data.length * 2)); }
+        },
+        new bytes("fromString") {
+            public void setup(int size) {
+                super.setup(size);
+                text = arrays.toString(data);
+            }
+            public int run() { return arrays.fromString(text).length; }
+            String text;
+        },
+        new bytes("fromHex") {
+            public void setup(int size) {
+                super.setup(size);
+                text = arrays.toString(data);
+            }
+            public int run() { return arrays.fromHex(text, 0, -1, temp, 0); }
+            String text;
+        },
+        new base64("toBase64") {
+            public void setup(int size) {
+                super.setup(size);
+                chars = new char[text.length()];
+            }
+            public int run() { return arrays.toBase64(data, 0, -1, chars, 0, arrays.BASE64); }
+            char[] chars;
+        },
+        new base64("toBase64String") {
+            public int run() { return arrays.toBase64(data, arrays.BASE64).length(); }
+        },
+        new base64("Base64.encodeToString", "getEncoder", "encodeToString", byte[].class) {
+            public int run() { return ((String)invoke(data)).length(); }
+        },
+        new base64("fromBase64") {
+            public int run() { return arrays.fromBase64(text, 0, -1, temp, 0); }
+        },
+        new base64("fromBase64String") {
+            public int run() { return arrays.fromBase64(text).length; }
+        },
+        new base64("Base64.decode", "getDecoder", "decode", String.class) {
+            public int run() { return ((byte[])invoke(text)).length; }
+        },
+        new base64("toBase32") {
+            public void setup(int size) {
+                super.setup(size);
+                chars = new char[arrays.base32Length(size, 0)];
+            }
+            public int run() { return arrays.toBase32(data, 0, -1, chars, 0, 0); }
+            char[] chars;
+        },
+        new base64("fromBase32") {
+            public void setup(int size) {
+                super.setup(size);
+                text = arrays.toBase32(data, 0);
+            }
+            public int run() { return arrays.fromBase32(text, 0, -1, temp, 0); }
+        },
+        new bytes("utf8String") {
+            /* The length prefix limits the string to 65535 bytes. */
+            public void setup(int size) {
+                size = Math.min(size, 0xFFFF);
+                data = new byte[size + 2];
+                arrays.writeShort(data, 0, (short)size);
+                for (int i = 2; i < data.length; i++)
+                    data[i] = (byte)('a' + (i % 26));
+            }
+            public long bytes(int size) { return Math.min(size, 0xFFFF); }
+            public int run() { return arrays.utf8String(data, 0).length(); }
+        },
+        new bytes("readUtf8String") {
+            /* Mixed text: ASCII with a few two and three byte characters. */
+            public void setup(int size) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; sb.length() < Math.min(size, 0x5000); i++)
+                    sb.append(((i % 64) == 63) ? '\u20AC' : ((i % 32) == 31) ? '\u00E7' : (char)('a' + (i % 26)));
+                text = sb.toString();
+                data = new byte[arrays.utf8Length(text) + 2];
+                arrays.writeUtf8String(data, 0, text);
+                chars = new char[text.length()];
+            }
+            public long bytes(int size) { return data.length; }
+            public int run() { return arrays.readUtf8String(data, 0, chars, 0); }
+            String text;
+            char[] chars;
+        },
+        new bytes("writeUtf8String") {
+            public void setup(int size) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; sb.length() < Math.min(size, 0x5000); i++)
+                    sb.append(((i % 64) == 63) ? '\u20AC' : ((i % 32) == 31) ? '\u00E7' : (char)('a' + (i % 26)));
+                text = sb.toString();
+                data = new byte[arrays.utf8Length(text) + 2];
+            }
+            public long bytes(int size) { return data.length; }
+            public int run() { return arrays.writeUtf8String(data, 0, text); }
+            String text;
+        },
+        new ints("writeVarInts") {
+            /* Small values, up to 12 bits, like most of our fields. */
+            public void setup(int size) {
+                super.setup(size);
+                for (int i = 0; i < values.length; i++) values[i] >>>= 20;
+                buffer = new byte[values.length * 5];
+            }
+            public int run() { return arrays.writeVarInts(buffer, 0, values, 0, -1); }
+            byte[] buffer;
+        },
+        new ints("readVarInts") {
+            public void setup(int size) {
+                super.setup(size);
+                for (int i = 0; i < values.length; i++) values[i] >>>= 20;
+                buffer = new byte[values.length * 5];
+                arrays.writeVarInts(buffer, 0, values, 0, -1);
+            }
+            public int run() { return arrays.readVarInts(buffer, 0, values, 0, -1); }
+            byte[] buffer;
+        },
+        new ints("writeInts") {
+            public void setup(int size) {
+                super.setup(size);
+                buffer = new byte[values.length * 4];
+            }
+            public int run() { return arrays.writeInts(buffer, 0, values, 0, -1); }
+            byte[] buffer;
+        },
+        new ints("reverseAll") {
+            public int run() { return numbers.reverseAll(values, 0, -1); }
+        },
+        new ints("reverseAllLongs") {
+            public void setup(int size) {
+                super.setup(size);
+                longs = new long[size / 8];
+            }
+            public int run() { return numbers.reverseAll(longs, 0, -1); }
+            long[] longs;
+        },
+        new ints("reverseAllShorts") {
+            public void setup(int size) {
+                super.setup(size);
+                shorts = new short[size / 2];
+            }
+            public int run() { return numbers.reverseAll(shorts, 0, -1); }
+            short[] shorts;
+        },
+        new ints("nibbles.unpack") {
+            public void setup(int size) {
+                super.setup(size);
+                packed = new NibbleArray(values.length);
+                packed.pack(0, values, 0, -1);
+            }
+            public int run() { return packed.unpack(0, values, 0, -1); }
+            NibbleArray packed;
+        },
+        new ints("packed12.unpack") {
+            public void setup(int size) {
+                super.setup(size);
+                packed = new PackedIntArray(values.length, 12);
+                packed.pack(0, values, 0, -1);
+            }
+            public int run() { return packed.unpack(0, values, 0, -1); }
+            PackedIntArray packed;
+        },
+        new ints("packed12.get") {
+            public void setup(int size) {
+                super.setup(size);
+                packed = new PackedIntArray(values.length, 12);
+                packed.pack(0, values, 0, -1);
+            }
+            public int run() {
+                int sum = 0;
+                for (int i = 0, n = packed.length(); i < n; i++)
+                    sum += packed.get(i);
+                return sum;
+            }
+            PackedIntArray packed;
+        },
+        new bytes("reader.readInt") {
+            /* Compare with "readInt": same loop through a cursor. */
+            public int run() {
+                BinaryReader reader = new BinaryReader(data);
+                int sum = 0;
+                for (int i = data.length / 4; i > 0; i--)
+                    sum += reader.readInt();
+                return sum;
+            }
+        },
+        new bytes("reader.record") {
+            /* Records of 16 bytes checked once with require(). */
+            public int run() {
+                BinaryReader reader = new BinaryReader(data);
+                int sum = 0;
+                while (reader.require(16)) {
+                    sum += reader.readInt() + reader.readShort() + reader.readByte();
+                    sum += (int)reader.readLong() + reader.readByte();
+                }
+                return sum;
+            }
+        },
+        new bytes("writer.writeInt") {
+            /* Compare with "writeInt" on a fixed region. */
+            public int run() {
+                BinaryWriter writer = new BinaryWriter(data, 0, data.length);
+                for (int i = data.length / 4; i > 0; i--)
+                    writer.writeInt(i);
+                return writer.position();
+            }
+        },
+        new bytes("input.readInt") {
+            public int run() {
+                BinaryInput input = new BinaryInput(new ByteArrayInputStream(data));
+                int sum = 0;
+                for (int i = data.length / 4; i > 0; i--)
+                    sum += input.readInt();
+                return sum;
+            }
+        },
+        new bytes("DataInputStream.readInt") {
+            /* Compare with "input.readInt". */
+            public int run() {
+                DataInputStream input = new DataInputStream(new BufferedInputStream(new ByteArrayInputStream(data)));
+                int sum = 0;
+                try {
+                    for (int i = data.length / 4; i > 0; i--)
+                        sum += input.readInt();
+                }
+                catch (IOException ex) { /* Not expected. */ }
+                return sum;
+            }
+        },
+        new bytes("output.writeInt") {
+            public int run() {
+                BinaryOutput output = new BinaryOutput(new NullStream());
+                for (int i = data.length / 4; i > 0; i--)
+                    output.writeInt(i);
+                return output.flush();
+            }
+        },
+        new bytes("frames.encode") {
+            /* The size is the payload. Operations are frames. */
+            public void setup(int size) {
+                super.setup(size);
+                temp = new byte[size + frames.OVERHEAD];
+            }
+            public int run() { return frames.encode(temp, 0, data, 0, -1); }
+        },
+        new bytes("frames.seal") {
+            /* Payload already in place. No copy. */
+            public void setup(int size) {
+                super.setup(size);
+                temp = new byte[size + frames.OVERHEAD];
+            }
+            public int run() { return frames.seal(temp, 0, data.length); }
+        },
+        new bytes("frames.decode") {
+            /* A whole frame in each chunk. The payload is not copied. */
+            public void setup(int size) {
+                super.setup(size);
+                frame = frames.encode(data, 0, -1);
+            }
+            public int run() {
+                decoder.feed(frame, 0, frame.length);
+                return decoder.next().length();
+            }
+            FrameDecoder decoder = new FrameDecoder(Integer.MAX_VALUE);
+            byte[] frame;
+        },
+        new bytes("frames.decodeSplit") {
+            /* Each frame split in two chunks, assembled in the decoder. */
+            public void setup(int size) {
+                super.setup(size);
+                frame = frames.encode(data, 0, -1);
+            }
+            public int run() {
+                int half = frame.length / 2;
+                decoder.feed(frame, 0, half);
+                decoder.next();
+                decoder.feed(frame, half, frame.length - half);
+                return decoder.next().length();
+            }
+            FrameDecoder decoder = new FrameDecoder(Integer.MAX_VALUE);
+            byte[] frame;
+        },
+        new bytes("DataOutputStream.writeInt") {
+            /* Compare with "output.writeInt". */
+            public int run() {
+                DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new NullStream(), BinaryInput.BUFFER_SIZE));
+                try {
+                    for (int i = data.length / 4; i > 0; i--)
+                        output.writeInt(i);
+                    output.flush();
+                }
+                catch (IOException ex) { /* Not expected. */ }
+                return output.size();
+            }
+        },
+        new bytes("offheap.set") {
+            public void setup(int size) {
+                super.setup(size);
+                if (memory != null) memory.close();
+                memory = OffHeapArray.allocate(size);
+            }
+            public int run() { return memory.set((byte)0x55, 0, -1); }
+            OffHeapArray memory;
+        },
+        new bytes("offheap.readInt") {
+            public void setup(int size) {
+                super.setup(size);
+                if (memory != null) memory.close();
+                memory = OffHeapArray.allocate(size);
+                memory.copy(0, data, 0, -1);
+            }
+            public int run() {
+                int limit = memory.length() - 4, sum = 0;
+                for (int i = 0; i <= limit; i += 4)
+                    sum += memory.readInt(i);
+                return sum;
+            }
+            OffHeapArray memory;
+        },
+        new bytes("offheap.crc16") {
+            public void setup(int size) {
+                super.setup(size);
+                if (memory != null) memory.close();
+                memory = OffHeapArray.allocate(size);
+                memory.copy(0, data, 0, -1);
+            }
+            public int run() { return memory.crc16(0, -1); }
+            OffHeapArray memory;
+        },
+        new mapped("mapped.readInt") {
+            public int run() {
+                long limit = file.length() - 4;
+                int sum = 0;
+                for (long i = 0; i <= limit; i += 4)
+                    sum += file.readInt(i);
+                return sum;
+            }
+        },
+        new mapped("mapped.crc16") {
+            public int run() { return file.crc16(0, -1); }
+        },
+        new bytes("randomize") {
+            public int run() { return arrays.randomize(data, 0, -1); }
+        },
+        new bytes("randomizeRandom") {
+            /* What arrays.randomize() did before: a new Random in each call. */
+            public int run() { new Random().nextBytes(data); return data[0]; }
+        },
+        new bytes("secureRandomize") {
+            public int run() { return arrays.secureRandomize(data, 0, -1); }
+        },
+        new bytes("crc16") {
+            public int run() { return arrays.crc16(data); }
+        },
+        new bytes("crc16Loop") {
+            public int run() { return crc16Loop(data); }
+        },
+        new bytes("Crc16.update") {
+            /* Same data passed in pieces of 1500 bytes, like network frames. */
+            public int run() {
+                crc.reset();
+                for (int i = 0; i < data.length; i += 1500)
+                    crc.update(data, i, 1500);
+                return crc.value();
+            }
+            Crc16 crc = new Crc16();
+        }
+    };
+    /*}}}*/
+    //@}
+
+    /** \name Reference Implementations */ //@{
+    // static short crc16Loop(byte[] array);/*{{{*/
+    /**
+     * The bit shifting loop used by arrays::crc16() before Crc16 was
+     * added. Kept to compare the throughput of both.
+     **/
+    static short crc16Loop(byte[] array)
+    {
+        int result = 0x0000FFFF;
+        int count = array.length;
+
+        for (int i = 0; i < count; i++)
+        {
+            result  = (((result >> 8) | (result << 8)) & 0x0000FFFF);
+            result ^= (array[i] & 0x000000FF);
+            result ^= (((result & 0x000000FF) >> 4) & 0x0000FFFF);
+            result ^= ((result << 12) & 0x0000FFFF);
+            result ^= (((result & 0x000000FF) << 5) & 0x0000FFFF);
+        }
+        return (short)(result & 0x0000FFFF);
+    }/*}}}*/
+    //@}
+}
+// vim:syntax=java.doxygen
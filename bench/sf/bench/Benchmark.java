@@ -0,0 +1,86 @@
+/**
+ * \file
+ * Defines the Benchmark class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.bench;
+
+/**
+ * Base class of a single benchmark.
+ * A benchmark is prepared by #setup() for a given size and then the #run()
+ * operation is called repeatedly by the \c Runner class, that measures the
+ * throughput and the number of bytes allocated by each call.
+ *
+ * The value returned by #run() is accumulated by the \c Runner so the JIT
+ * compiler cannot discard the operation as dead code.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public abstract class Benchmark
+{
+    /** \name Constructors */ //@{
+    // public Benchmark(String name);/*{{{*/
+    /**
+     * Builds the benchmark.
+     * @param name Name of the benchmark, as shown in the report.
+     * @since 2.5
+     **/
+    public Benchmark(String name)
+    {
+        m_name = name;
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final String name();/*{{{*/
+    /**
+     * Gets the name of this benchmark.
+     * @since 2.5
+     **/
+    public final String name()
+    {
+        return m_name;
+    }/*}}}*/
+    // public long bytes(int size);/*{{{*/
+    /**
+     * Number of bytes processed in a single call to #run().
+     * Used to report the throughput in megabytes per second.
+     * @param size The size passed to #setup().
+     * @return The default implementation returns \a size.
+     * @since 2.5
+     **/
+    public long bytes(int size)
+    {
+        return size;
+    }/*}}}*/
+    //@}
+
+    /** \name Overridables */ //@{
+    // public abstract void setup(int size);/*{{{*/
+    /**
+     * Prepares the data for the benchmark.
+     * @param size The size of the data, in bytes.
+     * @since 2.5
+     **/
+    public abstract void setup(int size);
+    /*}}}*/
+    // public abstract int run();/*{{{*/
+    /**
+     * Runs the measured operation once.
+     * @return Any value derived from the operation result.
+     * @since 2.5
+     **/
+    public abstract int run();
+    /*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private String m_name;      /**< Name of the benchmark. */
+    //@}
+}
+// vim:syntax=java.doxygen
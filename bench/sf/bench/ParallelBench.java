@@ -0,0 +1,154 @@
+/**
+ * \file
+ * Defines the ParallelBench class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.bench;
+
+/* #imports {{{ */
+import java.util.ArrayList;
+import java.util.Random;
+
+import sf.lang.*;
+/* }}} #imports */
+
+/**
+ * Scaling benchmarks of the parallel methods of \c sf.lang.arrays.
+ * Every operation is run with 1, 2, 4, ... threads up to the number of
+ * processors. The number of threads is appended to the benchmark name, like
+ * in <tt>parallelSet/4</tt>. Run it with:
+ * <pre>
+ * make bench BENCHMAIN=sf.bench.ParallelBench ARGS="-t 500 67108864"
+ * </pre>
+ * Besides the arguments of \c Runner it accepts <tt>-c count</tt> to set the
+ * maximum number of threads. The default is the number of processors.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public final class ParallelBench
+{
+    // public static void main(String[] args);/*{{{*/
+    /**
+     * Application entry point.
+     * @param args Command line arguments.
+     * @since 2.5
+     **/
+    public static void main(String[] args)
+    {
+        ArrayList<String> rest = new ArrayList<String>();
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i < args.length; i++)
+        {
+            if ("-c".equals(args[i]) && (i + 1) < args.length)
+                cores = Integer.parseInt(args[++i]);
+            else
+                rest.add(args[i]);
+        }
+
+        /* Every size runs in parallel. */
+        arrays.parallelThreshold = 1;
+
+        ArrayList<Benchmark> list = new ArrayList<Benchmark>();
+        for (int i = 0; i < OPERATIONS.length; i++)
+        {
+            for (int n = 1; n < cores; n <<= 1)
+                list.add(new scaled(OPERATIONS[i], n));
+            list.add(new scaled(OPERATIONS[i], cores));
+        }
+        Runner.main(list.toArray(new Benchmark[list.size()]), rest.toArray(new String[rest.size()]));
+    }/*}}}*/
+
+    /** \name Benchmarks */ //@{
+    // static abstract class operation;/*{{{*/
+    /**
+     * An operation measured with several numbers of threads.
+     **/
+    static abstract class operation
+    {
+        operation(String name) { this.name = name; }
+
+        void setup(int size) {
+            data = new byte[size];
+            temp = new byte[size];
+            new Random(size).nextBytes(data);
+        }
+        abstract int run();
+
+        final String name;
+        byte[] data;
+        byte[] temp;
+    }/*}}}*/
+    // static final class scaled extends Benchmark;/*{{{*/
+    /**
+     * Runs an operation with a fixed number of threads.
+     **/
+    static final class scaled extends Benchmark
+    {
+        scaled(operation op, int threads) {
+            super(op.name + "/" + threads);
+            this.op = op;
+            this.threads = threads;
+        }
+
+        public void setup(int size) { op.setup(size); }
+        public int run() {
+            arrays.parallelism = threads;
+            return op.run();
+        }
+
+        final operation op;
+        final int threads;
+    }/*}}}*/
+    // static final operation[] OPERATIONS;/*{{{*/
+    /**
+     * The operations measured.
+     **/
+    static final operation[] OPERATIONS = {
+        new operation("parallelSet") {
+            int run() { return arrays.parallelSet(data, (byte)0x55, 0, -1); }
+        },
+        new operation("parallelCopy") {
+            int run() { return arrays.parallelCopy(temp, 0, data, 0, -1); }
+        },
+        new operation("parallelCrc16") {
+            int run() { return arrays.parallelCrc16(data, 0, -1); }
+        },
+        new operation("parallelToString") {
+            int run() { return arrays.parallelToString(data, null, 0).length(); }
+        },
+        new operation("parallelToStringSpaced") {
+            /* Checks the layout of the chunks against the sequential
+             * conversion before measuring. */
+            void setup(int size) {
+                super.setup(size);
+                int threads = arrays.parallelism;
+                arrays.parallelism = Math.max(threads, 4);
+                try {
+                    if (!arrays.parallelToString(data, " ", 2).equals(arrays.toString(data, " ", 2)))
+                        throw new IllegalStateException("parallelToString differs from toString");
+                }
+                finally {
+                    arrays.parallelism = threads;
+                }
+            }
+            int run() { return arrays.parallelToString(data, " ", 2).length(); }
+        },
+        new operation("parallelFromString") {
+            void setup(int size) {
+                super.setup(size);
+                text = arrays.toString(data);
+            }
+            int run() { return arrays.parallelFromString(text).length; }
+            String text;
+        }
+    };
+    /*}}}*/
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,180 @@
+/**
+ * \file
+ * Defines the Runner class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.bench;
+
+/* #imports {{{ */
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+/* }}} #imports */
+
+/**
+ * Runs a list of benchmarks over a range of sizes.
+ * Each benchmark is warmed up and then measured for a fixed amount of time,
+ * for every size. The report has one line per benchmark and size with the
+ * number of operations per second, the throughput in megabytes per second
+ * and the number of bytes allocated per operation.
+ *
+ * The allocated bytes are read from the \c com.sun.management.ThreadMXBean
+ * extension when the JVM provides it. Otherwise the column shows \b -1.
+ *
+ * Command line arguments recognized by #main():
+ * - <tt>-t millis</tt>: time spent measuring each benchmark and size. The
+ *   same time is spent in warm up. Default is 1000 milliseconds.
+ * - Any number: a size, in bytes, to run. Default sizes go from 16 bytes to
+ *   64 megabytes.
+ * - Any other text: runs only the benchmarks with names starting with it.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public final class Runner
+{
+    /** \name Public Constants */ //@{
+    /** Sizes used when none is passed in the command line. */
+    public static final int[] SIZES = { 16, 256, 4096, 65536, 1048576, 16777216, 67108864 };
+    //@}
+
+    /** \name Running */ //@{
+    // public static void main(Benchmark[] list, String[] args);/*{{{*/
+    /**
+     * Parses the command line and runs the benchmarks.
+     * @param list Available benchmarks.
+     * @param args Command line arguments.
+     * @since 2.5
+     **/
+    public static void main(Benchmark[] list, String[] args)
+    {
+        long millis = 1000;
+        int[] sizes = new int[args.length];
+        int count = 0;
+        String[] filters = new String[args.length];
+        int  nfilters = 0;
+
+        for (int i = 0; i < args.length; i++)
+        {
+            if ("-t".equals(args[i]) && (i + 1) < args.length)
+                millis = Long.parseLong(args[++i]);
+            else if (Character.isDigit(args[i].charAt(0)))
+                sizes[count++] = Integer.parseInt(args[i]);
+            else
+                filters[nfilters++] = args[i];
+        }
+
+        if (count == 0)
+            sizes = SIZES;
+        else
+            sizes = java.util.Arrays.copyOf(sizes, count);
+
+        System.out.println(String.format("%-28s %10s %16s %12s %12s", "benchmark", "size", "ops/s", "MB/s", "B/op"));
+        for (int i = 0; i < list.length; i++)
+        {
+            if (!accept(list[i].name(), filters, nfilters)) continue;
+            for (int j = 0; j < sizes.length; j++)
+                run(list[i], sizes[j], millis);
+        }
+    }/*}}}*/
+    // public static void run(Benchmark bench, int size, long millis);/*{{{*/
+    /**
+     * Runs a single benchmark with a single size.
+     * @param bench The benchmark to run.
+     * @param size The size of the data.
+     * @param millis Measuring time, in milliseconds.
+     * @since 2.5
+     **/
+    public static void run(Benchmark bench, int size, long millis)
+    {
+        try { bench.setup(size); }
+        catch (OutOfMemoryError err) {
+            System.out.println(String.format("%-28s %10d %16s", bench.name(), size, "no memory"));
+            return;
+        }
+
+        long start, time, ops;
+        try {
+            measure(bench, millis);         /* Warm up. */
+
+            start = allocated();
+            time  = System.nanoTime();
+            ops   = measure(bench, millis);
+            time  = System.nanoTime() - time;
+            start = ((start < 0) ? -1 : ((allocated() - start) / ops));
+        }
+        catch (Throwable ex) {
+            System.out.println(String.format("%-28s %10d %16s", bench.name(), size, ex.getClass().getSimpleName()));
+            bench.setup(0);
+            return;
+        }
+
+        double secs = time / 1e9;
+        System.out.println(String.format("%-28s %10d %16.1f %12.1f %12d",
+                    bench.name(), size, ops / secs,
+                    (bench.bytes(size) * (double)ops) / (secs * 1048576.0), start));
+        bench.setup(0);                     /* Release memory. */
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // static long measure(Benchmark bench, long millis);/*{{{*/
+    /**
+     * Calls the benchmark operation repeatedly for a period of time.
+     * @return The number of calls done.
+     **/
+    static long measure(Benchmark bench, long millis)
+    {
+        long limit = System.nanoTime() + (millis * 1000000L);
+        long ops = 0;
+        int  batch = 1, sink = 0;
+
+        do {
+            for (int i = 0; i < batch; i++)
+                sink += bench.run();
+            ops += batch;
+            if (batch < 65536) batch <<= 1;
+        } while (System.nanoTime() < limit);
+
+        s_sink += sink;
+        return ops;
+    }/*}}}*/
+    // static long allocated();/*{{{*/
+    /**
+     * Bytes allocated by the current thread so far.
+     * @return The number of bytes or \b -1 when the JVM cannot tell.
+     **/
+    static long allocated()
+    {
+        try {
+            ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+            Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+            Method method = type.getMethod("getThreadAllocatedBytes", long.class);
+            return ((Long)method.invoke(mx, Thread.currentThread().getId())).longValue();
+        }
+        catch (Throwable ex) { /* Not supported. */ }
+        return -1;
+    }/*}}}*/
+    // static boolean accept(String name, String[] filters, int count);/*{{{*/
+    /**
+     * Checks whether a benchmark was selected in the command line.
+     **/
+    static boolean accept(String name, String[] filters, int count)
+    {
+        if (count == 0) return true;
+        for (int i = 0; i < count; i++) {
+            if (name.startsWith(filters[i])) return true;
+        }
+        return false;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    static volatile int s_sink;     /**< Keeps results alive.   */
+    //@}
+}
+// vim:syntax=java.doxygen
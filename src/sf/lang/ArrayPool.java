@@ -0,0 +1,622 @@
+/**
+ * \file
+ * Defines the ArrayPool class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/* #imports {{{ */
+import java.util.ArrayList;
+/* }}} #imports */
+
+/**
+ * \ingroup sf_lang
+ * A pool of temporary byte and char arrays.
+ * Methods like \c arrays::realloc(), \c arrays::slice() and \c
+ * strings::getChars() allocate a new array in every call. When these
+ * arrays are discarded right after use the allocation rate, and the
+ * frequency of garbage collections, can be reduced by reusing them.
+ *
+ * Arrays are grouped in size classes of powers of two, from 16 elements up
+ * to the maximum size set in the constructor. Each thread keeps its own
+ * cache of released arrays, so acquiring and releasing needs no locking.
+ * An array released by a thread is reused by that same thread.
+ *
+ * Arrays returned by the pool can be \b larger than requested. The pooled
+ * variants of \c realloc(), \c slice(), \c insert() and \c append() take
+ * and return the number of valid elements separately, like \c
+ * ByteArrayBuilder does. Every array acquired should be given back with
+ * #release() when it is no longer used. Arrays not released are simply
+ * collected. An array must not be used after it was released.
+ *
+ * Usage:
+ * <pre>
+ * ArrayPool pool = ArrayPool.shared();
+ * byte[] temp = pool.slice(data, 10, 100);
+ * ... use the first 100 bytes of temp ...
+ * pool.release(temp);
+ * </pre>
+ *
+ * The statistics #hits(), #misses() and #bytesSaved() are kept by each
+ * thread and summed when read. Their values are approximate while other
+ * threads are using the pool.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public final class ArrayPool
+{
+    /** \name Constants */ //@{
+    /** Default maximum size of a pooled array, in elements. */
+    public static final int MAX_SIZE = 1048576;
+
+    /** Default number of arrays of each size class kept by a thread. */
+    public static final int DEPTH = 8;
+    //@}
+
+    /** \name Constructors */ //@{
+    // public ArrayPool();/*{{{*/
+    /**
+     * Default constructor.
+     * Builds a pool of arrays up to #MAX_SIZE elements, keeping #DEPTH
+     * arrays of each size in each thread.
+     * @since 2.5
+     **/
+    public ArrayPool()
+    {
+        this(MAX_SIZE, DEPTH);
+    }/*}}}*/
+    // public ArrayPool(int maxSize, int depth);/*{{{*/
+    /**
+     * Builds a pool with the specified limits.
+     * @param maxSize Maximum number of elements of a pooled array. Rounded up
+     * to a power of two, between 16 and 2^30. Larger arrays are allocated
+     * and not pooled.
+     * @param depth Number of arrays of each size class kept by each thread.
+     * At least one.
+     * @since 2.5
+     **/
+    public ArrayPool(int maxSize, int depth)
+    {
+        m_classes = __internal_class(Math.min(Math.max(maxSize, 1 << MIN_SHIFT), 1 << 30)) + 1;
+        m_depth   = Math.max(depth, 1);
+        m_caches  = new ArrayList<cache>();
+    }/*}}}*/
+    //@}
+
+    /** \name Shared Pool */ //@{
+    // public static synchronized ArrayPool shared();/*{{{*/
+    /**
+     * Gets the pool shared by the application.
+     * The pool is created with the default limits on first use.
+     * @return The shared pool.
+     * @since 2.5
+     **/
+    public static synchronized ArrayPool shared()
+    {
+        if (s_shared == null)
+            s_shared = new ArrayPool();
+        return s_shared;
+    }/*}}}*/
+    //@}
+
+    /** \name Acquiring and Releasing */ //@{
+    // public final byte[] acquireBytes(int size);/*{{{*/
+    /**
+     * Gets a byte array.
+     * @param size Minimum length of the array.
+     * @return An array with at least \a size elements. Its content is
+     * undefined. \b null if \a size is less than zero.
+     * @since 2.5
+     **/
+    public final byte[] acquireBytes(int size)
+    {
+        if (size < 0) return null;
+
+        int index = __internal_class(size);
+        cache local = __internal_cache();
+
+        if (index >= m_classes) {
+            local.misses++;
+            return new byte[size];
+        }
+
+        byte[][] slots = local.bytes[index];
+        int count = local.byteCount[index];
+        if (count > 0)
+        {
+            byte[] result = slots[--count];
+            slots[count] = null;
+            local.byteCount[index] = count;
+            local.hits++;
+            local.saved += result.length;
+            return result;
+        }
+        local.misses++;
+        return new byte[1 << (index + MIN_SHIFT)];
+    }/*}}}*/
+    // public final char[] acquireChars(int size);/*{{{*/
+    /**
+     * Gets a char array.
+     * @param size Minimum length of the array.
+     * @return An array with at least \a size elements. Its content is
+     * undefined. \b null if \a size is less than zero.
+     * @since 2.5
+     **/
+    public final char[] acquireChars(int size)
+    {
+        if (size < 0) return null;
+
+        int index = __internal_class(size);
+        cache local = __internal_cache();
+
+        if (index >= m_classes) {
+            local.misses++;
+            return new char[size];
+        }
+
+        char[][] slots = local.chars[index];
+        int count = local.charCount[index];
+        if (count > 0)
+        {
+            char[] result = slots[--count];
+            slots[count] = null;
+            local.charCount[index] = count;
+            local.hits++;
+            local.saved += ((long)result.length << 1);
+            return result;
+        }
+        local.misses++;
+        return new char[1 << (index + MIN_SHIFT)];
+    }/*}}}*/
+    // public final boolean release(byte[] array);/*{{{*/
+    /**
+     * Gives back a byte array.
+     * @param array The array. Can be \b null.
+     * @return \b true when the array was kept for reuse. \b false when it
+     * is \b null, its length is not one of the size classes or the cache of
+     * the calling thread is full. The array is left for the garbage
+     * collector in that case.
+     * @since 2.5
+     **/
+    public final boolean release(byte[] array)
+    {
+        int index = __internal_pooled(arrays.length(array));
+        if (index < 0) return false;
+
+        cache local = __internal_cache();
+        int count = local.byteCount[index];
+        if (count >= m_depth) return false;
+
+        byte[][] slots = local.bytes[index];
+        if (slots == null)
+            slots = local.bytes[index] = new byte[m_depth][];
+
+        slots[count] = array;
+        local.byteCount[index] = count + 1;
+        return true;
+    }/*}}}*/
+    // public final boolean release(char[] array);/*{{{*/
+    /**
+     * Gives back a char array.
+     * @param array The array. Can be \b null.
+     * @return \b true when the array was kept for reuse. \b false when it
+     * is \b null, its length is not one of the size classes or the cache of
+     * the calling thread is full. The array is left for the garbage
+     * collector in that case.
+     * @since 2.5
+     **/
+    public final boolean release(char[] array)
+    {
+        int index = __internal_pooled(arrays.length(array));
+        if (index < 0) return false;
+
+        cache local = __internal_cache();
+        int count = local.charCount[index];
+        if (count >= m_depth) return false;
+
+        char[][] slots = local.chars[index];
+        if (slots == null)
+            slots = local.chars[index] = new char[m_depth][];
+
+        slots[count] = array;
+        local.charCount[index] = count + 1;
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Pooled Operations on Byte Arrays */ //@{
+    // public final byte[] realloc(byte[] array, int count, int size);/*{{{*/
+    /**
+     * Pooled counterpart of \c arrays::realloc().
+     * @param array Current array. Can be \b null. When a new array is
+     * needed this one is released to the pool.
+     * @param count Number of valid elements in \a array.
+     * @param size The new size. If equals to or less than zero \a array is
+     * released and the result is \b null.
+     * @return \a array itself when it has room for \a size elements.
+     * Otherwise an array from the pool with the first \a count elements of
+     * \a array copied.
+     * @since 2.5
+     **/
+    public final byte[] realloc(byte[] array, int count, int size)
+    {
+        if (size <= 0) {
+            release(array);
+            return null;
+        }
+        if (arrays.length(array) >= size) return array;
+
+        byte[] result = acquireBytes(size);
+        arrays.copy(result, 0, array, 0, Math.min(count, size));
+        release(array);
+        return result;
+    }/*}}}*/
+    // public final byte[] slice(byte[] array, int first, int count);/*{{{*/
+    /**
+     * Pooled counterpart of \c arrays::slice().
+     * @param array The original array. Not changed.
+     * @param first Index of the first element. If less than zero or greater
+     * than the length of \a array the result is \b null.
+     * @param count Number of elements. If less than zero or beyond the end
+     * of \a array the remaining elements from \a first are copied.
+     * @return An array from the pool, with the sliced elements at its start,
+     * or \b null if an argument was invalid.
+     * @since 2.5
+     **/
+    public final byte[] slice(byte[] array, int first, int count)
+    {
+        if ((array == null) || (first < 0) || (first > array.length))
+            return null;
+
+        if ((count < 0) || (count > (array.length - first)))
+            count = array.length - first;
+
+        byte[] result = acquireBytes(count);
+        arrays.copy(result, 0, array, first, count);
+        return result;
+    }/*}}}*/
+    // public final byte[] insert(byte[] dest, int count, int position, byte value);/*{{{*/
+    /**
+     * Pooled counterpart of \c arrays::insert().
+     * @param dest Destination array. Can be \b null.
+     * @param count Number of valid elements in \a dest.
+     * @param position Where to insert the value. If less than zero or
+     * greater than \a count the value is appended.
+     * @param value Value to be inserted.
+     * @return \a dest when it has room for one more element. Otherwise an
+     * array from the pool, and \a dest is released. The result has \a count
+     * + 1 valid elements.
+     * @since 2.5
+     **/
+    public final byte[] insert(byte[] dest, int count, int position, byte value)
+    {
+        count = Math.max(Math.min(count, arrays.length(dest)), 0);
+        dest  = realloc(dest, count, count + 1);
+
+        if ((position < 0) || (position >= count))
+            position = count;
+        else
+            arrays.move(dest, (position + 1), dest, position, (count - position));
+
+        dest[position] = value;
+        return dest;
+    }/*}}}*/
+    // public final byte[] append(byte[] dest, int count, byte[] src);/*{{{*/
+    /**
+     * Pooled counterpart of \c arrays::append().
+     * @param dest Destination array. Can be \b null.
+     * @param count Number of valid elements in \a dest.
+     * @param src Elements to append. Can be \b null.
+     * @return \a dest when it has room for the elements of \a src. Otherwise
+     * an array from the pool, and \a dest is released. The result has \a
+     * count plus the length of \a src valid elements.
+     * @since 2.5
+     **/
+    public final byte[] append(byte[] dest, int count, byte[] src)
+    {
+        int length = arrays.length(src);
+
+        count = Math.max(Math.min(count, arrays.length(dest)), 0);
+        if (length == 0) return dest;
+
+        dest = realloc(dest, count, count + length);
+        arrays.copy(dest, count, src, 0, length);
+        return dest;
+    }/*}}}*/
+    //@}
+
+    /** \name Pooled Operations on Char Arrays */ //@{
+    // public final char[] realloc(char[] array, int count, int size);/*{{{*/
+    /**
+     * Pooled counterpart of \c arrays::realloc().
+     * @param array Current array. Can be \b null. When a new array is
+     * needed this one is released to the pool.
+     * @param count Number of valid elements in \a array.
+     * @param size The new size. If equals to or less than zero \a array is
+     * released and the result is \b null.
+     * @return \a array itself when it has room for \a size elements.
+     * Otherwise an array from the pool with the first \a count elements of
+     * \a array copied.
+     * @since 2.5
+     **/
+    public final char[] realloc(char[] array, int count, int size)
+    {
+        if (size <= 0) {
+            release(array);
+            return null;
+        }
+        if (arrays.length(array) >= size) return array;
+
+        char[] result = acquireChars(size);
+        arrays.copy(result, 0, array, 0, Math.min(count, size));
+        release(array);
+        return result;
+    }/*}}}*/
+    // public final char[] slice(char[] array, int first, int count);/*{{{*/
+    /**
+     * Pooled counterpart of \c arrays::slice().
+     * @param array The original array. Not changed.
+     * @param first Index of the first element. If less than zero or greater
+     * than the length of \a array the result is \b null.
+     * @param count Number of elements. If less than zero or beyond the end
+     * of \a array the remaining elements from \a first are copied.
+     * @return An array from the pool, with the sliced elements at its start,
+     * or \b null if an argument was invalid.
+     * @since 2.5
+     **/
+    public final char[] slice(char[] array, int first, int count)
+    {
+        if ((array == null) || (first < 0) || (first > array.length))
+            return null;
+
+        if ((count < 0) || (count > (array.length - first)))
+            count = array.length - first;
+
+        char[] result = acquireChars(count);
+        arrays.copy(result, 0, array, first, count);
+        return result;
+    }/*}}}*/
+    // public final char[] insert(char[] dest, int count, int position, char value);/*{{{*/
+    /**
+     * Pooled counterpart of \c arrays::insert().
+     * @param dest Destination array. Can be \b null.
+     * @param count Number of valid elements in \a dest.
+     * @param position Where to insert the value. If less than zero or
+     * greater than \a count the value is appended.
+     * @param value Value to be inserted.
+     * @return \a dest when it has room for one more element. Otherwise an
+     * array from the pool, and \a dest is released. The result has \a count
+     * + 1 valid elements.
+     * @since 2.5
+     **/
+    public final char[] insert(char[] dest, int count, int position, char value)
+    {
+        count = Math.max(Math.min(count, arrays.length(dest)), 0);
+        dest  = realloc(dest, count, count + 1);
+
+        if ((position < 0) || (position >= count))
+            position = count;
+        else
+            arrays.move(dest, (position + 1), dest, position, (count - position));
+
+        dest[position] = value;
+        return dest;
+    }/*}}}*/
+    // public final char[] append(char[] dest, int count, char[] src);/*{{{*/
+    /**
+     * Pooled counterpart of \c arrays::append().
+     * @param dest Destination array. Can be \b null.
+     * @param count Number of valid elements in \a dest.
+     * @param src Elements to append. Can be \b null.
+     * @return \a dest when it has room for the elements of \a src. Otherwise
+     * an array from the pool, and \a dest is released. The result has \a
+     * count plus the length of \a src valid elements.
+     * @since 2.5
+     **/
+    public final char[] append(char[] dest, int count, char[] src)
+    {
+        int length = arrays.length(src);
+
+        count = Math.max(Math.min(count, arrays.length(dest)), 0);
+        if (length == 0) return dest;
+
+        dest = realloc(dest, count, count + length);
+        arrays.copy(dest, count, src, 0, length);
+        return dest;
+    }/*}}}*/
+    // public final char[] getChars(String s, int start, int count);/*{{{*/
+    /**
+     * Pooled counterpart of \c strings::getChars().
+     * @param s The string. Can be \b null.
+     * @param start Index of the first character.
+     * @param count Number of characters. If less than zero or beyond the end
+     * of \a s the remaining characters from \a start are copied. In that
+     * case the number of valid elements is <tt>s.length() - start</tt>.
+     * @return An array from the pool with the characters at its start. \b
+     * null when \a s is \b null or empty, or \a start is out of its bounds.
+     * @since 2.5
+     **/
+    public final char[] getChars(String s, int start, int count)
+    {
+        int limit = strings.length(s);
+        if ((start < 0) || (start >= limit)) return null;
+        if ((count < 0) || (count > (limit - start)))
+            count = limit - start;
+
+        char[] result = acquireChars(count);
+        s.getChars(start, start + count, result, 0);
+        return result;
+    }/*}}}*/
+    //@}
+
+    /** \name Statistics */ //@{
+    // public final long hits();/*{{{*/
+    /**
+     * Gets the number of arrays acquired from the caches.
+     * @return Number of acquisitions that reused a released array.
+     * @since 2.5
+     **/
+    public final long hits()
+    {
+        long[] totals = __internal_totals();
+        return totals[0];
+    }/*}}}*/
+    // public final long misses();/*{{{*/
+    /**
+     * Gets the number of arrays allocated by the pool.
+     * @return Number of acquisitions that allocated a new array, including
+     * the ones larger than the maximum pooled size.
+     * @since 2.5
+     **/
+    public final long misses()
+    {
+        long[] totals = __internal_totals();
+        return totals[1];
+    }/*}}}*/
+    // public final long bytesSaved();/*{{{*/
+    /**
+     * Gets the number of bytes not allocated thanks to the pool.
+     * @return The sum of the sizes, in bytes, of the arrays reused.
+     * @since 2.5
+     **/
+    public final long bytesSaved()
+    {
+        long[] totals = __internal_totals();
+        return totals[2];
+    }/*}}}*/
+    // public final void resetStatistics();/*{{{*/
+    /**
+     * Sets all statistics to zero.
+     * @since 2.5
+     **/
+    public final void resetStatistics()
+    {
+        synchronized (m_caches)
+        {
+            long[] totals = __internal_totals();
+            m_base[0] -= totals[0];
+            m_base[1] -= totals[1];
+            m_base[2] -= totals[2];
+        }
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Implementation */ //@{
+    // static final class cache;/*{{{*/
+    /**
+     * Arrays and statistics of a single thread.
+     * Only the owner thread changes it.
+     **/
+    static final class cache
+    {
+        cache(Thread owner, int classes) {
+            this.owner = owner;
+            bytes     = new byte[classes][][];
+            chars     = new char[classes][][];
+            byteCount = new int[classes];
+            charCount = new int[classes];
+        }
+
+        final Thread   owner;
+        final byte[][][] bytes;
+        final char[][][] chars;
+        final int[]    byteCount;
+        final int[]    charCount;
+        long hits;
+        long misses;
+        long saved;
+    }/*}}}*/
+    // final cache __internal_cache();/*{{{*/
+    /**
+     * Gets the cache of the calling thread, creating it on first use.
+     **/
+    final cache __internal_cache()
+    {
+        cache local = m_local.get();
+        if (local != null) return local;
+
+        local = new cache(Thread.currentThread(), m_classes);
+        synchronized (m_caches)
+        {
+            /* Caches of finished threads are dropped. Their counters are
+             * kept in the base values. */
+            for (int i = m_caches.size() - 1; i >= 0; i--)
+            {
+                cache item = m_caches.get(i);
+                if (item.owner.isAlive()) continue;
+
+                m_base[0] += item.hits;
+                m_base[1] += item.misses;
+                m_base[2] += item.saved;
+                m_caches.remove(i);
+            }
+            m_caches.add(local);
+        }
+        m_local.set(local);
+        return local;
+    }/*}}}*/
+    // final long[] __internal_totals();/*{{{*/
+    /**
+     * Sums the statistics of all threads.
+     * @return Hits, misses and bytes saved, in this order.
+     **/
+    final long[] __internal_totals()
+    {
+        synchronized (m_caches)
+        {
+            long[] totals = { m_base[0], m_base[1], m_base[2] };
+            for (int i = 0, n = m_caches.size(); i < n; i++)
+            {
+                cache item = m_caches.get(i);
+                totals[0] += item.hits;
+                totals[1] += item.misses;
+                totals[2] += item.saved;
+            }
+            return totals;
+        }
+    }/*}}}*/
+    // final int __internal_pooled(int length);/*{{{*/
+    /**
+     * Gets the size class of an array being released.
+     * @return The index of the class or -1 when the length is not the exact
+     * size of a class.
+     **/
+    final int __internal_pooled(int length)
+    {
+        if ((length < (1 << MIN_SHIFT)) || ((length & (length - 1)) != 0))
+            return -1;
+
+        int index = __internal_class(length);
+        return ((index < m_classes) ? index : -1);
+    }/*}}}*/
+    // static int __internal_class(int size);/*{{{*/
+    /**
+     * Computes the size class for a number of elements.
+     * @return The index of the smallest class that holds \a size elements.
+     **/
+    static int __internal_class(int size)
+    {
+        if (size <= (1 << MIN_SHIFT)) return 0;
+        return (32 - Integer.numberOfLeadingZeros(size - 1)) - MIN_SHIFT;
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Constants */ //@{
+    static final int MIN_SHIFT = 4;         /**< Smallest class: 16 elements. */
+    //@}
+
+    /** \name Data Members */ //@{
+    private final int m_classes;            /**< Number of size classes.    */
+    private final int m_depth;              /**< Arrays per class per thread. */
+    private final ArrayList<cache> m_caches;/**< Caches of all threads.     */
+    private final long[] m_base = new long[3];  /**< Counters of finished threads and resets. */
+    private final ThreadLocal<cache> m_local = new ThreadLocal<cache>();
+    private static ArrayPool s_shared;      /**< The shared pool.           */
+    //@}
+}
+// vim:syntax=java.doxygen
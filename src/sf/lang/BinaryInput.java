@@ -0,0 +1,675 @@
+/**
+ * \file
+ * Defines the BinaryInput class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/* #imports {{{ */
+import java.io.Closeable;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+/* }}} #imports */
+
+/**
+ * \ingroup sf_lang
+ * Buffered reader of binary data from an \c InputStream or a \c
+ * ReadableByteChannel.
+ * Offers the read helpers of the \c arrays class, in \b Big-Endian and \b
+ * Little-Endian byte order, over data that is not in memory, like a socket
+ * or a file. A single internal buffer is reused for the whole input, so
+ * inputs of any size are decoded with constant memory. Numbers never cross
+ * the end of the buffer: when a value is not buffered the remaining bytes
+ * are moved to the start and the buffer is refilled.
+ *
+ * Like the rest of this library no exceptions are thrown. When a value
+ * cannot be read, because the input ended or failed, the method returns zero
+ * (or \b null) and the error is kept until #clearError(). So a record can be
+ * read and checked once:
+ * <pre>
+ * BinaryInput input = new BinaryInput(socket.getInputStream());
+ * int  id   = input.readInt();
+ * long time = input.readLittleEndLong();
+ * if (input.failed()) return input.error();
+ * </pre>
+ * Channels must be in blocking mode. A non-blocking channel without data
+ * available results in \c ERROR::NODATA.
+ * @see BinaryOutput
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class BinaryInput implements Closeable
+{
+    /** \name Constants */ //@{
+    public static final int BUFFER_SIZE = 8192; /**< Default buffer size.   */
+    //@}
+
+    /** \name Constructors */ //@{
+    // public BinaryInput(InputStream stream);/*{{{*/
+    /**
+     * Builds a reader over a stream, with the default buffer size.
+     * @param stream The source of data.
+     * @since 2.5
+     **/
+    public BinaryInput(InputStream stream)
+    {
+        this(stream, BUFFER_SIZE);
+    }/*}}}*/
+    // public BinaryInput(InputStream stream, int size);/*{{{*/
+    /**
+     * Builds a reader over a stream.
+     * @param stream The source of data.
+     * @param size Size of the buffer. Values less than 16 are raised to 16.
+     * @since 2.5
+     **/
+    public BinaryInput(InputStream stream, int size)
+    {
+        m_stream = stream;
+        m_data   = new byte[Math.max(size, 16)];
+        m_error  = ((stream == null) ? ERROR.CLOSED : ERROR.SUCCESS);
+    }/*}}}*/
+    // public BinaryInput(ReadableByteChannel channel);/*{{{*/
+    /**
+     * Builds a reader over a channel, with the default buffer size.
+     * @param channel The source of data. Must be in blocking mode.
+     * @since 2.5
+     **/
+    public BinaryInput(ReadableByteChannel channel)
+    {
+        this(channel, BUFFER_SIZE);
+    }/*}}}*/
+    // public BinaryInput(ReadableByteChannel channel, int size);/*{{{*/
+    /**
+     * Builds a reader over a channel.
+     * @param channel The source of data. Must be in blocking mode.
+     * @param size Size of the buffer. Values less than 16 are raised to 16.
+     * @since 2.5
+     **/
+    public BinaryInput(ReadableByteChannel channel, int size)
+    {
+        m_channel = channel;
+        m_data    = new byte[Math.max(size, 16)];
+        m_buffer  = ByteBuffer.wrap(m_data);
+        m_error   = ((channel == null) ? ERROR.CLOSED : ERROR.SUCCESS);
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final long position();/*{{{*/
+    /**
+     * Gets the number of bytes consumed.
+     * @return The number of bytes read or skipped since the object was
+     * built. Bytes buffered but not read yet are not counted.
+     * @since 2.5
+     **/
+    public final long position()
+    {
+        return (m_consumed + m_pos);
+    }/*}}}*/
+    // public final int buffered();/*{{{*/
+    /**
+     * Gets the number of bytes in the buffer.
+     * @return The number of bytes that can be read without accessing the
+     * stream or channel.
+     * @since 2.5
+     **/
+    public final int buffered()
+    {
+        return (m_limit - m_pos);
+    }/*}}}*/
+    // public final boolean failed();/*{{{*/
+    /**
+     * Checks whether a read failed.
+     * @return \b true when a read failed since the object was built or
+     * #clearError() was called.
+     * @since 2.5
+     **/
+    public final boolean failed()
+    {
+        return (m_error != ERROR.SUCCESS);
+    }/*}}}*/
+    // public final int error();/*{{{*/
+    /**
+     * Gets the reason of the failure.
+     * @return \c ERROR::SUCCESS when no read failed. \c ERROR::EOF when the
+     * input ended before the value. \c ERROR::READ when the stream or
+     * channel failed. \c ERROR::NODATA when a non-blocking channel had no
+     * data. \c ERROR::FORMAT for an invalid varint or string. \c
+     * ERROR::CLOSED when the object was closed.
+     * @since 2.5
+     **/
+    public final int error()
+    {
+        return m_error;
+    }/*}}}*/
+    // public final void clearError();/*{{{*/
+    /**
+     * Clears the failure.
+     * A closed object stays failed.
+     * @since 2.5
+     **/
+    public final void clearError()
+    {
+        if (m_error != ERROR.CLOSED) m_error = ERROR.SUCCESS;
+    }/*}}}*/
+    //@}
+
+    /** \name Reading Numbers */ //@{
+    // public final byte readByte();/*{{{*/
+    /**
+     * Reads a single byte.
+     * @return The byte read or zero at the end of the input.
+     * @since 2.5
+     **/
+    public final byte readByte()
+    {
+        if ((m_pos >= m_limit) && !__internal_require(1)) return 0;
+        return m_data[m_pos++];
+    }/*}}}*/
+    // public final int readUnsignedByte();/*{{{*/
+    /**
+     * Reads a single byte as an unsigned value.
+     * @return A value from 0 to 255. Zero at the end of the input.
+     * @since 2.5
+     **/
+    public final int readUnsignedByte()
+    {
+        return (readByte() & 0xFF);
+    }/*}}}*/
+    // public final boolean readBoolean();/*{{{*/
+    /**
+     * Reads a boolean stored in a single byte.
+     * @return \b true if the byte is not zero.
+     * @since 2.5
+     **/
+    public final boolean readBoolean()
+    {
+        return (readByte() != 0);
+    }/*}}}*/
+    // public final short readShort();/*{{{*/
+    /**
+     * Reads a 16 bits value in \b Big-Endian order.
+     * @return The value read or zero on failure.
+     * @since 2.5
+     **/
+    public final short readShort()
+    {
+        if (!__internal_require(2)) return 0;
+
+        short value = arrays.readShort(m_data, m_pos);
+        m_pos += 2;
+        return value;
+    }/*}}}*/
+    // public final int readInt();/*{{{*/
+    /**
+     * Reads a 32 bits value in \b Big-Endian order.
+     * @return The value read or zero on failure.
+     * @since 2.5
+     **/
+    public final int readInt()
+    {
+        if (!__internal_require(4)) return 0;
+
+        int value = arrays.readInt(m_data, m_pos);
+        m_pos += 4;
+        return value;
+    }/*}}}*/
+    // public final long readLong();/*{{{*/
+    /**
+     * Reads a 64 bits value in \b Big-Endian order.
+     * @return The value read or zero on failure.
+     * @since 2.5
+     **/
+    public final long readLong()
+    {
+        if (!__internal_require(8)) return 0L;
+
+        long value = arrays.readLong(m_data, m_pos);
+        m_pos += 8;
+        return value;
+    }/*}}}*/
+    // public final short readLittleEndShort();/*{{{*/
+    /**
+     * Reads a 16 bits value in \b Little-Endian order.
+     * @return The value read or zero on failure.
+     * @since 2.5
+     **/
+    public final short readLittleEndShort()
+    {
+        if (!__internal_require(2)) return 0;
+
+        short value = arrays.readLittleEndShort(m_data, m_pos);
+        m_pos += 2;
+        return value;
+    }/*}}}*/
+    // public final int readLittleEndInt();/*{{{*/
+    /**
+     * Reads a 32 bits value in \b Little-Endian order.
+     * @return The value read or zero on failure.
+     * @since 2.5
+     **/
+    public final int readLittleEndInt()
+    {
+        if (!__internal_require(4)) return 0;
+
+        int value = arrays.readLittleEndInt(m_data, m_pos);
+        m_pos += 4;
+        return value;
+    }/*}}}*/
+    // public final long readLittleEndLong();/*{{{*/
+    /**
+     * Reads a 64 bits value in \b Little-Endian order.
+     * @return The value read or zero on failure.
+     * @since 2.5
+     **/
+    public final long readLittleEndLong()
+    {
+        if (!__internal_require(8)) return 0L;
+
+        long value = arrays.readLittleEndLong(m_data, m_pos);
+        m_pos += 8;
+        return value;
+    }/*}}}*/
+    // public final float readFloat();/*{{{*/
+    /**
+     * Reads a 32 bits IEEE 754 floating point value in \b Big-Endian order.
+     * @return The value read or zero on failure.
+     * @since 2.5
+     **/
+    public final float readFloat()
+    {
+        return Float.intBitsToFloat(readInt());
+    }/*}}}*/
+    // public final double readDouble();/*{{{*/
+    /**
+     * Reads a 64 bits IEEE 754 floating point value in \b Big-Endian order.
+     * @return The value read or zero on failure.
+     * @since 2.5
+     **/
+    public final double readDouble()
+    {
+        return Double.longBitsToDouble(readLong());
+    }/*}}}*/
+    // public final int readVarInt();/*{{{*/
+    /**
+     * Reads a value written by \c arrays::writeVarInt().
+     * @return The value read. Zero on failure.
+     * @since 2.5
+     **/
+    public final int readVarInt()
+    {
+        if ((m_limit - m_pos) < 5) return (int)__internal_readVar(5);
+
+        int  pos = m_pos, value = 0;
+        byte b;
+
+        for (int shift = 0; shift < 35; shift += 7)
+        {
+            b = m_data[pos++];
+            value |= ((b & 0x7F) << shift);
+            if (b >= 0) {
+                m_pos = pos;
+                return value;
+            }
+        }
+        __internal_fail(ERROR.FORMAT);
+        return 0;
+    }/*}}}*/
+    // public final long readVarLong();/*{{{*/
+    /**
+     * Reads a value written by \c arrays::writeVarLong().
+     * @return The value read. Zero on failure.
+     * @since 2.5
+     **/
+    public final long readVarLong()
+    {
+        if ((m_limit - m_pos) < 10) return __internal_readVar(10);
+
+        int  pos   = m_pos;
+        long value = 0L;
+        byte b;
+
+        for (int shift = 0; shift < 70; shift += 7)
+        {
+            b = m_data[pos++];
+            value |= ((long)(b & 0x7F) << shift);
+            if (b >= 0) {
+                m_pos = pos;
+                return value;
+            }
+        }
+        __internal_fail(ERROR.FORMAT);
+        return 0L;
+    }/*}}}*/
+    // public final int readZigZagInt();/*{{{*/
+    /**
+     * Reads a value written by \c arrays::writeZigZagInt().
+     * @return The value read. Zero on failure.
+     * @since 2.5
+     **/
+    public final int readZigZagInt()
+    {
+        return numbers.unzigzag(readVarInt());
+    }/*}}}*/
+    // public final long readZigZagLong();/*{{{*/
+    /**
+     * Reads a value written by \c arrays::writeZigZagLong().
+     * @return The value read. Zero on failure.
+     * @since 2.5
+     **/
+    public final long readZigZagLong()
+    {
+        return numbers.unzigzag(readVarLong());
+    }/*}}}*/
+    //@}
+
+    /** \name Reading Bytes and Strings */ //@{
+    // public final int readBytes(byte[] dest, int destStart, int count);/*{{{*/
+    /**
+     * Reads a sequence of bytes.
+     * Buffered bytes are copied first. The rest is read directly into \a
+     * dest, without passing through the buffer.
+     * @param dest The destination array.
+     * @param destStart Index of the first byte written in \a dest.
+     * @param count Number of bytes. It must fit in \a dest.
+     * @return The number of bytes read. Less than \a count when the input
+     * ended or failed, in which case the error is set. Zero when \a dest
+     * has no room for \a count bytes.
+     * @since 2.5
+     **/
+    public final int readBytes(byte[] dest, int destStart, int count)
+    {
+        if ((destStart < 0) || (count < 0) || (count > (arrays.length(dest) - destStart)))
+            return 0;
+
+        int done = Math.min(count, m_limit - m_pos);
+        System.arraycopy(m_data, m_pos, dest, destStart, done);
+        m_pos += done;
+
+        if (done == count) return count;
+        if (m_error == ERROR.CLOSED) return done;
+
+        /* Long sequences go directly to the destination. Short ones refill
+         * the buffer, which gets the following values too. */
+        if ((count - done) >= m_data.length)
+        {
+            int n = __internal_read(dest, destStart + done, count - done);
+            m_consumed += n;
+            if ((done + n) < count) __internal_fail(m_reason);
+            return (done + n);
+        }
+
+        int n = Math.min(__internal_load(count - done), count - done);
+        System.arraycopy(m_data, m_pos, dest, destStart + done, n);
+        m_pos += n;
+
+        if ((done + n) < count) __internal_fail(m_reason);
+        return (done + n);
+    }/*}}}*/
+    // public final long skip(long count);/*{{{*/
+    /**
+     * Discards bytes.
+     * @param count Number of bytes to discard.
+     * @return The number of bytes discarded. Less than \a count when the
+     * input ended or failed, in which case the error is set.
+     * @since 2.5
+     **/
+    public final long skip(long count)
+    {
+        long done = 0L;
+        int  n;
+
+        while (done < count)
+        {
+            if ((m_pos >= m_limit) && !__internal_require(1)) break;
+
+            n = (int)Math.min(count - done, m_limit - m_pos);
+            m_pos += n;
+            done  += n;
+        }
+        return done;
+    }/*}}}*/
+    // public final String readUtf8String();/*{{{*/
+    /**
+     * Reads a string written by \c arrays::writeUtf8String() or \c
+     * DataOutputStream.writeUTF().
+     * @return The string read or \b null on failure.
+     * @since 2.5
+     **/
+    public final String readUtf8String()
+    {
+        if (!__internal_require(2)) return null;
+
+        int count = 2 + (arrays.readShort(m_data, m_pos) & 0xFFFF);
+        String result;
+
+        if (count <= m_data.length)
+        {
+            if (!__internal_require(count)) return null;
+            result = arrays.__internal_utf8String(m_data, m_pos, m_pos + count);
+            if (result != null) m_pos += count;
+        }
+        else
+        {
+            /* Larger than the buffer. Happens only with small buffers. */
+            byte[] temp = new byte[count];
+            if (readBytes(temp, 0, count) < count) return null;
+            result = arrays.__internal_utf8String(temp, 0, count);
+        }
+
+        if (result == null) __internal_fail(ERROR.FORMAT);
+        return result;
+    }/*}}}*/
+    // public final String readString(int length, String enc);/*{{{*/
+    /**
+     * Reads a fixed length string.
+     * This is the format of \c strings::encode(String,String,int): the
+     * encoded text padded with zeros up to \a length bytes.
+     * @param length Number of bytes of the field.
+     * @param enc Name of the encoding. See \c ENC.
+     * @return The decoded string, without the trailing zero characters. \b
+     * null on failure or when the encoding is not supported.
+     * @since 2.5
+     **/
+    public final String readString(int length, String enc)
+    {
+        if (length < 0) return null;
+
+        byte[] array = m_data;
+        int    start;
+
+        if (length <= m_data.length)
+        {
+            if (!__internal_require(length)) return null;
+            start  = m_pos;
+            m_pos += length;
+        }
+        else
+        {
+            array = new byte[length];
+            start = 0;
+            if (readBytes(array, 0, length) < length) return null;
+        }
+
+        String text;
+        try { text = new String(array, start, length, enc); }
+        catch (Exception ex) {
+            __internal_fail(ERROR.FORMAT);
+            return null;
+        }
+
+        int end = text.length();
+        while ((end > 0) && (text.charAt(end - 1) == '\0')) end--;
+        return text.substring(0, end);
+    }/*}}}*/
+    //@}
+
+    /** \name Closing */ //@{
+    // public final void close();/*{{{*/
+    /**
+     * Closes the object and the underlying stream or channel.
+     * Further reads fail with \c ERROR::CLOSED.
+     * @since 2.5
+     **/
+    public final void close()
+    {
+        try {
+            if (m_stream != null) m_stream.close();
+            if (m_channel != null) m_channel.close();
+        }
+        catch (Exception ex) { /* Nothing to do. */ }
+
+        m_stream  = null;
+        m_channel = null;
+        m_consumed += m_pos;
+        m_pos   = 0;
+        m_limit = 0;
+        m_error = ERROR.CLOSED;
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // final long __internal_readVar(int size);/*{{{*/
+    /**
+     * Reads a variable length value of up to \a size bytes one byte at a
+     * time. The buffer is refilled only when the continuation bit asks for
+     * another byte, so a value already received is returned without
+     * waiting for more data from the stream.
+     * @return The value read. Zero on failure.
+     **/
+    final long __internal_readVar(int size)
+    {
+        long value = 0L;
+        byte b;
+
+        for (int shift = 0; shift < (size * 7); shift += 7)
+        {
+            if ((m_pos >= m_limit) && !__internal_require(1)) return 0L;
+
+            b = m_data[m_pos++];
+            value |= ((long)(b & 0x7F) << shift);
+            if (b >= 0) return value;
+        }
+        __internal_fail(ERROR.FORMAT);
+        return 0L;
+    }/*}}}*/
+    // final boolean __internal_require(int count);/*{{{*/
+    /**
+     * Makes sure \a count bytes are buffered. Sets the error of the object
+     * when they can't be.
+     **/
+    final boolean __internal_require(int count)
+    {
+        if ((m_limit - m_pos) >= count) return true;
+        if (__internal_load(count) >= count) return true;
+
+        __internal_fail(m_reason);
+        return false;
+    }/*}}}*/
+    // final int __internal_load(int count);/*{{{*/
+    /**
+     * Refills the buffer until \a count bytes are buffered or the input
+     * ends. \a count cannot be larger than the buffer.
+     * @return The number of bytes buffered. Can be less than \a count.
+     **/
+    final int __internal_load(int count)
+    {
+        int available = m_limit - m_pos;
+        if ((available >= count) || (m_error == ERROR.CLOSED)) return available;
+
+        /* Keep the buffered bytes in the start of the buffer. */
+        if (m_pos > 0)
+        {
+            System.arraycopy(m_data, m_pos, m_data, 0, available);
+            m_consumed += m_pos;
+            m_pos   = 0;
+            m_limit = available;
+        }
+
+        int n;
+        while ((m_limit - m_pos) < count)
+        {
+            n = __internal_read(m_data, m_limit, m_data.length - m_limit);
+            if (n <= 0) break;
+            m_limit += n;
+        }
+        return (m_limit - m_pos);
+    }/*}}}*/
+    // final int __internal_read(byte[] dest, int start, int count);/*{{{*/
+    /**
+     * Reads from the stream or channel into \a dest. Reading the buffer
+     * returns as soon as some bytes arrive. Other arrays are filled until
+     * \a count bytes are read.
+     * @return The number of bytes read. On a short read the reason is kept
+     * in \c m_reason.
+     **/
+    final int __internal_read(byte[] dest, int start, int count)
+    {
+        int done = 0, n;
+
+        try
+        {
+            ByteBuffer buffer = null;
+            if (m_channel != null)
+            {
+                if (dest == m_data) {
+                    buffer = m_buffer;
+                    buffer.limit(start + count).position(start);
+                }
+                else
+                    buffer = ByteBuffer.wrap(dest, start, count);
+            }
+
+            while (done < count)
+            {
+                if (buffer == null)
+                    n = m_stream.read(dest, start + done, count - done);
+                else
+                    n = m_channel.read(buffer);
+
+                if (n < 0) {
+                    m_reason = ERROR.EOF;
+                    break;
+                }
+                if ((n == 0) && (buffer != null)) {
+                    m_reason = ERROR.NODATA;
+                    break;
+                }
+                done += n;
+                if ((dest == m_data) && (done > 0)) break;
+            }
+        }
+        catch (Exception ex) {
+            m_reason = ERROR.READ;
+        }
+        return done;
+    }/*}}}*/
+    // final void __internal_fail(int code);/*{{{*/
+    /**
+     * Keeps the first error set.
+     **/
+    final void __internal_fail(int code)
+    {
+        if (m_error == ERROR.SUCCESS) m_error = code;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private InputStream         m_stream;   /**< Source stream.             */
+    private ReadableByteChannel m_channel;  /**< Source channel.            */
+    private ByteBuffer          m_buffer;   /**< Wraps m_data for channels. */
+    private final byte[]        m_data;     /**< The buffer.                */
+    private int                 m_pos;      /**< Next byte to read.         */
+    private int                 m_limit;    /**< End of the buffered data.  */
+    private long                m_consumed; /**< Bytes before m_data[0].    */
+    private int                 m_error;    /**< First error found.         */
+    private int                 m_reason = ERROR.EOF; /**< Last short read. */
+    //@}
+}
+// vim:syntax=java.doxygen
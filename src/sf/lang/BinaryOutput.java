@@ -0,0 +1,590 @@
+/**
+ * \file
+ * Defines the BinaryOutput class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/* #imports {{{ */
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+/* }}} #imports */
+
+/**
+ * \ingroup sf_lang
+ * Buffered writer of binary data to an \c OutputStream or a \c
+ * WritableByteChannel.
+ * Offers the write helpers of the \c arrays class, in \b Big-Endian and \b
+ * Little-Endian byte order, to a destination that is not in memory, like a
+ * socket or a file. A single internal buffer is reused for the whole output.
+ * It is sent to the destination when full, by #flush() and by #close().
+ *
+ * Like the rest of this library no exceptions are thrown. All write methods
+ * return the object itself so calls can be chained. When the destination
+ * fails the error is kept and further writes are ignored until
+ * #clearError():
+ * <pre>
+ * BinaryOutput output = new BinaryOutput(socket.getOutputStream());
+ * output.writeInt(id).writeLittleEndLong(time).writeUtf8String(name);
+ * if (output.flush() != ERROR.SUCCESS) return output.error();
+ * </pre>
+ * Channels must be in blocking mode. A non-blocking channel that accepts no
+ * more bytes results in \c ERROR::FULL. The bytes not sent are kept in the
+ * buffer, so #clearError() and #flush() can be called later to send them.
+ * @see BinaryInput
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class BinaryOutput implements Closeable
+{
+    /** \name Constructors */ //@{
+    // public BinaryOutput(OutputStream stream);/*{{{*/
+    /**
+     * Builds a writer over a stream, with the default buffer size.
+     * @param stream The destination.
+     * @since 2.5
+     **/
+    public BinaryOutput(OutputStream stream)
+    {
+        this(stream, BinaryInput.BUFFER_SIZE);
+    }/*}}}*/
+    // public BinaryOutput(OutputStream stream, int size);/*{{{*/
+    /**
+     * Builds a writer over a stream.
+     * @param stream The destination.
+     * @param size Size of the buffer. Values less than 16 are raised to 16.
+     * @since 2.5
+     **/
+    public BinaryOutput(OutputStream stream, int size)
+    {
+        m_stream = stream;
+        m_data   = new byte[Math.max(size, 16)];
+        m_error  = ((stream == null) ? ERROR.CLOSED : ERROR.SUCCESS);
+    }/*}}}*/
+    // public BinaryOutput(WritableByteChannel channel);/*{{{*/
+    /**
+     * Builds a writer over a channel, with the default buffer size.
+     * @param channel The destination. Must be in blocking mode.
+     * @since 2.5
+     **/
+    public BinaryOutput(WritableByteChannel channel)
+    {
+        this(channel, BinaryInput.BUFFER_SIZE);
+    }/*}}}*/
+    // public BinaryOutput(WritableByteChannel channel, int size);/*{{{*/
+    /**
+     * Builds a writer over a channel.
+     * @param channel The destination. Must be in blocking mode.
+     * @param size Size of the buffer. Values less than 16 are raised to 16.
+     * @since 2.5
+     **/
+    public BinaryOutput(WritableByteChannel channel, int size)
+    {
+        m_channel = channel;
+        m_data    = new byte[Math.max(size, 16)];
+        m_buffer  = ByteBuffer.wrap(m_data);
+        m_error   = ((channel == null) ? ERROR.CLOSED : ERROR.SUCCESS);
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final long position();/*{{{*/
+    /**
+     * Gets the number of bytes written.
+     * @return The number of bytes written since the object was built,
+     * including the ones still in the buffer.
+     * @since 2.5
+     **/
+    public final long position()
+    {
+        return (m_sent + m_pos);
+    }/*}}}*/
+    // public final int buffered();/*{{{*/
+    /**
+     * Gets the number of bytes in the buffer.
+     * @return The number of bytes not sent to the destination yet.
+     * @since 2.5
+     **/
+    public final int buffered()
+    {
+        return m_pos;
+    }/*}}}*/
+    // public final boolean failed();/*{{{*/
+    /**
+     * Checks whether a write failed.
+     * @return \b true when the destination failed since the object was built
+     * or #clearError() was called.
+     * @since 2.5
+     **/
+    public final boolean failed()
+    {
+        return (m_error != ERROR.SUCCESS);
+    }/*}}}*/
+    // public final int error();/*{{{*/
+    /**
+     * Gets the reason of the failure.
+     * @return \c ERROR::SUCCESS when no write failed. \c ERROR::WRITE when
+     * the stream or channel failed. \c ERROR::FULL when a non-blocking
+     * channel accepted no more bytes. \c ERROR::LENGTH when a string was too
+     * long. \c ERROR::PARM when a fixed length string had an invalid length
+     * or encoding. \c ERROR::CLOSED when the object was closed.
+     * @since 2.5
+     **/
+    public final int error()
+    {
+        return m_error;
+    }/*}}}*/
+    // public final void clearError();/*{{{*/
+    /**
+     * Clears the failure.
+     * A closed object stays failed.
+     * @since 2.5
+     **/
+    public final void clearError()
+    {
+        if (m_error != ERROR.CLOSED) m_error = ERROR.SUCCESS;
+    }/*}}}*/
+    //@}
+
+    /** \name Writing Numbers */ //@{
+    // public final BinaryOutput writeByte(int value);/*{{{*/
+    /**
+     * Writes a single byte.
+     * @param value The value. Only its 8 low order bits are used.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeByte(int value)
+    {
+        if (__internal_room(1))
+            m_data[m_pos++] = (byte)value;
+
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeBoolean(boolean value);/*{{{*/
+    /**
+     * Writes a boolean as a single byte.
+     * @param value The value. \b true is written as 1.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeBoolean(boolean value)
+    {
+        return writeByte(value ? 1 : 0);
+    }/*}}}*/
+    // public final BinaryOutput writeShort(int value);/*{{{*/
+    /**
+     * Writes a 16 bits value in \b Big-Endian order.
+     * @param value The value. Only its 16 low order bits are used.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeShort(int value)
+    {
+        if (__internal_room(2)) {
+            arrays.writeShort(m_data, m_pos, (short)value);
+            m_pos += 2;
+        }
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeInt(int value);/*{{{*/
+    /**
+     * Writes a 32 bits value in \b Big-Endian order.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeInt(int value)
+    {
+        if (__internal_room(4)) {
+            arrays.writeInt(m_data, m_pos, value);
+            m_pos += 4;
+        }
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeLong(long value);/*{{{*/
+    /**
+     * Writes a 64 bits value in \b Big-Endian order.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeLong(long value)
+    {
+        if (__internal_room(8)) {
+            arrays.writeLong(m_data, m_pos, value);
+            m_pos += 8;
+        }
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeLittleEndShort(int value);/*{{{*/
+    /**
+     * Writes a 16 bits value in \b Little-Endian order.
+     * @param value The value. Only its 16 low order bits are used.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeLittleEndShort(int value)
+    {
+        if (__internal_room(2)) {
+            arrays.writeLittleEndShort(m_data, m_pos, (short)value);
+            m_pos += 2;
+        }
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeLittleEndInt(int value);/*{{{*/
+    /**
+     * Writes a 32 bits value in \b Little-Endian order.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeLittleEndInt(int value)
+    {
+        if (__internal_room(4)) {
+            arrays.writeLittleEndInt(m_data, m_pos, value);
+            m_pos += 4;
+        }
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeLittleEndLong(long value);/*{{{*/
+    /**
+     * Writes a 64 bits value in \b Little-Endian order.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeLittleEndLong(long value)
+    {
+        if (__internal_room(8)) {
+            arrays.writeLittleEndLong(m_data, m_pos, value);
+            m_pos += 8;
+        }
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeFloat(float value);/*{{{*/
+    /**
+     * Writes a 32 bits IEEE 754 floating point value in \b Big-Endian order.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeFloat(float value)
+    {
+        return writeInt(Float.floatToRawIntBits(value));
+    }/*}}}*/
+    // public final BinaryOutput writeDouble(double value);/*{{{*/
+    /**
+     * Writes a 64 bits IEEE 754 floating point value in \b Big-Endian order.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeDouble(double value)
+    {
+        return writeLong(Double.doubleToRawLongBits(value));
+    }/*}}}*/
+    // public final BinaryOutput writeVarInt(int value);/*{{{*/
+    /**
+     * Writes a value in the format of \c arrays::writeVarInt().
+     * @param value The value. Negative values take 5 bytes.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeVarInt(int value)
+    {
+        if (__internal_room(5))
+            m_pos += arrays.writeVarInt(m_data, m_pos, value);
+
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeVarLong(long value);/*{{{*/
+    /**
+     * Writes a value in the format of \c arrays::writeVarLong().
+     * @param value The value. Negative values take 10 bytes.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeVarLong(long value)
+    {
+        if (__internal_room(10))
+            m_pos += arrays.writeVarLong(m_data, m_pos, value);
+
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeZigZagInt(int value);/*{{{*/
+    /**
+     * Writes a value in the format of \c arrays::writeZigZagInt().
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeZigZagInt(int value)
+    {
+        return writeVarInt(numbers.zigzag(value));
+    }/*}}}*/
+    // public final BinaryOutput writeZigZagLong(long value);/*{{{*/
+    /**
+     * Writes a value in the format of \c arrays::writeZigZagLong().
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeZigZagLong(long value)
+    {
+        return writeVarLong(numbers.zigzag(value));
+    }/*}}}*/
+    //@}
+
+    /** \name Writing Bytes and Strings */ //@{
+    // public final BinaryOutput writeBytes(byte[] src, int srcStart, int count);/*{{{*/
+    /**
+     * Writes a sequence of bytes.
+     * Sequences larger than the buffer are sent directly to the
+     * destination, after the buffered bytes.
+     * @param src The source array.
+     * @param srcStart Index of the first byte in \a src.
+     * @param count Number of bytes. If less than zero or beyond the end of \a
+     * src all bytes from \a srcStart are written.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeBytes(byte[] src, int srcStart, int count)
+    {
+        int limit = arrays.length(src);
+        if ((srcStart < 0) || (srcStart > limit) || (m_error != ERROR.SUCCESS)) return this;
+        if ((count < 0) || (count > (limit - srcStart))) count = limit - srcStart;
+        if (count == 0) return this;
+
+        if (count > (m_data.length - m_pos))
+        {
+            if (__internal_drain() != ERROR.SUCCESS) return this;
+            if (count >= m_data.length) {
+                m_sent += __internal_write(src, srcStart, count);
+                return this;
+            }
+        }
+        System.arraycopy(src, srcStart, m_data, m_pos, count);
+        m_pos += count;
+        return this;
+    }/*}}}*/
+    // public final BinaryOutput writeSlice(ByteSlice slice);/*{{{*/
+    /**
+     * Writes the bytes of a view.
+     * @param slice The view. Can be \b null, writing nothing.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeSlice(ByteSlice slice)
+    {
+        if (slice == null) return this;
+        return writeBytes(slice.array(), slice.offset(), slice.length());
+    }/*}}}*/
+    // public final BinaryOutput writeUtf8String(String text);/*{{{*/
+    /**
+     * Writes a string in the format of \c arrays::writeUtf8String().
+     * The result can be read by \c DataInputStream.readUTF().
+     * @param text The string. \b null is written as an empty string.
+     * @return This object. The error is set to \c ERROR::LENGTH when the
+     * encoded string has more than 65535 bytes.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeUtf8String(String text)
+    {
+        int count = arrays.utf8Length(text) + 2;
+
+        if (count > 0x10001) {
+            __internal_fail(ERROR.LENGTH);
+            return this;
+        }
+        if (count <= m_data.length)
+        {
+            if (__internal_room(count))
+                m_pos += arrays.writeUtf8String(m_data, m_pos, text);
+            return this;
+        }
+
+        /* Larger than the buffer. Happens only with small buffers. */
+        byte[] temp = new byte[count];
+        arrays.writeUtf8String(temp, 0, text);
+        return writeBytes(temp, 0, count);
+    }/*}}}*/
+    // public final BinaryOutput writeString(String text, String enc, int length);/*{{{*/
+    /**
+     * Writes a fixed length string.
+     * The result is the same of \c strings::encode(String,String,int): the
+     * encoded text truncated or padded with zeros up to \a length bytes.
+     * @param text The string. \b null is written as zeros.
+     * @param enc Name of the encoding. See \c ENC.
+     * @param length Number of bytes of the field.
+     * @return This object. The error is set to \c ERROR::PARM when \a length
+     * is negative or the encoding is not supported. Nothing is written in
+     * that case.
+     * @since 2.5
+     **/
+    public final BinaryOutput writeString(String text, String enc, int length)
+    {
+        byte[] encoded = strings.encode(text, enc);
+
+        if ((length < 0) || ((encoded == null) && (strings.length(text) > 0))) {
+            __internal_fail(ERROR.PARM);
+            return this;
+        }
+
+        int count = Math.min(arrays.length(encoded), length);
+        if (length <= m_data.length)
+        {
+            if (!__internal_room(length)) return this;
+
+            arrays.copy(m_data, m_pos, encoded, 0, count);
+            arrays.set(m_data, (byte)0, m_pos + count, length - count);
+            m_pos += length;
+            return this;
+        }
+
+        byte[] field = new byte[length];
+        arrays.copy(field, 0, encoded, 0, count);
+        return writeBytes(field, 0, length);
+    }/*}}}*/
+    //@}
+
+    /** \name Flushing and Closing */ //@{
+    // public final int flush();/*{{{*/
+    /**
+     * Sends the buffered bytes to the destination.
+     * A stream is also flushed.
+     * @return \c ERROR::SUCCESS or the error of the object.
+     * @since 2.5
+     **/
+    public final int flush()
+    {
+        if (__internal_drain() != ERROR.SUCCESS) return m_error;
+
+        try { if (m_stream != null) m_stream.flush(); }
+        catch (Exception ex) {
+            __internal_fail(ERROR.WRITE);
+        }
+        return m_error;
+    }/*}}}*/
+    // public final void close();/*{{{*/
+    /**
+     * Sends the buffered bytes and closes the underlying stream or channel.
+     * Further writes are ignored and the error is \c ERROR::CLOSED. Check
+     * #error() before closing, or call #flush(), to know whether all data
+     * was sent.
+     * @since 2.5
+     **/
+    public final void close()
+    {
+        __internal_drain();
+
+        try {
+            if (m_stream != null) m_stream.close();
+            if (m_channel != null) m_channel.close();
+        }
+        catch (Exception ex) { /* Nothing to do. */ }
+
+        m_stream  = null;
+        m_channel = null;
+        m_sent   += m_pos;
+        m_pos     = 0;
+        m_error   = ERROR.CLOSED;
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // final boolean __internal_room(int count);/*{{{*/
+    /**
+     * Makes sure \a count bytes fit in the buffer, sending its contents when
+     * needed. \a count cannot be larger than the buffer.
+     * @return \b false when the object has an error.
+     **/
+    final boolean __internal_room(int count)
+    {
+        if (m_error != ERROR.SUCCESS) return false;
+        if ((m_data.length - m_pos) >= count) return true;
+        return (__internal_drain() == ERROR.SUCCESS);
+    }/*}}}*/
+    // final int __internal_drain();/*{{{*/
+    /**
+     * Sends the buffered bytes to the destination.
+     * @return The error of the object.
+     **/
+    final int __internal_drain()
+    {
+        if ((m_pos == 0) || (m_error != ERROR.SUCCESS)) return m_error;
+
+        /* What was not sent stays in the buffer to be sent again. */
+        int sent = __internal_write(m_data, 0, m_pos);
+        if ((sent > 0) && (sent < m_pos))
+            System.arraycopy(m_data, sent, m_data, 0, m_pos - sent);
+
+        m_sent += sent;
+        m_pos  -= sent;
+        return m_error;
+    }/*}}}*/
+    // final int __internal_write(byte[] src, int start, int count);/*{{{*/
+    /**
+     * Writes \a count bytes to the stream or channel.
+     * A channel that accepts no bytes, because it is in non-blocking mode,
+     * stops the writing with \c ERROR::FULL instead of waiting for it.
+     * @return The number of bytes written. Less than \a count on failure,
+     * when the error of the object is set.
+     **/
+    final int __internal_write(byte[] src, int start, int count)
+    {
+        if (m_stream != null)
+        {
+            try { m_stream.write(src, start, count); }
+            catch (Exception ex) {
+                __internal_fail(ERROR.WRITE);
+                return 0;
+            }
+            return count;
+        }
+
+        ByteBuffer buffer = ((src == m_data) ? m_buffer : ByteBuffer.wrap(src));
+        buffer.limit(start + count).position(start);
+        try
+        {
+            while (buffer.hasRemaining())
+            {
+                if (m_channel.write(buffer) == 0) {
+                    __internal_fail(ERROR.FULL);
+                    break;
+                }
+            }
+        }
+        catch (Exception ex) {
+            __internal_fail(ERROR.WRITE);
+        }
+        return (buffer.position() - start);
+    }/*}}}*/
+    // final void __internal_fail(int code);/*{{{*/
+    /**
+     * Keeps the first error set.
+     **/
+    final void __internal_fail(int code)
+    {
+        if (m_error == ERROR.SUCCESS) m_error = code;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private OutputStream        m_stream;   /**< Destination stream.        */
+    private WritableByteChannel m_channel;  /**< Destination channel.       */
+    private ByteBuffer          m_buffer;   /**< Wraps m_data for channels. */
+    private final byte[]        m_data;     /**< The buffer.                */
+    private int                 m_pos;      /**< End of the buffered data.  */
+    private long                m_sent;     /**< Bytes sent before m_data.  */
+    private int                 m_error;    /**< First error found.         */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,510 @@
+/**
+ * \file
+ * Defines the BinaryReader class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * Sequential reader of binary data in a byte array.
+ * The object keeps the current position, so the caller doesn't need to add
+ * offsets after each call to \c arrays::readInt() and friends. The byte
+ * order can be switched at any time with #setLittleEndian().
+ *
+ * Like the rest of this library no exceptions are thrown. Each read checks,
+ * with a single comparison, that the value is inside the range. When it is
+ * not, the read returns zero (or \b null), the position is not changed and
+ * the reader is marked as failed. The mark is kept until #clearError(). So
+ * a record with several fields can be read without checking each value,
+ * testing #failed() only at its end:
+ * <pre>
+ * BinaryReader reader = new BinaryReader(packet);
+ * int    id   = reader.readInt();
+ * String name = reader.readUtf8String();
+ * long   time = reader.readVarLong();
+ * if (reader.failed()) return ERROR.LENGTH;
+ * </pre>
+ * #require() checks that a whole fixed-size record is available before its
+ * fields are read.
+ * @see BinaryWriter
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class BinaryReader
+{
+    /** \name Constructors */ //@{
+    // public BinaryReader(byte[] array);/*{{{*/
+    /**
+     * Builds a reader over an entire array.
+     * @param array The data. Can be \b null, resulting in an empty reader.
+     * @since 2.5
+     **/
+    public BinaryReader(byte[] array)
+    {
+        this(array, 0, -1);
+    }/*}}}*/
+    // public BinaryReader(byte[] array, int start, int count);/*{{{*/
+    /**
+     * Builds a reader over part of an array.
+     * The array is not copied.
+     * @param array The data. Can be \b null, resulting in an empty reader.
+     * @param start Index of the first byte. Limited to the array bounds.
+     * @param count Number of bytes. If less than zero or beyond the end of
+     * \a array all bytes from \a start are used.
+     * @since 2.5
+     **/
+    public BinaryReader(byte[] array, int start, int count)
+    {
+        int limit = arrays.length(array);
+
+        start = Math.max(Math.min(start, limit), 0);
+        if ((count < 0) || (count > (limit - start)))
+            count = limit - start;
+
+        m_data   = ((array == null) ? new byte[0] : array);
+        m_start  = start;
+        m_end    = start + count;
+        m_pos    = start;
+    }/*}}}*/
+    // public BinaryReader(ByteSlice slice);/*{{{*/
+    /**
+     * Builds a reader over the bytes of a view.
+     * @param slice The view. Can be \b null, resulting in an empty reader.
+     * @since 2.5
+     **/
+    public BinaryReader(ByteSlice slice)
+    {
+        this(((slice == null) ? null : slice.array()),
+             ((slice == null) ? 0 : slice.offset()),
+             ((slice == null) ? 0 : slice.length()));
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final int position();/*{{{*/
+    /**
+     * Gets the current position.
+     * @return The number of bytes from the start of the range.
+     * @since 2.5
+     **/
+    public final int position()
+    {
+        return (m_pos - m_start);
+    }/*}}}*/
+    // public final int length();/*{{{*/
+    /**
+     * Gets the size of the range.
+     * @return The number of bytes the reader can read.
+     * @since 2.5
+     **/
+    public final int length()
+    {
+        return (m_end - m_start);
+    }/*}}}*/
+    // public final int remaining();/*{{{*/
+    /**
+     * Gets the number of bytes not read yet.
+     * @return The number of bytes from the current position up to the end.
+     * @since 2.5
+     **/
+    public final int remaining()
+    {
+        return (m_end - m_pos);
+    }/*}}}*/
+    // public final boolean isLittleEndian();/*{{{*/
+    /**
+     * Checks the byte order.
+     * @return \b true when numbers are read in \b Little-Endian order.
+     * \b false, the default, for \b Big-Endian.
+     * @since 2.5
+     **/
+    public final boolean isLittleEndian()
+    {
+        return m_little;
+    }/*}}}*/
+    // public final void setLittleEndian(boolean little);/*{{{*/
+    /**
+     * Changes the byte order.
+     * @param little \b true to read numbers in \b Little-Endian order.
+     * \b false to read them in \b Big-Endian order.
+     * @since 2.5
+     **/
+    public final void setLittleEndian(boolean little)
+    {
+        m_little = little;
+    }/*}}}*/
+    // public final boolean failed();/*{{{*/
+    /**
+     * Checks whether a read failed.
+     * @return \b true when a read went beyond the end of the range or found
+     * invalid data since the object was built or #clearError() was called.
+     * @since 2.5
+     **/
+    public final boolean failed()
+    {
+        return m_failed;
+    }/*}}}*/
+    // public final void clearError();/*{{{*/
+    /**
+     * Clears the failure mark.
+     * @since 2.5
+     **/
+    public final void clearError()
+    {
+        m_failed = false;
+    }/*}}}*/
+    //@}
+
+    /** \name Positioning */ //@{
+    // public final boolean seek(int position);/*{{{*/
+    /**
+     * Changes the current position.
+     * @param position Number of bytes from the start of the range. From zero
+     * up to #length().
+     * @return \b true on success. \b false when \a position is invalid.
+     * @since 2.5
+     **/
+    public final boolean seek(int position)
+    {
+        if ((position < 0) || (position > (m_end - m_start))) return false;
+        m_pos = m_start + position;
+        return true;
+    }/*}}}*/
+    // public final boolean skip(int count);/*{{{*/
+    /**
+     * Moves the current position forward.
+     * @param count Number of bytes to skip.
+     * @return \b true on success. \b false, marking the reader as failed,
+     * when there are less than \a count bytes remaining or \a count is
+     * negative.
+     * @since 2.5
+     **/
+    public final boolean skip(int count)
+    {
+        if (!__internal_check(count)) return false;
+        m_pos += count;
+        return true;
+    }/*}}}*/
+    // public final boolean require(int count);/*{{{*/
+    /**
+     * Checks that a number of bytes can be read.
+     * The position is not changed.
+     * @param count Number of bytes needed, as for a whole record.
+     * @return \b true when there are at least \a count bytes remaining.
+     * Otherwise \b false and the reader is marked as failed.
+     * @since 2.5
+     **/
+    public final boolean require(int count)
+    {
+        return __internal_check(count);
+    }/*}}}*/
+    //@}
+
+    /** \name Reading Numbers */ //@{
+    // public final byte readByte();/*{{{*/
+    /**
+     * Reads a single byte.
+     * @return The byte read or zero at the end of the range.
+     * @since 2.5
+     **/
+    public final byte readByte()
+    {
+        if (m_pos >= m_end) { m_failed = true; return 0; }
+        return m_data[m_pos++];
+    }/*}}}*/
+    // public final int readUnsignedByte();/*{{{*/
+    /**
+     * Reads a single byte as an unsigned value.
+     * @return A value from 0 to 255. Zero at the end of the range.
+     * @since 2.5
+     **/
+    public final int readUnsignedByte()
+    {
+        return (readByte() & 0xFF);
+    }/*}}}*/
+    // public final boolean readBoolean();/*{{{*/
+    /**
+     * Reads a boolean stored in a single byte.
+     * @return \b true if the byte is not zero.
+     * @since 2.5
+     **/
+    public final boolean readBoolean()
+    {
+        return (readByte() != 0);
+    }/*}}}*/
+    // public final short readShort();/*{{{*/
+    /**
+     * Reads a 16 bits value.
+     * @return The value read or zero if there are less than 2 bytes.
+     * @since 2.5
+     **/
+    public final short readShort()
+    {
+        if (!__internal_check(2)) return 0;
+
+        short value = (m_little ? arrays.readLittleEndShort(m_data, m_pos) : arrays.readShort(m_data, m_pos));
+        m_pos += 2;
+        return value;
+    }/*}}}*/
+    // public final int readUnsignedShort();/*{{{*/
+    /**
+     * Reads a 16 bits value as unsigned.
+     * @return A value from 0 to 65535. Zero if there are less than 2 bytes.
+     * @since 2.5
+     **/
+    public final int readUnsignedShort()
+    {
+        return (readShort() & 0xFFFF);
+    }/*}}}*/
+    // public final char readChar();/*{{{*/
+    /**
+     * Reads a 16 bits character.
+     * @return The character read or zero if there are less than 2 bytes.
+     * @since 2.5
+     **/
+    public final char readChar()
+    {
+        return (char)readShort();
+    }/*}}}*/
+    // public final int readInt();/*{{{*/
+    /**
+     * Reads a 32 bits value.
+     * @return The value read or zero if there are less than 4 bytes.
+     * @since 2.5
+     **/
+    public final int readInt()
+    {
+        if (!__internal_check(4)) return 0;
+
+        int value = (m_little ? arrays.readLittleEndInt(m_data, m_pos) : arrays.readInt(m_data, m_pos));
+        m_pos += 4;
+        return value;
+    }/*}}}*/
+    // public final long readLong();/*{{{*/
+    /**
+     * Reads a 64 bits value.
+     * @return The value read or zero if there are less than 8 bytes.
+     * @since 2.5
+     **/
+    public final long readLong()
+    {
+        if (!__internal_check(8)) return 0L;
+
+        long value = (m_little ? arrays.readLittleEndLong(m_data, m_pos) : arrays.readLong(m_data, m_pos));
+        m_pos += 8;
+        return value;
+    }/*}}}*/
+    // public final float readFloat();/*{{{*/
+    /**
+     * Reads a 32 bits IEEE 754 floating point value.
+     * @return The value read or zero if there are less than 4 bytes.
+     * @since 2.5
+     **/
+    public final float readFloat()
+    {
+        return Float.intBitsToFloat(readInt());
+    }/*}}}*/
+    // public final double readDouble();/*{{{*/
+    /**
+     * Reads a 64 bits IEEE 754 floating point value.
+     * @return The value read or zero if there are less than 8 bytes.
+     * @since 2.5
+     **/
+    public final double readDouble()
+    {
+        return Double.longBitsToDouble(readLong());
+    }/*}}}*/
+    // public final int readVarInt();/*{{{*/
+    /**
+     * Reads a value written by \c arrays::writeVarInt().
+     * The byte order setting doesn't apply to varints.
+     * @return The value read. Zero if the value is longer than 5 bytes or
+     * goes beyond the end of the range.
+     * @since 2.5
+     **/
+    public final int readVarInt()
+    {
+        int  pos = m_pos, value = 0;
+        byte b;
+
+        for (int shift = 0; (shift < 35) && (pos < m_end); shift += 7)
+        {
+            b = m_data[pos++];
+            value |= ((b & 0x7F) << shift);
+            if (b >= 0) {
+                m_pos = pos;
+                return value;
+            }
+        }
+        m_failed = true;
+        return 0;
+    }/*}}}*/
+    // public final long readVarLong();/*{{{*/
+    /**
+     * Reads a value written by \c arrays::writeVarLong().
+     * The byte order setting doesn't apply to varints.
+     * @return The value read. Zero if the value is longer than 10 bytes or
+     * goes beyond the end of the range.
+     * @since 2.5
+     **/
+    public final long readVarLong()
+    {
+        int  pos   = m_pos;
+        long value = 0L;
+        byte b;
+
+        for (int shift = 0; (shift < 70) && (pos < m_end); shift += 7)
+        {
+            b = m_data[pos++];
+            value |= ((long)(b & 0x7F) << shift);
+            if (b >= 0) {
+                m_pos = pos;
+                return value;
+            }
+        }
+        m_failed = true;
+        return 0L;
+    }/*}}}*/
+    // public final int readZigZagInt();/*{{{*/
+    /**
+     * Reads a value written by \c arrays::writeZigZagInt().
+     * @return The value read. Zero on failure.
+     * @since 2.5
+     **/
+    public final int readZigZagInt()
+    {
+        return numbers.unzigzag(readVarInt());
+    }/*}}}*/
+    // public final long readZigZagLong();/*{{{*/
+    /**
+     * Reads a value written by \c arrays::writeZigZagLong().
+     * @return The value read. Zero on failure.
+     * @since 2.5
+     **/
+    public final long readZigZagLong()
+    {
+        return numbers.unzigzag(readVarLong());
+    }/*}}}*/
+    //@}
+
+    /** \name Reading Bytes and Strings */ //@{
+    // public final int readBytes(byte[] dest, int destStart, int count);/*{{{*/
+    /**
+     * Copies bytes to an array.
+     * @param dest The destination array.
+     * @param destStart Index of the first byte written in \a dest.
+     * @param count Number of bytes. It must fit in \a dest.
+     * @return The number of bytes copied. Zero when there are less than \a
+     * count bytes remaining, marking the reader as failed, or when \a dest
+     * has no room for them.
+     * @since 2.5
+     **/
+    public final int readBytes(byte[] dest, int destStart, int count)
+    {
+        if ((destStart < 0) || (count > (arrays.length(dest) - destStart))) return 0;
+        if (!__internal_check(count)) return 0;
+
+        arrays.copy(dest, destStart, m_data, m_pos, count);
+        m_pos += count;
+        return count;
+    }/*}}}*/
+    // public final ByteSlice readSlice(int count);/*{{{*/
+    /**
+     * Reads bytes without copying them.
+     * @param count Number of bytes.
+     * @return A view over the bytes in the array of this reader. \b null
+     * when there are less than \a count bytes remaining.
+     * @since 2.5
+     **/
+    public final ByteSlice readSlice(int count)
+    {
+        if (!__internal_check(count)) return null;
+
+        ByteSlice result = new ByteSlice(m_data, m_pos, count);
+        m_pos += count;
+        return result;
+    }/*}}}*/
+    // public final String readUtf8String();/*{{{*/
+    /**
+     * Reads a string written by \c arrays::writeUtf8String().
+     * The length prefix is always read in \b Big-Endian order, as \c
+     * java.io.DataInput does.
+     * @return The string read. \b null when the data goes beyond the end of
+     * the range or is not valid modified UTF-8. The position is not changed
+     * in that case.
+     * @since 2.5
+     **/
+    public final String readUtf8String()
+    {
+        String result = arrays.__internal_utf8String(m_data, m_pos, m_end);
+        if (result == null) {
+            m_failed = true;
+            return null;
+        }
+        m_pos += 2 + (arrays.readShort(m_data, m_pos) & 0xFFFF);
+        return result;
+    }/*}}}*/
+    // public final String readString(int length, String enc);/*{{{*/
+    /**
+     * Reads a fixed length string.
+     * This is the format of \c strings::encode(String,String,int): the
+     * encoded text padded with zeros up to \a length bytes.
+     * @param length Number of bytes of the field.
+     * @param enc Name of the encoding. See \c ENC.
+     * @return The decoded string, without the trailing zero characters. \b
+     * null when there are less than \a length bytes remaining or the
+     * encoding is not supported. The field is skipped anyway when it is
+     * inside the range.
+     * @since 2.5
+     **/
+    public final String readString(int length, String enc)
+    {
+        if (!__internal_check(length)) return null;
+
+        int pos = m_pos;
+        m_pos += length;
+
+        String text;
+        try { text = new String(m_data, pos, length, enc); }
+        catch (Exception ex) {
+            m_failed = true;
+            return null;
+        }
+
+        int end = text.length();
+        while ((end > 0) && (text.charAt(end - 1) == '\0')) end--;
+        return text.substring(0, end);
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // final boolean __internal_check(int count);/*{{{*/
+    /**
+     * Checks that \a count bytes remain, marking the failure otherwise.
+     **/
+    final boolean __internal_check(int count)
+    {
+        if ((count < 0) || (count > (m_end - m_pos))) {
+            m_failed = true;
+            return false;
+        }
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private final byte[] m_data;            /**< The data.                  */
+    private final int    m_start;           /**< First byte of the range.   */
+    private final int    m_end;             /**< Byte after the range.      */
+    private int          m_pos;             /**< Current position.          */
+    private boolean      m_little;          /**< Little-Endian order.       */
+    private boolean      m_failed;          /**< A read failed.             */
+    //@}
+}
+// vim:syntax=java.doxygen
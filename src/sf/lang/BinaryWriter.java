@@ -0,0 +1,564 @@
+/**
+ * \file
+ * Defines the BinaryWriter class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * Sequential writer of binary data in a byte array.
+ * The object keeps the current position and the byte order used for
+ * numbers. It can write in a fixed region of an existing array or in an
+ * internal buffer that grows as needed, like \c ByteArrayBuilder.
+ *
+ * Like the rest of this library no exceptions are thrown. All write
+ * methods return the object itself so calls can be chained. When a value
+ * doesn't fit in a fixed region nothing is written, the position is not
+ * changed and the writer is marked as failed. The mark is kept until
+ * #clearError(). So a whole record can be written and checked once:
+ * <pre>
+ * BinaryWriter writer = new BinaryWriter(packet, 0, packet.length);
+ * writer.writeInt(id).writeUtf8String(name).writeVarLong(time);
+ * if (writer.failed()) return ERROR.SPACE;
+ * </pre>
+ * #require() checks, or reserves in a growable buffer, the room for a whole
+ * fixed-size record before its fields are written.
+ * @see BinaryReader
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class BinaryWriter
+{
+    /** \name Constructors */ //@{
+    // public BinaryWriter();/*{{{*/
+    /**
+     * Default constructor.
+     * Builds a writer with a growable buffer with the default capacity of 16
+     * bytes.
+     * @since 2.5
+     **/
+    public BinaryWriter()
+    {
+        this(16);
+    }/*}}}*/
+    // public BinaryWriter(int capacity);/*{{{*/
+    /**
+     * Builds a writer with a growable buffer.
+     * @param capacity The initial capacity of the buffer. If less than zero,
+     * zero is assumed.
+     * @since 2.5
+     **/
+    public BinaryWriter(int capacity)
+    {
+        m_data   = new byte[((capacity < 0) ? 0 : capacity)];
+        m_start  = 0;
+        m_end    = m_data.length;
+        m_pos    = 0;
+        m_grow   = true;
+    }/*}}}*/
+    // public BinaryWriter(byte[] array, int start, int count);/*{{{*/
+    /**
+     * Builds a writer over a fixed region of an array.
+     * The array is not copied and never replaced.
+     * @param array The destination. Can be \b null, resulting in a writer
+     * where nothing fits.
+     * @param start Index of the first byte. Limited to the array bounds.
+     * @param count Number of bytes. If less than zero or beyond the end of
+     * \a array all bytes from \a start are used.
+     * @since 2.5
+     **/
+    public BinaryWriter(byte[] array, int start, int count)
+    {
+        int limit = arrays.length(array);
+
+        start = Math.max(Math.min(start, limit), 0);
+        if ((count < 0) || (count > (limit - start)))
+            count = limit - start;
+
+        m_data   = ((array == null) ? new byte[0] : array);
+        m_start  = start;
+        m_end    = start + count;
+        m_pos    = start;
+        m_grow   = false;
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final int position();/*{{{*/
+    /**
+     * Gets the current position.
+     * @return The number of bytes from the start of the region.
+     * @since 2.5
+     **/
+    public final int position()
+    {
+        return (m_pos - m_start);
+    }/*}}}*/
+    // public final int length();/*{{{*/
+    /**
+     * Gets the number of bytes written.
+     * @return The distance from the start of the region up to the farthest
+     * byte written, regardless of calls to #seek().
+     * @since 2.5
+     **/
+    public final int length()
+    {
+        return (Math.max(m_pos, m_high) - m_start);
+    }/*}}}*/
+    // public final int remaining();/*{{{*/
+    /**
+     * Gets the room left after the current position.
+     * @return The number of bytes that can be written without failing in a
+     * fixed region or growing the buffer.
+     * @since 2.5
+     **/
+    public final int remaining()
+    {
+        return (m_end - m_pos);
+    }/*}}}*/
+    // public final boolean isGrowable();/*{{{*/
+    /**
+     * Checks whether the buffer grows.
+     * @return \b true when the writer uses an internal buffer that grows as
+     * needed. \b false for a fixed region of an array.
+     * @since 2.5
+     **/
+    public final boolean isGrowable()
+    {
+        return m_grow;
+    }/*}}}*/
+    // public final boolean isLittleEndian();/*{{{*/
+    /**
+     * Checks the byte order.
+     * @return \b true when numbers are written in \b Little-Endian order.
+     * \b false, the default, for \b Big-Endian.
+     * @since 2.5
+     **/
+    public final boolean isLittleEndian()
+    {
+        return m_little;
+    }/*}}}*/
+    // public final void setLittleEndian(boolean little);/*{{{*/
+    /**
+     * Changes the byte order.
+     * @param little \b true to write numbers in \b Little-Endian order.
+     * \b false to write them in \b Big-Endian order.
+     * @since 2.5
+     **/
+    public final void setLittleEndian(boolean little)
+    {
+        m_little = little;
+    }/*}}}*/
+    // public final boolean failed();/*{{{*/
+    /**
+     * Checks whether a write failed.
+     * @return \b true when a value didn't fit in the region or couldn't be
+     * encoded since the object was built or #clearError() was called.
+     * @since 2.5
+     **/
+    public final boolean failed()
+    {
+        return m_failed;
+    }/*}}}*/
+    // public final void clearError();/*{{{*/
+    /**
+     * Clears the failure mark.
+     * @since 2.5
+     **/
+    public final void clearError()
+    {
+        m_failed = false;
+    }/*}}}*/
+    //@}
+
+    /** \name Positioning */ //@{
+    // public final boolean seek(int position);/*{{{*/
+    /**
+     * Changes the current position.
+     * Used to go back and fill a field whose value is known only after the
+     * following ones were written, like a length or a checksum.
+     * @param position Number of bytes from the start of the region. From
+     * zero up to #length().
+     * @return \b true on success. \b false when \a position is invalid.
+     * @since 2.5
+     **/
+    public final boolean seek(int position)
+    {
+        if ((position < 0) || (position > length())) return false;
+
+        m_high = Math.max(m_pos, m_high);
+        m_pos  = m_start + position;
+        return true;
+    }/*}}}*/
+    // public final boolean skip(int count);/*{{{*/
+    /**
+     * Moves the current position forward.
+     * Bytes skipped beyond #length() are zeros in a growable buffer. In a
+     * fixed region they keep their previous values.
+     * @param count Number of bytes to skip.
+     * @return \b true on success. \b false, marking the writer as failed,
+     * when there is no room for \a count bytes or \a count is negative.
+     * @since 2.5
+     **/
+    public final boolean skip(int count)
+    {
+        if (!__internal_check(count)) return false;
+        m_pos += count;
+        return true;
+    }/*}}}*/
+    // public final boolean require(int count);/*{{{*/
+    /**
+     * Checks that a number of bytes can be written.
+     * In a growable buffer the room is reserved. The position is not
+     * changed.
+     * @param count Number of bytes needed, as for a whole record.
+     * @return \b true when \a count bytes can be written. Otherwise \b false
+     * and the writer is marked as failed.
+     * @since 2.5
+     **/
+    public final boolean require(int count)
+    {
+        return __internal_check(count);
+    }/*}}}*/
+    //@}
+
+    /** \name Writing Numbers */ //@{
+    // public final BinaryWriter writeByte(int value);/*{{{*/
+    /**
+     * Writes a single byte.
+     * @param value The value. Only its 8 low order bits are used.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeByte(int value)
+    {
+        if ((m_pos < m_end) || __internal_check(1))
+            m_data[m_pos++] = (byte)value;
+
+        return this;
+    }/*}}}*/
+    // public final BinaryWriter writeBoolean(boolean value);/*{{{*/
+    /**
+     * Writes a boolean as a single byte.
+     * @param value The value. \b true is written as 1.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeBoolean(boolean value)
+    {
+        return writeByte(value ? 1 : 0);
+    }/*}}}*/
+    // public final BinaryWriter writeShort(int value);/*{{{*/
+    /**
+     * Writes a 16 bits value.
+     * @param value The value. Only its 16 low order bits are used.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeShort(int value)
+    {
+        if (!__internal_check(2)) return this;
+
+        if (m_little)
+            arrays.writeLittleEndShort(m_data, m_pos, (short)value);
+        else
+            arrays.writeShort(m_data, m_pos, (short)value);
+
+        m_pos += 2;
+        return this;
+    }/*}}}*/
+    // public final BinaryWriter writeChar(char value);/*{{{*/
+    /**
+     * Writes a 16 bits character.
+     * @param value The character.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeChar(char value)
+    {
+        return writeShort(value);
+    }/*}}}*/
+    // public final BinaryWriter writeInt(int value);/*{{{*/
+    /**
+     * Writes a 32 bits value.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeInt(int value)
+    {
+        if (!__internal_check(4)) return this;
+
+        if (m_little)
+            arrays.writeLittleEndInt(m_data, m_pos, value);
+        else
+            arrays.writeInt(m_data, m_pos, value);
+
+        m_pos += 4;
+        return this;
+    }/*}}}*/
+    // public final BinaryWriter writeLong(long value);/*{{{*/
+    /**
+     * Writes a 64 bits value.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeLong(long value)
+    {
+        if (!__internal_check(8)) return this;
+
+        if (m_little)
+            arrays.writeLittleEndLong(m_data, m_pos, value);
+        else
+            arrays.writeLong(m_data, m_pos, value);
+
+        m_pos += 8;
+        return this;
+    }/*}}}*/
+    // public final BinaryWriter writeFloat(float value);/*{{{*/
+    /**
+     * Writes a 32 bits IEEE 754 floating point value.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeFloat(float value)
+    {
+        return writeInt(Float.floatToRawIntBits(value));
+    }/*}}}*/
+    // public final BinaryWriter writeDouble(double value);/*{{{*/
+    /**
+     * Writes a 64 bits IEEE 754 floating point value.
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeDouble(double value)
+    {
+        return writeLong(Double.doubleToRawLongBits(value));
+    }/*}}}*/
+    // public final BinaryWriter writeVarInt(int value);/*{{{*/
+    /**
+     * Writes a value in the format of \c arrays::writeVarInt().
+     * The byte order setting doesn't apply to varints.
+     * @param value The value. Negative values take 5 bytes.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeVarInt(int value)
+    {
+        if (!__internal_check(arrays.varIntSize(value))) return this;
+
+        m_pos += arrays.writeVarInt(m_data, m_pos, value);
+        return this;
+    }/*}}}*/
+    // public final BinaryWriter writeVarLong(long value);/*{{{*/
+    /**
+     * Writes a value in the format of \c arrays::writeVarLong().
+     * The byte order setting doesn't apply to varints.
+     * @param value The value. Negative values take 10 bytes.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeVarLong(long value)
+    {
+        if (!__internal_check(arrays.varLongSize(value))) return this;
+
+        m_pos += arrays.writeVarLong(m_data, m_pos, value);
+        return this;
+    }/*}}}*/
+    // public final BinaryWriter writeZigZagInt(int value);/*{{{*/
+    /**
+     * Writes a value in the format of \c arrays::writeZigZagInt().
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeZigZagInt(int value)
+    {
+        return writeVarInt(numbers.zigzag(value));
+    }/*}}}*/
+    // public final BinaryWriter writeZigZagLong(long value);/*{{{*/
+    /**
+     * Writes a value in the format of \c arrays::writeZigZagLong().
+     * @param value The value.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeZigZagLong(long value)
+    {
+        return writeVarLong(numbers.zigzag(value));
+    }/*}}}*/
+    //@}
+
+    /** \name Writing Bytes and Strings */ //@{
+    // public final BinaryWriter writeBytes(byte[] src, int srcStart, int count);/*{{{*/
+    /**
+     * Copies bytes from an array.
+     * @param src The source array.
+     * @param srcStart Index of the first byte in \a src.
+     * @param count Number of bytes. If less than zero or beyond the end of \a
+     * src all bytes from \a srcStart are copied.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeBytes(byte[] src, int srcStart, int count)
+    {
+        int limit = arrays.length(src);
+        if ((srcStart < 0) || (srcStart > limit)) return this;
+        if ((count < 0) || (count > (limit - srcStart))) count = limit - srcStart;
+
+        if (!__internal_check(count)) return this;
+
+        arrays.copy(m_data, m_pos, src, srcStart, count);
+        m_pos += count;
+        return this;
+    }/*}}}*/
+    // public final BinaryWriter writeSlice(ByteSlice slice);/*{{{*/
+    /**
+     * Copies the bytes of a view.
+     * @param slice The view. Can be \b null, writing nothing.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeSlice(ByteSlice slice)
+    {
+        if (slice == null) return this;
+        return writeBytes(slice.array(), slice.offset(), slice.length());
+    }/*}}}*/
+    // public final BinaryWriter writeUtf8String(String text);/*{{{*/
+    /**
+     * Writes a string in the format of \c arrays::writeUtf8String().
+     * The length prefix is always written in \b Big-Endian order, as \c
+     * java.io.DataOutput does.
+     * @param text The string. \b null is written as an empty string.
+     * @return This object. The writer is marked as failed when the encoded
+     * string has more than 65535 bytes.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeUtf8String(String text)
+    {
+        int count = arrays.utf8Length(text);
+        if (count > 0xFFFF) {
+            m_failed = true;
+            return this;
+        }
+        if (!__internal_check(count + 2)) return this;
+
+        m_pos += arrays.writeUtf8String(m_data, m_pos, text);
+        return this;
+    }/*}}}*/
+    // public final BinaryWriter writeString(String text, String enc, int length);/*{{{*/
+    /**
+     * Writes a fixed length string.
+     * The result is the same of \c strings::encode(String,String,int): the
+     * encoded text truncated or padded with zeros up to \a length bytes.
+     * Read it back with \c BinaryReader::readString().
+     * @param text The string. \b null is written as zeros.
+     * @param enc Name of the encoding. See \c ENC.
+     * @param length Number of bytes of the field.
+     * @return This object. When the encoding is not supported the field is
+     * filled with zeros and the writer is marked as failed.
+     * @since 2.5
+     **/
+    public final BinaryWriter writeString(String text, String enc, int length)
+    {
+        if (!__internal_check(length)) return this;
+
+        byte[] encoded = strings.encode(text, enc);
+        int    count   = Math.min(arrays.length(encoded), length);
+
+        if ((encoded == null) && (strings.length(text) > 0))
+            m_failed = true;
+
+        arrays.copy(m_data, m_pos, encoded, 0, count);
+        arrays.set(m_data, (byte)0, m_pos + count, length - count);
+        m_pos += length;
+        return this;
+    }/*}}}*/
+    //@}
+
+    /** \name Result */ //@{
+    // public final byte[] buffer();/*{{{*/
+    /**
+     * Gets the array where data is written.
+     * @return The array passed to the constructor or the internal buffer. It
+     * is shared with this object. No copy is done. The internal buffer is
+     * replaced when it grows.
+     * @since 2.5
+     **/
+    public final byte[] buffer()
+    {
+        return m_data;
+    }/*}}}*/
+    // public final ByteSlice toSlice();/*{{{*/
+    /**
+     * Gets a view over the bytes written.
+     * @return A view of #length() bytes starting at the beginning of the
+     * region. No copy is done.
+     * @since 2.5
+     **/
+    public final ByteSlice toSlice()
+    {
+        return new ByteSlice(m_data, m_start, length());
+    }/*}}}*/
+    // public final byte[] toArray();/*{{{*/
+    /**
+     * Copies the bytes written to a new array.
+     * @return A new array with #length() bytes.
+     * @since 2.5
+     **/
+    public final byte[] toArray()
+    {
+        byte[] result = new byte[length()];
+        arrays.copy(result, 0, m_data, m_start, result.length);
+        return result;
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // final boolean __internal_check(int count);/*{{{*/
+    /**
+     * Checks that \a count bytes fit after the current position, growing
+     * the buffer when possible. Marks the failure otherwise.
+     **/
+    final boolean __internal_check(int count)
+    {
+        if ((count >= 0) && (count <= (m_end - m_pos))) return true;
+        if ((count < 0) || !m_grow || (count > (Integer.MAX_VALUE - m_pos))) {
+            m_failed = true;
+            return false;
+        }
+
+        int required = m_pos + count;
+        int capacity = (m_data.length << 1);
+        if ((capacity < required) || (capacity < 0)) capacity = required;
+        if (capacity < 16) capacity = 16;
+
+        byte[] temp = new byte[capacity];
+        System.arraycopy(m_data, 0, temp, 0, Math.max(m_pos, m_high));
+        m_data = temp;
+        m_end  = capacity;
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private byte[]    m_data;               /**< The buffer.                */
+    private final int m_start;              /**< First byte of the region.  */
+    private int       m_end;                /**< Byte after the region.     */
+    private int       m_pos;                /**< Current position.          */
+    private int       m_high;               /**< Farthest byte written.     */
+    private final boolean m_grow;           /**< Buffer can grow.           */
+    private boolean   m_little;             /**< Little-Endian order.       */
+    private boolean   m_failed;             /**< A write failed.            */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,484 @@
+/**
+ * \file
+ * Defines the ByteArrayBuilder class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * A growable array of bytes.
+ * The methods \c arrays::insert() and \c arrays::append() reallocate the
+ * array in every call. Building a large array one element at a time that way
+ * copies every element again and again. This class keeps a buffer larger
+ * than the number of elements stored and doubles its capacity when it gets
+ * full, so appending is done in amortized constant time.
+ *
+ * The internal buffer can be retrieved with #buffer(). The first #length()
+ * elements of it are valid so it can be passed directly to the \c arrays
+ * read helpers, like \c arrays::readInt(). The write helpers are also
+ * available through methods like #appendInt() and #appendLittleEndInt().
+ *
+ * Like the rest of this library no exceptions are thrown. Invalid positions
+ * are adjusted the same way \c arrays::insert() and \c arrays::remove() do.
+ * Operations that would store more than \c Integer.MAX_VALUE elements are
+ * ignored and leave the builder unchanged.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class ByteArrayBuilder
+{
+    /** \name Constructors */ //@{
+    // public ByteArrayBuilder();/*{{{*/
+    /**
+     * Default constructor.
+     * Builds an empty object with the default capacity of 16 elements.
+     * @since 2.5
+     **/
+    public ByteArrayBuilder()
+    {
+        this(16);
+    }/*}}}*/
+    // public ByteArrayBuilder(int capacity);/*{{{*/
+    /**
+     * Builds an empty object with the specified capacity.
+     * @param capacity The initial capacity of the buffer. If less than zero,
+     * zero is assumed.
+     * @since 2.5
+     **/
+    public ByteArrayBuilder(int capacity)
+    {
+        m_data  = new byte[((capacity < 0) ? 0 : capacity)];
+        m_count = 0;
+    }/*}}}*/
+    // public ByteArrayBuilder(byte[] array);/*{{{*/
+    /**
+     * Builds the object with a copy of the passed array.
+     * @param array Initial content of the builder. Can be \b null.
+     * @since 2.5
+     **/
+    public ByteArrayBuilder(byte[] array)
+    {
+        this(arrays.length(array) + 16);
+        append(array);
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final int length();/*{{{*/
+    /**
+     * Gets the number of elements stored.
+     * @return The number of valid elements in the buffer.
+     * @since 2.5
+     **/
+    public final int length()
+    {
+        return m_count;
+    }/*}}}*/
+    // public final int capacity();/*{{{*/
+    /**
+     * Gets the current capacity of the buffer.
+     * @return The number of elements that can be stored without a new
+     * allocation.
+     * @since 2.5
+     **/
+    public final int capacity()
+    {
+        return m_data.length;
+    }/*}}}*/
+    // public final byte[] buffer();/*{{{*/
+    /**
+     * Gets the internal buffer.
+     * @return The internal array. Only the first #length() elements are
+     * valid. The array is shared with this object and will be replaced when
+     * the builder grows. No copy is done.
+     * @since 2.5
+     **/
+    public final byte[] buffer()
+    {
+        return m_data;
+    }/*}}}*/
+    // public final byte get(int index);/*{{{*/
+    /**
+     * Gets an element of the array.
+     * @param index Index of the element. Must be less than #length().
+     * @return The element value or zero if \a index is out of bounds.
+     * @since 2.5
+     **/
+    public final byte get(int index)
+    {
+        return (((index < 0) || (index >= m_count)) ? 0 : m_data[index]);
+    }/*}}}*/
+    // public final boolean set(int index, byte value);/*{{{*/
+    /**
+     * Changes an element of the array.
+     * @param index Index of the element. Must be less than #length().
+     * @param value The new value.
+     * @return \b true when the value was set. \b false if \a index is out of
+     * bounds.
+     * @since 2.5
+     **/
+    public final boolean set(int index, byte value)
+    {
+        if ((index < 0) || (index >= m_count)) return false;
+        m_data[index] = value;
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Capacity Management */ //@{
+    // public final void ensureCapacity(int capacity);/*{{{*/
+    /**
+     * Makes sure the buffer can hold the specified number of elements.
+     * @param capacity The minimum capacity required. When greater than the
+     * current capacity the buffer grows to at least twice its size.
+     * @since 2.5
+     **/
+    public final void ensureCapacity(int capacity)
+    {
+        if (capacity > m_data.length)
+            __internal_grow(capacity);
+    }/*}}}*/
+    // public final void setLength(int length);/*{{{*/
+    /**
+     * Changes the number of elements stored.
+     * @param length The new length. When greater than the current length the
+     * new elements are filled with zeroes. Values less than zero are the same
+     * as zero.
+     * @since 2.5
+     **/
+    public final void setLength(int length)
+    {
+        if (length < 0) length = 0;
+        if (length > m_count) {
+            ensureCapacity(length);
+            java.util.Arrays.fill(m_data, m_count, length, (byte)0);
+        }
+        m_count = length;
+    }/*}}}*/
+    // public final void clear();/*{{{*/
+    /**
+     * Removes all elements.
+     * The capacity of the buffer is not changed.
+     * @since 2.5
+     **/
+    public final void clear()
+    {
+        m_count = 0;
+    }/*}}}*/
+    // public final void trimToSize();/*{{{*/
+    /**
+     * Releases the unused capacity of the buffer.
+     * @since 2.5
+     **/
+    public final void trimToSize()
+    {
+        if (m_count < m_data.length)
+            m_data = __internal_resize(m_count);
+    }/*}}}*/
+    //@}
+
+    /** \name Appending */ //@{
+    // public final ByteArrayBuilder append(byte value);/*{{{*/
+    /**
+     * Appends a single value.
+     * @param value The value to append.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder append(byte value)
+    {
+        if ((m_count == m_data.length) && !__internal_room(1))
+            return this;
+
+        m_data[m_count++] = value;
+        return this;
+    }/*}}}*/
+    // public final ByteArrayBuilder append(byte[] array);/*{{{*/
+    /**
+     * Appends all elements of an array.
+     * @param array The array to append. Can be \b null.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder append(byte[] array)
+    {
+        return append(array, 0, -1);
+    }/*}}}*/
+    // public final ByteArrayBuilder append(byte[] array, int start, int count);/*{{{*/
+    /**
+     * Appends part of an array.
+     * @param array The source array. Can be \b null.
+     * @param start Index of the first element to append in \a array.
+     * @param count Number of elements to append. If less than zero or beyond
+     * the end of \a array all elements from \a start are appended.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder append(byte[] array, int start, int count)
+    {
+        return insert(m_count, array, start, count);
+    }/*}}}*/
+    //@}
+
+    /** \name Insertion and Remotion */ //@{
+    // public final ByteArrayBuilder insert(int position, byte value);/*{{{*/
+    /**
+     * Inserts a value in the specified position.
+     * @param position The position where the value should be inserted. If
+     * less than zero or greater than #length() the value is appended.
+     * @param value Value to insert.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder insert(int position, byte value)
+    {
+        if ((position < 0) || (position >= m_count))
+            return append(value);
+
+        if ((m_count == m_data.length) && !__internal_room(1))
+            return this;
+
+        System.arraycopy(m_data, position, m_data, position + 1, m_count - position);
+        m_data[position] = value;
+        m_count++;
+        return this;
+    }/*}}}*/
+    // public final ByteArrayBuilder insert(int position, byte[] array, int start, int count);/*{{{*/
+    /**
+     * Inserts part of an array in the specified position.
+     * Elements after \a position are shifted only once, no matter how many
+     * elements are inserted.
+     * @param position The position where the elements should be inserted. If
+     * less than zero or greater than #length() the elements are appended.
+     * @param array The source array. Can be \b null.
+     * @param start Index of the first element to insert in \a array.
+     * @param count Number of elements to insert. If less than zero or beyond
+     * the end of \a array all elements from \a start are inserted.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder insert(int position, byte[] array, int start, int count)
+    {
+        int limit = arrays.length(array);
+
+        if ((start < 0) || (start >= limit)) return this;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+        if ((position < 0) || (position > m_count)) position = m_count;
+
+        if (!__internal_room(count)) return this;
+        if (position < m_count)
+            System.arraycopy(m_data, position, m_data, position + count, m_count - position);
+
+        System.arraycopy(array, start, m_data, position, count);
+        m_count += count;
+        return this;
+    }/*}}}*/
+    // public final ByteArrayBuilder remove(int position);/*{{{*/
+    /**
+     * Removes one element.
+     * @param position Position of the element to remove. When out of bounds
+     * nothing is done.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder remove(int position)
+    {
+        return remove(position, 1);
+    }/*}}}*/
+    // public final ByteArrayBuilder remove(int position, int count);/*{{{*/
+    /**
+     * Removes a range of elements.
+     * @param position Position of the first element to remove. When out of
+     * bounds nothing is done.
+     * @param count Number of elements to remove. If less than zero or beyond
+     * #length() all elements from \a position are removed.
+     * @return This object.
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder remove(int position, int count)
+    {
+        if ((position < 0) || (position >= m_count)) return this;
+        if ((count < 0) || (count > (m_count - position))) count = (m_count - position);
+
+        System.arraycopy(m_data, position + count, m_data, position, m_count - position - count);
+        m_count -= count;
+        return this;
+    }/*}}}*/
+    //@}
+
+    /** \name Writing Numbers */ //@{
+    // public final ByteArrayBuilder appendShort(short value);/*{{{*/
+    /**
+     * Appends a short value in \b Big-Endian byte order.
+     * @param value Value to append.
+     * @return This object.
+     * @see arrays::writeShort()
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder appendShort(short value)
+    {
+        if (!__internal_room(2)) return this;
+        arrays.writeShort(m_data, m_count, value);
+        m_count += 2;
+        return this;
+    }/*}}}*/
+    // public final ByteArrayBuilder appendInt(int value);/*{{{*/
+    /**
+     * Appends an int value in \b Big-Endian byte order.
+     * @param value Value to append.
+     * @return This object.
+     * @see arrays::writeInt()
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder appendInt(int value)
+    {
+        if (!__internal_room(4)) return this;
+        arrays.writeInt(m_data, m_count, value);
+        m_count += 4;
+        return this;
+    }/*}}}*/
+    // public final ByteArrayBuilder appendLong(long value);/*{{{*/
+    /**
+     * Appends a long value in \b Big-Endian byte order.
+     * @param value Value to append.
+     * @return This object.
+     * @see arrays::writeLong()
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder appendLong(long value)
+    {
+        if (!__internal_room(8)) return this;
+        arrays.writeLong(m_data, m_count, value);
+        m_count += 8;
+        return this;
+    }/*}}}*/
+    // public final ByteArrayBuilder appendLittleEndShort(short value);/*{{{*/
+    /**
+     * Appends a short value in \b Little-Endian byte order.
+     * @param value Value to append.
+     * @return This object.
+     * @see arrays::writeLittleEndShort()
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder appendLittleEndShort(short value)
+    {
+        if (!__internal_room(2)) return this;
+        arrays.writeLittleEndShort(m_data, m_count, value);
+        m_count += 2;
+        return this;
+    }/*}}}*/
+    // public final ByteArrayBuilder appendLittleEndInt(int value);/*{{{*/
+    /**
+     * Appends an int value in \b Little-Endian byte order.
+     * @param value Value to append.
+     * @return This object.
+     * @see arrays::writeLittleEndInt()
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder appendLittleEndInt(int value)
+    {
+        if (!__internal_room(4)) return this;
+        arrays.writeLittleEndInt(m_data, m_count, value);
+        m_count += 4;
+        return this;
+    }/*}}}*/
+    // public final ByteArrayBuilder appendLittleEndLong(long value);/*{{{*/
+    /**
+     * Appends a long value in \b Little-Endian byte order.
+     * @param value Value to append.
+     * @return This object.
+     * @see arrays::writeLittleEndLong()
+     * @since 2.5
+     **/
+    public final ByteArrayBuilder appendLittleEndLong(long value)
+    {
+        if (!__internal_room(8)) return this;
+        arrays.writeLittleEndLong(m_data, m_count, value);
+        m_count += 8;
+        return this;
+    }/*}}}*/
+    //@}
+
+    /** \name Conversion */ //@{
+    // public final byte[] toArray();/*{{{*/
+    /**
+     * Builds an array with the elements of this object.
+     * @return A new array with exactly #length() elements.
+     * @since 2.5
+     **/
+    public final byte[] toArray()
+    {
+        return __internal_resize(m_count);
+    }/*}}}*/
+    // public final ByteSlice toSlice();/*{{{*/
+    /**
+     * Gets a view over the elements of this object.
+     * @return A view over the first #length() elements of the internal
+     * buffer. No copy is done. Changes made through the view are seen by
+     * the builder and vice-versa, until the builder grows and replaces its
+     * buffer. The length of the view doesn't follow later changes.
+     * @since 2.5
+     **/
+    public final ByteSlice toSlice()
+    {
+        return new ByteSlice(m_data, 0, m_count);
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // private boolean __internal_room(int count);/*{{{*/
+    /**
+     * Makes room for \a count more elements.
+     * @param count Number of elements to be added.
+     * @return \b false when the builder would have more than \c
+     * Integer.MAX_VALUE elements. Nothing is changed in this case.
+     * @since 2.5
+     **/
+    private boolean __internal_room(int count)
+    {
+        if (count > (Integer.MAX_VALUE - m_count)) return false;
+        if ((m_count + count) > m_data.length) __internal_grow(m_count + count);
+        return true;
+    }/*}}}*/
+    // private void __internal_grow(int required);/*{{{*/
+    /**
+     * Grows the buffer geometrically.
+     * @param required The minimum capacity required.
+     * @since 2.5
+     **/
+    private void __internal_grow(int required)
+    {
+        int capacity = (m_data.length << 1);
+        if ((capacity < required) || (capacity < 0)) capacity = required;
+        if (capacity < 16) capacity = 16;
+
+        m_data = __internal_resize(capacity);
+    }/*}}}*/
+    // private byte[] __internal_resize(int size);/*{{{*/
+    /**
+     * Copies the valid elements to a new array.
+     * @param size The size of the new array. Must not be less than
+     * #length().
+     * @return The new array.
+     * @since 2.5
+     **/
+    private byte[] __internal_resize(int size)
+    {
+        byte[] temp = new byte[size];
+        System.arraycopy(m_data, 0, temp, 0, m_count);
+        return temp;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private byte[] m_data;      /**< The buffer.                */
+    private int    m_count;     /**< Number of valid elements.  */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,211 @@
+/**
+ * \file
+ * Defines the CharSlice class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * A view over part of a char array.
+ * \c arrays::slice() copies the elements to a new array. This class only
+ * keeps a reference to the array plus the offset and the number of
+ * elements of the range, so a sub-range can be passed along without
+ * copying. It is a \c CharSequence, so it can be appended to a \c
+ * StringBuilder or given to \c arrays::fromHex() directly. Numbers can be
+ * parsed from it with \c strings::toLong(CharSlice,int).
+ *
+ * The view shares the array. Changes made to the array are seen through the
+ * view and vice versa. Instances are immutable.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public final class CharSlice implements CharSequence
+{
+    /** \name Constructors */ //@{
+    // public CharSlice(char[] array);/*{{{*/
+    /**
+     * Builds a view over an entire array.
+     * @param array The array. Can be \b null, resulting in an empty view.
+     * @since 2.5
+     **/
+    public CharSlice(char[] array)
+    {
+        this(array, 0, -1);
+    }/*}}}*/
+    // public CharSlice(char[] array, int offset, int length);/*{{{*/
+    /**
+     * Builds a view over part of an array.
+     * @param array The array. Can be \b null, resulting in an empty view.
+     * @param offset Index of the first element. Limited to the bounds of \a
+     * array.
+     * @param length Number of elements. If less than zero or beyond the end
+     * of \a array all elements from \a offset are used.
+     * @since 2.5
+     **/
+    public CharSlice(char[] array, int offset, int length)
+    {
+        int limit = arrays.length(array);
+
+        offset = Math.max(Math.min(offset, limit), 0);
+        if ((length < 0) || (length > (limit - offset)))
+            length = limit - offset;
+
+        m_array  = array;
+        m_offset = offset;
+        m_length = length;
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final char[] array();/*{{{*/
+    /**
+     * Gets the array shared by this view.
+     * @return The array. Can be \b null when the view is empty.
+     * @since 2.5
+     **/
+    public final char[] array()
+    {
+        return m_array;
+    }/*}}}*/
+    // public final int offset();/*{{{*/
+    /**
+     * Gets the index of the first element of the view in the array.
+     * @return The offset.
+     * @since 2.5
+     **/
+    public final int offset()
+    {
+        return m_offset;
+    }/*}}}*/
+    // public final int length();/*{{{*/
+    /**
+     * Gets the number of elements of the view.
+     * @return The length.
+     * @since 2.5
+     **/
+    public final int length()
+    {
+        return m_length;
+    }/*}}}*/
+    // public final boolean isEmpty();/*{{{*/
+    /**
+     * Checks whether the view has no elements.
+     * @return \b true when #length() is zero.
+     * @since 2.5
+     **/
+    public final boolean isEmpty()
+    {
+        return (m_length == 0);
+    }/*}}}*/
+    //@}
+
+    /** \name Element Access */ //@{
+    // public final char charAt(int index);/*{{{*/
+    /**
+     * Gets an element.
+     * @param index Index of the element, relative to the start of the view.
+     * @return The element value.
+     * @throws IndexOutOfBoundsException When \a index is out of the view,
+     * as required by \c CharSequence.
+     * @since 2.5
+     **/
+    public final char charAt(int index)
+    {
+        if ((index < 0) || (index >= m_length))
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + m_length);
+        return m_array[m_offset + index];
+    }/*}}}*/
+    // public final boolean set(int index, char value);/*{{{*/
+    /**
+     * Changes an element.
+     * @param index Index of the element, relative to the start of the view.
+     * @param value The new value.
+     * @return \b true on success. \b false if \a index is out of the view.
+     * @since 2.5
+     **/
+    public final boolean set(int index, char value)
+    {
+        if ((index < 0) || (index >= m_length)) return false;
+        m_array[m_offset + index] = value;
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Operations */ //@{
+    // public final CharSlice slice(int first, int count);/*{{{*/
+    /**
+     * Builds a view over part of this view.
+     * No elements are copied.
+     * @param first Index of the first element, relative to the start of
+     * this view. If less than zero or greater than #length() the result is
+     * \b null.
+     * @param count Number of elements. If less than zero or beyond the end
+     * of this view all elements from \a first are used.
+     * @return The new view or \b null, like \c arrays::slice().
+     * @since 2.5
+     **/
+    public final CharSlice slice(int first, int count)
+    {
+        if ((first < 0) || (first > m_length)) return null;
+        if ((count < 0) || (count > (m_length - first)))
+            count = m_length - first;
+
+        return new CharSlice(m_array, m_offset + first, count);
+    }/*}}}*/
+    // public final char[] toArray();/*{{{*/
+    /**
+     * Copies the elements of the view to a new array.
+     * @return A new array with #length() elements.
+     * @since 2.5
+     **/
+    public final char[] toArray()
+    {
+        char[] result = new char[m_length];
+        arrays.copy(result, 0, m_array, m_offset, m_length);
+        return result;
+    }/*}}}*/
+    // public final CharSequence subSequence(int start, int end);/*{{{*/
+    /**
+     * Builds a view over part of this view.
+     * @param start Index of the first element, relative to the start of
+     * this view.
+     * @param end Index after the last element.
+     * @return The new view. No elements are copied.
+     * @throws IndexOutOfBoundsException When \a start or \a end is negative,
+     * \a end is greater than #length() or \a start is greater than \a end,
+     * as required by \c CharSequence. Use #slice() to have the bounds
+     * adjusted instead.
+     * @since 2.5
+     **/
+    public final CharSequence subSequence(int start, int end)
+    {
+        if ((start < 0) || (end > m_length) || (start > end))
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + m_length);
+        return new CharSlice(m_array, m_offset + start, end - start);
+    }/*}}}*/
+    // public String toString();/*{{{*/
+    /**
+     * Builds a string with the elements of the view.
+     * @return A new string. Empty when the view is empty.
+     * @since 2.5
+     **/
+    @Override
+    public String toString()
+    {
+        return ((m_length == 0) ? strings.EMPTY : new String(m_array, m_offset, m_length));
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private final char[] m_array;           /**< The shared array.          */
+    private final int    m_offset;          /**< Index of the first element.*/
+    private final int    m_length;          /**< Number of elements.        */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,233 @@
+/**
+ * \file
+ * Defines the Crc16 class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/* #imports {{{ */
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+/* }}} #imports */
+
+/**
+ * \ingroup sf_lang
+ * Incremental CRC-CCITT of 16 bits.
+ * Computes the same checksum of \c arrays::crc16() (polynomial 0x1021,
+ * initial value 0xFFFF, no reflection and no final XOR) but the data can be
+ * passed in several pieces, as it arrives. So a frame can be checked while it
+ * is being received without assembling it in a contiguous array first.
+ *
+ * The computation is table driven and processes eight bytes at a time
+ * (<i>slice-by-8</i>). The tables are shared by all instances and built
+ * once, when the class is loaded.
+ *
+ * The class implements \c java.util.zip.Checksum so it can be used wherever
+ * a \c CRC32 or \c Adler32 is accepted.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class Crc16 implements Checksum
+{
+    /** \name Constants */ //@{
+    public static final int POLYNOMIAL = 0x1021;    /**< CCITT polynomial.  */
+    public static final int INITIAL    = 0xFFFF;    /**< Initial value.     */
+    //@}
+
+    /** \name Constructors */ //@{
+    // public Crc16();/*{{{*/
+    /**
+     * Default constructor.
+     * The checksum starts with its initial value, the same of an empty
+     * array.
+     * @since 2.5
+     **/
+    public Crc16()
+    {
+        m_crc = INITIAL;
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final short value();/*{{{*/
+    /**
+     * Gets the current checksum value.
+     * @return The CRC of all bytes passed so far. The same value returned by
+     * \c arrays::crc16() when all bytes are passed in a single array.
+     * @since 2.5
+     **/
+    public final short value()
+    {
+        return (short)m_crc;
+    }/*}}}*/
+    // public final long getValue();/*{{{*/
+    /**
+     * Gets the current checksum value.
+     * @return The CRC of all bytes passed so far, as an unsigned value.
+     * @since 2.5
+     **/
+    public final long getValue()
+    {
+        return m_crc;
+    }/*}}}*/
+    //@}
+
+    /** \name Operations */ //@{
+    // public final void reset();/*{{{*/
+    /**
+     * Resets the checksum to its initial value.
+     * @since 2.5
+     **/
+    public final void reset()
+    {
+        m_crc = INITIAL;
+    }/*}}}*/
+    // public final void update(int b);/*{{{*/
+    /**
+     * Updates the checksum with a single byte.
+     * @param b The byte value. Only the low order 8 bits are used.
+     * @since 2.5
+     **/
+    public final void update(int b)
+    {
+        m_crc = ((m_crc << 8) ^ T0[((m_crc >> 8) ^ b) & 0xFF]) & 0xFFFF;
+    }/*}}}*/
+    // public final void update(byte[] array);/*{{{*/
+    /**
+     * Updates the checksum with all bytes of an array.
+     * @param array The data. Can be \b null.
+     * @since 2.5
+     **/
+    public final void update(byte[] array)
+    {
+        if (array != null)
+            m_crc = Crc16.update(m_crc, array, 0, array.length);
+    }/*}}}*/
+    // public final void update(byte[] array, int off, int len);/*{{{*/
+    /**
+     * Updates the checksum with part of an array.
+     * @param array The data. Can be \b null.
+     * @param off Index of the first byte in \a array.
+     * @param len Number of bytes to use. If less than zero, or beyond the
+     * end of \a array, all bytes from \a off are used.
+     * @since 2.5
+     **/
+    public final void update(byte[] array, int off, int len)
+    {
+        int limit = arrays.length(array);
+
+        if ((off < 0) || (off >= limit)) return;
+        if ((len < 0) || (len > (limit - off))) len = (limit - off);
+
+        m_crc = Crc16.update(m_crc, array, off, len);
+    }/*}}}*/
+    // public final void update(ByteBuffer buffer);/*{{{*/
+    /**
+     * Updates the checksum with the remaining bytes of a buffer.
+     * @param buffer The buffer. All bytes between its position and its limit
+     * are used. Upon return the position will be equal to the limit. Direct
+     * buffers are read in chunks through a small temporary array.
+     * @since 2.5
+     **/
+    public final void update(ByteBuffer buffer)
+    {
+        if ((buffer == null) || !buffer.hasRemaining()) return;
+
+        if (buffer.hasArray()) {
+            m_crc = Crc16.update(m_crc, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(buffer.remaining(), 4096)];
+        int count;
+
+        while ((count = Math.min(buffer.remaining(), chunk.length)) > 0) {
+            buffer.get(chunk, 0, count);
+            m_crc = Crc16.update(m_crc, chunk, 0, count);
+        }
+    }/*}}}*/
+    //@}
+
+    /** \name Static Functions */ //@{
+    // public static int update(int crc, byte[] array, int off, int len);/*{{{*/
+    /**
+     * Updates a CRC value with a range of bytes.
+     * This is the engine of this class. It is also used by \c
+     * arrays::crc16().
+     * @param crc The current CRC value. Only the low order 16 bits are used.
+     * Pass #INITIAL to start a new computation.
+     * @param array The data.
+     * @param off Index of the first byte in \a array.
+     * @param len Number of bytes to process.
+     * @return The updated CRC value, in the low order 16 bits.
+     * @remarks Arguments are not checked.
+     * @since 2.5
+     **/
+    public static int update(int crc, byte[] array, int off, int len)
+    {
+        int limit = off + (len & ~7);
+
+        crc &= 0xFFFF;
+        while (off < limit)
+        {
+            crc = T7[((crc >> 8) ^ array[off]) & 0xFF] ^
+                  T6[(crc ^ array[off+1]) & 0xFF] ^
+                  T5[array[off+2] & 0xFF] ^
+                  T4[array[off+3] & 0xFF] ^
+                  T3[array[off+4] & 0xFF] ^
+                  T2[array[off+5] & 0xFF] ^
+                  T1[array[off+6] & 0xFF] ^
+                  T0[array[off+7] & 0xFF];
+            off += 8;
+        }
+
+        limit += (len & 7);
+        while (off < limit) {
+            crc = ((crc << 8) ^ T0[((crc >> 8) ^ array[off++]) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Tables */ //@{
+    /* T0 is the classic byte table. Tn has the effect of a byte followed by
+     * n zero bytes, so eight bytes can be combined with a single XOR. */
+    static final int[] T0 = new int[256];
+    static final int[] T1 = new int[256];
+    static final int[] T2 = new int[256];
+    static final int[] T3 = new int[256];
+    static final int[] T4 = new int[256];
+    static final int[] T5 = new int[256];
+    static final int[] T6 = new int[256];
+    static final int[] T7 = new int[256];
+
+    static {
+        int crc;
+        for (int i = 0; i < 256; i++) {
+            crc = (i << 8);
+            for (int j = 0; j < 8; j++)
+                crc = (((crc & 0x8000) != 0) ? ((crc << 1) ^ POLYNOMIAL) : (crc << 1));
+            T0[i] = (crc & 0xFFFF);
+        }
+
+        int[][] tables = { T0, T1, T2, T3, T4, T5, T6, T7 };
+        for (int n = 1; n < 8; n++) {
+            for (int i = 0; i < 256; i++) {
+                crc = tables[n-1][i];
+                tables[n][i] = ((crc << 8) ^ T0[(crc >> 8) & 0xFF]) & 0xFFFF;
+            }
+        }
+    }
+    //@}
+
+    /** \name Data Members */ //@{
+    private int m_crc;          /**< Current CRC value.         */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,325 @@
+/**
+ * \file
+ * Defines the FrameDecoder class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * Incremental decoder of the frames built by the \c frames class.
+ * Data is passed to #feed() in chunks of any size, as it is received. Each
+ * call to #next() returns the payload of the next complete frame as a \c
+ * ByteSlice.
+ *
+ * Frames that are entirely inside a chunk are not copied: the slice points
+ * into the chunk passed to #feed(). Only a frame split across chunks is
+ * assembled in an internal buffer, that grows up to the size of the largest
+ * frame. So slices are valid until the next call to #feed(), while the
+ * caller doesn't change the chunk. When #next() returns \b null, because
+ * more data is needed, the bytes of the incomplete frame were already
+ * saved, and the chunk array can be reused for the next read.
+ *
+ * Like the rest of this library no exceptions are thrown. When #next()
+ * returns \b null, #error() tells why:
+ * - \c ERROR::SUCCESS: more data is needed.
+ * - \c ERROR::CRC: a frame was corrupted. It was dropped and the next call
+ *   continues with the following frame.
+ * - \c ERROR::FORMAT: a length prefix is negative.
+ * - \c ERROR::LENGTH: a length prefix is larger than the limit set in the
+ *   constructor.
+ *
+ * The last two leave the decoder without a way to find the start of the
+ * next frame. They are kept until #reset().
+ * <pre>
+ * FrameDecoder decoder = new FrameDecoder();
+ * while ((count = input.read(chunk)) > 0) {
+ *     decoder.feed(chunk, 0, count);
+ *     for (;;) {
+ *         ByteSlice payload = decoder.next();
+ *         if (payload != null) handle(payload);
+ *         else if (decoder.error() != ERROR.CRC) break;
+ *     }
+ *     if (decoder.error() != ERROR.SUCCESS) break;
+ * }
+ * </pre>
+ * @see frames
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class FrameDecoder
+{
+    /** \name Constructors */ //@{
+    // public FrameDecoder();/*{{{*/
+    /**
+     * Default constructor.
+     * Accepts payloads up to \c frames::MAX_PAYLOAD bytes.
+     * @since 2.5
+     **/
+    public FrameDecoder()
+    {
+        this(frames.MAX_PAYLOAD);
+    }/*}}}*/
+    // public FrameDecoder(int maxPayload);/*{{{*/
+    /**
+     * Builds a decoder with a limit for the payloads.
+     * @param maxPayload The largest payload accepted, in bytes. Larger length
+     * prefixes result in \c ERROR::LENGTH. Limited to the maximum the
+     * format allows.
+     * @since 2.5
+     **/
+    public FrameDecoder(int maxPayload)
+    {
+        m_max  = Math.max(Math.min(maxPayload, Integer.MAX_VALUE - frames.OVERHEAD), 0);
+        m_data = new byte[64];
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final int error();/*{{{*/
+    /**
+     * Gets the result of the last call to #next().
+     * @return \c ERROR::SUCCESS, \c ERROR::CRC, \c ERROR::FORMAT or \c
+     * ERROR::LENGTH. See the class description.
+     * @since 2.5
+     **/
+    public final int error()
+    {
+        return m_error;
+    }/*}}}*/
+    // public final int buffered();/*{{{*/
+    /**
+     * Gets the number of bytes not decoded yet.
+     * @return The bytes of incomplete frames, in the internal buffer and in
+     * the last chunk.
+     * @since 2.5
+     **/
+    public final int buffered()
+    {
+        return ((m_count - m_head) + (m_end - m_pos));
+    }/*}}}*/
+    // public final long decoded();/*{{{*/
+    /**
+     * Gets the number of frames decoded.
+     * @return The number of payloads returned by #next() since the object
+     * was built or #reset() was called.
+     * @since 2.5
+     **/
+    public final long decoded()
+    {
+        return m_frames;
+    }/*}}}*/
+    // public final long dropped();/*{{{*/
+    /**
+     * Gets the number of corrupted frames.
+     * @return The number of frames dropped with \c ERROR::CRC since the
+     * object was built or #reset() was called.
+     * @since 2.5
+     **/
+    public final long dropped()
+    {
+        return m_dropped;
+    }/*}}}*/
+    //@}
+
+    /** \name Decoding */ //@{
+    // public final int feed(byte[] chunk, int start, int count);/*{{{*/
+    /**
+     * Passes a chunk of data to the decoder.
+     * Call #next() until it returns \b null before passing the next chunk.
+     * Otherwise the remaining bytes of the previous chunk are copied to the
+     * internal buffer here, so that chunk must not have been changed. Slices
+     * returned by #next() before this call become invalid.
+     * @param chunk The data. The array is used by the decoder until #next()
+     * returns \b null. It must not be changed meanwhile.
+     * @param start Index of the first byte in \a chunk.
+     * @param count Number of bytes. If less than zero or beyond the end of \a
+     * chunk all bytes from \a start are used.
+     * @return The number of bytes accepted. \c ERROR::PARM when \a start is
+     * out of bounds. The error of the decoder when it is in a state that
+     * needs #reset().
+     * @since 2.5
+     **/
+    public final int feed(byte[] chunk, int start, int count)
+    {
+        int limit = arrays.length(chunk);
+
+        if ((m_error == ERROR.FORMAT) || (m_error == ERROR.LENGTH)) return m_error;
+        if ((start < 0) || (start > limit)) return ERROR.PARM;
+        if ((count < 0) || (count > (limit - start))) count = limit - start;
+
+        /* Keep what was not decoded in the start of the internal buffer. */
+        int pending = m_count - m_head;
+        if ((m_head > 0) && (pending > 0))
+            System.arraycopy(m_data, m_head, m_data, 0, pending);
+
+        m_head  = 0;
+        m_count = pending;
+
+        if (m_pos < m_end) __internal_append(m_chunk, m_pos, m_end - m_pos);
+
+        m_chunk = chunk;
+        m_pos   = start;
+        m_end   = start + count;
+        return count;
+    }/*}}}*/
+    // public final ByteSlice next();/*{{{*/
+    /**
+     * Decodes the next frame.
+     * @return A view over the payload of the next frame. \b null when there
+     * is no complete frame or on error. Check #error().
+     * @since 2.5
+     **/
+    public final ByteSlice next()
+    {
+        if ((m_error == ERROR.FORMAT) || (m_error == ERROR.LENGTH)) return null;
+        m_error = ERROR.SUCCESS;
+
+        if (m_head < m_count)
+        {
+            /* A frame started in a previous chunk. Complete it with bytes of
+             * the current chunk. */
+            if (!__internal_complete(frames.HEADER)) return null;
+
+            int size = __internal_size(m_data, m_head);
+            if (size < 0) return null;
+            if (!__internal_complete(size)) return null;
+
+            int head = m_head;
+            m_head += size;
+            return __internal_frame(m_data, head, size);
+        }
+
+        if ((m_end - m_pos) >= frames.HEADER)
+        {
+            int size = __internal_size(m_chunk, m_pos);
+            if (size < 0) return null;
+
+            if ((m_end - m_pos) >= size) {
+                int head = m_pos;
+                m_pos += size;
+                return __internal_frame(m_chunk, head, size);
+            }
+        }
+
+        /* Incomplete frame at the end of the chunk. Keep it now, so the
+         * caller can reuse the chunk array. */
+        if (m_pos < m_end) {
+            __internal_append(m_chunk, m_pos, m_end - m_pos);
+            m_pos = m_end;
+        }
+        return null;
+    }/*}}}*/
+    // public final void reset();/*{{{*/
+    /**
+     * Discards all data and clears the error.
+     * The internal buffer is kept for reuse.
+     * @since 2.5
+     **/
+    public final void reset()
+    {
+        m_chunk   = null;
+        m_pos     = 0;
+        m_end     = 0;
+        m_head    = 0;
+        m_count   = 0;
+        m_frames  = 0L;
+        m_dropped = 0L;
+        m_error   = ERROR.SUCCESS;
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // final int __internal_size(byte[] array, int start);/*{{{*/
+    /**
+     * Reads the length prefix at \a start and computes the frame size.
+     * Sets the error when the prefix is invalid.
+     * @return The size of the whole frame or the error.
+     **/
+    final int __internal_size(byte[] array, int start)
+    {
+        int length = arrays.readInt(array, start);
+
+        if (length < 0)     return (m_error = ERROR.FORMAT);
+        if (length > m_max) return (m_error = ERROR.LENGTH);
+
+        return (length + frames.OVERHEAD);
+    }/*}}}*/
+    // final ByteSlice __internal_frame(byte[] array, int start, int size);/*{{{*/
+    /**
+     * Checks the CRC of the frame at \a start.
+     * @return The payload view or \b null when the CRC doesn't match.
+     **/
+    final ByteSlice __internal_frame(byte[] array, int start, int size)
+    {
+        int body = size - frames.TRAILER;
+        int crc  = Crc16.update(Crc16.INITIAL, array, start, body);
+
+        if (crc != (arrays.readShort(array, start + body) & 0xFFFF)) {
+            m_dropped++;
+            m_error = ERROR.CRC;
+            return null;
+        }
+        m_frames++;
+        return new ByteSlice(array, start + frames.HEADER, body - frames.HEADER);
+    }/*}}}*/
+    // final boolean __internal_complete(int size);/*{{{*/
+    /**
+     * Moves bytes from the chunk to the internal buffer until it has \a
+     * size bytes from \c m_head.
+     * @return \b true when the internal buffer has them.
+     **/
+    final boolean __internal_complete(int size)
+    {
+        int needed = size - (m_count - m_head);
+        if (needed <= 0) return true;
+
+        int count = Math.min(needed, m_end - m_pos);
+        __internal_append(m_chunk, m_pos, count);
+        m_pos += count;
+
+        return (count == needed);
+    }/*}}}*/
+    // final void __internal_append(byte[] src, int start, int count);/*{{{*/
+    /**
+     * Appends bytes to the internal buffer, growing it geometrically.
+     **/
+    final void __internal_append(byte[] src, int start, int count)
+    {
+        int required = m_count + count;
+        if (required > m_data.length)
+        {
+            int capacity = (m_data.length << 1);
+            if ((capacity < required) || (capacity < 0)) capacity = required;
+
+            byte[] temp = new byte[capacity];
+            System.arraycopy(m_data, m_head, temp, 0, m_count - m_head);
+            m_count -= m_head;
+            m_head   = 0;
+            m_data   = temp;
+            required = m_count + count;
+        }
+        System.arraycopy(src, start, m_data, m_count, count);
+        m_count = required;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private final int m_max;                /**< Largest payload accepted.  */
+    private byte[]    m_data;               /**< Frames split in chunks.    */
+    private int       m_head;               /**< First byte in m_data.      */
+    private int       m_count;              /**< End of the data in m_data. */
+    private byte[]    m_chunk;              /**< Last chunk fed.            */
+    private int       m_pos;                /**< Next byte in m_chunk.      */
+    private int       m_end;                /**< End of m_chunk.            */
+    private long      m_frames;             /**< Frames decoded.            */
+    private long      m_dropped;            /**< Frames with bad CRC.       */
+    private int       m_error;              /**< Result of next().          */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,177 @@
+/**
+ * \file
+ * Defines the IntSlice class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * A view over part of an int array.
+ * \c arrays::slice() copies the elements to a new array. This class only
+ * keeps a reference to the array plus the offset and the number of
+ * elements of the range, so a sub-range can be passed along without
+ * copying. \c arrays::copy(int[],int,IntSlice) accepts it and never
+ * accesses elements outside the view.
+ *
+ * The view shares the array. Changes made to the array are seen through the
+ * view and vice versa. Instances are immutable.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public final class IntSlice
+{
+    /** \name Constructors */ //@{
+    // public IntSlice(int[] array);/*{{{*/
+    /**
+     * Builds a view over an entire array.
+     * @param array The array. Can be \b null, resulting in an empty view.
+     * @since 2.5
+     **/
+    public IntSlice(int[] array)
+    {
+        this(array, 0, -1);
+    }/*}}}*/
+    // public IntSlice(int[] array, int offset, int length);/*{{{*/
+    /**
+     * Builds a view over part of an array.
+     * @param array The array. Can be \b null, resulting in an empty view.
+     * @param offset Index of the first element. Limited to the bounds of \a
+     * array.
+     * @param length Number of elements. If less than zero or beyond the end
+     * of \a array all elements from \a offset are used.
+     * @since 2.5
+     **/
+    public IntSlice(int[] array, int offset, int length)
+    {
+        int limit = arrays.length(array);
+
+        offset = Math.max(Math.min(offset, limit), 0);
+        if ((length < 0) || (length > (limit - offset)))
+            length = limit - offset;
+
+        m_array  = array;
+        m_offset = offset;
+        m_length = length;
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final int[] array();/*{{{*/
+    /**
+     * Gets the array shared by this view.
+     * @return The array. Can be \b null when the view is empty.
+     * @since 2.5
+     **/
+    public final int[] array()
+    {
+        return m_array;
+    }/*}}}*/
+    // public final int offset();/*{{{*/
+    /**
+     * Gets the index of the first element of the view in the array.
+     * @return The offset.
+     * @since 2.5
+     **/
+    public final int offset()
+    {
+        return m_offset;
+    }/*}}}*/
+    // public final int length();/*{{{*/
+    /**
+     * Gets the number of elements of the view.
+     * @return The length.
+     * @since 2.5
+     **/
+    public final int length()
+    {
+        return m_length;
+    }/*}}}*/
+    // public final boolean isEmpty();/*{{{*/
+    /**
+     * Checks whether the view has no elements.
+     * @return \b true when #length() is zero.
+     * @since 2.5
+     **/
+    public final boolean isEmpty()
+    {
+        return (m_length == 0);
+    }/*}}}*/
+    //@}
+
+    /** \name Element Access */ //@{
+    // public final int get(int index);/*{{{*/
+    /**
+     * Gets an element.
+     * @param index Index of the element, relative to the start of the view.
+     * @return The element value or zero if \a index is out of the view.
+     * @since 2.5
+     **/
+    public final int get(int index)
+    {
+        if ((index < 0) || (index >= m_length)) return 0;
+        return m_array[m_offset + index];
+    }/*}}}*/
+    // public final boolean set(int index, int value);/*{{{*/
+    /**
+     * Changes an element.
+     * @param index Index of the element, relative to the start of the view.
+     * @param value The new value.
+     * @return \b true on success. \b false if \a index is out of the view.
+     * @since 2.5
+     **/
+    public final boolean set(int index, int value)
+    {
+        if ((index < 0) || (index >= m_length)) return false;
+        m_array[m_offset + index] = value;
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Operations */ //@{
+    // public final IntSlice slice(int first, int count);/*{{{*/
+    /**
+     * Builds a view over part of this view.
+     * No elements are copied.
+     * @param first Index of the first element, relative to the start of
+     * this view. If less than zero or greater than #length() the result is
+     * \b null.
+     * @param count Number of elements. If less than zero or beyond the end
+     * of this view all elements from \a first are used.
+     * @return The new view or \b null, like \c arrays::slice().
+     * @since 2.5
+     **/
+    public final IntSlice slice(int first, int count)
+    {
+        if ((first < 0) || (first > m_length)) return null;
+        if ((count < 0) || (count > (m_length - first)))
+            count = m_length - first;
+
+        return new IntSlice(m_array, m_offset + first, count);
+    }/*}}}*/
+    // public final int[] toArray();/*{{{*/
+    /**
+     * Copies the elements of the view to a new array.
+     * @return A new array with #length() elements.
+     * @since 2.5
+     **/
+    public final int[] toArray()
+    {
+        int[] result = new int[m_length];
+        arrays.copy(result, 0, m_array, m_offset, m_length);
+        return result;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private final int[] m_array;           /**< The shared array.          */
+    private final int    m_offset;          /**< Index of the first element.*/
+    private final int    m_length;          /**< Number of elements.        */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,32 @@
+/**
+ * \file
+ * Defines the LongPredicate interface.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * A condition over a single \c long value.
+ * Used by \c arrays::removeIf() to select the elements of a \c long array.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public interface LongPredicate
+{
+    // public boolean test(long value);/*{{{*/
+    /**
+     * Evaluates the condition.
+     * @param value The value to test.
+     * @return \b true when \a value matches the condition.
+     * @since 2.5
+     **/
+    public boolean test(long value);
+    /*}}}*/
+}
+// vim:syntax=java.doxygen
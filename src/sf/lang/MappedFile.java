@@ -0,0 +1,666 @@
+/**
+ * \file
+ * Defines the MappedFile class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/* #imports {{{ */
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+/* }}} #imports */
+
+/**
+ * \ingroup sf_lang
+ * Random access to a memory mapped file.
+ * Offers the read and write helpers of the \c arrays class, in \b Big-Endian
+ * and \b Little-Endian byte order, over a file of any size, with \b long
+ * offsets. The file is not copied to the heap. The operating system loads
+ * its pages on demand.
+ *
+ * A single \c MappedByteBuffer cannot be larger than 2 gigabytes. So the
+ * file is mapped in segments of 1 gigabyte. Each segment maps 8 bytes more
+ * than its size, overlapping the next one, so any number can be read or
+ * written with a single access to a single segment.
+ *
+ * Usage:
+ * <pre>
+ * MappedFile file = new MappedFile();
+ * if (file.open("data.log", MappedFile.READ) == ERROR.SUCCESS) {
+ *     long value = file.readLittleEndLong(3000000000L);
+ *     file.close();
+ * }
+ * </pre>
+ *
+ * Like the rest of this library no exceptions are thrown. Reads out of the
+ * file bounds return zero and writes return \b false. Instances are not
+ * thread safe for #open(), #setLength() and #close(). Reads and writes to
+ * different positions can be done by several threads. Buffers returned by
+ * #view() must not be used after #close() or #setLength().
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class MappedFile implements Closeable
+{
+    /** \name Open Modes */ //@{
+    public static final int READ  = 1;      /**< Read only access.          */
+    public static final int WRITE = 2;      /**< Read and write. Creates the file when missing. */
+    //@}
+
+    /** \name Constructors */ //@{
+    // public MappedFile();/*{{{*/
+    /**
+     * Default constructor.
+     * The object is closed. Call #open() to map a file.
+     * @since 2.5
+     **/
+    public MappedFile()
+    {
+        m_length = 0;
+    }/*}}}*/
+    //@}
+
+    /** \name Opening and Closing */ //@{
+    // public final int open(String path, int mode);/*{{{*/
+    /**
+     * Opens and maps a file.
+     * If the object has a file opened it is closed first.
+     * @param path Path of the file.
+     * @param mode #READ or #WRITE.
+     * @return \c ERROR::SUCCESS when the file is mapped. \c ERROR::PARM if
+     * an argument is invalid. \c ERROR::NOTFOUND when the file doesn't
+     * exist or cannot be opened in the requested mode. \c ERROR::IO when
+     * the mapping fails.
+     * @since 2.5
+     **/
+    public final int open(String path, int mode)
+    {
+        if ((path == null) || ((mode != READ) && (mode != WRITE))) return ERROR.PARM;
+        close();
+
+        try
+        {
+            m_file = new RandomAccessFile(path, ((mode == READ) ? "r" : "rw"));
+            m_mode = mode;
+            return __internal_map(m_file.length());
+        }
+        catch (FileNotFoundException ex) {
+            return ERROR.NOTFOUND;
+        }
+        catch (IOException ex) {
+            close();
+            return ERROR.IO;
+        }
+    }/*}}}*/
+    // public final int setLength(long length);/*{{{*/
+    /**
+     * Changes the length of the file.
+     * The file is mapped again with its new length. Buffers returned by
+     * #view() before this call must not be used anymore.
+     * @param length The new length, in bytes. When larger than the current
+     * length the new bytes are zeroes.
+     * @return \c ERROR::SUCCESS on success. \c ERROR::ACCESS when the file
+     * was opened with #READ or is closed. \c ERROR::PARM if \a length is
+     * negative. \c ERROR::IO on failure.
+     * @since 2.5
+     **/
+    public final int setLength(long length)
+    {
+        if ((m_file == null) || (m_mode != WRITE)) return ERROR.ACCESS;
+        if (length < 0) return ERROR.PARM;
+
+        try
+        {
+            __internal_unmap();
+            m_file.setLength(length);
+            return __internal_map(length);
+        }
+        catch (IOException ex) {
+            return ERROR.IO;
+        }
+    }/*}}}*/
+    // public final int flush();/*{{{*/
+    /**
+     * Writes the changes to the storage device.
+     * @return \c ERROR::SUCCESS or \c ERROR::WRITE when the operating system
+     * reports a failure.
+     * @since 2.5
+     **/
+    public final int flush()
+    {
+        MappedByteBuffer[] segments = m_segments;
+        if ((segments == null) || (m_mode != WRITE)) return ERROR.SUCCESS;
+
+        try
+        {
+            for (int i = 0; i < segments.length; i++)
+                segments[i].force();
+        }
+        catch (Exception ex) {
+            return ERROR.WRITE;
+        }
+        return ERROR.SUCCESS;
+    }/*}}}*/
+    // public void close();/*{{{*/
+    /**
+     * Unmaps and closes the file.
+     * The mappings are released immediately when the runtime allows it.
+     * Buffers returned by #view() must not be used after this call. Calling
+     * this more than once has no effect.
+     * @since 2.5
+     **/
+    public void close()
+    {
+        __internal_unmap();
+        if (m_file != null)
+        {
+            try { m_file.close(); }
+            catch (IOException ex) { /* Nothing to do. */ }
+            m_file = null;
+        }
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final long length();/*{{{*/
+    /**
+     * Gets the length of the file.
+     * @return The number of bytes mapped. Zero when closed.
+     * @since 2.5
+     **/
+    public final long length()
+    {
+        return m_length;
+    }/*}}}*/
+    // public final boolean isOpen();/*{{{*/
+    /**
+     * Checks whether a file is opened.
+     * @return \b true when a file is opened.
+     * @since 2.5
+     **/
+    public final boolean isOpen()
+    {
+        return (m_file != null);
+    }/*}}}*/
+    //@}
+
+    /** \name Reading Numbers */ //@{
+    // public final long readLong(long offset);/*{{{*/
+    /**
+     * Reads a \b Big-Endian long value.
+     * @param offset Position of the first byte in the file.
+     * @return The value read or zero if there are less than 8 bytes from \a
+     * offset.
+     * @since 2.5
+     **/
+    public final long readLong(long offset)
+    {
+        ByteBuffer segment = __internal_segment(m_big, offset, 8);
+        return ((segment == null) ? 0L : segment.getLong((int)(offset & MASK)));
+    }/*}}}*/
+    // public final int readInt(long offset);/*{{{*/
+    /**
+     * Reads a \b Big-Endian int value.
+     * @param offset Position of the first byte in the file.
+     * @return The value read or zero if there are less than 4 bytes from \a
+     * offset.
+     * @since 2.5
+     **/
+    public final int readInt(long offset)
+    {
+        ByteBuffer segment = __internal_segment(m_big, offset, 4);
+        return ((segment == null) ? 0 : segment.getInt((int)(offset & MASK)));
+    }/*}}}*/
+    // public final short readShort(long offset);/*{{{*/
+    /**
+     * Reads a \b Big-Endian short value.
+     * @param offset Position of the first byte in the file.
+     * @return The value read or zero if there are less than 2 bytes from \a
+     * offset.
+     * @since 2.5
+     **/
+    public final short readShort(long offset)
+    {
+        ByteBuffer segment = __internal_segment(m_big, offset, 2);
+        return ((segment == null) ? 0 : segment.getShort((int)(offset & MASK)));
+    }/*}}}*/
+    // public final byte readByte(long offset);/*{{{*/
+    /**
+     * Reads a single byte.
+     * @param offset Position of the byte in the file.
+     * @return The value read or zero if \a offset is out of bounds.
+     * @since 2.5
+     **/
+    public final byte readByte(long offset)
+    {
+        ByteBuffer segment = __internal_segment(m_big, offset, 1);
+        return ((segment == null) ? 0 : segment.get((int)(offset & MASK)));
+    }/*}}}*/
+    // public final long readLittleEndLong(long offset);/*{{{*/
+    /**
+     * Reads a \b Little-Endian long value.
+     * @param offset Position of the first byte in the file.
+     * @return The value read or zero if there are less than 8 bytes from \a
+     * offset.
+     * @since 2.5
+     **/
+    public final long readLittleEndLong(long offset)
+    {
+        ByteBuffer segment = __internal_segment(m_little, offset, 8);
+        return ((segment == null) ? 0L : segment.getLong((int)(offset & MASK)));
+    }/*}}}*/
+    // public final int readLittleEndInt(long offset);/*{{{*/
+    /**
+     * Reads a \b Little-Endian int value.
+     * @param offset Position of the first byte in the file.
+     * @return The value read or zero if there are less than 4 bytes from \a
+     * offset.
+     * @since 2.5
+     **/
+    public final int readLittleEndInt(long offset)
+    {
+        ByteBuffer segment = __internal_segment(m_little, offset, 4);
+        return ((segment == null) ? 0 : segment.getInt((int)(offset & MASK)));
+    }/*}}}*/
+    // public final short readLittleEndShort(long offset);/*{{{*/
+    /**
+     * Reads a \b Little-Endian short value.
+     * @param offset Position of the first byte in the file.
+     * @return The value read or zero if there are less than 2 bytes from \a
+     * offset.
+     * @since 2.5
+     **/
+    public final short readLittleEndShort(long offset)
+    {
+        ByteBuffer segment = __internal_segment(m_little, offset, 2);
+        return ((segment == null) ? 0 : segment.getShort((int)(offset & MASK)));
+    }/*}}}*/
+    //@}
+
+    /** \name Writing Numbers */ //@{
+    // public final boolean writeLong(long offset, long value);/*{{{*/
+    /**
+     * Writes a long value in \b Big-Endian order.
+     * @param offset Position of the first byte in the file.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 8 bytes
+     * from \a offset or the file was opened with #READ.
+     * @since 2.5
+     **/
+    public final boolean writeLong(long offset, long value)
+    {
+        ByteBuffer segment = __internal_writable(m_big, offset, 8);
+        if (segment == null) return false;
+        segment.putLong((int)(offset & MASK), value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeInt(long offset, int value);/*{{{*/
+    /**
+     * Writes an int value in \b Big-Endian order.
+     * @param offset Position of the first byte in the file.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 4 bytes
+     * from \a offset or the file was opened with #READ.
+     * @since 2.5
+     **/
+    public final boolean writeInt(long offset, int value)
+    {
+        ByteBuffer segment = __internal_writable(m_big, offset, 4);
+        if (segment == null) return false;
+        segment.putInt((int)(offset & MASK), value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeShort(long offset, short value);/*{{{*/
+    /**
+     * Writes a short value in \b Big-Endian order.
+     * @param offset Position of the first byte in the file.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 2 bytes
+     * from \a offset or the file was opened with #READ.
+     * @since 2.5
+     **/
+    public final boolean writeShort(long offset, short value)
+    {
+        ByteBuffer segment = __internal_writable(m_big, offset, 2);
+        if (segment == null) return false;
+        segment.putShort((int)(offset & MASK), value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeByte(long offset, byte value);/*{{{*/
+    /**
+     * Writes a single byte.
+     * @param offset Position of the byte in the file.
+     * @param value The value to write.
+     * @return \b true when written. \b false if \a offset is out of bounds
+     * or the file was opened with #READ.
+     * @since 2.5
+     **/
+    public final boolean writeByte(long offset, byte value)
+    {
+        ByteBuffer segment = __internal_writable(m_big, offset, 1);
+        if (segment == null) return false;
+        segment.put((int)(offset & MASK), value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeLittleEndLong(long offset, long value);/*{{{*/
+    /**
+     * Writes a long value in \b Little-Endian order.
+     * @param offset Position of the first byte in the file.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 8 bytes
+     * from \a offset or the file was opened with #READ.
+     * @since 2.5
+     **/
+    public final boolean writeLittleEndLong(long offset, long value)
+    {
+        ByteBuffer segment = __internal_writable(m_little, offset, 8);
+        if (segment == null) return false;
+        segment.putLong((int)(offset & MASK), value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeLittleEndInt(long offset, int value);/*{{{*/
+    /**
+     * Writes an int value in \b Little-Endian order.
+     * @param offset Position of the first byte in the file.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 4 bytes
+     * from \a offset or the file was opened with #READ.
+     * @since 2.5
+     **/
+    public final boolean writeLittleEndInt(long offset, int value)
+    {
+        ByteBuffer segment = __internal_writable(m_little, offset, 4);
+        if (segment == null) return false;
+        segment.putInt((int)(offset & MASK), value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeLittleEndShort(long offset, short value);/*{{{*/
+    /**
+     * Writes a short value in \b Little-Endian order.
+     * @param offset Position of the first byte in the file.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 2 bytes
+     * from \a offset or the file was opened with #READ.
+     * @since 2.5
+     **/
+    public final boolean writeLittleEndShort(long offset, short value)
+    {
+        ByteBuffer segment = __internal_writable(m_little, offset, 2);
+        if (segment == null) return false;
+        segment.putShort((int)(offset & MASK), value);
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Ranges */ //@{
+    // public final int copy(byte[] dest, int destStart, long offset, int count);/*{{{*/
+    /**
+     * Copies bytes from the file into a heap array.
+     * @param dest The destination array.
+     * @param destStart Index of the first byte written in \a dest.
+     * @param offset Position of the first byte in the file.
+     * @param count Number of bytes. If less than zero, \a dest is filled.
+     * Limited by the end of the file and by the space available in \a dest.
+     * @return The number of bytes copied.
+     * @since 2.5
+     **/
+    public final int copy(byte[] dest, int destStart, long offset, int count)
+    {
+        int limit = arrays.length(dest);
+        if ((destStart < 0) || (destStart >= limit)) return 0;
+        if ((count < 0) || (count > (limit - destStart))) count = (limit - destStart);
+
+        count = (int)__internal_range(offset, count);
+        if (count <= 0) return 0;
+
+        int done = 0, chunk;
+        ByteBuffer piece;
+        while (done < count)
+        {
+            piece = __internal_piece(offset + done, count - done);
+            chunk = piece.remaining();
+            piece.get(dest, destStart + done, chunk);
+            done += chunk;
+        }
+        return count;
+    }/*}}}*/
+    // public final int copy(long offset, byte[] src, int srcStart, int count);/*{{{*/
+    /**
+     * Copies bytes from a heap array into the file.
+     * @param offset Position of the first byte written in the file.
+     * @param src The source array.
+     * @param srcStart Index of the first byte in \a src.
+     * @param count Number of bytes. If less than zero all bytes from \a
+     * srcStart are copied. Limited by the end of the file.
+     * @return The number of bytes copied. Zero if the file was opened with
+     * #READ.
+     * @since 2.5
+     **/
+    public final int copy(long offset, byte[] src, int srcStart, int count)
+    {
+        int limit = arrays.length(src);
+        if (m_mode != WRITE) return 0;
+        if ((srcStart < 0) || (srcStart >= limit)) return 0;
+        if ((count < 0) || (count > (limit - srcStart))) count = (limit - srcStart);
+
+        count = (int)__internal_range(offset, count);
+        if (count <= 0) return 0;
+
+        int done = 0, chunk;
+        ByteBuffer piece;
+        while (done < count)
+        {
+            piece = __internal_piece(offset + done, count - done);
+            chunk = piece.remaining();
+            piece.put(src, srcStart + done, chunk);
+            done += chunk;
+        }
+        return count;
+    }/*}}}*/
+    // public final byte[] slice(long offset, int count);/*{{{*/
+    /**
+     * Copies part of the file to a new heap array.
+     * @param offset Position of the first byte in the file.
+     * @param count Number of bytes. If less than zero or beyond the end of
+     * the file all bytes from \a offset are copied, as long as they fit in
+     * an array.
+     * @return A new array. \b null if \a offset is out of bounds, like in \c
+     * arrays::slice().
+     * @since 2.5
+     **/
+    public final byte[] slice(long offset, int count)
+    {
+        if ((m_segments == null) || (offset < 0) || (offset > m_length)) return null;
+
+        long size = ((offset == m_length) ? 0 : __internal_range(offset, ((count < 0) ? Integer.MAX_VALUE : count)));
+        byte[] result = new byte[(int)size];
+        copy(result, 0, offset, (int)size);
+        return result;
+    }/*}}}*/
+    // public final ByteBuffer view(long offset, int count);/*{{{*/
+    /**
+     * Gets a buffer over part of the file, without copying it.
+     * @param offset Position of the first byte in the file.
+     * @param count Number of bytes. If less than zero or beyond the end of
+     * the file all bytes from \a offset are used, up to 2 gigabytes.
+     * @return A \b Big-Endian buffer with position zero and limit equal to
+     * the number of bytes. Read only when the file was opened with #READ.
+     * \b null if \a offset is out of bounds or the range cannot be mapped.
+     * \remarks The buffer is not tracked by this object and is \b not
+     * invalidated by it. A range inside a single segment shares the mapping
+     * of that segment, which #close() and #setLength() release: accessing
+     * the buffer after those calls reads or writes unmapped memory and can
+     * crash the JVM. Drop every buffer returned by this method before
+     * calling them. A range that crosses segments is mapped separately and
+     * stays valid until it is garbage collected.
+     * @since 2.5
+     **/
+    public final ByteBuffer view(long offset, int count)
+    {
+        long size = __internal_range(offset, ((count < 0) ? Integer.MAX_VALUE : count));
+        if (size <= 0) return null;
+
+        int pos = (int)(offset & MASK);
+        if ((pos + size) <= SEGMENT) {
+            ByteBuffer result = __internal_piece(offset, (int)size).slice();
+            return result.order(ByteOrder.BIG_ENDIAN);
+        }
+
+        try {
+            return m_file.getChannel().map(((m_mode == READ) ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE), offset, size);
+        }
+        catch (Exception ex) {
+            return null;
+        }
+    }/*}}}*/
+    // public final short crc16(long offset, long count);/*{{{*/
+    /**
+     * Generates a CRC CCITT of 16 bits of part of the file.
+     * @param offset Position of the first byte in the file.
+     * @param count Number of bytes. If less than zero all bytes from \a
+     * offset up to the end of the file are used.
+     * @return The same value \c arrays::crc16() returns for the same bytes.
+     * If \a offset is out of bounds the result is the CRC of an empty
+     * array.
+     * @since 2.5
+     **/
+    public final short crc16(long offset, long count)
+    {
+        count = __internal_range(offset, count);
+
+        Crc16 crc = new Crc16();
+        long  done = 0;
+        ByteBuffer piece;
+
+        while (done < count)
+        {
+            piece = __internal_piece(offset + done, (int)Math.min(count - done, Integer.MAX_VALUE));
+            done += piece.remaining();
+            crc.update(piece);
+        }
+        return crc.value();
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // final long __internal_range(long offset, long count);/*{{{*/
+    /**
+     * Adjusts a range to the file bounds.
+     * @return The number of bytes from \a offset. Zero when \a offset is out
+     * of bounds or the file is closed.
+     **/
+    final long __internal_range(long offset, long count)
+    {
+        if ((m_segments == null) || (offset < 0) || (offset >= m_length)) return 0;
+        if ((count < 0) || (count > (m_length - offset))) count = (m_length - offset);
+        return count;
+    }/*}}}*/
+    // final ByteBuffer __internal_segment(ByteBuffer[] list, long offset, int size);/*{{{*/
+    /**
+     * Gets the segment with \a size bytes at \a offset.
+     * @return The segment or \b null if the range is out of bounds.
+     **/
+    final ByteBuffer __internal_segment(ByteBuffer[] list, long offset, int size)
+    {
+        if ((list == null) || (offset < 0) || (offset > (m_length - size))) return null;
+        return list[(int)(offset >>> SHIFT)];
+    }/*}}}*/
+    // final ByteBuffer __internal_writable(ByteBuffer[] list, long offset, int size);/*{{{*/
+    /**
+     * Gets a segment for writing.
+     * @return The segment or \b null if the range is out of bounds or the
+     * file is read only.
+     **/
+    final ByteBuffer __internal_writable(ByteBuffer[] list, long offset, int size)
+    {
+        return ((m_mode != WRITE) ? null : __internal_segment(list, offset, size));
+    }/*}}}*/
+    // final ByteBuffer __internal_piece(long offset, int count);/*{{{*/
+    /**
+     * Builds a buffer over the largest part of a range that is inside a
+     * single segment. The range must be valid.
+     **/
+    final ByteBuffer __internal_piece(long offset, int count)
+    {
+        int pos = (int)(offset & MASK);
+        ByteBuffer piece = m_segments[(int)(offset >>> SHIFT)].duplicate();
+
+        piece.limit(pos + Math.min(count, SEGMENT - pos));
+        piece.position(pos);
+        return piece;
+    }/*}}}*/
+    // final int __internal_map(long length);/*{{{*/
+    /**
+     * Maps the file in segments.
+     **/
+    final int __internal_map(long length) throws IOException
+    {
+        FileChannel channel = m_file.getChannel();
+        FileChannel.MapMode mode = ((m_mode == READ) ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE);
+        int count = (int)((length + SEGMENT - 1) >>> SHIFT);
+        long start;
+
+        MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        ByteBuffer[] big    = new ByteBuffer[count];
+        ByteBuffer[] little = new ByteBuffer[count];
+
+        for (int i = 0; i < count; i++)
+        {
+            start = ((long)i << SHIFT);
+            segments[i] = channel.map(mode, start, Math.min(SEGMENT + 8, length - start));
+            big[i]      = segments[i].duplicate().order(ByteOrder.BIG_ENDIAN);
+            little[i]   = segments[i].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        m_segments = segments;
+        m_big      = big;
+        m_little   = little;
+        m_length   = length;
+        return ERROR.SUCCESS;
+    }/*}}}*/
+    // final void __internal_unmap();/*{{{*/
+    /**
+     * Releases the mappings.
+     **/
+    final void __internal_unmap()
+    {
+        MappedByteBuffer[] segments = m_segments;
+
+        m_segments = null;
+        m_big      = null;
+        m_little   = null;
+        m_length   = 0;
+
+        if (segments == null) return;
+        for (int i = 0; i < segments.length; i++)
+            OffHeapArray.__internal_free(segments[i]);
+    }/*}}}*/
+    //@}
+
+    /** \name Constants */ //@{
+    static final int SHIFT   = 30;              /**< Bits of a segment size.    */
+    static final int SEGMENT = (1 << SHIFT);    /**< Size of each segment.      */
+    static final long MASK   = (SEGMENT - 1);   /**< Offset inside a segment.   */
+    //@}
+
+    /** \name Data Members */ //@{
+    private RandomAccessFile   m_file;      /**< The file.                  */
+    private int                m_mode;      /**< READ or WRITE.             */
+    private long               m_length;    /**< Bytes mapped.              */
+    private MappedByteBuffer[] m_segments;  /**< The mappings.              */
+    private ByteBuffer[]       m_big;       /**< Big-Endian views.          */
+    private ByteBuffer[]       m_little;    /**< Little-Endian views.       */
+    //@}
+}
+// vim:syntax=java.doxygen
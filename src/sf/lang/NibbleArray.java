@@ -0,0 +1,237 @@
+/**
+ * \file
+ * Defines the NibbleArray class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * A fixed length array of 4 bits values.
+ * Two values are stored in each byte, using half the memory of a \c byte[]
+ * and an eighth of an \c int[]. The element with an even index is kept in
+ * the high order bits of the byte and the next one in its low order bits,
+ * as done by \c numbers::make_byte(). So the hexadecimal representation of
+ * #buffer(), given by \c arrays::toString(), shows one digit per element,
+ * in order.
+ *
+ * Like the rest of this library no exceptions are thrown. Reading out of the
+ * bounds returns zero and writing out of the bounds does nothing. Only the 4
+ * low order bits of the values written are used.
+ * @see PackedIntArray
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class NibbleArray
+{
+    /** \name Constructors */ //@{
+    // public NibbleArray(int length);/*{{{*/
+    /**
+     * Builds an array of zeros.
+     * @param length Number of elements. If less than zero, zero is assumed.
+     * @since 2.5
+     **/
+    public NibbleArray(int length)
+    {
+        m_length = Math.max(length, 0);
+        m_data   = new byte[(int)(((long)m_length + 1) >>> 1)];
+    }/*}}}*/
+    // public NibbleArray(byte[] buffer, int length);/*{{{*/
+    /**
+     * Builds an array over packed data.
+     * The buffer is used directly, not copied. This is the way to load data
+     * previously saved from #buffer().
+     * @param buffer The packed values. Can be \b null.
+     * @param length Number of elements. Limited to twice the length of \a
+     * buffer. If less than zero that limit is used.
+     * @since 2.5
+     **/
+    public NibbleArray(byte[] buffer, int length)
+    {
+        int limit = arrays.length(buffer) * 2;
+
+        m_data   = ((buffer == null) ? new byte[0] : buffer);
+        m_length = (((length < 0) || (length > limit)) ? limit : length);
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final int length();/*{{{*/
+    /**
+     * Gets the number of elements.
+     * @return The length of the array.
+     * @since 2.5
+     **/
+    public final int length()
+    {
+        return m_length;
+    }/*}}}*/
+    // public final byte[] buffer();/*{{{*/
+    /**
+     * Gets the internal buffer.
+     * @return The array with the packed values. It is shared with this
+     * object. No copy is done.
+     * @since 2.5
+     **/
+    public final byte[] buffer()
+    {
+        return m_data;
+    }/*}}}*/
+    //@}
+
+    /** \name Element Access */ //@{
+    // public final int get(int index);/*{{{*/
+    /**
+     * Gets an element.
+     * @param index Index of the element.
+     * @return The value, from 0 to 15. Zero when \a index is out of bounds.
+     * @since 2.5
+     **/
+    public final int get(int index)
+    {
+        if ((index < 0) || (index >= m_length)) return 0;
+
+        byte packed = m_data[index >>> 1];
+        return (((index & 1) == 0) ? numbers.hi_bits(packed) : numbers.lo_bits(packed));
+    }/*}}}*/
+    // public final boolean set(int index, int value);/*{{{*/
+    /**
+     * Changes an element.
+     * @param index Index of the element.
+     * @param value The new value. Only its 4 low order bits are used.
+     * @return \b true on success. \b false when \a index is out of bounds.
+     * @since 2.5
+     **/
+    public final boolean set(int index, int value)
+    {
+        if ((index < 0) || (index >= m_length)) return false;
+
+        int  pos    = index >>> 1;
+        byte packed = m_data[pos];
+
+        if ((index & 1) == 0)
+            m_data[pos] = numbers.make_byte(value, numbers.lo_bits(packed));
+        else
+            m_data[pos] = numbers.make_byte(numbers.hi_bits(packed), value);
+
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Bulk Operations */ //@{
+    // public final int fill(int value, int start, int count);/*{{{*/
+    /**
+     * Sets a range of elements to the same value.
+     * @param value The value. Only its 4 low order bits are used.
+     * @param start Index of the first element.
+     * @param count Number of elements. If less than zero or beyond the end
+     * all elements from \a start are set.
+     * @return The number of elements set.
+     * @since 2.5
+     **/
+    public final int fill(int value, int start, int count)
+    {
+        if ((start < 0) || (start >= m_length)) return 0;
+        if ((count < 0) || (count > (m_length - start))) count = (m_length - start);
+
+        int index = start, end = start + count;
+
+        if (((index & 1) != 0) && (index < end)) set(index++, value);
+        if ((end - index) >= 2)
+        {
+            int bytes = (end - index) >>> 1;
+            arrays.set(m_data, numbers.make_byte(value, value), index >>> 1, bytes);
+            index += (bytes << 1);
+        }
+        if (index < end) set(index, value);
+
+        return count;
+    }/*}}}*/
+    // public final int unpack(int start, int[] dest, int destStart, int count);/*{{{*/
+    /**
+     * Copies a range of elements into an \c int array.
+     * @param start Index of the first element.
+     * @param dest The destination array.
+     * @param destStart Index of \a dest where the first value is stored.
+     * @param count Number of elements. If less than zero or beyond the end
+     * of this array or of \a dest, the number of elements available is used.
+     * @return The number of elements copied.
+     * @since 2.5
+     **/
+    public final int unpack(int start, int[] dest, int destStart, int count)
+    {
+        int limit = arrays.length(dest);
+        if ((start < 0) || (start >= m_length)) return 0;
+        if ((destStart < 0) || (destStart >= limit)) return 0;
+
+        count = Math.min(((count < 0) ? Integer.MAX_VALUE : count), Math.min(m_length - start, limit - destStart));
+
+        int index = start, end = start + count, out = destStart;
+        byte packed;
+
+        if (((index & 1) != 0) && (index < end)) dest[out++] = get(index++);
+        for (; index < (end - 1); index += 2)
+        {
+            packed = m_data[index >>> 1];
+            dest[out++] = numbers.hi_bits(packed);
+            dest[out++] = numbers.lo_bits(packed);
+        }
+        if (index < end) dest[out] = get(index);
+
+        return count;
+    }/*}}}*/
+    // public final int pack(int start, int[] src, int srcStart, int count);/*{{{*/
+    /**
+     * Stores values from an \c int array.
+     * @param start Index of the first element changed.
+     * @param src The source array. Only the 4 low order bits of each value
+     * are used.
+     * @param srcStart Index of the first value in \a src.
+     * @param count Number of elements. If less than zero or beyond the end
+     * of this array or of \a src, the number of elements available is used.
+     * @return The number of elements stored.
+     * @since 2.5
+     **/
+    public final int pack(int start, int[] src, int srcStart, int count)
+    {
+        int limit = arrays.length(src);
+        if ((start < 0) || (start >= m_length)) return 0;
+        if ((srcStart < 0) || (srcStart >= limit)) return 0;
+
+        count = Math.min(((count < 0) ? Integer.MAX_VALUE : count), Math.min(m_length - start, limit - srcStart));
+
+        int index = start, end = start + count, in = srcStart;
+
+        if (((index & 1) != 0) && (index < end)) set(index++, src[in++]);
+        for (; index < (end - 1); index += 2, in += 2)
+            m_data[index >>> 1] = numbers.make_byte(src[in], src[in + 1]);
+
+        if (index < end) set(index, src[in]);
+
+        return count;
+    }/*}}}*/
+    // public final int[] toArray();/*{{{*/
+    /**
+     * Copies all elements into a new \c int array.
+     * @return A new array with #length() elements.
+     * @since 2.5
+     **/
+    public final int[] toArray()
+    {
+        int[] result = new int[m_length];
+        unpack(0, result, 0, m_length);
+        return result;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private final byte[] m_data;            /**< Packed values.             */
+    private final int    m_length;          /**< Number of elements.        */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,693 @@
+/**
+ * \file
+ * Defines the OffHeapArray class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/* #imports {{{ */
+import java.io.Closeable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+/* }}} #imports */
+
+/**
+ * \ingroup sf_lang
+ * A byte array stored outside of the Java heap.
+ * Large caches kept in byte arrays end up in the old generation and make
+ * garbage collection pauses longer. This class keeps the bytes in native
+ * memory, through a direct \c ByteBuffer, and offers the same operations of
+ * the \c arrays class for byte arrays: #set(), #copy(), #move(), #slice(),
+ * the \b Big-Endian and \b Little-Endian #readInt() and #writeInt() families,
+ * #crc16() and the hexadecimal #toString(). Code that encodes data with \c
+ * arrays can be moved to native memory with few changes.
+ *
+ * The memory has an explicit lifetime. #close() releases it immediately,
+ * without waiting for the garbage collector, when the runtime allows it
+ * (Java 6 to 8 through the buffer cleaner, Java 9 and later through \c
+ * sun.misc.Unsafe.invokeCleaner()). Otherwise it is released when the
+ * object is collected. #released() tells which one happened. After #close()
+ * every operation fails: reads return zero, writes return \b false and
+ * counts are zero. Buffers got from #buffer() are not protected this way:
+ * they point to memory that was released.
+ *
+ * Like the rest of this library no exceptions are thrown. Ranges are
+ * adjusted the same way \c arrays does. Instances are not thread safe and
+ * #close() must not be called while another thread uses the object.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class OffHeapArray implements Closeable
+{
+    /** \name Constructors */ //@{
+    // protected OffHeapArray(ByteBuffer buffer, boolean owner);/*{{{*/
+    /**
+     * Builds the object over a buffer.
+     * Use #allocate() or #wrap() to create instances.
+     * @param buffer The buffer. All bytes from zero to its capacity are used.
+     * @param owner When \b true #close() releases the buffer memory.
+     * @since 2.5
+     **/
+    protected OffHeapArray(ByteBuffer buffer, boolean owner)
+    {
+        m_memory = (owner ? buffer : null);
+        m_length = buffer.capacity();
+        m_big    = buffer.duplicate();
+        m_big.clear();
+        m_big.order(ByteOrder.BIG_ENDIAN);
+        m_little = m_big.duplicate();
+        m_little.order(ByteOrder.LITTLE_ENDIAN);
+    }/*}}}*/
+    //@}
+
+    /** \name Factory */ //@{
+    // public static OffHeapArray allocate(int size);/*{{{*/
+    /**
+     * Allocates native memory.
+     * @param size Number of bytes. The memory is filled with zeroes.
+     * @return The new object or \b null when \a size is less than zero or
+     * there is not enough native memory.
+     * @since 2.5
+     **/
+    public static OffHeapArray allocate(int size)
+    {
+        if (size < 0) return null;
+
+        try { return new OffHeapArray(ByteBuffer.allocateDirect(size), true); }
+        catch (OutOfMemoryError err) {
+            return null;
+        }
+    }/*}}}*/
+    // public static OffHeapArray wrap(ByteBuffer buffer);/*{{{*/
+    /**
+     * Uses an existing buffer.
+     * @param buffer The buffer. All bytes from zero to its capacity are used,
+     * independently of its position and limit. Usually a direct buffer, like
+     * a \c MappedByteBuffer, but heap buffers are also accepted.
+     * @return The new object or \b null when \a buffer is \b null. #close()
+     * will not release the memory of \a buffer, which belongs to the caller.
+     * @since 2.5
+     **/
+    public static OffHeapArray wrap(ByteBuffer buffer)
+    {
+        return ((buffer == null) ? null : new OffHeapArray(buffer, false));
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final int length();/*{{{*/
+    /**
+     * Gets the number of bytes.
+     * @return The number of bytes. Zero after #close().
+     * @since 2.5
+     **/
+    public final int length()
+    {
+        return ((m_big == null) ? 0 : m_length);
+    }/*}}}*/
+    // public final boolean isOpen();/*{{{*/
+    /**
+     * Checks whether the memory is available.
+     * @return \b false after #close().
+     * @since 2.5
+     **/
+    public final boolean isOpen()
+    {
+        return (m_big != null);
+    }/*}}}*/
+    // public final boolean released();/*{{{*/
+    /**
+     * Checks whether #close() released the memory.
+     * @return \b true when the memory allocated by #allocate() was released
+     * by #close(). \b false before #close(), for objects built by #wrap(),
+     * or when the runtime doesn't allow releasing memory explicitly. In the
+     * last case the memory is released by the garbage collector.
+     * @since 2.5
+     **/
+    public final boolean released()
+    {
+        return m_released;
+    }/*}}}*/
+    // public final ByteBuffer buffer();/*{{{*/
+    /**
+     * Gets a buffer over the memory.
+     * @return A new \b Big-Endian buffer sharing the memory of this object,
+     * with position zero and limit equal to #length(). \b null after
+     * #close().
+     * \remarks The buffer must not be used after #close(). The memory it
+     * points to was released, and accessing it can crash the JVM instead of
+     * throwing an exception.
+     * @since 2.5
+     **/
+    public final ByteBuffer buffer()
+    {
+        if (m_big == null) return null;
+        ByteBuffer result = m_big.duplicate();
+        result.clear();
+        return result;
+    }/*}}}*/
+    //@}
+
+    /** \name Fills and Copies */ //@{
+    // public final int set(byte value, int start, int count);/*{{{*/
+    /**
+     * Fills a portion of the memory with the specified value.
+     * @param value Value to fill.
+     * @param start Position where the filling should start.
+     * @param count Number of bytes to fill. If less than zero all bytes from
+     * \a start are filled.
+     * @return The number of bytes filled.
+     * @since 2.5
+     **/
+    public final int set(byte value, int start, int count)
+    {
+        count = __internal_range(start, count);
+        if (count <= 0) return 0;
+
+        byte[] pattern = new byte[Math.min(count, 4096)];
+        if (value != 0) java.util.Arrays.fill(pattern, value);
+
+        ByteBuffer target = __internal_slice(start, count);
+        while (target.hasRemaining())
+            target.put(pattern, 0, Math.min(pattern.length, target.remaining()));
+
+        return count;
+    }/*}}}*/
+    // public final int copy(int destStart, byte[] src, int srcStart, int count);/*{{{*/
+    /**
+     * Copies bytes from a heap array into this memory.
+     * @param destStart Position of the first byte written in this memory.
+     * @param src The source array.
+     * @param srcStart Index of the first byte in \a src.
+     * @param count Number of bytes to copy. If less than zero all bytes from
+     * \a srcStart are copied. Limited by the space available from \a
+     * destStart.
+     * @return The number of bytes copied.
+     * @since 2.5
+     **/
+    public final int copy(int destStart, byte[] src, int srcStart, int count)
+    {
+        int limit = arrays.length(src);
+
+        if ((srcStart < 0) || (srcStart >= limit)) return 0;
+        if ((count < 0) || (count > (limit - srcStart))) count = (limit - srcStart);
+
+        count = __internal_range(destStart, count);
+        if (count <= 0) return 0;
+
+        __internal_slice(destStart, count).put(src, srcStart, count);
+        return count;
+    }/*}}}*/
+    // public final int copy(byte[] dest, int destStart, int srcStart, int count);/*{{{*/
+    /**
+     * Copies bytes from this memory into a heap array.
+     * @param dest The destination array.
+     * @param destStart Index of the first byte written in \a dest.
+     * @param srcStart Position of the first byte read from this memory.
+     * @param count Number of bytes to copy. If less than zero all bytes from
+     * \a srcStart are copied. Limited by the space available in \a dest.
+     * @return The number of bytes copied.
+     * @since 2.5
+     **/
+    public final int copy(byte[] dest, int destStart, int srcStart, int count)
+    {
+        int limit = arrays.length(dest);
+
+        if ((destStart < 0) || (destStart >= limit)) return 0;
+
+        count = __internal_range(srcStart, count);
+        if (count > (limit - destStart)) count = (limit - destStart);
+        if (count <= 0) return 0;
+
+        __internal_slice(srcStart, count).get(dest, destStart, count);
+        return count;
+    }/*}}}*/
+    // public final int copy(int destStart, OffHeapArray src, int srcStart, int count);/*{{{*/
+    /**
+     * Copies bytes from another object into this memory.
+     * @param destStart Position of the first byte written in this memory.
+     * @param src The source object. When it is this object the copy is done
+     * by #move().
+     * @param srcStart Position of the first byte read from \a src.
+     * @param count Number of bytes to copy. If less than zero all bytes from
+     * \a srcStart are copied. Limited by the space available from \a
+     * destStart.
+     * @return The number of bytes copied.
+     * @since 2.5
+     **/
+    public final int copy(int destStart, OffHeapArray src, int srcStart, int count)
+    {
+        if (src == null) return 0;
+        if (src == this) return move(destStart, srcStart, count);
+
+        count = src.__internal_range(srcStart, count);
+        count = __internal_range(destStart, count);
+        if (count <= 0) return 0;
+
+        __internal_slice(destStart, count).put(src.__internal_slice(srcStart, count));
+        return count;
+    }/*}}}*/
+    // public final int move(int destStart, int srcStart, int count);/*{{{*/
+    /**
+     * Moves bytes within this memory.
+     * The ranges can overlap.
+     * @param destStart Position where the bytes will be written.
+     * @param srcStart Position of the first byte to move.
+     * @param count Number of bytes to move. If less than zero all bytes from
+     * \a srcStart are moved. Limited by the space available from \a
+     * destStart.
+     * @return The number of bytes moved.
+     * @since 2.5
+     **/
+    public final int move(int destStart, int srcStart, int count)
+    {
+        count = __internal_range(srcStart, count);
+        count = __internal_range(destStart, count);
+        if ((count <= 0) || (srcStart == destStart)) return ((count < 0) ? 0 : count);
+
+        if (Math.abs(destStart - srcStart) >= count) {
+            __internal_slice(destStart, count).put(__internal_slice(srcStart, count));
+            return count;
+        }
+
+        /* Overlapping ranges: copy through a temporary array, in the
+         * direction that doesn't overwrite bytes not yet copied. */
+        byte[] temp = new byte[Math.min(count, 8192)];
+        int    done = 0, chunk, offset;
+
+        while (done < count)
+        {
+            chunk  = Math.min(temp.length, count - done);
+            offset = ((destStart < srcStart) ? done : (count - done - chunk));
+            __internal_slice(srcStart + offset, chunk).get(temp, 0, chunk);
+            __internal_slice(destStart + offset, chunk).put(temp, 0, chunk);
+            done  += chunk;
+        }
+        return count;
+    }/*}}}*/
+    // public final byte[] slice(int first, int count);/*{{{*/
+    /**
+     * Copies part of the memory to a new heap array.
+     * @param first Position of the first byte.
+     * @param count Number of bytes. If less than zero or beyond the end all
+     * bytes from \a first are copied.
+     * @return A new array. \b null if \a first is out of bounds, like in \c
+     * arrays::slice().
+     * @since 2.5
+     **/
+    public final byte[] slice(int first, int count)
+    {
+        if ((m_big == null) || (first < 0) || (first > m_length)) return null;
+
+        count = ((first == m_length) ? 0 : __internal_range(first, count));
+        byte[] result = new byte[count];
+        if (count > 0) __internal_slice(first, count).get(result);
+        return result;
+    }/*}}}*/
+    //@}
+
+    /** \name Reading Numbers */ //@{
+    // public final long readLong(int start);/*{{{*/
+    /**
+     * Reads a \b Big-Endian long value.
+     * @param start Position of the first byte.
+     * @return The value read or zero if there are less than 8 bytes from \a
+     * start.
+     * @since 2.5
+     **/
+    public final long readLong(int start)
+    {
+        return (__internal_fits(start, 8) ? m_big.getLong(start) : 0L);
+    }/*}}}*/
+    // public final int readInt(int start);/*{{{*/
+    /**
+     * Reads a \b Big-Endian int value.
+     * @param start Position of the first byte.
+     * @return The value read or zero if there are less than 4 bytes from \a
+     * start.
+     * @since 2.5
+     **/
+    public final int readInt(int start)
+    {
+        return (__internal_fits(start, 4) ? m_big.getInt(start) : 0);
+    }/*}}}*/
+    // public final short readShort(int start);/*{{{*/
+    /**
+     * Reads a \b Big-Endian short value.
+     * @param start Position of the first byte.
+     * @return The value read or zero if there are less than 2 bytes from \a
+     * start.
+     * @since 2.5
+     **/
+    public final short readShort(int start)
+    {
+        return (__internal_fits(start, 2) ? m_big.getShort(start) : 0);
+    }/*}}}*/
+    // public final byte readByte(int start);/*{{{*/
+    /**
+     * Reads a single byte.
+     * @param start Position of the byte.
+     * @return The value read or zero if \a start is out of bounds.
+     * @since 2.5
+     **/
+    public final byte readByte(int start)
+    {
+        return (__internal_fits(start, 1) ? m_big.get(start) : 0);
+    }/*}}}*/
+    // public final long readLittleEndLong(int start);/*{{{*/
+    /**
+     * Reads a \b Little-Endian long value.
+     * @param start Position of the first byte.
+     * @return The value read or zero if there are less than 8 bytes from \a
+     * start.
+     * @since 2.5
+     **/
+    public final long readLittleEndLong(int start)
+    {
+        return (__internal_fits(start, 8) ? m_little.getLong(start) : 0L);
+    }/*}}}*/
+    // public final int readLittleEndInt(int start);/*{{{*/
+    /**
+     * Reads a \b Little-Endian int value.
+     * @param start Position of the first byte.
+     * @return The value read or zero if there are less than 4 bytes from \a
+     * start.
+     * @since 2.5
+     **/
+    public final int readLittleEndInt(int start)
+    {
+        return (__internal_fits(start, 4) ? m_little.getInt(start) : 0);
+    }/*}}}*/
+    // public final short readLittleEndShort(int start);/*{{{*/
+    /**
+     * Reads a \b Little-Endian short value.
+     * @param start Position of the first byte.
+     * @return The value read or zero if there are less than 2 bytes from \a
+     * start.
+     * @since 2.5
+     **/
+    public final short readLittleEndShort(int start)
+    {
+        return (__internal_fits(start, 2) ? m_little.getShort(start) : 0);
+    }/*}}}*/
+    //@}
+
+    /** \name Writing Numbers */ //@{
+    // public final boolean writeLong(int start, long value);/*{{{*/
+    /**
+     * Writes a long value in \b Big-Endian order.
+     * @param start Position of the first byte.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 8 bytes
+     * from \a start.
+     * @since 2.5
+     **/
+    public final boolean writeLong(int start, long value)
+    {
+        if (!__internal_fits(start, 8)) return false;
+        m_big.putLong(start, value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeInt(int start, int value);/*{{{*/
+    /**
+     * Writes an int value in \b Big-Endian order.
+     * @param start Position of the first byte.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 4 bytes
+     * from \a start.
+     * @since 2.5
+     **/
+    public final boolean writeInt(int start, int value)
+    {
+        if (!__internal_fits(start, 4)) return false;
+        m_big.putInt(start, value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeShort(int start, short value);/*{{{*/
+    /**
+     * Writes a short value in \b Big-Endian order.
+     * @param start Position of the first byte.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 2 bytes
+     * from \a start.
+     * @since 2.5
+     **/
+    public final boolean writeShort(int start, short value)
+    {
+        if (!__internal_fits(start, 2)) return false;
+        m_big.putShort(start, value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeByte(int start, byte value);/*{{{*/
+    /**
+     * Writes a single byte.
+     * @param start Position of the byte.
+     * @param value The value to write.
+     * @return \b true when written. \b false if \a start is out of bounds.
+     * @since 2.5
+     **/
+    public final boolean writeByte(int start, byte value)
+    {
+        if (!__internal_fits(start, 1)) return false;
+        m_big.put(start, value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeLittleEndLong(int start, long value);/*{{{*/
+    /**
+     * Writes a long value in \b Little-Endian order.
+     * @param start Position of the first byte.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 8 bytes
+     * from \a start.
+     * @since 2.5
+     **/
+    public final boolean writeLittleEndLong(int start, long value)
+    {
+        if (!__internal_fits(start, 8)) return false;
+        m_little.putLong(start, value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeLittleEndInt(int start, int value);/*{{{*/
+    /**
+     * Writes an int value in \b Little-Endian order.
+     * @param start Position of the first byte.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 4 bytes
+     * from \a start.
+     * @since 2.5
+     **/
+    public final boolean writeLittleEndInt(int start, int value)
+    {
+        if (!__internal_fits(start, 4)) return false;
+        m_little.putInt(start, value);
+        return true;
+    }/*}}}*/
+    // public final boolean writeLittleEndShort(int start, short value);/*{{{*/
+    /**
+     * Writes a short value in \b Little-Endian order.
+     * @param start Position of the first byte.
+     * @param value The value to write.
+     * @return \b true when written. \b false if there are less than 2 bytes
+     * from \a start.
+     * @since 2.5
+     **/
+    public final boolean writeLittleEndShort(int start, short value)
+    {
+        if (!__internal_fits(start, 2)) return false;
+        m_little.putShort(start, value);
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Checksum and Conversion */ //@{
+    // public final short crc16(int start, int count);/*{{{*/
+    /**
+     * Generates a CRC CCITT of 16 bits of part of the memory.
+     * @param start Position of the first byte.
+     * @param count Number of bytes. If less than zero all bytes from \a
+     * start are used.
+     * @return The same value \c arrays::crc16() returns for the same bytes.
+     * @since 2.5
+     **/
+    public final short crc16(int start, int count)
+    {
+        count = __internal_range(start, count);
+        if (count <= 0) return (short)Crc16.INITIAL;
+
+        Crc16 crc = new Crc16();
+        crc.update(__internal_slice(start, count));
+        return crc.value();
+    }/*}}}*/
+    // public final String toString(String separator, int frequency);/*{{{*/
+    /**
+     * Converts the memory into its hexadecimal representation.
+     * @param separator A string to separate groups. Can be \b null.
+     * @param frequency The frequency to separate groups, in characters.
+     * @return The same string of \c arrays::toString(byte[],String,int) for
+     * the same bytes. An empty string after #close().
+     * \remarks The memory is read in chunks of a few kilobytes. No heap copy
+     * of the whole region is made.
+     * @since 2.5
+     **/
+    public final String toString(String separator, int frequency)
+    {
+        if ((m_big == null) || (m_length == 0)) return strings.EMPTY;
+
+        int    group  = ((strings.length(separator) == 0) || (frequency <= 0)) ? 0 : Math.max(1, frequency / 2);
+        int    width  = ((group == 0) ? 0 : separator.length());
+        char[] result = new char[(m_length * 2) + ((group == 0) ? 0 : (((m_length - 1) / group) * width))];
+        byte[] temp   = new byte[Math.min(m_length, 8192)];
+        long   next   = ((group == 0) ? Long.MAX_VALUE : group);
+        int    pos    = 0, chunk, count;
+
+        for (int from = 0; from < m_length; from += chunk)
+        {
+            chunk = Math.min(temp.length, m_length - from);
+            __internal_slice(from, chunk).get(temp, 0, chunk);
+
+            for (int i = 0; i < chunk; i += count)
+            {
+                if ((from + i) == next) {
+                    separator.getChars(0, width, result, pos);
+                    pos  += width;
+                    next += group;
+                }
+                count = (int)Math.min(chunk - i, next - (from + i));
+                arrays.__internal_hex(temp, i, count, result, pos);
+                pos += (count * 2);
+            }
+        }
+        return new String(result);
+    }/*}}}*/
+    //@}
+
+    /** \name Lifetime */ //@{
+    // public void close();/*{{{*/
+    /**
+     * Releases the memory.
+     * When this object allocated the memory it is released immediately if
+     * the runtime allows it. Otherwise it will be released by the garbage
+     * collector. Calling this more than once has no effect.
+     * @since 2.5
+     **/
+    public void close()
+    {
+        ByteBuffer memory = m_memory;
+
+        m_big    = null;
+        m_little = null;
+        m_memory = null;
+
+        /* The duplicates in m_big and m_little can't be released. Only the
+         * buffer returned by allocateDirect() can. When the runtime refuses,
+         * dropping all references leaves it to the garbage collector. */
+        if ((memory != null) && memory.isDirect())
+            m_released = __internal_free(memory);
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // final int __internal_range(int start, int count);/*{{{*/
+    /**
+     * Adjusts a range to the memory bounds.
+     * @return The number of bytes from \a start. Zero when \a start is out of
+     * bounds or the object is closed.
+     **/
+    final int __internal_range(int start, int count)
+    {
+        if ((m_big == null) || (start < 0) || (start >= m_length)) return 0;
+        if ((count < 0) || (count > (m_length - start))) count = (m_length - start);
+        return count;
+    }/*}}}*/
+    // final boolean __internal_fits(int start, int size);/*{{{*/
+    /**
+     * Checks whether \a size bytes are available from \a start.
+     **/
+    final boolean __internal_fits(int start, int size)
+    {
+        return ((m_big != null) && (start >= 0) && (start <= (m_length - size)));
+    }/*}}}*/
+    // final ByteBuffer __internal_slice(int start, int count);/*{{{*/
+    /**
+     * Builds a buffer over a range. Arguments must be valid.
+     **/
+    final ByteBuffer __internal_slice(int start, int count)
+    {
+        ByteBuffer result = m_big.duplicate();
+        result.limit(start + count);
+        result.position(start);
+        return result;
+    }/*}}}*/
+    // static boolean __internal_free(ByteBuffer buffer);/*{{{*/
+    /**
+     * Releases the memory of a direct buffer.
+     * @return \b true when released. \b false when the runtime doesn't
+     * allow it. Then the memory is released by the garbage collector.
+     **/
+    static boolean __internal_free(ByteBuffer buffer)
+    {
+        try
+        {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                return true;
+            }
+
+            Method method = buffer.getClass().getMethod("cleaner");
+            method.setAccessible(true);
+
+            Object cleaner = method.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+                return true;
+            }
+        }
+        catch (Throwable ex) { /* Not supported. */ }
+        return false;
+    }/*}}}*/
+    // static Object __internal_unsafe();/*{{{*/
+    /**
+     * Gets the \c sun.misc.Unsafe instance, when available.
+     **/
+    static Object __internal_unsafe()
+    {
+        try {
+            Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return field.get(null);
+        }
+        catch (Throwable ex) { return null; }
+    }/*}}}*/
+    // static Method __internal_cleaner();/*{{{*/
+    /**
+     * Gets \c sun.misc.Unsafe.invokeCleaner(), available since Java 9.
+     **/
+    static Method __internal_cleaner()
+    {
+        try {
+            if (UNSAFE == null) return null;
+            return UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (Throwable ex) { return null; }
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    static final Object UNSAFE = __internal_unsafe();           /**< sun.misc.Unsafe, if any.   */
+    static final Method INVOKE_CLEANER = __internal_cleaner();  /**< Java 9 cleaner, if any.    */
+
+    private ByteBuffer    m_big;        /**< Big-Endian view.           */
+    private ByteBuffer    m_little;     /**< Little-Endian view.        */
+    private final int     m_length;     /**< Number of bytes.           */
+    private ByteBuffer    m_memory;     /**< Buffer allocated here.     */
+    private boolean       m_released;   /**< Released by close().       */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,293 @@
+/**
+ * \file
+ * Defines the PackedIntArray class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * A fixed length array of unsigned values with any width from 1 to 32 bits.
+ * Values are stored one after the other in a \c long[], with no padding. An
+ * element may start in one word and end in the next. An array of 12 bits
+ * codes uses 3/8 of the memory of an \c int[] and an array of 4 bits values
+ * an eighth. For 4 bits values \c NibbleArray is simpler and keeps the
+ * data in a \c byte[].
+ *
+ * Element \c i takes the bits from <tt>i * bits()</tt> to <tt>(i + 1) *
+ * bits() - 1</tt>, counting from the least significant bit of the first
+ * word.
+ *
+ * Like the rest of this library no exceptions are thrown. Reading out of the
+ * bounds returns zero and writing out of the bounds does nothing. Only the
+ * #bits() low order bits of the values written are used.
+ * @see NibbleArray
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public class PackedIntArray
+{
+    /** \name Constructors */ //@{
+    // public PackedIntArray(int length, int bits);/*{{{*/
+    /**
+     * Builds an array of zeros.
+     * @param length Number of elements. If less than zero, zero is assumed.
+     * @param bits Width of each element, from 1 to 32. Values out of this
+     * range are limited to it.
+     * @since 2.5
+     **/
+    public PackedIntArray(int length, int bits)
+    {
+        m_length = Math.max(length, 0);
+        m_bits   = Math.max(Math.min(bits, 32), 1);
+        m_mask   = ((1L << m_bits) - 1);
+        m_data   = new long[(int)((((long)m_length * m_bits) + 63) >>> 6)];
+    }/*}}}*/
+    //@}
+
+    /** \name Attributes */ //@{
+    // public final int length();/*{{{*/
+    /**
+     * Gets the number of elements.
+     * @return The length of the array.
+     * @since 2.5
+     **/
+    public final int length()
+    {
+        return m_length;
+    }/*}}}*/
+    // public final int bits();/*{{{*/
+    /**
+     * Gets the width of each element.
+     * @return The number of bits of each element.
+     * @since 2.5
+     **/
+    public final int bits()
+    {
+        return m_bits;
+    }/*}}}*/
+    // public final int maxValue();/*{{{*/
+    /**
+     * Gets the largest value an element can hold.
+     * @return <tt>2^bits() - 1</tt>. For 32 bits elements the value is -1,
+     * which is the unsigned value 0xFFFFFFFF.
+     * @since 2.5
+     **/
+    public final int maxValue()
+    {
+        return (int)m_mask;
+    }/*}}}*/
+    // public final long[] buffer();/*{{{*/
+    /**
+     * Gets the internal buffer.
+     * @return The array with the packed values. It is shared with this
+     * object. No copy is done.
+     * @since 2.5
+     **/
+    public final long[] buffer()
+    {
+        return m_data;
+    }/*}}}*/
+    //@}
+
+    /** \name Element Access */ //@{
+    // public final int get(int index);/*{{{*/
+    /**
+     * Gets an element.
+     * @param index Index of the element.
+     * @return The value. Zero when \a index is out of bounds. Elements of 32
+     * bits are returned as they were stored, so they can be negative.
+     * @since 2.5
+     **/
+    public final int get(int index)
+    {
+        if ((index < 0) || (index >= m_length)) return 0;
+        return __internal_get((long)index * m_bits);
+    }/*}}}*/
+    // public final boolean set(int index, int value);/*{{{*/
+    /**
+     * Changes an element.
+     * @param index Index of the element.
+     * @param value The new value. Only its #bits() low order bits are used.
+     * @return \b true on success. \b false when \a index is out of bounds.
+     * @since 2.5
+     **/
+    public final boolean set(int index, int value)
+    {
+        if ((index < 0) || (index >= m_length)) return false;
+        __internal_set((long)index * m_bits, value);
+        return true;
+    }/*}}}*/
+    //@}
+
+    /** \name Bulk Operations */ //@{
+    // public final int fill(int value, int start, int count);/*{{{*/
+    /**
+     * Sets a range of elements to the same value.
+     * @param value The value. Only its #bits() low order bits are used.
+     * @param start Index of the first element.
+     * @param count Number of elements. If less than zero or beyond the end
+     * all elements from \a start are set.
+     * @return The number of elements set.
+     * @remarks When the width divides 64 whole words are filled at once.
+     * @since 2.5
+     **/
+    public final int fill(int value, int start, int count)
+    {
+        if ((start < 0) || (start >= m_length)) return 0;
+        if ((count < 0) || (count > (m_length - start))) count = (m_length - start);
+
+        int  index = start, end = start + count;
+        long bit   = (long)index * m_bits;
+
+        if ((64 % m_bits) == 0)
+        {
+            /* Elements never cross words. Fill the first partial word, then
+             * whole words and then the last partial word. */
+            for (; (index < end) && ((bit & 63) != 0); index++, bit += m_bits)
+                __internal_set(bit, value);
+
+            int per = 64 / m_bits;
+            int words = (end - index) / per;
+            if (words > 0)
+            {
+                long pattern = 0, item = (value & m_mask);
+                for (int i = 0; i < per; i++)
+                    pattern |= (item << (i * m_bits));
+
+                arrays.set(m_data, pattern, (int)(bit >>> 6), words);
+                index += (words * per);
+                bit   += ((long)words << 6);
+            }
+        }
+
+        for (; index < end; index++, bit += m_bits)
+            __internal_set(bit, value);
+
+        return count;
+    }/*}}}*/
+    // public final int unpack(int start, int[] dest, int destStart, int count);/*{{{*/
+    /**
+     * Copies a range of elements into an \c int array.
+     * @param start Index of the first element.
+     * @param dest The destination array.
+     * @param destStart Index of \a dest where the first value is stored.
+     * @param count Number of elements. If less than zero or beyond the end
+     * of this array or of \a dest, the number of elements available is used.
+     * @return The number of elements copied.
+     * @since 2.5
+     **/
+    public final int unpack(int start, int[] dest, int destStart, int count)
+    {
+        int limit = arrays.length(dest);
+        if ((start < 0) || (start >= m_length)) return 0;
+        if ((destStart < 0) || (destStart >= limit)) return 0;
+
+        count = Math.min(((count < 0) ? Integer.MAX_VALUE : count), Math.min(m_length - start, limit - destStart));
+
+        long[] data = m_data;
+        long   mask = m_mask, bit = (long)start * m_bits;
+        int    bits = m_bits, word, shift;
+        long   value;
+
+        for (int i = destStart, end = destStart + count; i < end; i++, bit += bits)
+        {
+            word  = (int)(bit >>> 6);
+            shift = (int)(bit & 63);
+            value = (data[word] >>> shift);
+
+            if ((shift + bits) > 64)
+                value |= (data[word + 1] << (64 - shift));
+
+            dest[i] = (int)(value & mask);
+        }
+        return count;
+    }/*}}}*/
+    // public final int pack(int start, int[] src, int srcStart, int count);/*{{{*/
+    /**
+     * Stores values from an \c int array.
+     * @param start Index of the first element changed.
+     * @param src The source array. Only the #bits() low order bits of each
+     * value are used.
+     * @param srcStart Index of the first value in \a src.
+     * @param count Number of elements. If less than zero or beyond the end
+     * of this array or of \a src, the number of elements available is used.
+     * @return The number of elements stored.
+     * @since 2.5
+     **/
+    public final int pack(int start, int[] src, int srcStart, int count)
+    {
+        int limit = arrays.length(src);
+        if ((start < 0) || (start >= m_length)) return 0;
+        if ((srcStart < 0) || (srcStart >= limit)) return 0;
+
+        count = Math.min(((count < 0) ? Integer.MAX_VALUE : count), Math.min(m_length - start, limit - srcStart));
+
+        long bit = (long)start * m_bits;
+        for (int i = srcStart, end = srcStart + count; i < end; i++, bit += m_bits)
+            __internal_set(bit, src[i]);
+
+        return count;
+    }/*}}}*/
+    // public final int[] toArray();/*{{{*/
+    /**
+     * Copies all elements into a new \c int array.
+     * @return A new array with #length() elements.
+     * @since 2.5
+     **/
+    public final int[] toArray()
+    {
+        int[] result = new int[m_length];
+        unpack(0, result, 0, m_length);
+        return result;
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // final int __internal_get(long bit);/*{{{*/
+    /**
+     * Reads the element starting at \a bit.
+     **/
+    final int __internal_get(long bit)
+    {
+        int  word  = (int)(bit >>> 6);
+        int  shift = (int)(bit & 63);
+        long value = (m_data[word] >>> shift);
+
+        if ((shift + m_bits) > 64)
+            value |= (m_data[word + 1] << (64 - shift));
+
+        return (int)(value & m_mask);
+    }/*}}}*/
+    // final void __internal_set(long bit, int value);/*{{{*/
+    /**
+     * Writes the element starting at \a bit.
+     **/
+    final void __internal_set(long bit, int value)
+    {
+        int  word  = (int)(bit >>> 6);
+        int  shift = (int)(bit & 63);
+        long item  = (value & m_mask);
+
+        m_data[word] = (m_data[word] & ~(m_mask << shift)) | (item << shift);
+        if ((shift + m_bits) > 64)
+        {
+            int used = 64 - shift;
+            m_data[word + 1] = (m_data[word + 1] & ~(m_mask >>> used)) | (item >>> used);
+        }
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    private final long[] m_data;            /**< Packed values.             */
+    private final int    m_length;          /**< Number of elements.        */
+    private final int    m_bits;            /**< Width of each element.     */
+    private final long   m_mask;            /**< Mask of \c m_bits bits.    */
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -0,0 +1,35 @@
+/**
+ * \file
+ * Defines the Predicate interface.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * A condition over a single object.
+ * Used by \c arrays::removeIf() to select the elements of an object array.
+ * There are versions of this interface for every primitive type, like \c
+ * IntPredicate, so primitive arrays are tested without boxing.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public interface Predicate<T>
+{
+    // public boolean test(T value);/*{{{*/
+    /**
+     * Evaluates the condition.
+     * @param value The value to test. Can be \b null if the array has \b
+     * null elements.
+     * @return \b true when \a value matches the condition.
+     * @since 2.5
+     **/
+    public boolean test(T value);
+    /*}}}*/
+}
+// vim:syntax=java.doxygen
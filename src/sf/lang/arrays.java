@@ -13,8 +13,19 @@
 package sf.lang;
 
 /* #imports {{{ */
-import java.util.Random;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.lang.reflect.Array;
+import java.lang.reflect.Method;
 /* }}} #imports */
 
 /**
@@ -27,6 +38,26 @@ import java.lang.reflect.Array;
  *//* --------------------------------------------------------------------- */
 public final class arrays
 {
+    /** \name Configuration Members */ //@{
+    // public static int parallelThreshold = 4194304;/*{{{*/
+    /**
+     * Minimum number of bytes for parallel operations.
+     * The \c parallel methods, like parallelSet(), work in the calling
+     * thread when the range is smaller than this. The default value is 4
+     * megabytes.
+     **/
+    public static int parallelThreshold = 4194304;
+    /*}}}*/
+    // public static int parallelism;/*{{{*/
+    /**
+     * Maximum number of threads used by the \c parallel methods.
+     * The calling thread is counted. The default value is the number of
+     * processors available. One makes all of them sequential.
+     **/
+    public static int parallelism = workers.CORES;
+    /*}}}*/
+    //@}
+
     /** \name Arrays Length */ //@{
     // public static int length(byte[] array);/*{{{*/
     /**
@@ -93,12 +124,9 @@ public final class arrays
     {
         int size = arrays.length(array);
         if ((start < 0) || (start >= size)) return 0;
-        if (count < 0) count = (size - start);
+        if ((count < 0) || (count > (size - start))) count = (size - start);
 
-        size = start + count;
-        for (int i = 0; i < size; i++) {
-            array[i] = value;
-        }
+        Arrays.fill(array, start, start + count, value);
         return count;
     }/*}}}*/
     // public static int set(char[] array, char value, int start, int count);/*{{{*/
@@ -109,12 +137,9 @@ public final class arrays
     {
         int size = arrays.length(array);
         if ((start < 0) || (start >= size)) return 0;
-        if (count < 0) count = (size - start);
+        if ((count < 0) || (count > (size - start))) count = (size - start);
 
-        size = start + count;
-        for (int i = 0; i < size; i++) {
-            array[i] = value;
-        }
+        Arrays.fill(array, start, start + count, value);
         return count;
     }/*}}}*/
     // public static int set(short[] array, short value, int start, int count);/*{{{*/
@@ -125,12 +150,9 @@ public final class arrays
     {
         int size = arrays.length(array);
         if ((start < 0) || (start >= size)) return 0;
-        if (count < 0) count = (size - start);
+        if ((count < 0) || (count > (size - start))) count = (size - start);
 
-        size = start + count;
-        for (int i = 0; i < size; i++) {
-            array[i] = value;
-        }
+        Arrays.fill(array, start, start + count, value);
         return count;
     }/*}}}*/
     // public static int set(int [] array, int  value, int start, int count);/*{{{*/
@@ -141,12 +163,9 @@ public final class arrays
     {
         int size = arrays.length(array);
         if ((start < 0) || (start >= size)) return 0;
-        if (count < 0) count = (size - start);
+        if ((count < 0) || (count > (size - start))) count = (size - start);
 
-        size = start + count;
-        for (int i = 0; i < size; i++) {
-            array[i] = value;
-        }
+        Arrays.fill(array, start, start + count, value);
         return count;
     }/*}}}*/
     // public static int set(long[] array, long value, int start, int count);/*{{{*/
@@ -157,12 +176,9 @@ public final class arrays
     {
         int size = arrays.length(array);
         if ((start < 0) || (start >= size)) return 0;
-        if (count < 0) count = (size - start);
+        if ((count < 0) || (count > (size - start))) count = (size - start);
 
-        size = start + count;
-        for (int i = 0; i < size; i++) {
-            array[i] = value;
-        }
+        Arrays.fill(array, start, start + count, value);
         return count;
     }/*}}}*/
     // public static <T> int set(T[] array, T value, int start, int count);/*{{{*/
@@ -173,12 +189,9 @@ public final class arrays
     {
         int size = arrays.length(array);
         if ((start < 0) || (start >= size)) return 0;
-        if (count < 0) count = (size - start);
+        if ((count < 0) || (count > (size - start))) count = (size - start);
 
-        size = start + count;
-        for (int i = 0; i < size; i++) {
-            array[i] = value;
-        }
+        Arrays.fill(array, start, start + count, value);
         return count;
     }/*}}}*/
     //@}
@@ -208,14 +221,12 @@ public final class arrays
         int srcLimit = arrays.length(src);
         int dstLimit = arrays.length(dest);
 
-        if ((destStart < 0) || (destStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
+        if ((destStart < 0) || (destStart >= dstLimit)) return 0;
+        if ((srcStart < 0) || (srcStart >= srcLimit)) return 0;
+        if ((count < 0) || (count > (srcLimit - srcStart))) count = (srcLimit - srcStart);
         if (count > (dstLimit - destStart)) count = (dstLimit - destStart);
 
-        for (int i = 0; i < count; i++) {
-            dest[destStart + i] = src[srcStart + i];
-        }
+        System.arraycopy(src, srcStart, dest, destStart, count);
         return count;
     }/*}}}*/
     // public static int copy(char[] dest, int destStart, char[] src, int srcStart, int count);/*{{{*/
@@ -227,14 +238,12 @@ public final class arrays
         int srcLimit = arrays.length(src);
         int dstLimit = arrays.length(dest);
 
-        if ((destStart < 0) || (destStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
+        if ((destStart < 0) || (destStart >= dstLimit)) return 0;
+        if ((srcStart < 0) || (srcStart >= srcLimit)) return 0;
+        if ((count < 0) || (count > (srcLimit - srcStart))) count = (srcLimit - srcStart);
         if (count > (dstLimit - destStart)) count = (dstLimit - destStart);
 
-        for (int i = 0; i < count; i++) {
-            dest[destStart + i] = src[srcStart + i];
-        }
+        System.arraycopy(src, srcStart, dest, destStart, count);
         return count;
     }/*}}}*/
     // public static int copy(short[] dest, int destStart, short[] src, int srcStart, int count);/*{{{*/
@@ -246,14 +255,12 @@ public final class arrays
         int srcLimit = arrays.length(src);
         int dstLimit = arrays.length(dest);
 
-        if ((destStart < 0) || (destStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
+        if ((destStart < 0) || (destStart >= dstLimit)) return 0;
+        if ((srcStart < 0) || (srcStart >= srcLimit)) return 0;
+        if ((count < 0) || (count > (srcLimit - srcStart))) count = (srcLimit - srcStart);
         if (count > (dstLimit - destStart)) count = (dstLimit - destStart);
 
-        for (int i = 0; i < count; i++) {
-            dest[destStart + i] = src[srcStart + i];
-        }
+        System.arraycopy(src, srcStart, dest, destStart, count);
         return count;
     }/*}}}*/
     // public static int copy(int [] dest, int destStart, int [] src, int srcStart, int count);/*{{{*/
@@ -265,14 +272,12 @@ public final class arrays
         int srcLimit = arrays.length(src);
         int dstLimit = arrays.length(dest);
 
-        if ((destStart < 0) || (destStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
+        if ((destStart < 0) || (destStart >= dstLimit)) return 0;
+        if ((srcStart < 0) || (srcStart >= srcLimit)) return 0;
+        if ((count < 0) || (count > (srcLimit - srcStart))) count = (srcLimit - srcStart);
         if (count > (dstLimit - destStart)) count = (dstLimit - destStart);
 
-        for (int i = 0; i < count; i++) {
-            dest[destStart + i] = src[srcStart + i];
-        }
+        System.arraycopy(src, srcStart, dest, destStart, count);
         return count;
     }/*}}}*/
     // public static int copy(long[] dest, int destStart, long[] src, int srcStart, int count);/*{{{*/
@@ -284,14 +289,12 @@ public final class arrays
         int srcLimit = arrays.length(src);
         int dstLimit = arrays.length(dest);
 
-        if ((destStart < 0) || (destStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
+        if ((destStart < 0) || (destStart >= dstLimit)) return 0;
+        if ((srcStart < 0) || (srcStart >= srcLimit)) return 0;
+        if ((count < 0) || (count > (srcLimit - srcStart))) count = (srcLimit - srcStart);
         if (count > (dstLimit - destStart)) count = (dstLimit - destStart);
 
-        for (int i = 0; i < count; i++) {
-            dest[destStart + i] = src[srcStart + i];
-        }
+        System.arraycopy(src, srcStart, dest, destStart, count);
         return count;
     }/*}}}*/
     // public static <T> int copy(T[] dest, int destStart, T[] src, int srcStart, int count);/*{{{*/
@@ -303,14 +306,12 @@ public final class arrays
         int srcLimit = arrays.length(src);
         int dstLimit = arrays.length(dest);
 
-        if ((destStart < 0) || (destStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
+        if ((destStart < 0) || (destStart >= dstLimit)) return 0;
+        if ((srcStart < 0) || (srcStart >= srcLimit)) return 0;
+        if ((count < 0) || (count > (srcLimit - srcStart))) count = (srcLimit - srcStart);
         if (count > (dstLimit - destStart)) count = (dstLimit - destStart);
 
-        for (int i = 0; i < count; i++) {
-            dest[destStart + i] = src[srcStart + i];
-        }
+        System.arraycopy(src, srcStart, dest, destStart, count);
         return count;
     }/*}}}*/
     //@}
@@ -333,26 +334,12 @@ public final class arrays
      * \return The number of elements on \a dest that was overwritten by the
      * copy operation.
      * \remarks \a src and \a dest arrays can be the same array. Indexes can
-     * overllap.
+     * overllap. System.arraycopy() handles overlapping ranges, so moving is
+     * the same as copying.
      **/
     public static int move(byte[] dest, int dstStart, byte[] src, int srcStart, int count)
     {
-        if ((dest != src) || (dstStart < srcStart))
-            return arrays.copy(dest, dstStart, src, srcStart, count);
-
-        int srcLimit = arrays.length(src);
-        int dstLimit = arrays.length(dest);
-
-        if ((dstStart < 0) || (dstStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
-        if (count > (dstLimit - dstStart)) count = (dstLimit - dstStart);
-        dstLimit = count;
-
-        while (--count >= 0) {
-            dest[dstStart + count] = src[srcStart + count];
-        }
-        return dstLimit;
+        return arrays.copy(dest, dstStart, src, srcStart, count);
     }/*}}}*/
     // public static int move(char[] dest, int dstStart, char[] src, int srcStart, int count);/*{{{*/
     /**
@@ -360,22 +347,7 @@ public final class arrays
      **/
     public static int move(char[] dest, int dstStart, char[] src, int srcStart, int count)
     {
-        if ((dest != src) || (dstStart < srcStart))
-            return arrays.copy(dest, dstStart, src, srcStart, count);
-
-        int srcLimit = arrays.length(src);
-        int dstLimit = arrays.length(dest);
-
-        if ((dstStart < 0) || (dstStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
-        if (count > (dstLimit - dstStart)) count = (dstLimit - dstStart);
-        dstLimit = count;
-
-        while (--count >= 0) {
-            dest[dstStart + count] = src[srcStart + count];
-        }
-        return dstLimit;
+        return arrays.copy(dest, dstStart, src, srcStart, count);
     }/*}}}*/
     // public static int move(short[] dest, int dstStart, short[] src, int srcStart, int count);/*{{{*/
     /**
@@ -383,22 +355,7 @@ public final class arrays
      **/
     public static int move(short[] dest, int dstStart, short[] src, int srcStart, int count)
     {
-        if ((dest != src) || (dstStart < srcStart))
-            return arrays.copy(dest, dstStart, src, srcStart, count);
-
-        int srcLimit = arrays.length(src);
-        int dstLimit = arrays.length(dest);
-
-        if ((dstStart < 0) || (dstStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
-        if (count > (dstLimit - dstStart)) count = (dstLimit - dstStart);
-        dstLimit = count;
-
-        while (--count >= 0) {
-            dest[dstStart + count] = src[srcStart + count];
-        }
-        return dstLimit;
+        return arrays.copy(dest, dstStart, src, srcStart, count);
     }/*}}}*/
     // public static int move(int [] dest, int dstStart, int [] src, int srcStart, int count);/*{{{*/
     /**
@@ -406,22 +363,7 @@ public final class arrays
      **/
     public static int move(int [] dest, int dstStart, int [] src, int srcStart, int count)
     {
-        if ((dest != src) || (dstStart < srcStart))
-            return arrays.copy(dest, dstStart, src, srcStart, count);
-
-        int srcLimit = arrays.length(src);
-        int dstLimit = arrays.length(dest);
-
-        if ((dstStart < 0) || (dstStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
-        if (count > (dstLimit - dstStart)) count = (dstLimit - dstStart);
-        dstLimit = count;
-
-        while (--count >= 0) {
-            dest[dstStart + count] = src[srcStart + count];
-        }
-        return dstLimit;
+        return arrays.copy(dest, dstStart, src, srcStart, count);
     }/*}}}*/
     // public static int move(long[] dest, int dstStart, long[] src, int srcStart, int count);/*{{{*/
     /**
@@ -429,22 +371,7 @@ public final class arrays
      **/
     public static int move(long[] dest, int dstStart, long[] src, int srcStart, int count)
     {
-        if ((dest != src) || (dstStart < srcStart))
-            return arrays.copy(dest, dstStart, src, srcStart, count);
-
-        int srcLimit = arrays.length(src);
-        int dstLimit = arrays.length(dest);
-
-        if ((dstStart < 0) || (dstStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
-        if (count > (dstLimit - dstStart)) count = (dstLimit - dstStart);
-        dstLimit = count;
-
-        while (--count >= 0) {
-            dest[dstStart + count] = src[srcStart + count];
-        }
-        return dstLimit;
+        return arrays.copy(dest, dstStart, src, srcStart, count);
     }/*}}}*/
     // public static <T> int move(T[] dest, int dstStart, T[] src, int srcStart, int count);/*{{{*/
     /**
@@ -452,22 +379,7 @@ public final class arrays
      **/
     public static <T> int move(T[] dest, int dstStart, T[] src, int srcStart, int count)
     {
-        if ((dest != src) || (dstStart < srcStart))
-            return arrays.copy(dest, dstStart, src, srcStart, count);
-
-        int srcLimit = arrays.length(src);
-        int dstLimit = arrays.length(dest);
-
-        if ((dstStart < 0) || (dstStart >= srcLimit)) return 0;
-        if ((srcStart < 0) || (srcStart >= dstLimit)) return 0;
-        if (count < 0) count = (srcLimit - srcStart);
-        if (count > (dstLimit - dstStart)) count = (dstLimit - dstStart);
-        dstLimit = count;
-
-        while (--count >= 0) {
-            dest[dstStart + count] = src[srcStart + count];
-        }
-        return dstLimit;
+        return arrays.copy(dest, dstStart, src, srcStart, count);
     }/*}}}*/
     //@}
 
@@ -816,6 +728,369 @@ public final class arrays
     }/*}}}*/
     //@}
 
+    /** \name Batch Insertion */ //@{
+    // public static byte[] insertAll(byte[] dest, int position, byte[] src);/*{{{*/
+    /**
+     * Inserts all elements of an array into the specified position.
+     * The result is allocated once and the elements of \a dest after \a
+     * position are shifted in a single copy, no matter how many elements are
+     * inserted.
+     * \param dest Destination array.
+     * \param position The position where the elements should be inserted. If
+     * this value is less than zero or greater than the length of the array \a
+     * dest, the elements will be appended to the array.
+     * \param src The elements to insert.
+     * \return The new allocated array. If \a dest is \b null the result is
+     * \a src. If \a src is \b null or zero length the result is \a dest.
+     **/
+    public static byte[] insertAll(byte[] dest, int position, byte[] src)
+    {
+        if (dest == null) return src;
+        if (arrays.length(src) == 0) return dest;
+
+        int count = dest.length;
+        if ((position < 0) || (position > count)) position = count;
+
+        byte[] temp = new byte[count + src.length];
+        System.arraycopy(dest, 0, temp, 0, position);
+        System.arraycopy(src, 0, temp, position, src.length);
+        System.arraycopy(dest, position, temp, position + src.length, count - position);
+        return temp;
+    }/*}}}*/
+    // public static char[] insertAll(char[] dest, int position, char[] src);/*{{{*/
+    /**
+     * @copydoc insertAll(byte[],int,byte[])
+     **/
+    public static char[] insertAll(char[] dest, int position, char[] src)
+    {
+        if (dest == null) return src;
+        if (arrays.length(src) == 0) return dest;
+
+        int count = dest.length;
+        if ((position < 0) || (position > count)) position = count;
+
+        char[] temp = new char[count + src.length];
+        System.arraycopy(dest, 0, temp, 0, position);
+        System.arraycopy(src, 0, temp, position, src.length);
+        System.arraycopy(dest, position, temp, position + src.length, count - position);
+        return temp;
+    }/*}}}*/
+    // public static short[] insertAll(short[] dest, int position, short[] src);/*{{{*/
+    /**
+     * @copydoc insertAll(byte[],int,byte[])
+     **/
+    public static short[] insertAll(short[] dest, int position, short[] src)
+    {
+        if (dest == null) return src;
+        if (arrays.length(src) == 0) return dest;
+
+        int count = dest.length;
+        if ((position < 0) || (position > count)) position = count;
+
+        short[] temp = new short[count + src.length];
+        System.arraycopy(dest, 0, temp, 0, position);
+        System.arraycopy(src, 0, temp, position, src.length);
+        System.arraycopy(dest, position, temp, position + src.length, count - position);
+        return temp;
+    }/*}}}*/
+    // public static int[] insertAll(int[] dest, int position, int[] src);/*{{{*/
+    /**
+     * @copydoc insertAll(byte[],int,byte[])
+     **/
+    public static int[] insertAll(int[] dest, int position, int[] src)
+    {
+        if (dest == null) return src;
+        if (arrays.length(src) == 0) return dest;
+
+        int count = dest.length;
+        if ((position < 0) || (position > count)) position = count;
+
+        int[] temp = new int[count + src.length];
+        System.arraycopy(dest, 0, temp, 0, position);
+        System.arraycopy(src, 0, temp, position, src.length);
+        System.arraycopy(dest, position, temp, position + src.length, count - position);
+        return temp;
+    }/*}}}*/
+    // public static long[] insertAll(long[] dest, int position, long[] src);/*{{{*/
+    /**
+     * @copydoc insertAll(byte[],int,byte[])
+     **/
+    public static long[] insertAll(long[] dest, int position, long[] src)
+    {
+        if (dest == null) return src;
+        if (arrays.length(src) == 0) return dest;
+
+        int count = dest.length;
+        if ((position < 0) || (position > count)) position = count;
+
+        long[] temp = new long[count + src.length];
+        System.arraycopy(dest, 0, temp, 0, position);
+        System.arraycopy(src, 0, temp, position, src.length);
+        System.arraycopy(dest, position, temp, position + src.length, count - position);
+        return temp;
+    }/*}}}*/
+    // public static <T> T[] insertAll(T[] dest, int position, T[] src);/*{{{*/
+    /**
+     * @copydoc insertAll(byte[],int,byte[])
+     **/
+    @SuppressWarnings("unchecked")
+    public static <T> T[] insertAll(T[] dest, int position, T[] src)
+    {
+        if (dest == null) return src;
+        if (arrays.length(src) == 0) return dest;
+
+        int count = dest.length;
+        if ((position < 0) || (position > count)) position = count;
+
+        T[] temp = (T[])Array.newInstance(dest.getClass().getComponentType(), count + src.length);
+        System.arraycopy(dest, 0, temp, 0, position);
+        System.arraycopy(src, 0, temp, position, src.length);
+        System.arraycopy(dest, position, temp, position + src.length, count - position);
+        return temp;
+    }/*}}}*/
+    //@}
+
+    /** \name Batch Remotion */ //@{
+    // public static byte[] removeRange(byte[] array, int from, int to);/*{{{*/
+    /**
+     * Removes a range of elements from the array.
+     * The result is allocated once and the elements after the range are
+     * shifted in a single copy.
+     * \param array Array to remove the elements.
+     * \param from Index of the first element to remove.
+     * \param to Index just after the last element to remove. If less than
+     * zero or greater than the length of the array, all elements from \a
+     * from are removed.
+     * \return A new array without the removed elements. If \a from is out
+     * of the array bounds or the range is empty, \a array itself is
+     * returned. When all elements are removed the result is \b null, like
+     * realloc() with a size of zero.
+     **/
+    public static byte[] removeRange(byte[] array, int from, int to)
+    {
+        int count = arrays.length(array);
+
+        if ((from < 0) || (from >= count)) return array;
+        if ((to < 0) || (to > count)) to = count;
+        if (to <= from) return array;
+        if ((count - (to - from)) == 0) return null;
+
+        byte[] temp = new byte[count - (to - from)];
+        System.arraycopy(array, 0, temp, 0, from);
+        System.arraycopy(array, to, temp, from, count - to);
+        return temp;
+    }/*}}}*/
+    // public static char[] removeRange(char[] array, int from, int to);/*{{{*/
+    /**
+     * @copydoc removeRange(byte[],int,int)
+     **/
+    public static char[] removeRange(char[] array, int from, int to)
+    {
+        int count = arrays.length(array);
+
+        if ((from < 0) || (from >= count)) return array;
+        if ((to < 0) || (to > count)) to = count;
+        if (to <= from) return array;
+        if ((count - (to - from)) == 0) return null;
+
+        char[] temp = new char[count - (to - from)];
+        System.arraycopy(array, 0, temp, 0, from);
+        System.arraycopy(array, to, temp, from, count - to);
+        return temp;
+    }/*}}}*/
+    // public static short[] removeRange(short[] array, int from, int to);/*{{{*/
+    /**
+     * @copydoc removeRange(byte[],int,int)
+     **/
+    public static short[] removeRange(short[] array, int from, int to)
+    {
+        int count = arrays.length(array);
+
+        if ((from < 0) || (from >= count)) return array;
+        if ((to < 0) || (to > count)) to = count;
+        if (to <= from) return array;
+        if ((count - (to - from)) == 0) return null;
+
+        short[] temp = new short[count - (to - from)];
+        System.arraycopy(array, 0, temp, 0, from);
+        System.arraycopy(array, to, temp, from, count - to);
+        return temp;
+    }/*}}}*/
+    // public static int[] removeRange(int[] array, int from, int to);/*{{{*/
+    /**
+     * @copydoc removeRange(byte[],int,int)
+     **/
+    public static int[] removeRange(int[] array, int from, int to)
+    {
+        int count = arrays.length(array);
+
+        if ((from < 0) || (from >= count)) return array;
+        if ((to < 0) || (to > count)) to = count;
+        if (to <= from) return array;
+        if ((count - (to - from)) == 0) return null;
+
+        int[] temp = new int[count - (to - from)];
+        System.arraycopy(array, 0, temp, 0, from);
+        System.arraycopy(array, to, temp, from, count - to);
+        return temp;
+    }/*}}}*/
+    // public static long[] removeRange(long[] array, int from, int to);/*{{{*/
+    /**
+     * @copydoc removeRange(byte[],int,int)
+     **/
+    public static long[] removeRange(long[] array, int from, int to)
+    {
+        int count = arrays.length(array);
+
+        if ((from < 0) || (from >= count)) return array;
+        if ((to < 0) || (to > count)) to = count;
+        if (to <= from) return array;
+        if ((count - (to - from)) == 0) return null;
+
+        long[] temp = new long[count - (to - from)];
+        System.arraycopy(array, 0, temp, 0, from);
+        System.arraycopy(array, to, temp, from, count - to);
+        return temp;
+    }/*}}}*/
+    // public static <T> T[] removeRange(T[] array, int from, int to);/*{{{*/
+    /**
+     * @copydoc removeRange(byte[],int,int)
+     **/
+    @SuppressWarnings("unchecked")
+    public static <T> T[] removeRange(T[] array, int from, int to)
+    {
+        int count = arrays.length(array);
+
+        if ((from < 0) || (from >= count)) return array;
+        if ((to < 0) || (to > count)) to = count;
+        if (to <= from) return array;
+        if ((count - (to - from)) == 0) return null;
+
+        T[] temp = (T[])Array.newInstance(array.getClass().getComponentType(), count - (to - from));
+        System.arraycopy(array, 0, temp, 0, from);
+        System.arraycopy(array, to, temp, from, count - to);
+        return temp;
+    }/*}}}*/
+    // public static byte[] removeIf(byte[] array, BytePredicate filter);/*{{{*/
+    /**
+     * Removes every element that matches a condition.
+     * \param array Array to remove the elements.
+     * \param filter The condition. Elements for which it returns \b true
+     * are removed. It is called exactly once for each element, in order.
+     * \return The array without the removed elements. If no element is
+     * removed, or \a filter is \b null, the result is \a array itself.
+     * When all elements are removed the result is \b null.
+     * \remarks Like remove(byte[],int), the elements kept are first moved to
+     * the start of \a array, in a single pass, and then the result is
+     * reallocated. So the content of \a array is changed and only one new
+     * array is allocated.
+     **/
+    public static byte[] removeIf(byte[] array, BytePredicate filter)
+    {
+        int count = arrays.length(array);
+        if ((count == 0) || (filter == null)) return array;
+
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(array[i]))
+                array[pos++] = array[i];
+        }
+
+        if (pos == count) return array;
+        return arrays.realloc(array, pos);
+    }/*}}}*/
+    // public static char[] removeIf(char[] array, CharPredicate filter);/*{{{*/
+    /**
+     * @copydoc removeIf(byte[],BytePredicate)
+     **/
+    public static char[] removeIf(char[] array, CharPredicate filter)
+    {
+        int count = arrays.length(array);
+        if ((count == 0) || (filter == null)) return array;
+
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(array[i]))
+                array[pos++] = array[i];
+        }
+
+        if (pos == count) return array;
+        return arrays.realloc(array, pos);
+    }/*}}}*/
+    // public static short[] removeIf(short[] array, ShortPredicate filter);/*{{{*/
+    /**
+     * @copydoc removeIf(byte[],BytePredicate)
+     **/
+    public static short[] removeIf(short[] array, ShortPredicate filter)
+    {
+        int count = arrays.length(array);
+        if ((count == 0) || (filter == null)) return array;
+
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(array[i]))
+                array[pos++] = array[i];
+        }
+
+        if (pos == count) return array;
+        return arrays.realloc(array, pos);
+    }/*}}}*/
+    // public static int[] removeIf(int[] array, IntPredicate filter);/*{{{*/
+    /**
+     * @copydoc removeIf(byte[],BytePredicate)
+     **/
+    public static int[] removeIf(int[] array, IntPredicate filter)
+    {
+        int count = arrays.length(array);
+        if ((count == 0) || (filter == null)) return array;
+
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(array[i]))
+                array[pos++] = array[i];
+        }
+
+        if (pos == count) return array;
+        return arrays.realloc(array, pos);
+    }/*}}}*/
+    // public static long[] removeIf(long[] array, LongPredicate filter);/*{{{*/
+    /**
+     * @copydoc removeIf(byte[],BytePredicate)
+     **/
+    public static long[] removeIf(long[] array, LongPredicate filter)
+    {
+        int count = arrays.length(array);
+        if ((count == 0) || (filter == null)) return array;
+
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(array[i]))
+                array[pos++] = array[i];
+        }
+
+        if (pos == count) return array;
+        return arrays.realloc(array, pos);
+    }/*}}}*/
+    // public static <T> T[] removeIf(T[] array, Predicate<? super T> filter);/*{{{*/
+    /**
+     * @copydoc removeIf(byte[],BytePredicate)
+     **/
+    public static <T> T[] removeIf(T[] array, Predicate<? super T> filter)
+    {
+        int count = arrays.length(array);
+        if ((count == 0) || (filter == null)) return array;
+
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(array[i]))
+                array[pos++] = array[i];
+        }
+
+        if (pos == count) return array;
+        return arrays.realloc(array, pos);
+    }/*}}}*/
+    //@}
+
     /** \name Appending */ //@{
     // public static byte[] append(byte[] dest, byte[] src);/*{{{*/
     /**
@@ -835,7 +1110,7 @@ public final class arrays
 
         int size = arrays.length(dest);
         dest = arrays.realloc(dest, size + src.length);
-        arrays.copy(dest, 0, src, 0, src.length);
+        arrays.copy(dest, size, src, 0, src.length);
         return dest;
     }/*}}}*/
     // public static char[] append(char[] dest, char[] src);/*{{{*/
@@ -849,7 +1124,7 @@ public final class arrays
 
         int size = arrays.length(dest);
         dest = arrays.realloc(dest, size + src.length);
-        arrays.copy(dest, 0, src, 0, src.length);
+        arrays.copy(dest, size, src, 0, src.length);
         return dest;
     }/*}}}*/
     // public static short[] append(short[] dest, short[] src);/*{{{*/
@@ -863,7 +1138,7 @@ public final class arrays
 
         int size = arrays.length(dest);
         dest = arrays.realloc(dest, size + src.length);
-        arrays.copy(dest, 0, src, 0, src.length);
+        arrays.copy(dest, size, src, 0, src.length);
         return dest;
     }/*}}}*/
     // public static int [] append(int [] dest, int [] src);/*{{{*/
@@ -877,7 +1152,7 @@ public final class arrays
 
         int size = arrays.length(dest);
         dest = arrays.realloc(dest, size + src.length);
-        arrays.copy(dest, 0, src, 0, src.length);
+        arrays.copy(dest, size, src, 0, src.length);
         return dest;
     }/*}}}*/
     // public static long[] append(long[] dest, long[] src);/*{{{*/
@@ -891,7 +1166,7 @@ public final class arrays
 
         int size = arrays.length(dest);
         dest = arrays.realloc(dest, size + src.length);
-        arrays.copy(dest, 0, src, 0, src.length);
+        arrays.copy(dest, size, src, 0, src.length);
         return dest;
     }/*}}}*/
     // public static <T> T[] append(T[] dest, T[] src);/*{{{*/
@@ -912,7 +1187,7 @@ public final class arrays
 
         int size = arrays.length(dest);
         dest = arrays.realloc(dest, size + src.length);
-        arrays.copy(dest, 0, src, 0, src.length);
+        arrays.copy(dest, size, src, 0, src.length);
         return dest;
     }/*}}}*/
     //@}
@@ -927,59 +1202,344 @@ public final class arrays
      * zero length no separator will be used.
      * \return A string with the elements of the array \a array joined. An
      * empty string will be returned if the array is \b null or zero length.
+     * \b null when the result would be longer than the largest string
+     * possible.
+     * \remarks Every element is converted only once. The length of the
+     * result is computed before it is built so the buffer is never resized.
      **/
     public static <T> String join(T[] array, String separator)
     {
-        if (arrays.length(array) == 0) return strings.EMPTY;
-        int limit = array.length;
-        StringBuilder sb = new StringBuilder(256);
+        int limit = arrays.length(array);
+        if (limit == 0) return strings.EMPTY;
 
-        /* We have two for's() to speed up iteration. */
-        if ((separator != null) && (separator.length() > 0))
-        {
-            sb.append(String.valueOf(array[0]));
-            for (int i = 1; i < limit; i++) {
-                sb.append(separator).append(String.valueOf(array[i]));
-            }
+        String[] parts = new String[limit];
+        long total = (long)strings.length(separator) * (limit - 1);
+
+        for (int i = 0; i < limit; i++) {
+            parts[i] = String.valueOf(array[i]);
+            total   += parts[i].length();
         }
-        else
-        {
-            for (int i = 0; i < limit; i++) {
-                sb.append(String.valueOf(array[i]));
-            }
+        if (total > Integer.MAX_VALUE) return null;
+
+        StringBuilder sb = new StringBuilder((int)total);
+        boolean glue = (strings.length(separator) > 0);
+
+        sb.append(parts[0]);
+        for (int i = 1; i < limit; i++) {
+            if (glue) sb.append(separator);
+            sb.append(parts[i]);
         }
         return sb.toString();
     }/*}}}*/
-    //@}
-
-    /** \name Slicing Elements from Array */ //@{
-    // public static byte[] slice(byte[] array, int first, int count);/*{{{*/
+    // public static String join(int[] array, String separator);/*{{{*/
     /**
-     * Build an array of a sliced part of anoter array.
-     * \param array The original array to be slided. This array will not be
-     * changed in this function.
-     * \param first Index of the first element to be sliced. If less than zero
-     * or greater than the number of elements in the \a array the return will
-     * be \b null.
-     * \param count Number of elements to be copied from the original \a
-     * array. If less than zero or greater than the number of elements in the
-     * array only the remaining elements starting from \a first will be
-     * copied.
-     * \return A new array built from the elements sliced from the original \a
-     * array or \b null, if an argument was invalid.
+     * Join the decimal representation of integers.
+     * \param array The array of values to join.
+     * \param separator The separator string to use in the join. If \b null or
+     * zero length no separator will be used.
+     * \return A string with the elements of \a array joined. An empty string
+     * will be returned if the array is \b null or zero length.
+     * \b null when the result would be longer than the largest string
+     * possible.
+     * \remarks Values are not boxed. The digits are written directly in a
+     * buffer of the exact length of the result.
      **/
-    public static byte[] slice(byte[] array, int first, int count)
+    public static String join(int[] array, String separator)
     {
-        if ((array == null) || (first < 0) || (first > array.length))
-            return null;
+        int limit = arrays.length(array);
+        if (limit == 0) return strings.EMPTY;
 
-        if ((count < 0) || ((first + count) > array.length))
-            count = array.length - first;
+        long total = (long)strings.length(separator) * (limit - 1);
+        for (int i = 0; i < limit; i++)
+            total += __internal_digits(array[i]);
 
-        byte[] result = new byte[count];
-        arrays.copy(result, 0, array, first, count);
+        if (total > Integer.MAX_VALUE) return null;
 
-        return result;
+        char[] sep    = ((separator == null) ? new char[0] : separator.toCharArray());
+        char[] buffer = new char[(int)total];
+        int    pos    = __internal_number(array[0], buffer, 0);
+
+        for (int i = 1; i < limit; i++) {
+            System.arraycopy(sep, 0, buffer, pos, sep.length);
+            pos = __internal_number(array[i], buffer, pos + sep.length);
+        }
+        return new String(buffer);
+    }/*}}}*/
+    // public static String join(long[] array, String separator);/*{{{*/
+    /**
+     * Join the decimal representation of long integers.
+     * \param array The array of values to join.
+     * \param separator The separator string to use in the join. If \b null or
+     * zero length no separator will be used.
+     * \return A string with the elements of \a array joined. An empty string
+     * will be returned if the array is \b null or zero length.
+     * \b null when the result would be longer than the largest string
+     * possible.
+     * \remarks Values are not boxed. The digits are written directly in a
+     * buffer of the exact length of the result.
+     **/
+    public static String join(long[] array, String separator)
+    {
+        int limit = arrays.length(array);
+        if (limit == 0) return strings.EMPTY;
+
+        long total = (long)strings.length(separator) * (limit - 1);
+        for (int i = 0; i < limit; i++)
+            total += __internal_digits(array[i]);
+
+        if (total > Integer.MAX_VALUE) return null;
+
+        char[] sep    = ((separator == null) ? new char[0] : separator.toCharArray());
+        char[] buffer = new char[(int)total];
+        int    pos    = __internal_number(array[0], buffer, 0);
+
+        for (int i = 1; i < limit; i++) {
+            System.arraycopy(sep, 0, buffer, pos, sep.length);
+            pos = __internal_number(array[i], buffer, pos + sep.length);
+        }
+        return new String(buffer);
+    }/*}}}*/
+    // public static String join(char[][] array, String separator);/*{{{*/
+    /**
+     * Join arrays of characters.
+     * \param array The array of character arrays to join. \b null elements
+     * are joined as empty strings.
+     * \param separator The separator string to use in the join. If \b null or
+     * zero length no separator will be used.
+     * \return A string with the elements of \a array joined. An empty string
+     * will be returned if the array is \b null or zero length.
+     * \b null when the result would be longer than the largest string
+     * possible.
+     **/
+    public static String join(char[][] array, String separator)
+    {
+        int limit = arrays.length(array);
+        if (limit == 0) return strings.EMPTY;
+
+        int  seplen = strings.length(separator);
+        long total  = (long)seplen * (limit - 1);
+        for (int i = 0; i < limit; i++)
+            total += arrays.length(array[i]);
+
+        if (total > Integer.MAX_VALUE) return null;
+
+        char[] buffer = new char[(int)total];
+        int    pos = 0, size;
+
+        for (int i = 0; i < limit; i++)
+        {
+            if ((i > 0) && (seplen > 0)) {
+                separator.getChars(0, seplen, buffer, pos);
+                pos += seplen;
+            }
+            if ((size = arrays.length(array[i])) > 0) {
+                System.arraycopy(array[i], 0, buffer, pos, size);
+                pos += size;
+            }
+        }
+        return new String(buffer);
+    }/*}}}*/
+    //@}
+
+    /** \name Joining Elements into a Stream */ //@{
+    // public static <T> long join(T[] array, String separator, Appendable out);/*{{{*/
+    /**
+     * Join elements of an array directly into a stream.
+     * \param array The array with objects to join. These objects are
+     * converted to String using \c String.valueOf() method.
+     * \param separator The separator string to use in the join. If \b null or
+     * zero length no separator will be used.
+     * \param out The destination of the characters. Can be a \c Writer, a \c
+     * StringBuilder or any other \c Appendable implementation.
+     * \return The number of characters written. If \a out is \b null the
+     * result is \c ERROR::PARM. If it fails the result is \c ERROR::WRITE.
+     * \remarks The characters are passed to \a out in chunks of a few
+     * kilobytes so the result never needs to be held entirely in memory.
+     **/
+    public static <T> long join(T[] array, String separator, Appendable out)
+    {
+        if (out == null) return ERROR.PARM;
+
+        int    limit  = arrays.length(array);
+        char[] buffer = new char[4096];
+        long   total  = (long)strings.length(separator) * Math.max(0, limit - 1);
+        int    pos    = 0;
+        String text;
+
+        try
+        {
+            for (int i = 0; i < limit; i++)
+            {
+                if (i > 0) pos = __internal_put(out, buffer, pos, separator);
+                text   = String.valueOf(array[i]);
+                pos    = __internal_put(out, buffer, pos, text);
+                total += text.length();
+            }
+            __internal_flush(out, buffer, pos);
+        }
+        catch (IOException ex) {
+            return ERROR.WRITE;
+        }
+        return total;
+    }/*}}}*/
+    // public static long join(int[] array, String separator, Appendable out);/*{{{*/
+    /**
+     * Join the decimal representation of integers directly into a stream.
+     * \param array The array of values to join.
+     * \param separator The separator string to use in the join. If \b null or
+     * zero length no separator will be used.
+     * \param out The destination of the characters. Can be a \c Writer, a \c
+     * StringBuilder or any other \c Appendable implementation.
+     * \return The number of characters written. If \a out is \b null the
+     * result is \c ERROR::PARM. If it fails the result is \c ERROR::WRITE.
+     **/
+    public static long join(int[] array, String separator, Appendable out)
+    {
+        if (out == null) return ERROR.PARM;
+
+        int    limit  = arrays.length(array);
+        char[] buffer = new char[4096];
+        long   total  = (long)strings.length(separator) * Math.max(0, limit - 1);
+        int    pos    = 0, next;
+
+        try
+        {
+            for (int i = 0; i < limit; i++)
+            {
+                if (i > 0) pos = __internal_put(out, buffer, pos, separator);
+                if ((buffer.length - pos) < 20) {
+                    __internal_flush(out, buffer, pos);
+                    pos = 0;
+                }
+                next   = __internal_number(array[i], buffer, pos);
+                total += (next - pos);
+                pos    = next;
+            }
+            __internal_flush(out, buffer, pos);
+        }
+        catch (IOException ex) {
+            return ERROR.WRITE;
+        }
+        return total;
+    }/*}}}*/
+    // public static long join(long[] array, String separator, Appendable out);/*{{{*/
+    /**
+     * Join the decimal representation of long integers directly into a
+     * stream.
+     * \param array The array of values to join.
+     * \param separator The separator string to use in the join. If \b null or
+     * zero length no separator will be used.
+     * \param out The destination of the characters. Can be a \c Writer, a \c
+     * StringBuilder or any other \c Appendable implementation.
+     * \return The number of characters written. If \a out is \b null the
+     * result is \c ERROR::PARM. If it fails the result is \c ERROR::WRITE.
+     **/
+    public static long join(long[] array, String separator, Appendable out)
+    {
+        if (out == null) return ERROR.PARM;
+
+        int    limit  = arrays.length(array);
+        char[] buffer = new char[4096];
+        long   total  = (long)strings.length(separator) * Math.max(0, limit - 1);
+        int    pos    = 0, next;
+
+        try
+        {
+            for (int i = 0; i < limit; i++)
+            {
+                if (i > 0) pos = __internal_put(out, buffer, pos, separator);
+                if ((buffer.length - pos) < 20) {
+                    __internal_flush(out, buffer, pos);
+                    pos = 0;
+                }
+                next   = __internal_number(array[i], buffer, pos);
+                total += (next - pos);
+                pos    = next;
+            }
+            __internal_flush(out, buffer, pos);
+        }
+        catch (IOException ex) {
+            return ERROR.WRITE;
+        }
+        return total;
+    }/*}}}*/
+    // public static long join(char[][] array, String separator, Appendable out);/*{{{*/
+    /**
+     * Join arrays of characters directly into a stream.
+     * \param array The array of character arrays to join. \b null elements
+     * are joined as empty strings.
+     * \param separator The separator string to use in the join. If \b null or
+     * zero length no separator will be used.
+     * \param out The destination of the characters. Can be a \c Writer, a \c
+     * StringBuilder or any other \c Appendable implementation.
+     * \return The number of characters written. If \a out is \b null the
+     * result is \c ERROR::PARM. If it fails the result is \c ERROR::WRITE.
+     **/
+    public static long join(char[][] array, String separator, Appendable out)
+    {
+        if (out == null) return ERROR.PARM;
+
+        int    limit  = arrays.length(array);
+        char[] buffer = new char[4096];
+        long   total  = (long)strings.length(separator) * Math.max(0, limit - 1);
+        int    pos    = 0, size;
+
+        try
+        {
+            for (int i = 0; i < limit; i++)
+            {
+                if (i > 0) pos = __internal_put(out, buffer, pos, separator);
+
+                size   = arrays.length(array[i]);
+                total += size;
+                if (size > (buffer.length - pos)) {
+                    __internal_flush(out, buffer, pos);
+                    pos = 0;
+                }
+                if (size > buffer.length)
+                    __internal_flush(out, array[i], size);
+                else if (size > 0) {
+                    System.arraycopy(array[i], 0, buffer, pos, size);
+                    pos += size;
+                }
+            }
+            __internal_flush(out, buffer, pos);
+        }
+        catch (IOException ex) {
+            return ERROR.WRITE;
+        }
+        return total;
+    }/*}}}*/
+    //@}
+
+    /** \name Slicing Elements from Array */ //@{
+    // public static byte[] slice(byte[] array, int first, int count);/*{{{*/
+    /**
+     * Build an array of a sliced part of anoter array.
+     * \param array The original array to be slided. This array will not be
+     * changed in this function.
+     * \param first Index of the first element to be sliced. If less than zero
+     * or greater than the number of elements in the \a array the return will
+     * be \b null.
+     * \param count Number of elements to be copied from the original \a
+     * array. If less than zero or greater than the number of elements in the
+     * array only the remaining elements starting from \a first will be
+     * copied.
+     * \return A new array built from the elements sliced from the original \a
+     * array or \b null, if an argument was invalid.
+     **/
+    public static byte[] slice(byte[] array, int first, int count)
+    {
+        if ((array == null) || (first < 0) || (first > array.length))
+            return null;
+
+        if ((count < 0) || ((first + count) > array.length))
+            count = array.length - first;
+
+        byte[] result = new byte[count];
+        arrays.copy(result, 0, array, first, count);
+
+        return result;
     }/*}}}*/
     // public static char[] slice(char[] array, int first, int count);/*{{{*/
     /**
@@ -1335,14 +1895,444 @@ public final class arrays
     }/*}}}*/
     //@}
 
+    /** \name Bulk Reading and Writing of Numbers */ //@{
+    // public static int readInts (byte[] array, int start, int[] values, int first, int count);/*{{{*/
+    /**
+     * Reads a sequence of int values from a byte array.
+     * \param array The array to be read.
+     * \param start Position of the first byte to read in \a array.
+     * \param values Array that will receive the values read.
+     * \param first Index in \a values where the first value will be stored.
+     * \param count Number of values to read. If less than zero, or when \a
+     * array or \a values has no room for all of them, the function reads as
+     * many values as fit in both arrays.
+     * \return The number of values read. Zero if an argument is invalid.
+     * \remarks The byte order is \b Big-Endian. The sequence is
+     * converted through a \c java.nio.IntBuffer view of the array, which the
+     * JVM implements with a single bulk copy instead of one shift per byte.
+     **/
+    public static int readInts(byte[] array, int start, int[] values, int first, int count) {
+        return __internal_readInts(array, start, values, first, count, ByteOrder.BIG_ENDIAN);
+    }/*}}}*/
+    // public static int readLittleEndInts (byte[] array, int start, int[] values, int first, int count);/*{{{*/
+    /**
+     * Reads a sequence of int values from a byte array.
+     * @copydetails readInts(byte[],int,int[],int,int)
+     * \remarks This function assumes that the order of bytes in the array is
+     * \b Little-Endian.
+     **/
+    public static int readLittleEndInts(byte[] array, int start, int[] values, int first, int count) {
+        return __internal_readInts(array, start, values, first, count, ByteOrder.LITTLE_ENDIAN);
+    }/*}}}*/
+    // public static int readInts (byte[] array, int start, int[] values, int first, int count, ByteOrder order);/*{{{*/
+    /**
+     * Reads a sequence of int values from a byte array in a given order.
+     * @copydetails readInts(byte[],int,int[],int,int)
+     * \param order The byte order of \a array. Useful when it is known only
+     * at run time, like in the header of a file. Zero is returned when it is
+     * \b null.
+     **/
+    public static int readInts(byte[] array, int start, int[] values, int first, int count, ByteOrder order) {
+        return ((order == null) ? 0 : __internal_readInts(array, start, values, first, count, order));
+    }/*}}}*/
+    // public static int readLongs (byte[] array, int start, long[] values, int first, int count);/*{{{*/
+    /**
+     * Reads a sequence of long values from a byte array.
+     * \param array The array to be read.
+     * \param start Position of the first byte to read in \a array.
+     * \param values Array that will receive the values read.
+     * \param first Index in \a values where the first value will be stored.
+     * \param count Number of values to read. If less than zero, or when \a
+     * array or \a values has no room for all of them, the function reads as
+     * many values as fit in both arrays.
+     * \return The number of values read. Zero if an argument is invalid.
+     * \remarks The byte order is \b Big-Endian. The sequence is
+     * converted through a \c java.nio.LongBuffer view of the array.
+     **/
+    public static int readLongs(byte[] array, int start, long[] values, int first, int count) {
+        return __internal_readLongs(array, start, values, first, count, ByteOrder.BIG_ENDIAN);
+    }/*}}}*/
+    // public static int readLittleEndLongs(byte[] array, int start, long[] values, int first, int count);/*{{{*/
+    /**
+     * Reads a sequence of long values from a byte array.
+     * @copydetails readLongs(byte[],int,long[],int,int)
+     * \remarks This function assumes that the order of bytes in the array is
+     * \b Little-Endian.
+     **/
+    public static int readLittleEndLongs(byte[] array, int start, long[] values, int first, int count) {
+        return __internal_readLongs(array, start, values, first, count, ByteOrder.LITTLE_ENDIAN);
+    }/*}}}*/
+    // public static int readLongs (byte[] array, int start, long[] values, int first, int count, ByteOrder order);/*{{{*/
+    /**
+     * Reads a sequence of long values from a byte array in a given order.
+     * @copydetails readLongs(byte[],int,long[],int,int)
+     * \param order The byte order of \a array. Zero is returned when it is
+     * \b null.
+     **/
+    public static int readLongs(byte[] array, int start, long[] values, int first, int count, ByteOrder order) {
+        return ((order == null) ? 0 : __internal_readLongs(array, start, values, first, count, order));
+    }/*}}}*/
+    // public static int writeInts (byte[] array, int start, int[] values, int first, int count);/*{{{*/
+    /**
+     * Writes a sequence of int values into a byte array.
+     * \param array Array where the values will be written.
+     * \param start Position in \a array where the first byte will be written.
+     * \param values Array with the values to write.
+     * \param first Index of the first value to write in \a values.
+     * \param count Number of values to write. If less than zero, or when \a
+     * array has no room for all of them, the function writes as many values
+     * as fit in \a array.
+     * \return The number of values written. Zero if an argument is invalid.
+     * \remarks The byte order is \b Big-Endian. The sequence is
+     * converted through a \c java.nio.IntBuffer view of the array.
+     **/
+    public static int writeInts(byte[] array, int start, int[] values, int first, int count) {
+        return __internal_writeInts(array, start, values, first, count, ByteOrder.BIG_ENDIAN);
+    }/*}}}*/
+    // public static int writeLittleEndInts (byte[] array, int start, int[] values, int first, int count);/*{{{*/
+    /**
+     * Writes a sequence of int values into a byte array.
+     * @copydetails writeInts(byte[],int,int[],int,int)
+     * \remarks This operation will write the numbers using \b Little-Endian
+     * byte order.
+     **/
+    public static int writeLittleEndInts(byte[] array, int start, int[] values, int first, int count) {
+        return __internal_writeInts(array, start, values, first, count, ByteOrder.LITTLE_ENDIAN);
+    }/*}}}*/
+    // public static int writeLongs (byte[] array, int start, long[] values, int first, int count);/*{{{*/
+    /**
+     * Writes a sequence of long values into a byte array.
+     * \param array Array where the values will be written.
+     * \param start Position in \a array where the first byte will be written.
+     * \param values Array with the values to write.
+     * \param first Index of the first value to write in \a values.
+     * \param count Number of values to write. If less than zero, or when \a
+     * array has no room for all of them, the function writes as many values
+     * as fit in \a array.
+     * \return The number of values written. Zero if an argument is invalid.
+     * \remarks The byte order is \b Big-Endian. The sequence is
+     * converted through a \c java.nio.LongBuffer view of the array.
+     **/
+    public static int writeLongs(byte[] array, int start, long[] values, int first, int count) {
+        return __internal_writeLongs(array, start, values, first, count, ByteOrder.BIG_ENDIAN);
+    }/*}}}*/
+    // public static int writeLittleEndLongs(byte[] array, int start, long[] values, int first, int count);/*{{{*/
+    /**
+     * Writes a sequence of long values into a byte array.
+     * @copydetails writeLongs(byte[],int,long[],int,int)
+     * \remarks This operation will write the numbers using \b Little-Endian
+     * byte order.
+     **/
+    public static int writeLittleEndLongs(byte[] array, int start, long[] values, int first, int count) {
+        return __internal_writeLongs(array, start, values, first, count, ByteOrder.LITTLE_ENDIAN);
+    }/*}}}*/
+    //@}
+
+    /** \name Variable Length Numbers */ //@{
+    // public static int varIntSize (int  value);/*{{{*/
+    /**
+     * Computes the number of bytes of a value encoded as a varint.
+     * \param value The value, taken as unsigned.
+     * \return From 1 to 5.
+     **/
+    public static int varIntSize(int value) {
+        return ((38 - Integer.numberOfLeadingZeros(value | 1)) / 7);
+    }/*}}}*/
+    // public static int varLongSize(long value);/*{{{*/
+    /**
+     * Computes the number of bytes of a value encoded as a varint.
+     * \param value The value, taken as unsigned.
+     * \return From 1 to 10.
+     **/
+    public static int varLongSize(long value) {
+        return ((70 - Long.numberOfLeadingZeros(value | 1)) / 7);
+    }/*}}}*/
+    // public static long varIntsSize (int [] values, int first, int count);/*{{{*/
+    /**
+     * Computes the number of bytes of a sequence encoded by writeVarInts().
+     * \param values The values. Can be \b null.
+     * \param first Index of the first value.
+     * \param count Number of values. If less than zero or beyond the end of
+     * \a values all values from \a first are used.
+     * \return The number of bytes. Zero if an argument is invalid.
+     **/
+    public static long varIntsSize(int[] values, int first, int count) {
+        return __internal_varIntsSize(values, first, count, false);
+    }/*}}}*/
+    // public static long varLongsSize(long[] values, int first, int count);/*{{{*/
+    /**
+     * Computes the number of bytes of a sequence encoded by writeVarLongs().
+     * @copydetails varIntsSize(int[],int,int)
+     **/
+    public static long varLongsSize(long[] values, int first, int count) {
+        return __internal_varLongsSize(values, first, count, false);
+    }/*}}}*/
+    // public static long zigZagIntsSize (int [] values, int first, int count);/*{{{*/
+    /**
+     * Computes the number of bytes of a sequence encoded by
+     * writeZigZagInts().
+     * @copydetails varIntsSize(int[],int,int)
+     **/
+    public static long zigZagIntsSize(int[] values, int first, int count) {
+        return __internal_varIntsSize(values, first, count, true);
+    }/*}}}*/
+    // public static long zigZagLongsSize(long[] values, int first, int count);/*{{{*/
+    /**
+     * Computes the number of bytes of a sequence encoded by
+     * writeZigZagLongs().
+     * @copydetails varIntsSize(int[],int,int)
+     **/
+    public static long zigZagLongsSize(long[] values, int first, int count) {
+        return __internal_varLongsSize(values, first, count, true);
+    }/*}}}*/
+    // public static int varLength(byte[] array, int start);/*{{{*/
+    /**
+     * Gets the number of bytes of the varint stored at a position.
+     * \param array The array with the encoded value.
+     * \param start Position of the first byte of the value.
+     * \return From 1 to 10. \c ERROR::LENGTH when the value goes beyond the
+     * end of \a array or \a start is invalid. \c ERROR::FORMAT when the
+     * value has more than 10 bytes.
+     * \remarks Values written by this class have exactly varIntSize() or
+     * varLongSize() bytes. This function is meant for data of unknown
+     * origin.
+     **/
+    public static int varLength(byte[] array, int start)
+    {
+        int limit = arrays.length(array);
+        if (start < 0) return ERROR.LENGTH;
+
+        for (int pos = start; pos < limit; pos++)
+        {
+            if (array[pos] >= 0) return (pos - start + 1);
+            if ((pos - start) >= 9) return ERROR.FORMAT;
+        }
+        return ERROR.LENGTH;
+    }/*}}}*/
+    // public static int  writeVarInt (byte[] array, int start, int  value);/*{{{*/
+    /**
+     * Writes a value in the LEB128 variable length format.
+     * Seven bits are stored in each byte, the least significant first. The
+     * high bit of each byte is set when more bytes follow. Values from 0 to
+     * 127 take a single byte.
+     * \param array Array where the value will be written.
+     * \param start Position of the first byte written.
+     * \param value The value, taken as unsigned. Negative numbers take 5
+     * bytes. Use writeZigZagInt() for signed values.
+     * \return The number of bytes written, from 1 to 5. \c ERROR::SPACE when
+     * \a array has no room for the value. Nothing is written in that case.
+     **/
+    public static int writeVarInt(byte[] array, int start, int value)
+    {
+        int size = arrays.varIntSize(value);
+        if ((start < 0) || (size > (arrays.length(array) - start))) return ERROR.SPACE;
+
+        for (int i = 1; i < size; i++, value >>>= 7)
+            array[start++] = (byte)(value | 0x80);
+
+        array[start] = (byte)value;
+        return size;
+    }/*}}}*/
+    // public static int  writeVarLong(byte[] array, int start, long value);/*{{{*/
+    /**
+     * Writes a value in the LEB128 variable length format.
+     * \param array Array where the value will be written.
+     * \param start Position of the first byte written.
+     * \param value The value, taken as unsigned. Negative numbers take 10
+     * bytes. Use writeZigZagLong() for signed values.
+     * \return The number of bytes written, from 1 to 10. \c ERROR::SPACE
+     * when \a array has no room for the value. Nothing is written in that
+     * case.
+     * \see writeVarInt()
+     **/
+    public static int writeVarLong(byte[] array, int start, long value)
+    {
+        int size = arrays.varLongSize(value);
+        if ((start < 0) || (size > (arrays.length(array) - start))) return ERROR.SPACE;
+
+        for (int i = 1; i < size; i++, value >>>= 7)
+            array[start++] = (byte)(value | 0x80);
+
+        array[start] = (byte)value;
+        return size;
+    }/*}}}*/
+    // public static int  writeZigZagInt (byte[] array, int start, int  value);/*{{{*/
+    /**
+     * Writes a signed value in the LEB128 variable length format.
+     * The value is encoded by \c numbers::zigzag() first, so small negative
+     * numbers also take few bytes.
+     * @copydetails writeVarInt(byte[],int,int)
+     **/
+    public static int writeZigZagInt(byte[] array, int start, int value) {
+        return arrays.writeVarInt(array, start, numbers.zigzag(value));
+    }/*}}}*/
+    // public static int  writeZigZagLong(byte[] array, int start, long value);/*{{{*/
+    /**
+     * Writes a signed value in the LEB128 variable length format.
+     * The value is encoded by \c numbers::zigzag() first, so small negative
+     * numbers also take few bytes.
+     * @copydetails writeVarLong(byte[],int,long)
+     **/
+    public static int writeZigZagLong(byte[] array, int start, long value) {
+        return arrays.writeVarLong(array, start, numbers.zigzag(value));
+    }/*}}}*/
+    // public static int  readVarInt (byte[] array, int start);/*{{{*/
+    /**
+     * Reads a value written by writeVarInt().
+     * \param array The array with the encoded value.
+     * \param start Position of the first byte of the value.
+     * \return The value read or \b 0 if it is invalid: longer than 5 bytes
+     * or beyond the end of \a array. Use varLength() or varIntSize() to find
+     * the position of the next value.
+     **/
+    public static int readVarInt(byte[] array, int start)
+    {
+        int limit = Math.min(arrays.length(array), start + 5);
+        int result = 0, shift = 0;
+        byte b;
+
+        if (start < 0) return 0;
+        for (int pos = start; pos < limit; pos++, shift += 7)
+        {
+            b = array[pos];
+            result |= ((b & 0x7F) << shift);
+            if (b >= 0) return result;
+        }
+        return 0;
+    }/*}}}*/
+    // public static long readVarLong(byte[] array, int start);/*{{{*/
+    /**
+     * Reads a value written by writeVarLong().
+     * \param array The array with the encoded value.
+     * \param start Position of the first byte of the value.
+     * \return The value read or \b 0 if it is invalid: longer than 10 bytes
+     * or beyond the end of \a array. Use varLength() or varLongSize() to
+     * find the position of the next value.
+     **/
+    public static long readVarLong(byte[] array, int start)
+    {
+        int limit = Math.min(arrays.length(array), start + 10);
+        long result = 0L;
+        int  shift  = 0;
+        byte b;
+
+        if (start < 0) return 0L;
+        for (int pos = start; pos < limit; pos++, shift += 7)
+        {
+            b = array[pos];
+            result |= ((long)(b & 0x7F) << shift);
+            if (b >= 0) return result;
+        }
+        return 0L;
+    }/*}}}*/
+    // public static int  readZigZagInt (byte[] array, int start);/*{{{*/
+    /**
+     * Reads a value written by writeZigZagInt().
+     * @copydetails readVarInt(byte[],int)
+     **/
+    public static int readZigZagInt(byte[] array, int start) {
+        return numbers.unzigzag(arrays.readVarInt(array, start));
+    }/*}}}*/
+    // public static long readZigZagLong(byte[] array, int start);/*{{{*/
+    /**
+     * Reads a value written by writeZigZagLong().
+     * @copydetails readVarLong(byte[],int)
+     **/
+    public static long readZigZagLong(byte[] array, int start) {
+        return numbers.unzigzag(arrays.readVarLong(array, start));
+    }/*}}}*/
+    // public static int writeVarInts (byte[] array, int start, int [] values, int first, int count);/*{{{*/
+    /**
+     * Writes a sequence of values in the LEB128 variable length format.
+     * \param array Array where the values will be written.
+     * \param start Position of the first byte written.
+     * \param values The values. Taken as unsigned.
+     * \param first Index of the first value.
+     * \param count Number of values. If less than zero or beyond the end of
+     * \a values all values from \a first are written.
+     * \return The number of bytes written. \c ERROR::SPACE when \a array has
+     * no room for all values. The values that fit are written in that case.
+     * \c ERROR::PARM if \a start or \a first are invalid.
+     * \remarks varIntsSize() computes the room needed.
+     **/
+    public static int writeVarInts(byte[] array, int start, int[] values, int first, int count) {
+        return __internal_writeVarInts(array, start, values, first, count, false);
+    }/*}}}*/
+    // public static int writeVarLongs(byte[] array, int start, long[] values, int first, int count);/*{{{*/
+    /**
+     * Writes a sequence of values in the LEB128 variable length format.
+     * @copydetails writeVarInts(byte[],int,int[],int,int)
+     **/
+    public static int writeVarLongs(byte[] array, int start, long[] values, int first, int count) {
+        return __internal_writeVarLongs(array, start, values, first, count, false);
+    }/*}}}*/
+    // public static int writeZigZagInts (byte[] array, int start, int [] values, int first, int count);/*{{{*/
+    /**
+     * Writes a sequence of signed values encoded by \c numbers::zigzag().
+     * @copydetails writeVarInts(byte[],int,int[],int,int)
+     **/
+    public static int writeZigZagInts(byte[] array, int start, int[] values, int first, int count) {
+        return __internal_writeVarInts(array, start, values, first, count, true);
+    }/*}}}*/
+    // public static int writeZigZagLongs(byte[] array, int start, long[] values, int first, int count);/*{{{*/
+    /**
+     * Writes a sequence of signed values encoded by \c numbers::zigzag().
+     * @copydetails writeVarInts(byte[],int,int[],int,int)
+     **/
+    public static int writeZigZagLongs(byte[] array, int start, long[] values, int first, int count) {
+        return __internal_writeVarLongs(array, start, values, first, count, true);
+    }/*}}}*/
+    // public static int readVarInts (byte[] array, int start, int [] values, int first, int count);/*{{{*/
+    /**
+     * Reads a sequence of values written by writeVarInts().
+     * \param array The array with the encoded values.
+     * \param start Position of the first byte.
+     * \param values Array that receives the values.
+     * \param first Index in \a values where the first value is stored.
+     * \param count Number of values to read. If less than zero or beyond the
+     * end of \a values, \a values is filled from \a first.
+     * \return The number of bytes read. On failure: \c ERROR::LENGTH when
+     * \a array ends before all values are read; \c ERROR::FORMAT when a
+     * value is too long; \c ERROR::PARM if \a start or \a first are
+     * invalid. The values decoded before the failure are stored.
+     **/
+    public static int readVarInts(byte[] array, int start, int[] values, int first, int count) {
+        return __internal_readVarInts(array, start, values, first, count, false);
+    }/*}}}*/
+    // public static int readVarLongs(byte[] array, int start, long[] values, int first, int count);/*{{{*/
+    /**
+     * Reads a sequence of values written by writeVarLongs().
+     * @copydetails readVarInts(byte[],int,int[],int,int)
+     **/
+    public static int readVarLongs(byte[] array, int start, long[] values, int first, int count) {
+        return __internal_readVarLongs(array, start, values, first, count, false);
+    }/*}}}*/
+    // public static int readZigZagInts (byte[] array, int start, int [] values, int first, int count);/*{{{*/
+    /**
+     * Reads a sequence of values written by writeZigZagInts().
+     * @copydetails readVarInts(byte[],int,int[],int,int)
+     **/
+    public static int readZigZagInts(byte[] array, int start, int[] values, int first, int count) {
+        return __internal_readVarInts(array, start, values, first, count, true);
+    }/*}}}*/
+    // public static int readZigZagLongs(byte[] array, int start, long[] values, int first, int count);/*{{{*/
+    /**
+     * Reads a sequence of values written by writeZigZagLongs().
+     * @copydetails readVarInts(byte[],int,int[],int,int)
+     **/
+    public static int readZigZagLongs(byte[] array, int start, long[] values, int first, int count) {
+        return __internal_readVarLongs(array, start, values, first, count, true);
+    }/*}}}*/
+    //@}
+
     /** \name Convertion to String */ //@{
     // public static String toString(byte[] array, String separator, int frequency);/*{{{*/
     /**
      * Convert the array into its string representation.
      * @param array Byte array with values to convert.
      * @param separator A string to separate groups. Can be \b null.
-     * @param frequency The frequency to separate groups. See the example.
-     * When \a separtor is \b null, \a frequency is ignored.
+     * @param frequency The frequency to separate groups, in characters. See
+     * the example. When \a separtor is \b null, \a frequency is ignored.
      * @returns A string representation of the byte array.
      * @remarks The conversion is done byte by byte, building its
      * representation in a string notation. For example:
@@ -1358,27 +2348,8 @@ public final class arrays
      * </pre>
      * Where each byte is represented by two characters.
      **/
-    public static String toString(byte[] array, String separator, int frequency)
-    {
-        int    limit = arrays.length(array);
-        int    extra = (separator == null ? 0 : separator.length() * limit);
-        StringBuilder sb = new StringBuilder(limit*2 + extra);
-
-        /* Two separated for loops for performance reasons. */
-        if (separator != null)
-        {
-            for (int i = 0; i < limit; i++) {
-                if ((i>0) && (((i+1) % frequency) == 0))
-                    sb.append(separator);
-                sb.append(String.format("%02X", array[i]));
-            }
-        }
-        else
-        {
-            for (int i = 0; i < limit; i++)
-                sb.append(String.format("%02X", array[i]));
-        }
-        return sb.toString();
+    public static String toString(byte[] array, String separator, int frequency) {
+        return __internal_toString(array, 0, arrays.length(array), separator, frequency);
     }/*}}}*/
     // public static String toString(byte[] array);/*{{{*/
     /**
@@ -1390,12 +2361,88 @@ public final class arrays
     public static String toString(byte[] array) {
         return arrays.toString(array, null, 0);
     }/*}}}*/
-    // public static String toString(char[] array, int start, int count);/*{{{*/
+    // public static int toHex(byte[] array, int start, int count, char[] dest, int destStart);/*{{{*/
     /**
-     * Converts a char array into a String object.
-     * @param array The array to convert in String object.
-     * @param start The starting index. Must be equal or greater than 0 and
-     * less than the length of the array.
+     * Converts a range of a byte array into hexadecimal characters.
+     * Each byte is represented by two upper case characters, with no
+     * separators, like in \c toString(byte[]).
+     * \param array Byte array with values to convert.
+     * \param start Index of the first byte to convert.
+     * \param count Number of bytes to convert. If less than zero all bytes
+     * from \a start up to the end of \a array are converted.
+     * \param dest Character array that receives the result.
+     * \param destStart Index in \a dest where the first character will be
+     * written.
+     * \return The number of characters written in \a dest. If \a dest has
+     * no room for all the bytes requested only the bytes that fit are
+     * converted. Zero if an argument is invalid.
+     * \remarks No objects are created. The conversion uses a lookup table.
+     **/
+    public static int toHex(byte[] array, int start, int count, char[] dest, int destStart)
+    {
+        int limit = arrays.length(array);
+        int size  = arrays.length(dest);
+
+        if ((start < 0) || (start >= limit)) return 0;
+        if ((destStart < 0) || (destStart >= size)) return 0;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+        if (count > ((size - destStart) / 2)) count = ((size - destStart) / 2);
+
+        __internal_hex(array, start, count, dest, destStart);
+        return (count * 2);
+    }/*}}}*/
+    // public static int toHex(byte[] array, int start, int count, Appendable out);/*{{{*/
+    /**
+     * Writes a range of a byte array as hexadecimal characters.
+     * This is the streaming version of toHex(byte[],int,int,char[],int). The
+     * characters are produced in chunks of a few kilobytes, so large
+     * arrays can be written to a \c Writer without building the whole
+     * string in memory.
+     * \param array Byte array with values to convert.
+     * \param start Index of the first byte to convert.
+     * \param count Number of bytes to convert. If less than zero all bytes
+     * from \a start up to the end of \a array are converted.
+     * \param out The destination of the characters. Can be a \c Writer, a \c
+     * StringBuilder or any other \c Appendable implementation.
+     * \return The number of characters written. If \a out is \b null the
+     * result is \c ERROR::PARM. If it fails the result is \c ERROR::WRITE.
+     **/
+    public static int toHex(byte[] array, int start, int count, Appendable out)
+    {
+        int limit = arrays.length(array);
+
+        if (out == null) return ERROR.PARM;
+        if ((start < 0) || (start >= limit)) return 0;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        char[] buffer = new char[Math.min(count, 4096) * 2];
+        int    total  = 0, chunk;
+
+        try
+        {
+            while (count > 0)
+            {
+                chunk = Math.min(count, (buffer.length / 2));
+                __internal_hex(array, start, chunk, buffer, 0);
+
+                __internal_flush(out, buffer, chunk * 2);
+
+                start += chunk;
+                count -= chunk;
+                total += (chunk * 2);
+            }
+        }
+        catch (IOException ex) {
+            return ERROR.WRITE;
+        }
+        return total;
+    }/*}}}*/
+    // public static String toString(char[] array, int start, int count);/*{{{*/
+    /**
+     * Converts a char array into a String object.
+     * @param array The array to convert in String object.
+     * @param start The starting index. Must be equal or greater than 0 and
+     * less than the length of the array.
      * @param count The number of elements to convert starting from \a start.
      * If less than 0 all elements starting from \a start up to the length of
      * the array will be used.
@@ -1420,54 +2467,108 @@ public final class arrays
      * \param start The index of the first byte in the array.
      * \remarks The convertion takes the first two bytes as the number of
      * bytes to read. The following sequence must be a valid UTF-8 java
-     * encoded string.
+     * encoded string. This is the format written by \c
+     * DataOutputStream.writeUTF() and by writeUtf8String().
      * \return A string with the value parsed or \b null if an error is
      * encontered.
      **/
     public static String utf8String(byte[] array, int start) {
+        return __internal_utf8String(array, start, arrays.length(array));
+    }/*}}}*/
+    // public static int readUtf8String(byte[] array, int start, char[] dest, int destStart);/*{{{*/
+    /**
+     * Decodes a modified UTF-8 Java string into a character array.
+     * This is the same conversion of utf8String() without allocating any
+     * object.
+     * \param array Byte array with data to be parsed. The first two bytes,
+     * starting from \a start, are the number of bytes of the string.
+     * \param start The index of the first byte in the array.
+     * \param dest Array that receives the characters.
+     * \param destStart Index of \a dest where the first character will be
+     * stored.
+     * \return The number of characters decoded. On failure one of the
+     * following error codes: \c ERROR::LENGTH when the length prefix is
+     * beyond the end of \a array; \c ERROR::FORMAT when the data is not a
+     * valid modified UTF-8 sequence; \c ERROR::SPACE when \a dest is too
+     * small.
+     **/
+    public static int readUtf8String(byte[] array, int start, char[] dest, int destStart)
+    {
         int limit = arrays.length(array) - start;
-        if (limit <= 2) return null;            /* Impossible conversion. */
+        if ((start < 0) || (limit < 2)) return ERROR.LENGTH;
+        if ((destStart < 0) || (destStart > arrays.length(dest))) return ERROR.SPACE;
 
         int count = 0x0000FFFF & arrays.readShort(array, start);
-        if (count > limit) return null;         /* Invalid length. */
-
-        int i = start, c = 0;
-        byte temp;
-        char[] data;
+        if (count > (limit - 2)) return ERROR.LENGTH;
 
-        limit = arrays.length(array);
+        return __internal_utf8(array, start + 2, count, dest, destStart);
+    }/*}}}*/
+    //@}
 
-        /* We alloc memory previously to gain performance. */
-        data = new char[count];
+    /** \name Convertion to Modified UTF-8 */ //@{
+    // public static int utf8Length(String text);/*{{{*/
+    /**
+     * Computes the number of bytes of a string encoded in modified UTF-8.
+     * \param text The string. Can be \b null.
+     * \return The number of bytes, not including the two bytes of the
+     * length prefix.
+     **/
+    public static int utf8Length(String text)
+    {
+        int limit = strings.length(text), count = limit;
+        char c;
 
-        while (i < limit)
-        {
-            /* First bit is 0 or 1: single byte char. */
-            if ((array[i] & 0x80) == 0x00)
-                data[c] = (char)(array[i] & 0xFF);
+        for (int i = 0; i < limit; i++) {
+            c = text.charAt(i);
+            if ((c == 0) || (c > 0x007F))
+                count += ((c > 0x07FF) ? 2 : 1);
+        }
+        return count;
+    }/*}}}*/
+    // public static int writeUtf8String(byte[] array, int start, String text);/*{{{*/
+    /**
+     * Encodes a string in modified UTF-8 into a byte array.
+     * The result is the format read by utf8String() and by \c
+     * DataInputStream.readUTF(): two bytes with the number of bytes of the
+     * string, in \b Big-Endian order, followed by the encoded characters.
+     * \param array Array where the string will be written.
+     * \param start Position of the first byte in \a array.
+     * \param text The string to write. \b null is written as an empty
+     * string.
+     * \return The number of bytes written, including the length prefix. \c
+     * ERROR::LENGTH when the encoded string has more than 65535 bytes. \c
+     * ERROR::SPACE when \a array has no room for the whole string.
+     * \see utf8Length()
+     **/
+    public static int writeUtf8String(byte[] array, int start, String text)
+    {
+        int count = arrays.utf8Length(text);
 
-            /* First three bits are 110: double byte character. */
-            else if ((array[i] & 0xC0) == 0xC0) {
-                data[c] = (char)(((array[i] & 0x1F) << 6) | (array[i+1] & 0x3F));
-                i++;
-            }
+        if (count > 0xFFFF) return ERROR.LENGTH;
+        if ((start < 0) || ((arrays.length(array) - start) < (count + 2)))
+            return ERROR.SPACE;
 
-            /* First four bits are 1110: three byte character. */
-            else if ((array[i] & 0xE0) == 0xE0) {
-                data[c] = (char)(((array[i] & 0x0F) << 12) | ((array[i+1] & 0x3F) << 6) | (array[i+2] & 0x3F));
-                i+=2;
-            }
+        arrays.writeShort(array, start, (short)count);
 
-            /* Otherwise this is a bad encoded string. */
-            else
-                return null;
+        int  pos = start + 2, limit = strings.length(text);
+        char c;
 
-            i++;
-            c++;
+        for (int i = 0; i < limit; i++)
+        {
+            c = text.charAt(i);
+            if ((c > 0) && (c < 0x0080))
+                array[pos++] = (byte)c;
+            else if (c < 0x0800) {
+                array[pos++] = (byte)(0xC0 | (c >> 6));
+                array[pos++] = (byte)(0x80 | (c & 0x3F));
+            }
+            else {
+                array[pos++] = (byte)(0xE0 | (c >> 12));
+                array[pos++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+                array[pos++] = (byte)(0x80 | (c & 0x3F));
+            }
         }
-
-        try { return new String(data, 0, c); }
-        catch (Exception ex) { return null; }
+        return (count + 2);
     }/*}}}*/
     //@}
 
@@ -1484,34 +2585,419 @@ public final class arrays
      **/
     public static byte[] fromString(String binary)
     {
-        char[] nibbles;
-        int i, x, limit = ((binary != null) ? binary.length() : 0);
+        int i, x = 0, limit = strings.length(binary);
+        char c;
 
         if (limit == 0) return new byte[0];
 
-        /* First we remove any non hexadecimal character, forming an array of
-         * remaining values.
-         */
-        String hexDigits = "0123456789ABCDEFabcdef";
+        /* First we count the hexadecimal characters, so the result can be
+         * allocated with its final size. */
+        for (i = 0; i < limit; i++) {
+            c = binary.charAt(i);
+            if ((c < 128) && (HEX_VALUES[c] >= 0)) x++;
+        }
+
+        byte[] result = new byte[x/2];  /* When x is odd the last nibble is dropped. */
+        arrays.fromHex(binary, 0, limit, result, 0);
+        return result;
+    }/*}}}*/
+    // public static int fromHex(CharSequence text, int start, int count, byte[] dest, int destStart);/*{{{*/
+    /**
+     * Converts hexadecimal characters into bytes.
+     * Like in fromString() any character that is not a valid hexadecimal
+     * digit is ignored, so separators are accepted.
+     * \param text The characters to convert. Can be a \c String, a \c
+     * StringBuilder or any other \c CharSequence implementation.
+     * \param start Index of the first character to convert.
+     * \param count Number of characters to convert. If less than zero all
+     * characters from \a start up to the end of \a text are converted.
+     * \param dest Array that receives the bytes.
+     * \param destStart Index of \a dest where the first byte will be written.
+     * \return The number of bytes written in \a dest. The conversion stops
+     * when \a dest is full. A trailing single digit is ignored. Zero if an
+     * argument is invalid.
+     * \remarks No objects are created. The conversion uses a lookup table.
+     **/
+    public static int fromHex(CharSequence text, int start, int count, byte[] dest, int destStart)
+    {
+        int limit = ((text == null) ? 0 : text.length());
+        int size  = arrays.length(dest);
+
+        if ((start < 0) || (start >= limit)) return 0;
+        if ((destStart < 0) || (destStart >= size)) return 0;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int  x = destStart, high = -1, value;
+        char c;
+
+        limit = start + count;
+        for (int i = start; (i < limit) && (x < size); i++)
+        {
+            c = text.charAt(i);
+            if ((c >= 128) || ((value = HEX_VALUES[c]) < 0))
+                continue;
+
+            if (high < 0)
+                high = (value << 4);
+            else {
+                dest[x++] = (byte)(high | value);
+                high = -1;
+            }
+        }
+        return (x - destStart);
+    }/*}}}*/
+    // public static long fromHex(Reader in, OutputStream out);/*{{{*/
+    /**
+     * Converts a stream of hexadecimal characters into a stream of bytes.
+     * This is the streaming version of fromString(). Characters are read
+     * and converted in chunks of a few kilobytes, so inputs of any size can
+     * be converted with constant memory. Characters that are not valid
+     * hexadecimal digits are ignored.
+     * \param in The source of characters.
+     * \param out The destination of the bytes.
+     * \return The number of bytes written in \a out. If one of the
+     * arguments is \b null the result is \c ERROR::PARM. On failures the
+     * result is \c ERROR::READ or \c ERROR::WRITE.
+     * \remarks The streams are not closed.
+     **/
+    public static long fromHex(Reader in, OutputStream out)
+    {
+        if ((in == null) || (out == null)) return ERROR.PARM;
+
+        char[] chars = new char[8192];
+        byte[] bytes = new byte[4096];
+        long   total = 0;
+        int    high  = -1, count, x, value;
         char   c;
-        nibbles = new char[limit];
-        for (i = 0, x = 0; i < limit; i++) {
-            if (hexDigits.indexOf(c = binary.charAt(i)) >= 0)
-                nibbles[x++] = (char)Character.digit(c, 16);
+
+        while (true)
+        {
+            try { count = in.read(chars); }
+            catch (IOException ex) { return ERROR.READ; }
+
+            if (count < 0) break;
+
+            for (int i = x = 0; i < count; i++)
+            {
+                c = chars[i];
+                if ((c >= 128) || ((value = HEX_VALUES[c]) < 0))
+                    continue;
+
+                if (high < 0)
+                    high = (value << 4);
+                else {
+                    bytes[x++] = (byte)(high | value);
+                    high = -1;
+                }
+            }
+
+            try { out.write(bytes, 0, x); }
+            catch (IOException ex) { return ERROR.WRITE; }
+            total += x;
         }
+        return total;
+    }/*}}}*/
+    //@}
+
+    /** \name Base64 and Base32 */ //@{
+    public static final int BASE64     = 0; /**< Standard Base64 alphabet, padded. */
+    public static final int BASE64_URL = 1; /**< URL and file name safe alphabet.  */
+    public static final int NO_PADDING = 2; /**< Omits the trailing '=' characters.*/
+
+    // public static int base64Length(int count, int mode);/*{{{*/
+    /**
+     * Computes the number of characters of a Base64 encoded range.
+     * \param count Number of bytes to encode.
+     * \param mode #BASE64 or #BASE64_URL, optionally combined with
+     * #NO_PADDING.
+     * \return The number of characters. Zero when \a count is negative. \c
+     * ERROR::LENGTH when the result would not fit in an \b int.
+     **/
+    public static int base64Length(int count, int mode)
+    {
+        if (count < 0) return 0;
+
+        long chars = (((mode & NO_PADDING) != 0) ? ((((long)count * 8) + 5) / 6) : ((((long)count + 2) / 3) * 4));
+        return ((chars > Integer.MAX_VALUE) ? ERROR.LENGTH : (int)chars);
+    }/*}}}*/
+    // public static int toBase64(byte[] array, int start, int count, char[] dest, int destStart, int mode);/*{{{*/
+    /**
+     * Encodes a range of a byte array in Base64 (RFC 4648).
+     * \param array Byte array with values to convert.
+     * \param start Index of the first byte to convert.
+     * \param count Number of bytes to convert. If less than zero all bytes
+     * from \a start up to the end of \a array are converted.
+     * \param dest Character array that receives the result.
+     * \param destStart Index in \a dest where the first character will be
+     * written.
+     * \param mode #BASE64 or #BASE64_URL, optionally combined with
+     * #NO_PADDING.
+     * \return The number of characters written in \a dest. \c ERROR::SPACE
+     * when \a dest has no room for base64Length() characters. Zero if an
+     * argument is invalid.
+     * \remarks No objects are created. The conversion uses a lookup table
+     * and works on groups of three bytes.
+     **/
+    public static int toBase64(byte[] array, int start, int count, char[] dest, int destStart, int mode)
+    {
+        int limit = arrays.length(array);
+
+        if ((start < 0) || (start > limit) || (destStart < 0)) return 0;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int size = base64Length(count, mode);
+        if ((size < 0) || (size > (arrays.length(dest) - destStart))) return ERROR.SPACE;
+
+        return __internal_base64(array, start, count, dest, destStart, mode);
+    }/*}}}*/
+    // public static String toBase64(byte[] array, int mode);/*{{{*/
+    /**
+     * Encodes a byte array in Base64 (RFC 4648).
+     * \param array Byte array with values to convert. Can be \b null.
+     * \param mode #BASE64 or #BASE64_URL, optionally combined with
+     * #NO_PADDING.
+     * \return The encoded string. Empty when \a array is \b null or empty.
+     * \b null when the result would be too large for a string.
+     * \remarks Large arrays are encoded by \c java.util.Base64 when the
+     * runtime has it, since it is an intrinsic of newer JVMs.
+     **/
+    public static String toBase64(byte[] array, int mode)
+    {
+        int count = arrays.length(array);
+        int size  = base64Length(count, mode);
 
-        /* Now we converte each two characters into a byte value. */
-        int value;
-        byte[] result = new byte[x/2];      /* x has the final number of nibbles found. */
+        if (size < 0) return null;
+        if ((count >= INTRINSIC_MIN) && (B64_ENCODE != null))
+        {
+            try {
+                return (String)B64_ENCODE.invoke(B64_CODECS[mode & 3], array);
+            }
+            catch (Exception ex) { /* Use our own table. */ }
+        }
 
-        limit = result.length * 2;      /* In the case when x is odd. */
-        i = x = 0;
-        while (i < limit) {
-            value = nibbles[i++] * 16;
-            value += nibbles[i++];
-            result[x++] = (byte)(value & 0x000000FF);
+        char[] chars = new char[size];
+        __internal_base64(array, 0, count, chars, 0, mode);
+        return new String(chars);
+    }/*}}}*/
+    // public static long toBase64(InputStream in, Appendable out, int mode);/*{{{*/
+    /**
+     * Encodes a stream of bytes in Base64.
+     * This is the streaming version of toBase64(). Bytes are read and
+     * converted in chunks of a few kilobytes, so inputs of any size can be
+     * encoded with constant memory. No line breaks are added.
+     * \param in The source of bytes.
+     * \param out The destination of the characters. Can be a \c Writer, a \c
+     * StringBuilder or any other \c Appendable implementation.
+     * \param mode #BASE64 or #BASE64_URL, optionally combined with
+     * #NO_PADDING.
+     * \return The number of characters written. If one of the arguments is
+     * \b null the result is \c ERROR::PARM. On failures the result is \c
+     * ERROR::READ or \c ERROR::WRITE.
+     * \remarks The streams are not closed.
+     **/
+    public static long toBase64(InputStream in, Appendable out, int mode)
+    {
+        if ((in == null) || (out == null)) return ERROR.PARM;
+        return __internal_encode(in, out, mode, true);
+    }/*}}}*/
+    // public static int fromBase64(CharSequence text, int start, int count, byte[] dest, int destStart);/*{{{*/
+    /**
+     * Decodes Base64 characters into bytes.
+     * Both the standard and the URL safe alphabets are accepted, with or
+     * without padding. White space, like the line breaks of MIME, is
+     * ignored.
+     * \param text The characters to convert. Can be a \c String, a \c
+     * StringBuilder or any other \c CharSequence implementation.
+     * \param start Index of the first character to convert.
+     * \param count Number of characters to convert. If less than zero all
+     * characters from \a start up to the end of \a text are converted.
+     * \param dest Array that receives the bytes.
+     * \param destStart Index of \a dest where the first byte will be written.
+     * \return The number of bytes written in \a dest. \c ERROR::FORMAT when
+     * \a text has an invalid character, data after the padding or a
+     * truncated group. \c ERROR::SPACE when \a dest is too small. Zero if
+     * an argument is invalid.
+     * \remarks No objects are created. Groups of four characters are
+     * decoded at once.
+     **/
+    public static int fromBase64(CharSequence text, int start, int count, byte[] dest, int destStart)
+    {
+        return __internal_decode(text, start, count, dest, destStart, B64_VALUES, 6);
+    }/*}}}*/
+    // public static byte[] fromBase64(String text);/*{{{*/
+    /**
+     * Decodes a Base64 string.
+     * \param text The string. Both the standard and the URL safe alphabets
+     * are accepted, with or without padding. White space is ignored.
+     * \return A new array with the bytes. Empty when \a text is \b null or
+     * empty. \b null when \a text is not valid Base64.
+     * \remarks Large strings are decoded by \c java.util.Base64 when the
+     * runtime has it, since it is an intrinsic of newer JVMs.
+     **/
+    public static byte[] fromBase64(String text)
+    {
+        if ((strings.length(text) >= INTRINSIC_MIN) && (B64_DECODE != null))
+        {
+            /* The runtime decoder is strict. Texts it refuses, with white
+             * space or the URL alphabet, are handled by our own table. */
+            try {
+                return (byte[])B64_DECODE.invoke(B64_CODECS[4], text);
+            }
+            catch (Exception ex) { }
         }
-        return result;
+        return __internal_decode(text, B64_VALUES, 6);
+    }/*}}}*/
+    // public static long fromBase64(Reader in, OutputStream out);/*{{{*/
+    /**
+     * Decodes a stream of Base64 characters into a stream of bytes.
+     * This is the streaming version of fromBase64(). Characters are read and
+     * converted in chunks of a few kilobytes, so inputs of any size can be
+     * decoded with constant memory.
+     * \param in The source of characters.
+     * \param out The destination of the bytes.
+     * \return The number of bytes written in \a out. If one of the
+     * arguments is \b null the result is \c ERROR::PARM. On failures the
+     * result is \c ERROR::READ, \c ERROR::WRITE or \c ERROR::FORMAT, when
+     * the input is not valid Base64.
+     * \remarks The streams are not closed.
+     **/
+    public static long fromBase64(Reader in, OutputStream out)
+    {
+        if ((in == null) || (out == null)) return ERROR.PARM;
+        return __internal_decode(in, out, B64_VALUES, 6);
+    }/*}}}*/
+    // public static int base32Length(int count, int mode);/*{{{*/
+    /**
+     * Computes the number of characters of a Base32 encoded range.
+     * \param count Number of bytes to encode.
+     * \param mode Zero or #NO_PADDING.
+     * \return The number of characters. Zero when \a count is negative. \c
+     * ERROR::LENGTH when the result would not fit in an \b int.
+     **/
+    public static int base32Length(int count, int mode)
+    {
+        if (count < 0) return 0;
+
+        long chars = (((mode & NO_PADDING) != 0) ? ((((long)count * 8) + 4) / 5) : ((((long)count + 4) / 5) * 8));
+        return ((chars > Integer.MAX_VALUE) ? ERROR.LENGTH : (int)chars);
+    }/*}}}*/
+    // public static int toBase32(byte[] array, int start, int count, char[] dest, int destStart, int mode);/*{{{*/
+    /**
+     * Encodes a range of a byte array in Base32 (RFC 4648).
+     * The alphabet is the standard one, upper case letters and the digits
+     * from 2 to 7.
+     * \param array Byte array with values to convert.
+     * \param start Index of the first byte to convert.
+     * \param count Number of bytes to convert. If less than zero all bytes
+     * from \a start up to the end of \a array are converted.
+     * \param dest Character array that receives the result.
+     * \param destStart Index in \a dest where the first character will be
+     * written.
+     * \param mode Zero or #NO_PADDING.
+     * \return The number of characters written in \a dest. \c ERROR::SPACE
+     * when \a dest has no room for base32Length() characters. Zero if an
+     * argument is invalid.
+     * \remarks No objects are created. The conversion uses a lookup table
+     * and works on groups of five bytes.
+     **/
+    public static int toBase32(byte[] array, int start, int count, char[] dest, int destStart, int mode)
+    {
+        int limit = arrays.length(array);
+
+        if ((start < 0) || (start > limit) || (destStart < 0)) return 0;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int size = base32Length(count, mode);
+        if ((size < 0) || (size > (arrays.length(dest) - destStart))) return ERROR.SPACE;
+
+        return __internal_base32(array, start, count, dest, destStart, mode);
+    }/*}}}*/
+    // public static String toBase32(byte[] array, int mode);/*{{{*/
+    /**
+     * Encodes a byte array in Base32 (RFC 4648).
+     * \param array Byte array with values to convert. Can be \b null.
+     * \param mode Zero or #NO_PADDING.
+     * \return The encoded string. Empty when \a array is \b null or empty.
+     * \b null when the result would be too large for a string.
+     **/
+    public static String toBase32(byte[] array, int mode)
+    {
+        int count = arrays.length(array);
+        int size  = base32Length(count, mode);
+
+        if (size < 0) return null;
+
+        char[] chars = new char[size];
+        __internal_base32(array, 0, count, chars, 0, mode);
+        return new String(chars);
+    }/*}}}*/
+    // public static long toBase32(InputStream in, Appendable out, int mode);/*{{{*/
+    /**
+     * Encodes a stream of bytes in Base32.
+     * This is the streaming version of toBase32(). See
+     * toBase64(InputStream,Appendable,int).
+     * \param in The source of bytes.
+     * \param out The destination of the characters.
+     * \param mode Zero or #NO_PADDING.
+     * \return The number of characters written. If one of the arguments is
+     * \b null the result is \c ERROR::PARM. On failures the result is \c
+     * ERROR::READ or \c ERROR::WRITE.
+     * \remarks The streams are not closed.
+     **/
+    public static long toBase32(InputStream in, Appendable out, int mode)
+    {
+        if ((in == null) || (out == null)) return ERROR.PARM;
+        return __internal_encode(in, out, mode, false);
+    }/*}}}*/
+    // public static int fromBase32(CharSequence text, int start, int count, byte[] dest, int destStart);/*{{{*/
+    /**
+     * Decodes Base32 characters into bytes.
+     * Upper and lower case letters are accepted, with or without padding.
+     * White space is ignored.
+     * \param text The characters to convert.
+     * \param start Index of the first character to convert.
+     * \param count Number of characters to convert. If less than zero all
+     * characters from \a start up to the end of \a text are converted.
+     * \param dest Array that receives the bytes.
+     * \param destStart Index of \a dest where the first byte will be written.
+     * \return The number of bytes written in \a dest. \c ERROR::FORMAT when
+     * \a text has an invalid character, data after the padding or a
+     * truncated group. \c ERROR::SPACE when \a dest is too small. Zero if
+     * an argument is invalid.
+     **/
+    public static int fromBase32(CharSequence text, int start, int count, byte[] dest, int destStart)
+    {
+        return __internal_decode(text, start, count, dest, destStart, B32_VALUES, 5);
+    }/*}}}*/
+    // public static byte[] fromBase32(String text);/*{{{*/
+    /**
+     * Decodes a Base32 string.
+     * \param text The string. Upper and lower case letters are accepted,
+     * with or without padding. White space is ignored.
+     * \return A new array with the bytes. Empty when \a text is \b null or
+     * empty. \b null when \a text is not valid Base32.
+     **/
+    public static byte[] fromBase32(String text)
+    {
+        return __internal_decode(text, B32_VALUES, 5);
+    }/*}}}*/
+    // public static long fromBase32(Reader in, OutputStream out);/*{{{*/
+    /**
+     * Decodes a stream of Base32 characters into a stream of bytes.
+     * This is the streaming version of fromBase32(). See
+     * fromBase64(Reader,OutputStream).
+     * \param in The source of characters.
+     * \param out The destination of the bytes.
+     * \return The number of bytes written in \a out. If one of the
+     * arguments is \b null the result is \c ERROR::PARM. On failures the
+     * result is \c ERROR::READ, \c ERROR::WRITE or \c ERROR::FORMAT, when
+     * the input is not valid Base32.
+     * \remarks The streams are not closed.
+     **/
+    public static long fromBase32(Reader in, OutputStream out)
+    {
+        if ((in == null) || (out == null)) return ERROR.PARM;
+        return __internal_decode(in, out, B32_VALUES, 5);
     }/*}}}*/
     //@}
 
@@ -1521,38 +3007,1920 @@ public final class arrays
      * Fills an array with random values.
      * \param array The byte array to be filled. The entire array will be
      * filled with random values.
+     * \remarks The values are not suitable for cryptographic use. See
+     * secureRandomize() for that.
      **/
     public static void randomize(byte[] array) {
-        Random random = new Random();
-        try { random.nextBytes(array); }
-        catch (Exception ex) {
-            /* array is NULL. */
+        randomize(array, 0, -1);
+    }/*}}}*/
+    // public static int randomize(byte[] array, int start, int count);/*{{{*/
+    /**
+     * Fills part of an array with random values.
+     * \param array The byte array to be filled.
+     * \param start Index of the first byte to fill.
+     * \param count Number of bytes to fill. If less than zero or beyond the
+     * end of the array, all bytes from \a start are filled.
+     * \return The number of bytes filled.
+     * \remarks Every thread has its own generator (<i>xoshiro256**</i>),
+     * seeded once when the thread first calls this method. So no object is
+     * allocated in each call and threads don't compete for a shared seed.
+     * The values are not suitable for cryptographic use.
+     **/
+    public static int randomize(byte[] array, int start, int count)
+    {
+        int limit = arrays.length(array);
+
+        if ((start < 0) || (start >= limit)) return 0;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        s_random.get().fill(array, start, count);
+        return count;
+    }/*}}}*/
+    // public static int randomize(ByteBuffer buffer);/*{{{*/
+    /**
+     * Fills the remaining bytes of a buffer with random values.
+     * \param buffer The buffer. All bytes between its position and its limit
+     * are filled. Upon return the position will be equal to the limit.
+     * \return The number of bytes filled.
+     * \remarks Uses the same generator of randomize(byte[],int,int).
+     **/
+    public static int randomize(ByteBuffer buffer)
+    {
+        if (buffer == null) return 0;
+        return s_random.get().fill(buffer);
+    }/*}}}*/
+    // public static int secureRandomize(byte[] array, int start, int count);/*{{{*/
+    /**
+     * Fills part of an array with cryptographically strong random values.
+     * \param array The byte array to be filled.
+     * \param start Index of the first byte to fill.
+     * \param count Number of bytes to fill. If less than zero or beyond the
+     * end of the array, all bytes from \a start are filled.
+     * \return The number of bytes filled.
+     * \remarks Each thread keeps its own \c SecureRandom instance, created in
+     * the first call. Creating and seeding a \c SecureRandom is expensive
+     * and a single instance shared by many threads serializes them.
+     **/
+    public static int secureRandomize(byte[] array, int start, int count)
+    {
+        int limit = arrays.length(array);
+
+        if ((start < 0) || (start >= limit)) return 0;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        SecureRandom random = s_secure.get();
+        if ((start == 0) && (count == limit))
+            random.nextBytes(array);
+        else {
+            byte[] temp = new byte[count];
+            random.nextBytes(temp);
+            System.arraycopy(temp, 0, array, start, count);
+        }
+        return count;
+    }/*}}}*/
+    // public static int secureRandomize(ByteBuffer buffer);/*{{{*/
+    /**
+     * Fills the remaining bytes of a buffer with cryptographically strong
+     * random values.
+     * \param buffer The buffer. All bytes between its position and its limit
+     * are filled. Upon return the position will be equal to the limit.
+     * \return The number of bytes filled.
+     **/
+    public static int secureRandomize(ByteBuffer buffer)
+    {
+        if ((buffer == null) || !buffer.hasRemaining()) return 0;
+
+        int count = buffer.remaining();
+        if (buffer.hasArray()) {
+            secureRandomize(buffer.array(), buffer.arrayOffset() + buffer.position(), count);
+            buffer.position(buffer.limit());
+            return count;
+        }
+
+        byte[] chunk = new byte[Math.min(count, 4096)];
+        SecureRandom random = s_secure.get();
+        int size;
+
+        while ((size = Math.min(buffer.remaining(), chunk.length)) > 0) {
+            random.nextBytes(chunk);
+            buffer.put(chunk, 0, size);
         }
+        return count;
     }/*}}}*/
     // public static short crc16(byte[] array);/*{{{*/
     /**
      * Generates a CRC CCITT of 16 bits of a byte array.
      * \param array The bytes to use for the calculation.
      * \return The value of the CRC-CCITT 16 bits.
+     * \remarks The computation is done by \c Crc16, that can also compute
+     * the CRC of data received in pieces.
      **/
     public static short crc16(byte[] array)
     {
-        int result = 0x0000FFFF;
+        if (array == null) return (short)Crc16.INITIAL;
+        return (short)Crc16.update(Crc16.INITIAL, array, 0, array.length);
+    }/*}}}*/
+    // public static short crc16(byte[] array, int start, int count);/*{{{*/
+    /**
+     * Generates a CRC CCITT of 16 bits of part of a byte array.
+     * \param array The bytes to use for the calculation.
+     * \param start Index of the first byte to use.
+     * \param count Number of bytes to use. If less than zero all bytes from
+     * \a start up to the end of \a array are used.
+     * \return The value of the CRC-CCITT 16 bits. If \a start is out of the
+     * array bounds the result is the CRC of an empty array.
+     **/
+    public static short crc16(byte[] array, int start, int count)
+    {
+        int limit = arrays.length(array);
 
-        if (array == null) return (short)result;
+        if ((start < 0) || (start >= limit)) return (short)Crc16.INITIAL;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
 
-        int count = array.length;
+        return (short)Crc16.update(Crc16.INITIAL, array, start, count);
+    }/*}}}*/
+    //@}
 
-        for (int i = 0; i < count; i++)
+    /** \name Searching */ //@{
+    // public static int indexOf(byte[] array, byte value, int start, int count);/*{{{*/
+    /**
+     * Finds the first occurrence of a value.
+     * \param array The array to search. Can be \b null.
+     * \param value The value to find.
+     * \param start Index of the first element searched.
+     * \param count Number of elements searched. If less than zero or beyond
+     * the end of \a array all elements from \a start are searched.
+     * \return The index of the value in \a array or -1 when it is not in the
+     * range or \a start is out of the array bounds.
+     * \remarks Eight bytes are compared at a time.
+     **/
+    public static int indexOf(byte[] array, byte value, int start, int count)
+    {
+        int limit = arrays.length(array);
+        if ((start < 0) || (start >= limit)) return -1;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int end = start + count, i = start;
+        if (count >= 16)
+        {
+            ByteBuffer words = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+            long pattern = (value & 0xFFL) * ONES;
+            long found;
+
+            for (; i <= (end - 8); i += 8)
+            {
+                found = __internal_zeros(words.getLong(i) ^ pattern);
+                if (found != 0) return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+
+        for (; i < end; i++)
+            if (array[i] == value) return i;
+
+        return -1;
+    }/*}}}*/
+    // public static int indexOf(char[] array, char value, int start, int count);/*{{{*/
+    /**
+     * Finds the first occurrence of a value.
+     * \param array The array to search. Can be \b null.
+     * \param value The value to find.
+     * \param start Index of the first element searched.
+     * \param count Number of elements searched. If less than zero or beyond
+     * the end of \a array all elements from \a start are searched.
+     * \return The index of the value in \a array or -1 when it is not in the
+     * range or \a start is out of the array bounds.
+     **/
+    public static int indexOf(char[] array, char value, int start, int count)
+    {
+        int limit = arrays.length(array);
+        if ((start < 0) || (start >= limit)) return -1;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        for (int i = start, end = start + count; i < end; i++)
+            if (array[i] == value) return i;
+
+        return -1;
+    }/*}}}*/
+    // public static int indexOf(byte[] array, byte[] pattern, int start, int count);/*{{{*/
+    /**
+     * Finds the first occurrence of a sequence of values.
+     * \param array The array to search. Can be \b null.
+     * \param pattern The sequence to find. Can be \b null.
+     * \param start Index of the first element searched.
+     * \param count Number of elements searched. If less than zero or beyond
+     * the end of \a array all elements from \a start are searched. The
+     * sequence must be entirely inside the range.
+     * \return The index of the first element of the sequence in \a array or
+     * -1 when it is not in the range, \a start is out of the array bounds
+     * or \a pattern is \b null or empty.
+     **/
+    public static int indexOf(byte[] array, byte[] pattern, int start, int count)
+    {
+        int limit = arrays.length(array), size = arrays.length(pattern);
+        if ((start < 0) || (start >= limit) || (size == 0)) return -1;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int last = start + count - size;
+        byte first = pattern[0];
+
+        for (int i = start; i <= last; i++)
+        {
+            i = indexOf(array, first, i, last - i + 1);
+            if (i < 0) return -1;
+            if (__internal_mismatch(array, i + 1, pattern, 1, size - 1) < 0) return i;
+        }
+        return -1;
+    }/*}}}*/
+    // public static int indexOf(char[] array, char[] pattern, int start, int count);/*{{{*/
+    /**
+     * @copydoc indexOf(byte[],byte[],int,int)
+     **/
+    public static int indexOf(char[] array, char[] pattern, int start, int count)
+    {
+        int limit = arrays.length(array), size = arrays.length(pattern);
+        if ((start < 0) || (start >= limit) || (size == 0)) return -1;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int last = start + count - size;
+        char first = pattern[0];
+
+        for (int i = start; i <= last; i++)
+        {
+            i = indexOf(array, first, i, last - i + 1);
+            if (i < 0) return -1;
+            if (__internal_mismatch(array, i + 1, pattern, 1, size - 1) < 0) return i;
+        }
+        return -1;
+    }/*}}}*/
+    // public static int lastIndexOf(byte[] array, byte value, int start, int count);/*{{{*/
+    /**
+     * Finds the last occurrence of a value.
+     * \param array The array to search. Can be \b null.
+     * \param value The value to find.
+     * \param start Index of the first element of the range searched.
+     * \param count Number of elements searched. If less than zero or beyond
+     * the end of \a array all elements from \a start are searched.
+     * \return The index of the last occurrence of the value in the range or
+     * -1 when it is not there or \a start is out of the array bounds.
+     * \remarks The range is searched from its end. Eight bytes are compared
+     * at a time.
+     **/
+    public static int lastIndexOf(byte[] array, byte value, int start, int count)
+    {
+        int limit = arrays.length(array);
+        if ((start < 0) || (start >= limit)) return -1;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int i = start + count;
+        if (count >= 16)
+        {
+            ByteBuffer words = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+            long pattern = (value & 0xFFL) * ONES;
+            long found;
+
+            for (; (i - 8) >= start; i -= 8)
+            {
+                found = __internal_zeros(words.getLong(i - 8) ^ pattern);
+                if (found != 0) return (i - 8) + ((63 - Long.numberOfLeadingZeros(found)) >>> 3);
+            }
+        }
+
+        while (--i >= start)
+            if (array[i] == value) return i;
+
+        return -1;
+    }/*}}}*/
+    // public static int lastIndexOf(char[] array, char value, int start, int count);/*{{{*/
+    /**
+     * Finds the last occurrence of a value.
+     * \param array The array to search. Can be \b null.
+     * \param value The value to find.
+     * \param start Index of the first element of the range searched.
+     * \param count Number of elements searched. If less than zero or beyond
+     * the end of \a array all elements from \a start are searched.
+     * \return The index of the last occurrence of the value in the range or
+     * -1 when it is not there or \a start is out of the array bounds.
+     **/
+    public static int lastIndexOf(char[] array, char value, int start, int count)
+    {
+        int limit = arrays.length(array);
+        if ((start < 0) || (start >= limit)) return -1;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        for (int i = start + count - 1; i >= start; i--)
+            if (array[i] == value) return i;
+
+        return -1;
+    }/*}}}*/
+    // public static int lastIndexOf(byte[] array, byte[] pattern, int start, int count);/*{{{*/
+    /**
+     * Finds the last occurrence of a sequence of values.
+     * \param array The array to search. Can be \b null.
+     * \param pattern The sequence to find. Can be \b null.
+     * \param start Index of the first element of the range searched.
+     * \param count Number of elements searched. If less than zero or beyond
+     * the end of \a array all elements from \a start are searched. The
+     * sequence must be entirely inside the range.
+     * \return The index of the first element of the last occurrence of the
+     * sequence or -1 when it is not in the range, \a start is out of the
+     * array bounds or \a pattern is \b null or empty.
+     **/
+    public static int lastIndexOf(byte[] array, byte[] pattern, int start, int count)
+    {
+        int limit = arrays.length(array), size = arrays.length(pattern);
+        if ((start < 0) || (start >= limit) || (size == 0)) return -1;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int i = start + count - size + 1;
+        byte first = pattern[0];
+
+        while (i > start)
+        {
+            i = lastIndexOf(array, first, start, i - start);
+            if (i < 0) return -1;
+            if (__internal_mismatch(array, i + 1, pattern, 1, size - 1) < 0) return i;
+        }
+        return -1;
+    }/*}}}*/
+    // public static int lastIndexOf(char[] array, char[] pattern, int start, int count);/*{{{*/
+    /**
+     * @copydoc lastIndexOf(byte[],byte[],int,int)
+     **/
+    public static int lastIndexOf(char[] array, char[] pattern, int start, int count)
+    {
+        int limit = arrays.length(array), size = arrays.length(pattern);
+        if ((start < 0) || (start >= limit) || (size == 0)) return -1;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int i = start + count - size + 1;
+        char first = pattern[0];
+
+        while (i > start)
         {
-            result  = (((result >> 8) | (result << 8)) & 0x0000FFFF);
-            result ^= (array[i] & 0x000000FF);
-            result ^= (((result & 0x000000FF) >> 4) & 0x0000FFFF);
-            result ^= ((result << 12) & 0x0000FFFF);
-            result ^= (((result & 0x000000FF) << 5) & 0x0000FFFF);
+            i = lastIndexOf(array, first, start, i - start);
+            if (i < 0) return -1;
+            if (__internal_mismatch(array, i + 1, pattern, 1, size - 1) < 0) return i;
         }
-        return (short)(result & 0x0000FFFF);
+        return -1;
     }/*}}}*/
     //@}
+
+    /** \name Comparing */ //@{
+    // public static int mismatch(byte[] a, int aStart, byte[] b, int bStart, int count);/*{{{*/
+    /**
+     * Finds the first difference between two ranges.
+     * \param a First array. Can be \b null.
+     * \param aStart Index of the first element of the range of \a a.
+     * \param b Second array. Can be \b null.
+     * \param bStart Index of the first element of the range of \a b.
+     * \param count Number of elements compared. If less than zero or beyond
+     * the end of an array the range of that array goes up to its end. So
+     * the ranges can have different lengths.
+     * \return The position of the first difference, relative to the start of
+     * the ranges. When one range is a prefix of the other the length of the
+     * shorter is returned. -1 when both ranges have the same length and
+     * elements. Invalid start indexes are taken as empty ranges.
+     * \remarks Large ranges are compared by \c java.util.Arrays.mismatch()
+     * when the runtime provides it (Java 9 and later). Its implementation is
+     * vectorized by the JIT compiler.
+     **/
+    public static int mismatch(byte[] a, int aStart, byte[] b, int bStart, int count)
+    {
+        int aCount = __internal_span(arrays.length(a), aStart, count);
+        int bCount = __internal_span(arrays.length(b), bStart, count);
+        int common = Math.min(aCount, bCount);
+
+        int index = __internal_mismatch(a, aStart, b, bStart, common);
+        if (index >= 0) return index;
+        return ((aCount == bCount) ? -1 : common);
+    }/*}}}*/
+    // public static int mismatch(char[] a, int aStart, char[] b, int bStart, int count);/*{{{*/
+    /**
+     * @copydoc mismatch(byte[],int,byte[],int,int)
+     **/
+    public static int mismatch(char[] a, int aStart, char[] b, int bStart, int count)
+    {
+        int aCount = __internal_span(arrays.length(a), aStart, count);
+        int bCount = __internal_span(arrays.length(b), bStart, count);
+        int common = Math.min(aCount, bCount);
+
+        int index = __internal_mismatch(a, aStart, b, bStart, common);
+        if (index >= 0) return index;
+        return ((aCount == bCount) ? -1 : common);
+    }/*}}}*/
+    // public static boolean equals(byte[] a, int aStart, byte[] b, int bStart, int count);/*{{{*/
+    /**
+     * Checks whether two ranges have the same elements.
+     * Arguments are the same of mismatch(byte[],int,byte[],int,int).
+     * \return \b true when both ranges have the same length and elements.
+     **/
+    public static boolean equals(byte[] a, int aStart, byte[] b, int bStart, int count) {
+        return (arrays.mismatch(a, aStart, b, bStart, count) < 0);
+    }/*}}}*/
+    // public static boolean equals(char[] a, int aStart, char[] b, int bStart, int count);/*{{{*/
+    /**
+     * @copydoc equals(byte[],int,byte[],int,int)
+     **/
+    public static boolean equals(char[] a, int aStart, char[] b, int bStart, int count) {
+        return (arrays.mismatch(a, aStart, b, bStart, count) < 0);
+    }/*}}}*/
+    // public static int compare(byte[] a, int aStart, byte[] b, int bStart, int count);/*{{{*/
+    /**
+     * Compares two ranges in lexicographic order.
+     * Bytes are compared as unsigned values, so 0x80 is greater than 0x7F.
+     * Arguments are the same of mismatch(byte[],int,byte[],int,int).
+     * \return Zero when the ranges are equal. A negative value when the
+     * range of \a a comes first. A positive value when the range of \a b
+     * comes first. A range that is a prefix of the other comes first.
+     **/
+    public static int compare(byte[] a, int aStart, byte[] b, int bStart, int count)
+    {
+        int aCount = __internal_span(arrays.length(a), aStart, count);
+        int bCount = __internal_span(arrays.length(b), bStart, count);
+
+        int index = __internal_mismatch(a, aStart, b, bStart, Math.min(aCount, bCount));
+        if (index < 0) return (aCount - bCount);
+
+        return ((a[aStart + index] & 0xFF) - (b[bStart + index] & 0xFF));
+    }/*}}}*/
+    // public static int compare(char[] a, int aStart, char[] b, int bStart, int count);/*{{{*/
+    /**
+     * Compares two ranges in lexicographic order.
+     * Arguments are the same of mismatch(char[],int,char[],int,int).
+     * \return Zero when the ranges are equal. A negative value when the
+     * range of \a a comes first. A positive value when the range of \a b
+     * comes first. A range that is a prefix of the other comes first.
+     **/
+    public static int compare(char[] a, int aStart, char[] b, int bStart, int count)
+    {
+        int aCount = __internal_span(arrays.length(a), aStart, count);
+        int bCount = __internal_span(arrays.length(b), bStart, count);
+
+        int index = __internal_mismatch(a, aStart, b, bStart, Math.min(aCount, bCount));
+        if (index < 0) return (aCount - bCount);
+
+        return (a[aStart + index] - b[bStart + index]);
+    }/*}}}*/
+    //@}
+
+    /** \name Operations on Slices */ //@{
+    // public static int copy(byte[] dest, int destStart, ByteSlice src);/*{{{*/
+    /**
+     * Copies the elements of a view into an array.
+     * \param dest Destination array.
+     * \param destStart Index of the first element written in \a dest.
+     * \param src The view. Can be \b null.
+     * \return The number of elements copied. Limited by the space available
+     * in \a dest.
+     **/
+    public static int copy(byte[] dest, int destStart, ByteSlice src) {
+        if (src == null) return 0;
+        return arrays.copy(dest, destStart, src.array(), src.offset(), src.length());
+    }/*}}}*/
+    // public static int copy(char[] dest, int destStart, CharSlice src);/*{{{*/
+    /**
+     * @copydoc copy(byte[],int,ByteSlice)
+     **/
+    public static int copy(char[] dest, int destStart, CharSlice src) {
+        if (src == null) return 0;
+        return arrays.copy(dest, destStart, src.array(), src.offset(), src.length());
+    }/*}}}*/
+    // public static int copy(int [] dest, int destStart, IntSlice  src);/*{{{*/
+    /**
+     * @copydoc copy(byte[],int,ByteSlice)
+     **/
+    public static int copy(int [] dest, int destStart, IntSlice  src) {
+        if (src == null) return 0;
+        return arrays.copy(dest, destStart, src.array(), src.offset(), src.length());
+    }/*}}}*/
+    // public static int copy(long[] dest, int destStart, LongSlice src);/*{{{*/
+    /**
+     * @copydoc copy(byte[],int,ByteSlice)
+     **/
+    public static int copy(long[] dest, int destStart, LongSlice src) {
+        if (src == null) return 0;
+        return arrays.copy(dest, destStart, src.array(), src.offset(), src.length());
+    }/*}}}*/
+    // public static long  readLong (ByteSlice slice, int start);/*{{{*/
+    /**
+     * Reads a \b Big-Endian long value from a view.
+     * \param slice The view. Can be \b null.
+     * \param start Position relative to the start of the view.
+     * \return The value read or \b 0 if there are less than 8 bytes in the
+     * view from \a start.
+     **/
+    public static long readLong(ByteSlice slice, int start) {
+        if (!__internal_fits(slice, start, 8)) return 0L;
+        return arrays.readLong(slice.array(), slice.offset() + start);
+    }/*}}}*/
+    // public static int   readInt  (ByteSlice slice, int start);/*{{{*/
+    /**
+     * Reads a \b Big-Endian int value from a view.
+     * \param slice The view. Can be \b null.
+     * \param start Position relative to the start of the view.
+     * \return The value read or \b 0 if there are less than 4 bytes in the
+     * view from \a start.
+     **/
+    public static int readInt(ByteSlice slice, int start) {
+        if (!__internal_fits(slice, start, 4)) return 0;
+        return arrays.readInt(slice.array(), slice.offset() + start);
+    }/*}}}*/
+    // public static short readShort(ByteSlice slice, int start);/*{{{*/
+    /**
+     * Reads a \b Big-Endian short value from a view.
+     * \param slice The view. Can be \b null.
+     * \param start Position relative to the start of the view.
+     * \return The value read or \b 0 if there are less than 2 bytes in the
+     * view from \a start.
+     **/
+    public static short readShort(ByteSlice slice, int start) {
+        if (!__internal_fits(slice, start, 2)) return 0;
+        return arrays.readShort(slice.array(), slice.offset() + start);
+    }/*}}}*/
+    // public static long  readLittleEndLong (ByteSlice slice, int start);/*{{{*/
+    /**
+     * Reads a \b Little-Endian long value from a view.
+     * \param slice The view. Can be \b null.
+     * \param start Position relative to the start of the view.
+     * \return The value read or \b 0 if there are less than 8 bytes in the
+     * view from \a start.
+     **/
+    public static long readLittleEndLong(ByteSlice slice, int start) {
+        if (!__internal_fits(slice, start, 8)) return 0L;
+        return arrays.readLittleEndLong(slice.array(), slice.offset() + start);
+    }/*}}}*/
+    // public static int   readLittleEndInt  (ByteSlice slice, int start);/*{{{*/
+    /**
+     * Reads a \b Little-Endian int value from a view.
+     * \param slice The view. Can be \b null.
+     * \param start Position relative to the start of the view.
+     * \return The value read or \b 0 if there are less than 4 bytes in the
+     * view from \a start.
+     **/
+    public static int readLittleEndInt(ByteSlice slice, int start) {
+        if (!__internal_fits(slice, start, 4)) return 0;
+        return arrays.readLittleEndInt(slice.array(), slice.offset() + start);
+    }/*}}}*/
+    // public static short readLittleEndShort(ByteSlice slice, int start);/*{{{*/
+    /**
+     * Reads a \b Little-Endian short value from a view.
+     * \param slice The view. Can be \b null.
+     * \param start Position relative to the start of the view.
+     * \return The value read or \b 0 if there are less than 2 bytes in the
+     * view from \a start.
+     **/
+    public static short readLittleEndShort(ByteSlice slice, int start) {
+        if (!__internal_fits(slice, start, 2)) return 0;
+        return arrays.readLittleEndShort(slice.array(), slice.offset() + start);
+    }/*}}}*/
+    // public static String toString(ByteSlice slice, String separator, int frequency);/*{{{*/
+    /**
+     * Converts the bytes of a view into their string representation.
+     * \param slice The view. Can be \b null.
+     * \param separator A string to separate groups. Can be \b null.
+     * \param frequency The frequency to separate groups, in characters.
+     * \return The same result of toString(byte[],String,int) for an array
+     * with the bytes of the view.
+     **/
+    public static String toString(ByteSlice slice, String separator, int frequency) {
+        if (slice == null) return strings.EMPTY;
+        return __internal_toString(slice.array(), slice.offset(), slice.length(), separator, frequency);
+    }/*}}}*/
+    // public static String utf8String(ByteSlice slice, int start);/*{{{*/
+    /**
+     * Converts part of a view into a modified UTF-8 Java string.
+     * \param slice The view. Can be \b null.
+     * \param start Position of the length prefix, relative to the start of
+     * the view.
+     * \return The same result of utf8String(byte[],int). \b null when the
+     * string doesn't fit in the view.
+     **/
+    public static String utf8String(ByteSlice slice, int start) {
+        if ((slice == null) || (start < 0)) return null;
+        return __internal_utf8String(slice.array(), slice.offset() + start, slice.offset() + slice.length());
+    }/*}}}*/
+    // public static short crc16(ByteSlice slice);/*{{{*/
+    /**
+     * Generates a CRC CCITT of 16 bits of the bytes of a view.
+     * \param slice The view. Can be \b null.
+     * \return The same result of crc16(byte[]) for an array with the bytes
+     * of the view.
+     **/
+    public static short crc16(ByteSlice slice)
+    {
+        if ((slice == null) || slice.isEmpty()) return (short)Crc16.INITIAL;
+        return (short)Crc16.update(Crc16.INITIAL, slice.array(), slice.offset(), slice.length());
+    }/*}}}*/
+    //@}
+
+    /** \name Parallel Operations */ //@{
+    // public static int parallelSet(byte[] array, byte value, int start, int count);/*{{{*/
+    /**
+     * Fills a portion of an array using several threads.
+     * Arguments and result are the same of set(byte[],byte,int,int).
+     * \remarks Ranges smaller than #parallelThreshold are filled in the
+     * calling thread. Larger ones are split in chunks of a few hundred
+     * kilobytes that are filled by up to #parallelism threads.
+     **/
+    public static int parallelSet(final byte[] array, final byte value, int start, int count)
+    {
+        int size = arrays.length(array);
+        if ((start < 0) || (start >= size)) return 0;
+        if ((count < 0) || (count > (size - start))) count = (size - start);
+
+        final int first = start, limit = start + count;
+        if (!__internal_parallel(count, new workers.chunk() {
+                public void run(int index) {
+                    int from = first + (index * workers.CHUNK);
+                    Arrays.fill(array, from, Math.min(from + workers.CHUNK, limit), value);
+                }
+            }))
+        {
+            Arrays.fill(array, start, limit, value);
+        }
+        return count;
+    }/*}}}*/
+    // public static int parallelCopy(byte[] dest, int destStart, byte[] src, int srcStart, int count);/*{{{*/
+    /**
+     * Copies data from one array to another using several threads.
+     * Arguments and result are the same of
+     * copy(byte[],int,byte[],int,int).
+     * \remarks When \a src and \a dest are the same array and the ranges
+     * overlap the copy is done in the calling thread, like move().
+     **/
+    public static int parallelCopy(final byte[] dest, int destStart, final byte[] src, int srcStart, int count)
+    {
+        int srcLimit = arrays.length(src);
+        int dstLimit = arrays.length(dest);
+
+        if ((destStart < 0) || (destStart >= dstLimit)) return 0;
+        if ((srcStart < 0) || (srcStart >= srcLimit)) return 0;
+        if ((count < 0) || (count > (srcLimit - srcStart))) count = (srcLimit - srcStart);
+        if (count > (dstLimit - destStart)) count = (dstLimit - destStart);
+
+        if ((src == dest) && (Math.abs(srcStart - destStart) < count)) {
+            System.arraycopy(src, srcStart, dest, destStart, count);
+            return count;
+        }
+
+        final int from = srcStart, to = destStart, total = count;
+        if (!__internal_parallel(count, new workers.chunk() {
+                public void run(int index) {
+                    int offset = index * workers.CHUNK;
+                    System.arraycopy(src, from + offset, dest, to + offset, Math.min(workers.CHUNK, total - offset));
+                }
+            }))
+        {
+            System.arraycopy(src, srcStart, dest, destStart, count);
+        }
+        return count;
+    }/*}}}*/
+    // public static short parallelCrc16(byte[] array, int start, int count);/*{{{*/
+    /**
+     * Generates a CRC CCITT of 16 bits using several threads.
+     * Arguments and result are the same of crc16(byte[],int,int).
+     * \remarks Each chunk has its CRC computed independently. The partial
+     * values are merged with \c checksum::combine(), so the result is the
+     * same of the sequential computation.
+     **/
+    public static short parallelCrc16(final byte[] array, int start, int count)
+    {
+        int limit = arrays.length(array);
+
+        if ((start < 0) || (start >= limit)) return (short)Crc16.INITIAL;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        final int   first = start, total = count;
+        final int[] parts = new int[__internal_chunks(count)];
+
+        if (!__internal_parallel(count, new workers.chunk() {
+                public void run(int index) {
+                    int offset = index * workers.CHUNK;
+                    parts[index] = Crc16.update(Crc16.INITIAL, array, first + offset, Math.min(workers.CHUNK, total - offset));
+                }
+            }))
+        {
+            return (short)Crc16.update(Crc16.INITIAL, array, start, count);
+        }
+
+        long crc = parts[0];
+        for (int i = 1; i < parts.length; i++)
+            crc = checksum.combine(checksum.CRC16, crc, parts[i], Math.min(workers.CHUNK, count - (i * workers.CHUNK)));
+
+        return (short)crc;
+    }/*}}}*/
+    // public static String parallelToString(byte[] array, String separator, int frequency);/*{{{*/
+    /**
+     * Converts an array into its string representation using several
+     * threads.
+     * Arguments and result are the same of toString(byte[],String,int).
+     * \remarks The chunks are aligned to the groups of characters so each
+     * thread knows where its characters go in the result.
+     **/
+    public static String parallelToString(final byte[] array, String separator, int frequency)
+    {
+        int limit = arrays.length(array);
+        if (limit < Math.max(parallelThreshold, 1) || (parallelism < 2))
+            return arrays.toString(array, separator, frequency);
+
+        boolean      plain  = ((strings.length(separator) == 0) || (frequency <= 0));
+        final int    group  = (plain ? workers.CHUNK : Math.max(1, frequency / 2));
+        final char[] space  = (plain ? new char[0] : separator.toCharArray());
+        final int    size   = Math.max(group, (workers.CHUNK / group) * group);
+        final int    total  = limit;
+        final char[] result = new char[(limit * 2) + (((limit - 1) / group) * space.length)];
+
+        int chunks = (limit + size - 1) / size;
+        if (!workers.run(parallelism, chunks, new workers.chunk() {
+                public void run(int index) {
+                    int from = index * size, end = Math.min(from + size, total), count;
+                    int pos  = (from * 2) + ((from / group) * space.length);
+
+                    /* The separator before the chunk is written by the loop. */
+                    if (from > 0) pos -= space.length;
+
+                    for (int i = from; i < end; i += group) {
+                        if (i > 0) {
+                            System.arraycopy(space, 0, result, pos, space.length);
+                            pos += space.length;
+                        }
+                        count = Math.min(group, total - i);
+                        __internal_hex(array, i, count, result, pos);
+                        pos += (count * 2);
+                    }
+                }
+            }))
+        {
+            return arrays.toString(array, separator, frequency);
+        }
+        return new String(result);
+    }/*}}}*/
+    // public static byte[] parallelFromString(String binary);/*{{{*/
+    /**
+     * Converts a string representing an array of bytes into an array of
+     * bytes using several threads.
+     * Arguments and result are the same of fromString(). Separators are
+     * accepted.
+     * \remarks The conversion is done in two passes. The first counts the
+     * hexadecimal digits of each chunk, so every chunk knows the index of
+     * its first byte. The second converts the digits. A byte whose digits
+     * are split between two chunks is converted by the first of them.
+     **/
+    public static byte[] parallelFromString(final String binary)
+    {
+        final int limit = strings.length(binary);
+        if ((limit < Math.max(parallelThreshold, 1)) || (parallelism < 2))
+            return arrays.fromString(binary);
+
+        final int   size   = workers.CHUNK;
+        final int[] digits = new int[(limit + size - 1) / size];
+
+        /* First pass: count the digits of each chunk. */
+        boolean done = workers.run(parallelism, digits.length, new workers.chunk() {
+                public void run(int index) {
+                    int from = index * size, end = Math.min(from + size, limit), x = 0;
+                    char c;
+                    for (int i = from; i < end; i++) {
+                        c = binary.charAt(i);
+                        if ((c < 128) && (HEX_VALUES[c] >= 0)) x++;
+                    }
+                    digits[index] = x;
+                }
+            });
+        if (!done) return arrays.fromString(binary);
+
+        /* Turn the counts into the index of the first digit of each chunk. */
+        long total = 0;
+        for (int i = 0; i < digits.length; i++) {
+            int x = digits[i];
+            digits[i] = (int)total;
+            total += x;
+        }
+
+        final byte[] result = new byte[(int)(total / 2)];
+        done = workers.run(parallelism, digits.length, new workers.chunk() {
+                public void run(int index) {
+                    int  from = index * size, end = Math.min(from + size, limit);
+                    int  x = digits[index] / 2, high = -1, value;
+                    boolean skip = ((digits[index] & 1) != 0);
+                    char c;
+
+                    /* Goes beyond the chunk only to finish a started byte. */
+                    for (int i = from; (i < limit) && ((i < end) || (high >= 0)); i++)
+                    {
+                        c = binary.charAt(i);
+                        if ((c >= 128) || ((value = HEX_VALUES[c]) < 0))
+                            continue;
+
+                        if (skip) {                 /* Owned by the previous chunk. */
+                            skip = false;
+                            x++;
+                        }
+                        else if (high < 0)
+                            high = (value << 4);
+                        else {
+                            if (x < result.length) result[x] = (byte)(high | value);
+                            x++;
+                            high = -1;
+                        }
+                    }
+                }
+            });
+        return (done ? result : arrays.fromString(binary));
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // static long __internal_zeros(long word);/*{{{*/
+    /**
+     * Finds the zero bytes of a word.
+     * \return A word with the high bit set in each byte that is zero in \a
+     * word and all other bits clear.
+     **/
+    static long __internal_zeros(long word)
+    {
+        long high = (word & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL;
+        return ~(high | word | 0x7F7F7F7F7F7F7F7FL);
+    }/*}}}*/
+    // static int __internal_span(int limit, int start, int count);/*{{{*/
+    /**
+     * Computes the number of elements of a range. Zero when \a start is out
+     * of bounds.
+     **/
+    static int __internal_span(int limit, int start, int count)
+    {
+        if ((start < 0) || (start >= limit)) return 0;
+        return (((count < 0) || (count > (limit - start))) ? (limit - start) : count);
+    }/*}}}*/
+    // static int __internal_mismatch(byte[] a, int aStart, byte[] b, int bStart, int count);/*{{{*/
+    /**
+     * Finds the first difference in ranges of \a count elements that are
+     * inside the arrays.
+     * \return The position of the difference or -1.
+     **/
+    static int __internal_mismatch(byte[] a, int aStart, byte[] b, int bStart, int count)
+    {
+        int i = 0;
+        if ((count >= INTRINSIC_MIN) && (MISMATCH_BYTES != null))
+        {
+            try {
+                return (Integer)MISMATCH_BYTES.invoke(null, a, aStart, aStart + count, b, bStart, bStart + count);
+            }
+            catch (Exception ex) { /* Compared below. */ }
+        }
+
+        if (count >= 16)
+        {
+            ByteBuffer aWords = ByteBuffer.wrap(a).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer bWords = ByteBuffer.wrap(b).order(ByteOrder.LITTLE_ENDIAN);
+            long diff;
+
+            for (; i <= (count - 8); i += 8)
+            {
+                diff = aWords.getLong(aStart + i) ^ bWords.getLong(bStart + i);
+                if (diff != 0) return i + (Long.numberOfTrailingZeros(diff) >>> 3);
+            }
+        }
+
+        for (; i < count; i++)
+            if (a[aStart + i] != b[bStart + i]) return i;
+
+        return -1;
+    }/*}}}*/
+    // static int __internal_mismatch(char[] a, int aStart, char[] b, int bStart, int count);/*{{{*/
+    /**
+     * Finds the first difference in ranges of \a count elements that are
+     * inside the arrays.
+     * \return The position of the difference or -1.
+     **/
+    static int __internal_mismatch(char[] a, int aStart, char[] b, int bStart, int count)
+    {
+        if ((count >= INTRINSIC_MIN) && (MISMATCH_CHARS != null))
+        {
+            try {
+                return (Integer)MISMATCH_CHARS.invoke(null, a, aStart, aStart + count, b, bStart, bStart + count);
+            }
+            catch (Exception ex) { /* Compared below. */ }
+        }
+
+        for (int i = 0; i < count; i++)
+            if (a[aStart + i] != b[bStart + i]) return i;
+
+        return -1;
+    }/*}}}*/
+    // static Method __internal_method(String name, Class<?> type);/*{{{*/
+    /**
+     * Looks for a range method of \c java.util.Arrays taking two arrays of
+     * \a type.
+     * \return The method or \b null when the runtime doesn't have it.
+     **/
+    static Method __internal_method(String name, Class<?> type)
+    {
+        try {
+            return Arrays.class.getMethod(name, type, int.class, int.class, type, int.class, int.class);
+        }
+        catch (Exception ex) {
+            return null;
+        }
+    }/*}}}*/
+    // static Object[] __internal_base64Codecs();/*{{{*/
+    /**
+     * Gets the codecs of \c java.util.Base64, from Java 8.
+     * \return The standard, URL safe and both unpadded encoders, indexed
+     * by mode, and the basic decoder at index 4. \b null when the runtime
+     * doesn't have them.
+     **/
+    static Object[] __internal_base64Codecs()
+    {
+        try {
+            Class<?> type    = Class.forName("java.util.Base64");
+            Object   encoder = type.getMethod("getEncoder").invoke(null);
+            Object   url     = type.getMethod("getUrlEncoder").invoke(null);
+            Method   without = encoder.getClass().getMethod("withoutPadding");
+
+            return new Object[] { encoder, url, without.invoke(encoder), without.invoke(url),
+                                  type.getMethod("getDecoder").invoke(null) };
+        }
+        catch (Exception ex) {
+            return null;
+        }
+    }/*}}}*/
+    // static Method __internal_codecMethod(int index, String name, Class<?> type);/*{{{*/
+    /**
+     * Looks for a method of one of the \c java.util.Base64 codecs.
+     * \return The method or \b null when the runtime doesn't have it.
+     **/
+    static Method __internal_codecMethod(int index, String name, Class<?> type)
+    {
+        try {
+            return B64_CODECS[index].getClass().getMethod(name, type);
+        }
+        catch (Exception ex) {
+            return null;
+        }
+    }/*}}}*/
+    // static int __internal_chunks(int count);/*{{{*/
+    /**
+     * Number of chunks of a range for the parallel operations.
+     **/
+    static int __internal_chunks(int count)
+    {
+        return (int)(((long)count + workers.CHUNK - 1) / workers.CHUNK);
+    }/*}}}*/
+    // static boolean __internal_parallel(int count, workers.chunk task);/*{{{*/
+    /**
+     * Runs a parallel operation over a range split in chunks of \c
+     * workers::CHUNK bytes.
+     * \param count Number of bytes of the range.
+     * \param task The work of each chunk.
+     * \return \b true when the work was done. \b false when the range is
+     * below #parallelThreshold, only one thread is allowed, or the work
+     * could not finish. Then the caller must do it sequentially.
+     **/
+    static boolean __internal_parallel(int count, workers.chunk task)
+    {
+        if ((count < Math.max(parallelThreshold, 1)) || (parallelism < 2))
+            return false;
+
+        return workers.run(parallelism, __internal_chunks(count), task);
+    }/*}}}*/
+    // static void __internal_hex(byte[] array, int start, int count, char[] dest, int destStart);/*{{{*/
+    /**
+     * Writes the hexadecimal representation of bytes in a character array.
+     * Arguments are not checked. \a dest must have room for \a count * 2
+     * characters.
+     **/
+    static void __internal_hex(byte[] array, int start, int count, char[] dest, int destStart)
+    {
+        int value, limit = start + count;
+        for (int i = start; i < limit; i++) {
+            value = (array[i] & 0xFF) << 1;
+            dest[destStart++] = HEX_CHARS[value];
+            dest[destStart++] = HEX_CHARS[value + 1];
+        }
+    }/*}}}*/
+    // static boolean __internal_fits(ByteSlice slice, int start, int size);/*{{{*/
+    /**
+     * Checks whether a view has \a size bytes from \a start.
+     **/
+    static boolean __internal_fits(ByteSlice slice, int start, int size) {
+        return ((slice != null) && (start >= 0) && (start <= (slice.length() - size)));
+    }/*}}}*/
+    // static String __internal_toString(byte[] array, int start, int limit, String separator, int frequency);/*{{{*/
+    /**
+     * Implements toString(byte[],String,int) over a range of \a limit bytes
+     * starting at \a start. The range must be valid.
+     **/
+    static String __internal_toString(byte[] array, int start, int limit, String separator, int frequency)
+    {
+        int group = ((strings.length(separator) == 0) || (frequency <= 0)) ? 0 : Math.max(1, frequency / 2);
+
+        if (limit == 0) return strings.EMPTY;
+        if (group == 0) {
+            char[] result = new char[limit * 2];
+            __internal_hex(array, start, limit, result, 0);
+            return new String(result);
+        }
+
+        /* The result is sized exactly so no StringBuilder is needed. */
+        int    width  = separator.length();
+        char[] space  = separator.toCharArray();
+        char[] result = new char[(limit * 2) + (((limit - 1) / group) * width)];
+        int    pos    = 0, count;
+
+        for (int i = 0; i < limit; i += group)
+        {
+            if (i > 0) {
+                System.arraycopy(space, 0, result, pos, width);
+                pos += width;
+            }
+            count = Math.min(group, limit - i);
+            __internal_hex(array, start + i, count, result, pos);
+            pos += (count * 2);
+        }
+        return new String(result);
+    }/*}}}*/
+    // static String __internal_utf8String(byte[] array, int start, int end);/*{{{*/
+    /**
+     * Implements utf8String(byte[],int) not reading beyond \a end.
+     **/
+    static String __internal_utf8String(byte[] array, int start, int end)
+    {
+        int limit = end - start;
+        if ((start < 0) || (limit < 2)) return null;    /* Impossible conversion. */
+
+        int count = 0x0000FFFF & arrays.readShort(array, start);
+        if (count > (limit - 2)) return null;           /* Invalid length. */
+
+        /* A character takes at least one byte. So count is enough. */
+        char[] data = new char[count];
+
+        count = __internal_utf8(array, start + 2, count, data, 0);
+        if (count < 0) return null;
+
+        return new String(data, 0, count);
+    }/*}}}*/
+    // static void __internal_flush(Appendable out, char[] buffer, int count);/*{{{*/
+    /**
+     * Writes characters into an \c Appendable.
+     * Uses the bulk methods of \c Writer and \c StringBuilder when possible.
+     * \param out The destination.
+     * \param buffer The characters to write.
+     * \param count Number of characters, from the start of \a buffer.
+     **/
+    static void __internal_flush(Appendable out, char[] buffer, int count) throws IOException
+    {
+        if (count <= 0) return;
+
+        if (out instanceof Writer)
+            ((Writer)out).write(buffer, 0, count);
+        else if (out instanceof StringBuilder)
+            ((StringBuilder)out).append(buffer, 0, count);
+        else
+            out.append(CharBuffer.wrap(buffer, 0, count));
+    }/*}}}*/
+    // static int __internal_put(Appendable out, char[] buffer, int pos, String text);/*{{{*/
+    /**
+     * Copies a string into a buffer, flushing it to \a out when it gets full.
+     * \param out The destination of the buffer.
+     * \param buffer The buffer.
+     * \param pos Current position in \a buffer.
+     * \param text The string to copy. Can be \b null.
+     * \return The new position in \a buffer.
+     **/
+    static int __internal_put(Appendable out, char[] buffer, int pos, String text) throws IOException
+    {
+        int count = strings.length(text), off = 0, chunk;
+
+        while (count > 0)
+        {
+            if (pos == buffer.length) {
+                __internal_flush(out, buffer, pos);
+                pos = 0;
+            }
+            chunk = Math.min(count, buffer.length - pos);
+            text.getChars(off, off + chunk, buffer, pos);
+            pos   += chunk;
+            off   += chunk;
+            count -= chunk;
+        }
+        return pos;
+    }/*}}}*/
+    // static int __internal_digits(long value);/*{{{*/
+    /**
+     * Counts the characters of the decimal representation of a number.
+     * \param value The number.
+     * \return The number of digits plus one for the minus sign.
+     **/
+    static int __internal_digits(long value)
+    {
+        if (value == Long.MIN_VALUE) return 20;
+
+        int sign = 0;
+        if (value < 0) {
+            value = -value;
+            sign  = 1;
+        }
+
+        long power = 10;
+        for (int i = 1; i < 19; i++) {
+            if (value < power) return (i + sign);
+            power *= 10;
+        }
+        return (19 + sign);
+    }/*}}}*/
+    // static int __internal_number(long value, char[] dest, int pos);/*{{{*/
+    /**
+     * Writes the decimal representation of a number.
+     * \param value The number.
+     * \param dest Destination array. Must have room for the number.
+     * \param pos Position of the first character in \a dest.
+     * \return The position just after the last character written.
+     **/
+    static int __internal_number(long value, char[] dest, int pos)
+    {
+        int  end = pos + __internal_digits(value), i = end, q, r;
+        long n   = ((value < 0) ? value : -value);   /* Negative has room for MIN_VALUE. */
+
+        /* Long division only while the value doesn't fit an int. */
+        while (n < Integer.MIN_VALUE) {
+            long t = n / 100;
+            r = (int)((t * 100) - n);
+            n = t;
+            dest[--i] = DIGIT_PAIRS[(r << 1) + 1];
+            dest[--i] = DIGIT_PAIRS[(r << 1)];
+        }
+
+        /* Two digits at a time. */
+        int m = (int)n;
+        while (m <= -100) {
+            q = m / 100;
+            r = (q * 100) - m;
+            m = q;
+            dest[--i] = DIGIT_PAIRS[(r << 1) + 1];
+            dest[--i] = DIGIT_PAIRS[(r << 1)];
+        }
+
+        dest[--i] = (char)('0' - (m % 10));
+        if (m <= -10) dest[--i] = (char)('0' - (m / 10));
+
+        if (value < 0) dest[--i] = '-';
+        return end;
+    }/*}}}*/
+    // static int __internal_utf8(byte[] array, int start, int count, char[] dest, int destStart);/*{{{*/
+    /**
+     * Decodes modified UTF-8 bytes into characters.
+     * \param array Source bytes. Arguments are not checked, except that \a
+     * array must have \a count bytes from \a start.
+     * \param start First byte to decode.
+     * \param count Number of bytes to decode.
+     * \param dest Destination of the characters.
+     * \param destStart First position in \a dest.
+     * \return The number of characters decoded. \c ERROR::FORMAT or \c
+     * ERROR::SPACE on failure.
+     * \remarks Runs of ASCII characters are tested and copied eight bytes at
+     * a time.
+     **/
+    static int __internal_utf8(byte[] array, int start, int count, char[] dest, int destStart)
+    {
+        int limit = start + count, size = arrays.length(dest);
+        int pos = destStart, c, c2, c3;
+
+        while (start < limit)
+        {
+            /* ASCII fast path: no byte with the high order bit set. */
+            if (((limit - start) >= 8) && ((size - pos) >= 8) &&
+                (((array[start]   | array[start+1] | array[start+2] | array[start+3] |
+                   array[start+4] | array[start+5] | array[start+6] | array[start+7]) & 0x80) == 0))
+            {
+                dest[pos]   = (char)array[start];
+                dest[pos+1] = (char)array[start+1];
+                dest[pos+2] = (char)array[start+2];
+                dest[pos+3] = (char)array[start+3];
+                dest[pos+4] = (char)array[start+4];
+                dest[pos+5] = (char)array[start+5];
+                dest[pos+6] = (char)array[start+6];
+                dest[pos+7] = (char)array[start+7];
+                start += 8;
+                pos   += 8;
+                continue;
+            }
+
+            if (pos >= size) return ERROR.SPACE;
+            c = array[start] & 0xFF;
+
+            /* First bit is 0: single byte char. */
+            if (c < 0x80) {
+                dest[pos++] = (char)c;
+                start++;
+            }
+
+            /* First three bits are 110: double byte character. */
+            else if ((c & 0xE0) == 0xC0) {
+                if ((start + 1) >= limit) return ERROR.FORMAT;
+                c2 = array[start+1];
+                if ((c2 & 0xC0) != 0x80) return ERROR.FORMAT;
+                dest[pos++] = (char)(((c & 0x1F) << 6) | (c2 & 0x3F));
+                start += 2;
+            }
+
+            /* First four bits are 1110: three byte character. */
+            else if ((c & 0xF0) == 0xE0) {
+                if ((start + 2) >= limit) return ERROR.FORMAT;
+                c2 = array[start+1];
+                c3 = array[start+2];
+                if (((c2 & 0xC0) != 0x80) || ((c3 & 0xC0) != 0x80)) return ERROR.FORMAT;
+                dest[pos++] = (char)(((c & 0x0F) << 12) | ((c2 & 0x3F) << 6) | (c3 & 0x3F));
+                start += 3;
+            }
+
+            /* Otherwise this is a bad encoded string. */
+            else
+                return ERROR.FORMAT;
+        }
+        return (pos - destStart);
+    }/*}}}*/
+    // static int __internal_fit(int bytes, int start, int width, int size, int first, int count);/*{{{*/
+    /**
+     * Computes how many numbers can be converted between two arrays.
+     * \param bytes Length of the byte array.
+     * \param start Start position in the byte array.
+     * \param width Number of bytes of each number.
+     * \param size Length of the numbers array.
+     * \param first Start position in the numbers array.
+     * \param count Number of values requested. Less than zero means all.
+     * \return The number of values that fit in both arrays. Zero if an
+     * argument is invalid.
+     **/
+    static int __internal_fit(int bytes, int start, int width, int size, int first, int count)
+    {
+        if ((start < 0) || (start > bytes) || (first < 0) || (first > size))
+            return 0;
+
+        int limit = (bytes - start) / width;
+        if ((count < 0) || (count > limit)) count = limit;
+        if (count > (size - first)) count = (size - first);
+        return count;
+    }/*}}}*/
+    // static long __internal_varIntsSize(int[] values, int first, int count, boolean zigzag);/*{{{*/
+    /**
+     * Implementation of varIntsSize() and zigZagIntsSize().
+     **/
+    static long __internal_varIntsSize(int[] values, int first, int count, boolean zigzag)
+    {
+        count = __internal_span(arrays.length(values), first, count);
+
+        long total = 0;
+        for (int i = first, end = first + count; i < end; i++)
+            total += arrays.varIntSize(zigzag ? numbers.zigzag(values[i]) : values[i]);
+
+        return total;
+    }/*}}}*/
+    // static long __internal_varLongsSize(long[] values, int first, int count, boolean zigzag);/*{{{*/
+    /**
+     * Implementation of varLongsSize() and zigZagLongsSize().
+     **/
+    static long __internal_varLongsSize(long[] values, int first, int count, boolean zigzag)
+    {
+        count = __internal_span(arrays.length(values), first, count);
+
+        long total = 0;
+        for (int i = first, end = first + count; i < end; i++)
+            total += arrays.varLongSize(zigzag ? numbers.zigzag(values[i]) : values[i]);
+
+        return total;
+    }/*}}}*/
+    // static int __internal_writeVarInts(byte[] array, int start, int[] values, int first, int count, boolean zigzag);/*{{{*/
+    /**
+     * Implementation of writeVarInts() and writeZigZagInts().
+     **/
+    static int __internal_writeVarInts(byte[] array, int start, int[] values, int first, int count, boolean zigzag)
+    {
+        int limit = arrays.length(array), length = arrays.length(values);
+        if ((start < 0) || (start > limit) || (first < 0) || (first > length)) return ERROR.PARM;
+        if ((count < 0) || (count > (length - first))) count = (length - first);
+
+        int pos = start, value;
+        for (int i = first, end = first + count; i < end; i++)
+        {
+            value = (zigzag ? numbers.zigzag(values[i]) : values[i]);
+
+            /* Bounds are only checked near the end of the array. */
+            if (((limit - pos) < 5) && (arrays.varIntSize(value) > (limit - pos)))
+                return ERROR.SPACE;
+
+            while ((value & ~0x7F) != 0) {
+                array[pos++] = (byte)(value | 0x80);
+                value >>>= 7;
+            }
+            array[pos++] = (byte)value;
+        }
+        return (pos - start);
+    }/*}}}*/
+    // static int __internal_writeVarLongs(byte[] array, int start, long[] values, int first, int count, boolean zigzag);/*{{{*/
+    /**
+     * Implementation of writeVarLongs() and writeZigZagLongs().
+     **/
+    static int __internal_writeVarLongs(byte[] array, int start, long[] values, int first, int count, boolean zigzag)
+    {
+        int limit = arrays.length(array), length = arrays.length(values);
+        if ((start < 0) || (start > limit) || (first < 0) || (first > length)) return ERROR.PARM;
+        if ((count < 0) || (count > (length - first))) count = (length - first);
+
+        int  pos = start;
+        long value;
+        for (int i = first, end = first + count; i < end; i++)
+        {
+            value = (zigzag ? numbers.zigzag(values[i]) : values[i]);
+
+            /* Bounds are only checked near the end of the array. */
+            if (((limit - pos) < 10) && (arrays.varLongSize(value) > (limit - pos)))
+                return ERROR.SPACE;
+
+            while ((value & ~0x7FL) != 0) {
+                array[pos++] = (byte)(value | 0x80);
+                value >>>= 7;
+            }
+            array[pos++] = (byte)value;
+        }
+        return (pos - start);
+    }/*}}}*/
+    // static int __internal_readVarInts(byte[] array, int start, int[] values, int first, int count, boolean zigzag);/*{{{*/
+    /**
+     * Implementation of readVarInts() and readZigZagInts().
+     **/
+    static int __internal_readVarInts(byte[] array, int start, int[] values, int first, int count, boolean zigzag)
+    {
+        int limit = arrays.length(array), length = arrays.length(values);
+        if ((start < 0) || (start > limit) || (first < 0) || (first > length)) return ERROR.PARM;
+        if ((count < 0) || (count > (length - first))) count = (length - first);
+
+        int  pos = start, value, shift;
+        byte b;
+
+        for (int i = first, end = first + count; i < end; i++)
+        {
+            if (pos >= limit) return ERROR.LENGTH;
+            b = array[pos++];
+
+            if (b < 0)
+            {
+                value = (b & 0x7F);
+                shift = 7;
+                do {
+                    if (shift > 28) return ERROR.FORMAT;
+                    if (pos >= limit) return ERROR.LENGTH;
+                    b = array[pos++];
+                    value |= ((b & 0x7F) << shift);
+                    shift += 7;
+                } while (b < 0);
+            }
+            else
+                value = b;
+
+            values[i] = (zigzag ? numbers.unzigzag(value) : value);
+        }
+        return (pos - start);
+    }/*}}}*/
+    // static int __internal_readVarLongs(byte[] array, int start, long[] values, int first, int count, boolean zigzag);/*{{{*/
+    /**
+     * Implementation of readVarLongs() and readZigZagLongs().
+     **/
+    static int __internal_readVarLongs(byte[] array, int start, long[] values, int first, int count, boolean zigzag)
+    {
+        int limit = arrays.length(array), length = arrays.length(values);
+        if ((start < 0) || (start > limit) || (first < 0) || (first > length)) return ERROR.PARM;
+        if ((count < 0) || (count > (length - first))) count = (length - first);
+
+        int  pos = start, shift;
+        long value;
+        byte b;
+
+        for (int i = first, end = first + count; i < end; i++)
+        {
+            if (pos >= limit) return ERROR.LENGTH;
+            b = array[pos++];
+
+            if (b < 0)
+            {
+                value = (b & 0x7F);
+                shift = 7;
+                do {
+                    if (shift > 63) return ERROR.FORMAT;
+                    if (pos >= limit) return ERROR.LENGTH;
+                    b = array[pos++];
+                    value |= ((long)(b & 0x7F) << shift);
+                    shift += 7;
+                } while (b < 0);
+            }
+            else
+                value = b;
+
+            values[i] = (zigzag ? numbers.unzigzag(value) : value);
+        }
+        return (pos - start);
+    }/*}}}*/
+    // static int __internal_readInts(byte[] array, int start, int[] values, int first, int count, ByteOrder order);/*{{{*/
+    /**
+     * Implementation of readInts() and readLittleEndInts().
+     **/
+    static int __internal_readInts(byte[] array, int start, int[] values, int first, int count, ByteOrder order)
+    {
+        count = __internal_fit(arrays.length(array), start, 4, arrays.length(values), first, count);
+        if (count > 0)
+            ByteBuffer.wrap(array, start, count * 4).order(order).asIntBuffer().get(values, first, count);
+        return count;
+    }/*}}}*/
+    // static int __internal_readLongs(byte[] array, int start, long[] values, int first, int count, ByteOrder order);/*{{{*/
+    /**
+     * Implementation of readLongs() and readLittleEndLongs().
+     **/
+    static int __internal_readLongs(byte[] array, int start, long[] values, int first, int count, ByteOrder order)
+    {
+        count = __internal_fit(arrays.length(array), start, 8, arrays.length(values), first, count);
+        if (count > 0)
+            ByteBuffer.wrap(array, start, count * 8).order(order).asLongBuffer().get(values, first, count);
+        return count;
+    }/*}}}*/
+    // static int __internal_writeInts(byte[] array, int start, int[] values, int first, int count, ByteOrder order);/*{{{*/
+    /**
+     * Implementation of writeInts() and writeLittleEndInts().
+     **/
+    static int __internal_writeInts(byte[] array, int start, int[] values, int first, int count, ByteOrder order)
+    {
+        count = __internal_fit(arrays.length(array), start, 4, arrays.length(values), first, count);
+        if (count > 0)
+            ByteBuffer.wrap(array, start, count * 4).order(order).asIntBuffer().put(values, first, count);
+        return count;
+    }/*}}}*/
+    // static int __internal_writeLongs(byte[] array, int start, long[] values, int first, int count, ByteOrder order);/*{{{*/
+    /**
+     * Implementation of writeLongs() and writeLittleEndLongs().
+     **/
+    static int __internal_writeLongs(byte[] array, int start, long[] values, int first, int count, ByteOrder order)
+    {
+        count = __internal_fit(arrays.length(array), start, 8, arrays.length(values), first, count);
+        if (count > 0)
+            ByteBuffer.wrap(array, start, count * 8).order(order).asLongBuffer().put(values, first, count);
+        return count;
+    }/*}}}*/
+    // static int __internal_base64(byte[] array, int start, int count, char[] dest, int x, int mode);/*{{{*/
+    /**
+     * Encodes bytes in Base64. Arguments must be already checked.
+     * \return The number of characters written.
+     **/
+    static int __internal_base64(byte[] array, int start, int count, char[] dest, int x, int mode)
+    {
+        char[] alphabet = (((mode & BASE64_URL) != 0) ? B64_URL_CHARS : B64_CHARS);
+        char[] pairs = (((mode & BASE64_URL) != 0) ? B64_URL_PAIRS : B64_PAIRS);
+        int    first = x, limit = start + (count - (count % 3)), bits, hi, lo;
+
+        for (; start < limit; start += 3, x += 4)
+        {
+            bits = ((array[start] & 0xFF) << 16) | ((array[start+1] & 0xFF) << 8) | (array[start+2] & 0xFF);
+            hi   = (bits >>> 11) & 0x1FFE;
+            lo   = (bits & 0xFFF) << 1;
+            dest[x]   = pairs[hi];
+            dest[x+1] = pairs[hi+1];
+            dest[x+2] = pairs[lo];
+            dest[x+3] = pairs[lo+1];
+        }
+
+        switch (count % 3)
+        {
+        case 1:
+            bits = (array[start] & 0xFF);
+            dest[x++] = alphabet[bits >>> 2];
+            dest[x++] = alphabet[(bits << 4) & 0x3F];
+            if ((mode & NO_PADDING) == 0) { dest[x++] = '='; dest[x++] = '='; }
+            break;
+        case 2:
+            bits = ((array[start] & 0xFF) << 8) | (array[start+1] & 0xFF);
+            dest[x++] = alphabet[bits >>> 10];
+            dest[x++] = alphabet[(bits >>> 4) & 0x3F];
+            dest[x++] = alphabet[(bits << 2) & 0x3F];
+            if ((mode & NO_PADDING) == 0) dest[x++] = '=';
+            break;
+        }
+        return (x - first);
+    }/*}}}*/
+    // static int __internal_base32(byte[] array, int start, int count, char[] dest, int x, int mode);/*{{{*/
+    /**
+     * Encodes bytes in Base32. Arguments must be already checked.
+     * \return The number of characters written.
+     **/
+    static int __internal_base32(byte[] array, int start, int count, char[] dest, int x, int mode)
+    {
+        char[] alphabet = B32_CHARS;
+        int    first = x, limit = start + (count - (count % 5));
+        long   bits;
+
+        for (; start < limit; start += 5, x += 8)
+        {
+            bits = ((long)(array[start] & 0xFF) << 32) | ((long)(array[start+1] & 0xFF) << 24) |
+                   ((array[start+2] & 0xFF) << 16) | ((array[start+3] & 0xFF) << 8) | (array[start+4] & 0xFF);
+            dest[x]   = alphabet[(int)(bits >>> 35)];
+            dest[x+1] = alphabet[(int)(bits >>> 30) & 0x1F];
+            dest[x+2] = alphabet[(int)(bits >>> 25) & 0x1F];
+            dest[x+3] = alphabet[(int)(bits >>> 20) & 0x1F];
+            dest[x+4] = alphabet[(int)(bits >>> 15) & 0x1F];
+            dest[x+5] = alphabet[(int)(bits >>> 10) & 0x1F];
+            dest[x+6] = alphabet[(int)(bits >>> 5) & 0x1F];
+            dest[x+7] = alphabet[(int)bits & 0x1F];
+        }
+
+        int rest = count % 5;
+        if (rest > 0)
+        {
+            /* Left align the remaining bytes in a 40 bits group. */
+            bits = 0L;
+            for (int i = 0; i < rest; i++)
+                bits |= ((long)(array[start+i] & 0xFF) << (32 - (i * 8)));
+
+            int chars = ((rest * 8) + 4) / 5;
+            for (int i = 0; i < chars; i++)
+                dest[x++] = alphabet[(int)(bits >>> (35 - (i * 5))) & 0x1F];
+
+            if ((mode & NO_PADDING) == 0) {
+                for (; chars < 8; chars++) dest[x++] = '=';
+            }
+        }
+        return (x - first);
+    }/*}}}*/
+    // static long __internal_encode(InputStream in, Appendable out, int mode, boolean base64);/*{{{*/
+    /**
+     * Streaming encoder shared by toBase64() and toBase32().
+     * Chunks are filled completely, so only the last one can end with a
+     * partial group.
+     * \return The number of characters written or an error code.
+     **/
+    static long __internal_encode(InputStream in, Appendable out, int mode, boolean base64)
+    {
+        byte[] bytes = new byte[7680];          /* Multiple of 3 and 5. */
+        char[] chars = new char[12288];
+        long   total = 0L;
+        int    count, n;
+
+        do
+        {
+            count = 0;
+            try {
+                while ((count < bytes.length) && ((n = in.read(bytes, count, bytes.length - count)) >= 0))
+                    count += n;
+            } catch (IOException ex) {
+                return ERROR.READ;
+            }
+            if (count == 0) break;
+
+            n = (base64 ? __internal_base64(bytes, 0, count, chars, 0, mode) : __internal_base32(bytes, 0, count, chars, 0, mode));
+            try {
+                __internal_flush(out, chars, n);
+            } catch (IOException ex) {
+                return ERROR.WRITE;
+            }
+            total += n;
+        } while (count == bytes.length);
+
+        return total;
+    }/*}}}*/
+    // static int __internal_decode(CharSequence text, int start, int count, byte[] dest, int destStart, byte[] values, int shift);/*{{{*/
+    /**
+     * Range decoder shared by fromBase64() and fromBase32().
+     * \param values B64_VALUES or B32_VALUES.
+     * \param shift Bits per character: 6 or 5.
+     * \return The number of bytes written or an error code.
+     **/
+    static int __internal_decode(CharSequence text, int start, int count, byte[] dest, int destStart, byte[] values, int shift)
+    {
+        int limit = ((text == null) ? 0 : text.length());
+
+        if ((start < 0) || (start > limit) || (destStart < 0)) return 0;
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int[] state = new int[3];
+        int   x = __internal_decode(text, start, start + count, dest, destStart, values, shift, state);
+
+        if (x < 0) return x;
+        if (state[1] >= shift) return ERROR.FORMAT;
+
+        return (x - destStart);
+    }/*}}}*/
+    // static byte[] __internal_decode(String text, byte[] values, int shift);/*{{{*/
+    /**
+     * String decoder shared by fromBase64() and fromBase32().
+     * \return A new array or \b null when \a text is invalid.
+     **/
+    static byte[] __internal_decode(String text, byte[] values, int shift)
+    {
+        int  end = strings.length(text);
+        char c;
+
+        /* Padding and white space at the end don't produce bytes. */
+        while ((end > 0) && (((c = text.charAt(end - 1)) == '=') || (c <= ' ')))
+            end--;
+
+        byte[] result = new byte[(int)(((long)end * shift) >>> 3)];
+        int    count  = __internal_decode(text, 0, -1, result, 0, values, shift);
+
+        if (count < 0) return null;
+        return ((count == result.length) ? result : Arrays.copyOf(result, count));
+    }/*}}}*/
+    // static long __internal_decode(Reader in, OutputStream out, byte[] values, int shift);/*{{{*/
+    /**
+     * Streaming decoder shared by fromBase64() and fromBase32().
+     * \return The number of bytes written or an error code.
+     **/
+    static long __internal_decode(Reader in, OutputStream out, byte[] values, int shift)
+    {
+        char[]     chars = new char[8192];
+        byte[]     bytes = new byte[6144];
+        CharBuffer view  = CharBuffer.wrap(chars);
+        int[]      state = new int[3];
+        long       total = 0L;
+        int        count;
+
+        while (true)
+        {
+            try {
+                if ((count = in.read(chars)) < 0) break;
+            } catch (IOException ex) {
+                return ERROR.READ;
+            }
+
+            count = __internal_decode(view, 0, count, bytes, 0, values, shift, state);
+            if (count < 0) return count;
+
+            try {
+                out.write(bytes, 0, count);
+            } catch (IOException ex) {
+                return ERROR.WRITE;
+            }
+            total += count;
+        }
+        return ((state[1] >= shift) ? ERROR.FORMAT : total);
+    }/*}}}*/
+    // static int __internal_decode(CharSequence text, int i, int end, byte[] dest, int x, byte[] values, int shift, int[] state);/*{{{*/
+    /**
+     * Decodes characters accumulating their bits.
+     * \param state Carried between calls: pending bits, number of pending
+     * bits and whether padding was found.
+     * \return The index in \a dest after the last byte written or an error
+     * code.
+     **/
+    static int __internal_decode(CharSequence text, int i, int end, byte[] dest, int x, byte[] values, int shift, int[] state)
+    {
+        int  size = arrays.length(dest);
+        int  bits = state[0], pending = state[1], v;
+        char c, c1, c2, c3;
+
+        for (; i < end; i++)
+        {
+            if ((shift == 6) && (pending == 0) && (state[2] == 0))
+            {
+                /* Four characters at once while the group is aligned. */
+                for (; ((i + 4) <= end) && ((x + 3) <= size); i += 4, x += 3)
+                {
+                    c = text.charAt(i); c1 = text.charAt(i+1); c2 = text.charAt(i+2); c3 = text.charAt(i+3);
+                    if ((c | c1 | c2 | c3) >= 128) break;
+
+                    v = (values[c] << 18) | (values[c1] << 12) | (values[c2] << 6) | values[c3];
+                    if (v < 0) break;
+
+                    dest[x]   = (byte)(v >> 16);
+                    dest[x+1] = (byte)(v >> 8);
+                    dest[x+2] = (byte)v;
+                }
+                if (i >= end) break;
+            }
+            else if ((shift == 5) && (pending == 0) && (state[2] == 0))
+            {
+                /* Eight characters at once while the group is aligned. */
+                long group;
+                for (; ((i + 8) <= end) && ((x + 5) <= size); i += 8, x += 5)
+                {
+                    group = 0L;
+                    for (int k = 0; k < 8; k++) {
+                        c = text.charAt(i + k);
+                        group = (group << 5) | ((c < 128) ? values[c] : B_INVALID);
+                    }
+                    if (group < 0L) break;
+
+                    dest[x]   = (byte)(group >> 32);
+                    dest[x+1] = (byte)(group >> 24);
+                    dest[x+2] = (byte)(group >> 16);
+                    dest[x+3] = (byte)(group >> 8);
+                    dest[x+4] = (byte)group;
+                }
+                if (i >= end) break;
+            }
+
+            c = text.charAt(i);
+            v = ((c < 128) ? values[c] : B_INVALID);
+
+            if (v >= 0)
+            {
+                if (state[2] != 0) return ERROR.FORMAT;
+
+                bits     = (bits << shift) | v;
+                pending += shift;
+                if (pending >= 8)
+                {
+                    if (x >= size) return ERROR.SPACE;
+                    pending  -= 8;
+                    dest[x++] = (byte)(bits >> pending);
+                }
+            }
+            else if (v == B_PADDING) state[2] = 1;
+            else if (v != B_SPACE)   return ERROR.FORMAT;
+        }
+        state[0] = bits;
+        state[1] = pending;
+        return x;
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Tables */ //@{
+    /** Two hexadecimal characters for each byte value. */
+    static final char[] HEX_CHARS  = new char[512];
+    /** Value of each ASCII character as a hexadecimal digit or -1. */
+    static final byte[] HEX_VALUES = new byte[128];
+    /** Two decimal digits for each value from 0 to 99. */
+    static final char[] DIGIT_PAIRS = new char[200];
+    /** A byte with value 1 in each byte of a long. */
+    static final long ONES = 0x0101010101010101L;
+    /** Minimum range compared by the runtime intrinsics. */
+    static final int INTRINSIC_MIN = 1024;
+    /** Arrays.mismatch(byte[],int,int,byte[],int,int), from Java 9. */
+    static final Method MISMATCH_BYTES = __internal_method("mismatch", byte[].class);
+    /** Arrays.mismatch(char[],int,int,char[],int,int), from Java 9. */
+    static final Method MISMATCH_CHARS = __internal_method("mismatch", char[].class);
+    /** Base64 standard alphabet. */
+    static final char[] B64_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    /** Base64 URL and file name safe alphabet. */
+    static final char[] B64_URL_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    /** Two Base64 characters for each 12 bits value. */
+    static final char[] B64_PAIRS = new char[8192];
+    /** Two URL safe Base64 characters for each 12 bits value. */
+    static final char[] B64_URL_PAIRS = new char[8192];
+    /** Codecs of java.util.Base64, from Java 8. See __internal_base64Codecs(). */
+    static final Object[] B64_CODECS = __internal_base64Codecs();
+    /** Base64.Encoder.encodeToString(byte[]). */
+    static final Method B64_ENCODE = ((B64_CODECS == null) ? null : __internal_codecMethod(0, "encodeToString", byte[].class));
+    /** Base64.Decoder.decode(String). */
+    static final Method B64_DECODE = ((B64_CODECS == null) ? null : __internal_codecMethod(4, "decode", String.class));
+    /** Base32 alphabet. */
+    static final char[] B32_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray();
+    /** Value of each ASCII character in both Base64 alphabets. */
+    static final byte[] B64_VALUES = new byte[128];
+    /** Value of each ASCII character in Base32, in any case. */
+    static final byte[] B32_VALUES = new byte[128];
+    /** Marks of the Base64 and Base32 value tables. */
+    static final byte B_INVALID = -1, B_SPACE = -2, B_PADDING = -3;
+
+    static {
+        String digits = "0123456789ABCDEF";
+        for (int i = 0; i < 256; i++) {
+            HEX_CHARS[(i << 1)]     = digits.charAt(i >> 4);
+            HEX_CHARS[(i << 1) + 1] = digits.charAt(i & 0x0F);
+        }
+
+        Arrays.fill(HEX_VALUES, (byte)-1);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUES[digits.charAt(i)] = (byte)i;
+            HEX_VALUES[Character.toLowerCase(digits.charAt(i))] = (byte)i;
+        }
+
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[(i << 1)]     = (char)('0' + (i / 10));
+            DIGIT_PAIRS[(i << 1) + 1] = (char)('0' + (i % 10));
+        }
+
+        Arrays.fill(B64_VALUES, B_INVALID);
+        Arrays.fill(B32_VALUES, B_INVALID);
+        for (int i = 0; i < 64; i++) {
+            B64_VALUES[B64_CHARS[i]]     = (byte)i;
+            B64_VALUES[B64_URL_CHARS[i]] = (byte)i;
+        }
+        for (int i = 0; i < 4096; i++) {
+            B64_PAIRS[(i << 1)]         = B64_CHARS[i >> 6];
+            B64_PAIRS[(i << 1) + 1]     = B64_CHARS[i & 0x3F];
+            B64_URL_PAIRS[(i << 1)]     = B64_URL_CHARS[i >> 6];
+            B64_URL_PAIRS[(i << 1) + 1] = B64_URL_CHARS[i & 0x3F];
+        }
+        for (int i = 0; i < 32; i++) {
+            B32_VALUES[B32_CHARS[i]] = (byte)i;
+            B32_VALUES[Character.toLowerCase(B32_CHARS[i])] = (byte)i;
+        }
+        for (int i = 0; i <= ' '; i++) {
+            B64_VALUES[i] = B_SPACE;
+            B32_VALUES[i] = B_SPACE;
+        }
+        B64_VALUES['='] = B_PADDING;
+        B32_VALUES['='] = B_PADDING;
+    }
+    //@}
+
+    // static final class xoshiro;/*{{{*/
+    /**
+     * Random generator used by randomize().
+     * Implements <i>xoshiro256**</i> by David Blackman and Sebastiano Vigna.
+     * The state is seeded with <i>SplitMix64</i> from the current time and
+     * a global sequence, so every thread gets a different stream. Instances
+     * are not thread safe. Each thread keeps its own.
+     **/
+    static final class xoshiro
+    {
+        xoshiro(long seed) {
+            m_s0 = __internal_mix(seed += 0x9E3779B97F4A7C15L);
+            m_s1 = __internal_mix(seed += 0x9E3779B97F4A7C15L);
+            m_s2 = __internal_mix(seed += 0x9E3779B97F4A7C15L);
+            m_s3 = __internal_mix(seed +  0x9E3779B97F4A7C15L);
+        }
+
+        final long next() {
+            long result = Long.rotateLeft(m_s1 * 5, 7) * 9;
+            long t = (m_s1 << 17);
+
+            m_s2 ^= m_s0;
+            m_s3 ^= m_s1;
+            m_s1 ^= m_s2;
+            m_s0 ^= m_s3;
+            m_s2 ^= t;
+            m_s3  = Long.rotateLeft(m_s3, 45);
+            return result;
+        }
+
+        final void fill(byte[] array, int start, int count) {
+            int limit = start + (count & ~7);
+            long value;
+
+            while (start < limit) {
+                value = next();
+                array[start]   = (byte)value;
+                array[start+1] = (byte)(value >>> 8);
+                array[start+2] = (byte)(value >>> 16);
+                array[start+3] = (byte)(value >>> 24);
+                array[start+4] = (byte)(value >>> 32);
+                array[start+5] = (byte)(value >>> 40);
+                array[start+6] = (byte)(value >>> 48);
+                array[start+7] = (byte)(value >>> 56);
+                start += 8;
+            }
+
+            if ((count & 7) == 0) return;
+            value  = next();
+            limit += (count & 7);
+            while (start < limit) {
+                array[start++] = (byte)value;
+                value >>>= 8;
+            }
+        }
+
+        final int fill(ByteBuffer buffer) {
+            int count = buffer.remaining();
+
+            if (buffer.hasArray())
+                fill(buffer.array(), buffer.arrayOffset() + buffer.position(), count);
+            else {
+                while (buffer.remaining() >= 8)
+                    buffer.putLong(next());
+
+                long value = next();
+                while (buffer.hasRemaining()) {
+                    buffer.put((byte)value);
+                    value >>>= 8;
+                }
+            }
+            buffer.position(buffer.limit());
+            return count;
+        }
+
+        static long __internal_mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+
+        private long m_s0, m_s1, m_s2, m_s3;
+    }/*}}}*/
+
+    /** \name Data Members */ //@{
+    /** Seed sequence. Touched only once per thread. */
+    static final AtomicLong s_seed = new AtomicLong(System.nanoTime());
+
+    /** Generator of each thread used by randomize(). */
+    static final ThreadLocal<xoshiro> s_random = new ThreadLocal<xoshiro>() {
+        protected xoshiro initialValue() {
+            return new xoshiro(s_seed.addAndGet(0x632BE59BD9B4E019L) ^ System.nanoTime());
+        }
+    };
+
+    /** Generator of each thread used by secureRandomize(). */
+    static final ThreadLocal<SecureRandom> s_secure = new ThreadLocal<SecureRandom>() {
+        protected SecureRandom initialValue() {
+            return new SecureRandom();
+        }
+    };
+    //@}
 }
 // vim:syntax=java.doxygen
@@ -0,0 +1,556 @@
+/**
+ * \file
+ * Defines the checksum class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/* #imports {{{ */
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+/* }}} #imports */
+
+/**
+ * \ingroup sf_lang
+ * Static class to compute and verify checksums.
+ * All algorithms are used through the \c java.util.zip.Checksum interface.
+ * They are selected by one of the constants #CRC16, #CRC32, #CRC32C or
+ * #ADLER32. CRC32 and Adler32 are the JVM implementations. CRC32C is the JVM
+ * implementation when the runtime has one (Java 9 and later) and a table
+ * driven implementation of this class otherwise. CRC16 is the \c Crc16
+ * class, the same checksum of \c arrays::crc16().
+ *
+ * Very large buffers can be verified with the #parallel() methods. They
+ * split the data in pieces, compute the checksum of each piece in a thread
+ * pool and merge the partial results with #combine(). The result is the
+ * same of the sequential computation.
+ *
+ * As all the library, the functions in this class don't throw exceptions.
+ * Checksum values are always positive so failures are returned as one of
+ * the \c ERROR codes. A checksum that doesn't match is reported as \c
+ * ERROR::CRC.
+ *//* --------------------------------------------------------------------- */
+public final class checksum
+{
+    /** \name Algorithms */ //@{
+    public static final int CRC16   = 1;    /**< CRC-CCITT 16 bits.     */
+    public static final int CRC32   = 2;    /**< CRC-32 (zip, ethernet).*/
+    public static final int CRC32C  = 3;    /**< CRC-32C (Castagnoli).  */
+    public static final int ADLER32 = 4;    /**< Adler-32 (zlib).       */
+    //@}
+
+    /** \name Configuration Members */ //@{
+    // public static int threshold = 4194304;/*{{{*/
+    /**
+     * Minimum number of bytes for parallel computation.
+     * The #parallel() methods compute smaller buffers in the calling thread.
+     * The default value is 4 megabytes.
+     **/
+    public static int threshold = 4194304;
+    /*}}}*/
+    //@}
+
+    /** \name Factory */ //@{
+    // public static Checksum create(int algorithm);/*{{{*/
+    /**
+     * Creates a checksum object.
+     * \param algorithm One of the algorithm constants of this class.
+     * \return The checksum object, ready to be used. \b null if \a algorithm
+     * is not valid.
+     **/
+    public static Checksum create(int algorithm)
+    {
+        switch (algorithm)
+        {
+        case CRC16:   return new Crc16();
+        case CRC32:   return new CRC32();
+        case ADLER32: return new Adler32();
+        case CRC32C:
+            if (CRC32C_TYPE != null) {
+                try { return (Checksum)CRC32C_TYPE.getConstructor().newInstance(); }
+                catch (Exception ex) { /* Use our own. */ }
+            }
+            return new crc32c();
+        }
+        return null;
+    }/*}}}*/
+    //@}
+
+    /** \name Computing */ //@{
+    // public static long compute(int algorithm, byte[] array, int start, int count);/*{{{*/
+    /**
+     * Computes the checksum of part of an array.
+     * \param algorithm One of the algorithm constants of this class.
+     * \param array The data.
+     * \param start Index of the first byte in \a array.
+     * \param count Number of bytes. If less than zero all bytes from \a start
+     * up to the end of \a array are used.
+     * \return The checksum value. \c ERROR::PARM if \a algorithm is not
+     * valid.
+     **/
+    public static long compute(int algorithm, byte[] array, int start, int count)
+    {
+        Checksum sum = checksum.create(algorithm);
+        if (sum == null) return ERROR.PARM;
+
+        int limit = arrays.length(array);
+        if ((start >= 0) && (start < limit)) {
+            if ((count < 0) || (count > (limit - start))) count = (limit - start);
+            sum.update(array, start, count);
+        }
+        return sum.getValue();
+    }/*}}}*/
+    // public static long compute(int algorithm, ByteBuffer buffer);/*{{{*/
+    /**
+     * Computes the checksum of the remaining bytes of a buffer.
+     * \param algorithm One of the algorithm constants of this class.
+     * \param buffer The data. All bytes between its position and its limit
+     * are used. The position of the buffer is not changed.
+     * \return The checksum value. \c ERROR::PARM if \a algorithm is not
+     * valid.
+     **/
+    public static long compute(int algorithm, ByteBuffer buffer)
+    {
+        Checksum sum = checksum.create(algorithm);
+        if (sum == null) return ERROR.PARM;
+
+        if (buffer != null)
+            __internal_update(sum, buffer.duplicate());
+        return sum.getValue();
+    }/*}}}*/
+    // public static long compute(int algorithm, FileChannel channel, long position, long count);/*{{{*/
+    /**
+     * Computes the checksum of part of a file.
+     * The file is memory mapped in segments, so files of any size can be
+     * used.
+     * \param algorithm One of the algorithm constants of this class.
+     * \param channel The file channel. Must be readable.
+     * \param position Offset of the first byte in the file.
+     * \param count Number of bytes. If less than zero all bytes from \a
+     * position up to the end of the file are used.
+     * \return The checksum value. \c ERROR::PARM if an argument is not valid.
+     * \c ERROR::IO if the file cannot be mapped.
+     **/
+    public static long compute(int algorithm, FileChannel channel, long position, long count) {
+        return __internal_file(algorithm, channel, position, count, false);
+    }/*}}}*/
+    //@}
+
+    /** \name Parallel Computing */ //@{
+    // public static long parallel(int algorithm, byte[] array, int start, int count);/*{{{*/
+    /**
+     * Computes the checksum of part of an array using all processors.
+     * \param algorithm One of the algorithm constants of this class.
+     * \param array The data.
+     * \param start Index of the first byte in \a array.
+     * \param count Number of bytes. If less than zero all bytes from \a start
+     * up to the end of \a array are used.
+     * \return The checksum value, the same returned by compute(). \c
+     * ERROR::PARM if \a algorithm is not valid. \c ERROR::ABORTED if the
+     * thread is interrupted.
+     * \remarks When the range is smaller than #threshold the checksum is
+     * computed in the calling thread.
+     **/
+    public static long parallel(int algorithm, byte[] array, int start, int count)
+    {
+        int limit = arrays.length(array);
+
+        if ((start < 0) || (start >= limit)) return compute(algorithm, array, start, count);
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        return __internal_parallel(algorithm, ByteBuffer.wrap(array, start, count));
+    }/*}}}*/
+    // public static long parallel(int algorithm, ByteBuffer buffer);/*{{{*/
+    /**
+     * Computes the checksum of the remaining bytes of a buffer using all
+     * processors.
+     * \param algorithm One of the algorithm constants of this class.
+     * \param buffer The data. All bytes between its position and its limit
+     * are used. The position of the buffer is not changed. Can be a \c
+     * MappedByteBuffer.
+     * \return The checksum value, the same returned by compute(). \c
+     * ERROR::PARM if \a algorithm is not valid. \c ERROR::ABORTED if the
+     * thread is interrupted.
+     **/
+    public static long parallel(int algorithm, ByteBuffer buffer)
+    {
+        if (buffer == null) return compute(algorithm, buffer);
+        return __internal_parallel(algorithm, buffer);
+    }/*}}}*/
+    // public static long parallel(int algorithm, FileChannel channel, long position, long count);/*{{{*/
+    /**
+     * Computes the checksum of part of a file using all processors.
+     * @copydetails compute(int,FileChannel,long,long)
+     **/
+    public static long parallel(int algorithm, FileChannel channel, long position, long count) {
+        return __internal_file(algorithm, channel, position, count, true);
+    }/*}}}*/
+    //@}
+
+    /** \name Verification */ //@{
+    // public static int verify(int algorithm, byte[] array, int start, int count, long expected);/*{{{*/
+    /**
+     * Verifies the checksum of part of an array.
+     * \param algorithm One of the algorithm constants of this class.
+     * \param array The data.
+     * \param start Index of the first byte in \a array.
+     * \param count Number of bytes. If less than zero all bytes from \a start
+     * up to the end of \a array are used.
+     * \param expected The expected checksum value. Only the bits of the
+     * checksum width are compared, so a CRC16 value stored in a \b short can
+     * be passed directly.
+     * \return \c ERROR::SUCCESS when the checksum matches. \c ERROR::CRC when
+     * it doesn't. Other error codes when the computation fails.
+     * \remarks Ranges larger than #threshold are computed in parallel.
+     **/
+    public static int verify(int algorithm, byte[] array, int start, int count, long expected) {
+        return __internal_verify(algorithm, parallel(algorithm, array, start, count), expected);
+    }/*}}}*/
+    // public static int verify(int algorithm, ByteBuffer buffer, long expected);/*{{{*/
+    /**
+     * Verifies the checksum of the remaining bytes of a buffer.
+     * \param algorithm One of the algorithm constants of this class.
+     * \param buffer The data. All bytes between its position and its limit
+     * are used. The position of the buffer is not changed.
+     * \param expected The expected checksum value.
+     * \return \c ERROR::SUCCESS when the checksum matches. \c ERROR::CRC when
+     * it doesn't. Other error codes when the computation fails.
+     * \remarks Buffers larger than #threshold are computed in parallel.
+     **/
+    public static int verify(int algorithm, ByteBuffer buffer, long expected) {
+        return __internal_verify(algorithm, parallel(algorithm, buffer), expected);
+    }/*}}}*/
+    //@}
+
+    /** \name Combining */ //@{
+    // public static long combine(int algorithm, long sum1, long sum2, long count2);/*{{{*/
+    /**
+     * Combines the checksums of two consecutive pieces of data.
+     * \param algorithm One of the algorithm constants of this class.
+     * \param sum1 Checksum of the first piece.
+     * \param sum2 Checksum of the second piece.
+     * \param count2 Length of the second piece, in bytes.
+     * \return The checksum of both pieces together, as if they were passed
+     * in a single call. \c ERROR::PARM if \a algorithm is not valid.
+     * \remarks The combination is done mathematically, in time proportional
+     * to the logarithm of \a count2. The data is not needed.
+     **/
+    public static long combine(int algorithm, long sum1, long sum2, long count2)
+    {
+        if (count2 <= 0) return sum1;
+
+        switch (algorithm)
+        {
+        case CRC16:
+            /* No final XOR: the initial value of the second piece must be
+             * replaced by the result of the first. */
+            return ((__internal_shift(sum1 ^ Crc16.INITIAL, count2, CRC16_OP) ^ sum2) & 0xFFFFL);
+        case CRC32:
+            return ((__internal_shift(sum1, count2, CRC32_OP) ^ sum2) & 0xFFFFFFFFL);
+        case CRC32C:
+            return ((__internal_shift(sum1, count2, CRC32C_OP) ^ sum2) & 0xFFFFFFFFL);
+        case ADLER32:
+            return __internal_adler(sum1, sum2, count2);
+        }
+        return ERROR.PARM;
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // static void __internal_update(Checksum sum, ByteBuffer buffer);/*{{{*/
+    /**
+     * Updates a checksum with the remaining bytes of a buffer.
+     * The position of the buffer is moved to its limit.
+     **/
+    static void __internal_update(Checksum sum, ByteBuffer buffer)
+    {
+        if (!buffer.hasRemaining()) return;
+
+        if (buffer.hasArray()) {
+            sum.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(buffer.remaining(), 8192)];
+        int count;
+
+        while ((count = Math.min(buffer.remaining(), chunk.length)) > 0) {
+            buffer.get(chunk, 0, count);
+            sum.update(chunk, 0, count);
+        }
+    }/*}}}*/
+    // static long __internal_parallel(int algorithm, ByteBuffer buffer);/*{{{*/
+    /**
+     * Splits a buffer in pieces, computes them in the pool and combines the
+     * results.
+     **/
+    static long __internal_parallel(final int algorithm, ByteBuffer buffer)
+    {
+        int total = buffer.remaining();
+        int parts = Math.min(Runtime.getRuntime().availableProcessors() * 4, total / Math.max(threshold / 4, 65536));
+
+        if ((total < threshold) || (parts < 2))
+            return compute(algorithm, buffer);
+
+        if (checksum.create(algorithm) == null) return ERROR.PARM;
+
+        ExecutorService pool = __internal_pool();
+        Future<?>[] tasks = new Future<?>[parts];
+        int[] sizes = new int[parts];
+        int start = buffer.position(), size = total / parts;
+
+        for (int i = 0; i < parts; i++)
+        {
+            final ByteBuffer piece = buffer.duplicate();
+            sizes[i] = ((i == (parts - 1)) ? (total - (i * size)) : size);
+            piece.position(start + (i * size));
+            piece.limit(start + (i * size) + sizes[i]);
+
+            tasks[i] = pool.submit(new Callable<Long>() {
+                public Long call() { return Long.valueOf(compute(algorithm, piece)); }
+            });
+        }
+
+        long result = 0;
+        try
+        {
+            for (int i = 0; i < parts; i++)
+            {
+                long value = ((Long)tasks[i].get()).longValue();
+                result = ((i == 0) ? value : combine(algorithm, result, value, sizes[i]));
+            }
+        }
+        catch (InterruptedException ex) {
+            for (int i = 0; i < parts; i++) tasks[i].cancel(true);
+            Thread.currentThread().interrupt();
+            return ERROR.ABORTED;
+        }
+        catch (Exception ex) {
+            return ERROR.FAILED;
+        }
+        return result;
+    }/*}}}*/
+    // static long __internal_file(int algorithm, FileChannel channel, long position, long count, boolean parallel);/*{{{*/
+    /**
+     * Maps a file in segments and computes its checksum.
+     **/
+    static long __internal_file(int algorithm, FileChannel channel, long position, long count, boolean parallel)
+    {
+        if ((channel == null) || (position < 0)) return ERROR.PARM;
+        if (checksum.create(algorithm) == null) return ERROR.PARM;
+
+        try
+        {
+            long size = channel.size();
+            if (position > size) position = size;
+            if ((count < 0) || (count > (size - position))) count = (size - position);
+
+            long result = compute(algorithm, (byte[])null, 0, 0);
+            long piece, value;
+            MappedByteBuffer map;
+
+            while (count > 0)
+            {
+                piece = Math.min(count, SEGMENT);
+                map   = channel.map(FileChannel.MapMode.READ_ONLY, position, piece);
+                value = (parallel ? __internal_parallel(algorithm, map) : compute(algorithm, map));
+
+                if (value < 0) return value;
+                result = combine(algorithm, result, value, piece);
+                position += piece;
+                count    -= piece;
+            }
+            return result;
+        }
+        catch (IOException ex) {
+            return ERROR.IO;
+        }
+    }/*}}}*/
+    // static int __internal_verify(int algorithm, long value, long expected);/*{{{*/
+    /**
+     * Compares a computed checksum with the expected value.
+     **/
+    static int __internal_verify(int algorithm, long value, long expected)
+    {
+        if (value < 0) return (int)value;
+
+        long mask = ((algorithm == CRC16) ? 0xFFFFL : 0xFFFFFFFFL);
+        return (((value & mask) == (expected & mask)) ? ERROR.SUCCESS : ERROR.CRC);
+    }/*}}}*/
+    // static long __internal_shift(long crc, long count, int[] op);/*{{{*/
+    /**
+     * Advances a CRC register over a number of zero bytes.
+     * \param crc The CRC register.
+     * \param count Number of zero bytes.
+     * \param op Matrix of the operator that advances the register by one
+     * zero bit. Element \c n is the image of bit \c n. The length of the
+     * matrix is the width of the CRC.
+     * \return The register after \a count zero bytes.
+     * \remarks This is the method used by \c crc32_combine() of zlib: the
+     * operator is squared to advance 2, 4, 8 ... bytes and applied for each
+     * bit set in \a count.
+     **/
+    static long __internal_shift(long crc, long count, int[] op)
+    {
+        int   width = op.length;
+        int[] even  = new int[width];
+        int[] odd   = new int[width];
+
+        __internal_square(even, op);        /* 2 zero bits. */
+        __internal_square(odd, even);       /* 4 zero bits. */
+
+        int value = (int)crc;
+        do {
+            __internal_square(even, odd);   /* First time: 1 zero byte. */
+            if ((count & 1) != 0)
+                value = __internal_times(even, value);
+            count >>>= 1;
+            if (count == 0) break;
+
+            __internal_square(odd, even);
+            if ((count & 1) != 0)
+                value = __internal_times(odd, value);
+            count >>>= 1;
+        } while (count != 0);
+
+        return (value & 0xFFFFFFFFL);
+    }/*}}}*/
+    // static int __internal_times(int[] mat, int vec);/*{{{*/
+    /**
+     * Multiplies a GF(2) matrix by a vector.
+     **/
+    static int __internal_times(int[] mat, int vec)
+    {
+        int sum = 0;
+        for (int i = 0; vec != 0; i++, vec >>>= 1) {
+            if ((vec & 1) != 0) sum ^= mat[i];
+        }
+        return sum;
+    }/*}}}*/
+    // static void __internal_square(int[] square, int[] mat);/*{{{*/
+    /**
+     * Squares a GF(2) matrix.
+     **/
+    static void __internal_square(int[] square, int[] mat)
+    {
+        for (int i = 0; i < mat.length; i++)
+            square[i] = __internal_times(mat, mat[i]);
+    }/*}}}*/
+    // static long __internal_adler(long adler1, long adler2, long count2);/*{{{*/
+    /**
+     * Combines two Adler-32 checksums, like \c adler32_combine() of zlib.
+     **/
+    static long __internal_adler(long adler1, long adler2, long count2)
+    {
+        final long BASE = 65521L;
+        long rem  = count2 % BASE;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (rem * sum1) % BASE;
+
+        sum1 += (adler2 & 0xFFFF) + BASE - 1;
+        sum2 += ((adler1 >> 16) & 0xFFFF) + ((adler2 >> 16) & 0xFFFF) + BASE - rem;
+
+        if (sum1 >= BASE) sum1 -= BASE;
+        if (sum1 >= BASE) sum1 -= BASE;
+        if (sum2 >= (BASE << 1)) sum2 -= (BASE << 1);
+        if (sum2 >= BASE) sum2 -= BASE;
+
+        return (sum1 | (sum2 << 16));
+    }/*}}}*/
+    // static ExecutorService __internal_pool();/*{{{*/
+    /**
+     * Gets the thread pool used by parallel computations.
+     * It is the pool shared by all parallel operations of the package.
+     **/
+    static ExecutorService __internal_pool()
+    {
+        return workers.pool();
+    }/*}}}*/
+    // static int[] __internal_operator(int width, int poly, boolean reflected);/*{{{*/
+    /**
+     * Builds the matrix of the operator that advances a CRC register by one
+     * zero bit.
+     **/
+    static int[] __internal_operator(int width, int poly, boolean reflected)
+    {
+        int[] op = new int[width];
+        for (int i = 0; i < width; i++)
+        {
+            if (reflected)
+                op[i] = ((i == 0) ? poly : (1 << (i - 1)));
+            else
+                op[i] = ((i == (width - 1)) ? poly : (1 << (i + 1)));
+        }
+        return op;
+    }/*}}}*/
+    // static Class<?> __internal_class(String name);/*{{{*/
+    /**
+     * Loads a class that may not exist in the current runtime.
+     **/
+    static Class<?> __internal_class(String name)
+    {
+        try { return Class.forName(name); }
+        catch (Throwable ex) { return null; }
+    }/*}}}*/
+    //@}
+
+    // static final class crc32c implements Checksum;/*{{{*/
+    /**
+     * CRC-32C for runtimes that don't have \c java.util.zip.CRC32C.
+     * Table driven, reflected, polynomial 0x82F63B78.
+     **/
+    static final class crc32c implements Checksum
+    {
+        public void update(int b) {
+            m_crc = (m_crc >>> 8) ^ TABLE[(m_crc ^ b) & 0xFF];
+        }
+        public void update(byte[] array, int off, int len) {
+            int crc = m_crc, limit = off + len;
+            while (off < limit)
+                crc = (crc >>> 8) ^ TABLE[(crc ^ array[off++]) & 0xFF];
+            m_crc = crc;
+        }
+        public long getValue() {
+            return (~m_crc & 0xFFFFFFFFL);
+        }
+        public void reset() {
+            m_crc = 0xFFFFFFFF;
+        }
+
+        static final int[] TABLE = new int[256];
+        static {
+            for (int i = 0; i < 256; i++) {
+                int crc = i;
+                for (int j = 0; j < 8; j++)
+                    crc = (((crc & 1) != 0) ? ((crc >>> 1) ^ 0x82F63B78) : (crc >>> 1));
+                TABLE[i] = crc;
+            }
+        }
+        private int m_crc = 0xFFFFFFFF;
+    }/*}}}*/
+
+    /** \name Data Members */ //@{
+    static final long  SEGMENT   = (1L << 30);  /**< Size of file mappings.    */
+    static final int[] CRC16_OP  = __internal_operator(16, Crc16.POLYNOMIAL, false); /**< CRC16 one bit operator.  */
+    static final int[] CRC32_OP  = __internal_operator(32, 0xEDB88320, true);        /**< CRC32 one bit operator.  */
+    static final int[] CRC32C_OP = __internal_operator(32, 0x82F63B78, true);        /**< CRC32C one bit operator. */
+    static final Class<?> CRC32C_TYPE = __internal_class("java.util.zip.CRC32C");    /**< JVM CRC32C, if any.      */
+    //@}
+
+}
+// vim:syntax=java.doxygen
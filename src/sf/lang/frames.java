@@ -0,0 +1,177 @@
+/**
+ * \file
+ * Defines the frames class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * Static class to build the frames of our wire protocol.
+ * A frame is made of:
+ * - A 4 bytes \b Big-Endian length prefix: the number of bytes of the
+ *   payload only.
+ * - The payload.
+ * - A 2 bytes \b Big-Endian trailer with the \c arrays::crc16() of the
+ *   length prefix and the payload.
+ *
+ * So a frame has #OVERHEAD bytes more than its payload. Frames are decoded,
+ * from data arriving in pieces of any size, by \c FrameDecoder.
+ *
+ * The cheapest way to build a frame is to write the payload directly in its
+ * final place, #HEADER bytes after the start of the frame, and call #seal()
+ * to fill the prefix and the trailer. No copy of the payload is done:
+ * <pre>
+ * BinaryWriter writer = new BinaryWriter(packet, 0, packet.length);
+ * writer.skip(frames.HEADER);
+ * writer.writeInt(id).writeUtf8String(name);
+ * int size = frames.seal(packet, 0, writer.position() - frames.HEADER);
+ * </pre>
+ * As all the library, the functions in this class don't throw exceptions.
+ * Failures are returned as one of the \c ERROR codes.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public final class frames
+{
+    /** \name Format */ //@{
+    public static final int HEADER      = 4;        /**< Length prefix size.    */
+    public static final int TRAILER     = 2;        /**< CRC trailer size.      */
+    public static final int OVERHEAD    = 6;        /**< Added to a payload.    */
+    public static final int MAX_PAYLOAD = 1048576;  /**< Default payload limit. */
+    //@}
+
+    /** \name Encoding */ //@{
+    // public static int size(int payload);/*{{{*/
+    /**
+     * Computes the size of a frame.
+     * @param payload Number of bytes of the payload.
+     * @return The number of bytes of the frame. \c ERROR::LENGTH when \a
+     * payload is negative or the frame would be larger than 2 gigabytes.
+     * @since 2.5
+     **/
+    public static int size(int payload)
+    {
+        if ((payload < 0) || (payload > (Integer.MAX_VALUE - OVERHEAD)))
+            return ERROR.LENGTH;
+        return (payload + OVERHEAD);
+    }/*}}}*/
+    // public static int seal(byte[] array, int start, int count);/*{{{*/
+    /**
+     * Completes a frame whose payload is already in place.
+     * Writes the length prefix and the CRC trailer around the payload.
+     * @param array The array with the frame.
+     * @param start Index of the first byte of the frame. The payload starts
+     * at <tt>start + HEADER</tt>.
+     * @param count Number of bytes of the payload.
+     * @return The number of bytes of the frame, <tt>count + OVERHEAD</tt>.
+     * \c ERROR::PARM when \a start or \a count are negative. \c ERROR::SPACE
+     * when \a array has no room for the frame.
+     * @since 2.5
+     **/
+    public static int seal(byte[] array, int start, int count)
+    {
+        if ((start < 0) || (count < 0)) return ERROR.PARM;
+
+        int size = size(count);
+        if ((size < 0) || (size > (arrays.length(array) - start))) return ERROR.SPACE;
+
+        arrays.writeInt(array, start, count);
+        arrays.writeShort(array, start + HEADER + count,
+                          (short)Crc16.update(Crc16.INITIAL, array, start, HEADER + count));
+        return size;
+    }/*}}}*/
+    // public static int encode(byte[] dest, int destStart, byte[] payload, int start, int count);/*{{{*/
+    /**
+     * Builds a frame from a payload in another array.
+     * The payload is copied once, directly to its place in \a dest.
+     * @param dest The array that receives the frame.
+     * @param destStart Index of \a dest where the frame starts.
+     * @param payload The array with the payload.
+     * @param start Index of the first byte of the payload.
+     * @param count Number of bytes of the payload. If less than zero all
+     * bytes from \a start up to the end of \a payload are used.
+     * @return The number of bytes of the frame. \c ERROR::PARM when the
+     * payload range is invalid. \c ERROR::SPACE when \a dest has no room for
+     * the frame.
+     * @since 2.5
+     **/
+    public static int encode(byte[] dest, int destStart, byte[] payload, int start, int count)
+    {
+        int limit = arrays.length(payload);
+
+        if ((start < 0) || (start > limit) || (destStart < 0)) return ERROR.PARM;
+        if ((count < 0) || (count > (limit - start))) count = limit - start;
+
+        int size = size(count);
+        if ((size < 0) || (size > (arrays.length(dest) - destStart))) return ERROR.SPACE;
+
+        arrays.copy(dest, destStart + HEADER, payload, start, count);
+        return seal(dest, destStart, count);
+    }/*}}}*/
+    // public static byte[] encode(byte[] payload, int start, int count);/*{{{*/
+    /**
+     * Builds a frame in a new array.
+     * @param payload The array with the payload.
+     * @param start Index of the first byte of the payload.
+     * @param count Number of bytes of the payload. If less than zero all
+     * bytes from \a start up to the end of \a payload are used.
+     * @return A new array with the frame. \b null when the payload range is
+     * invalid.
+     * @since 2.5
+     **/
+    public static byte[] encode(byte[] payload, int start, int count)
+    {
+        int limit = arrays.length(payload);
+
+        if ((start < 0) || (start > limit)) return null;
+        if ((count < 0) || (count > (limit - start))) count = limit - start;
+
+        int size = size(count);
+        if (size < 0) return null;
+
+        byte[] frame = new byte[size];
+        encode(frame, 0, payload, start, count);
+        return frame;
+    }/*}}}*/
+    // public static int encode(BinaryOutput output, byte[] payload, int start, int count);/*{{{*/
+    /**
+     * Writes a frame to a stream or channel.
+     * The payload is passed to \a output without building the frame in an
+     * intermediate array.
+     * @param output The destination.
+     * @param payload The array with the payload.
+     * @param start Index of the first byte of the payload.
+     * @param count Number of bytes of the payload. If less than zero all
+     * bytes from \a start up to the end of \a payload are used.
+     * @return \c ERROR::SUCCESS or the error of \a output. \c ERROR::PARM
+     * when the payload range is invalid.
+     * @since 2.5
+     **/
+    public static int encode(BinaryOutput output, byte[] payload, int start, int count)
+    {
+        int limit = arrays.length(payload);
+
+        if ((output == null) || (start < 0) || (start > limit)) return ERROR.PARM;
+        if ((count < 0) || (count > (limit - start))) count = limit - start;
+
+        byte[] header = new byte[HEADER];
+        arrays.writeInt(header, 0, count);
+
+        int crc = Crc16.update(Crc16.INITIAL, header, 0, HEADER);
+        crc = Crc16.update(crc, payload, start, count);
+
+        output.writeBytes(header, 0, HEADER)
+              .writeBytes(payload, start, count)
+              .writeShort(crc);
+
+        return output.error();
+    }/*}}}*/
+    //@}
+}
+// vim:syntax=java.doxygen
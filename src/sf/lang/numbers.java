@@ -51,6 +51,47 @@ public final class numbers
     public static long reverse(long number) {
         return Long.reverseBytes(number);
     }/*}}}*/
+    // public static int   reverseAll(short[] values, int start, int count);/*{{{*/
+    /**
+     * Reverses the order of bytes of each number in a range of an array.
+     * The numbers are changed in place. A sequence of Little-Endian numbers
+     * will become Big-Endian and vice-versa.
+     * \param values The array of numbers.
+     * \param start Index of the first number to reverse.
+     * \param count Number of values to reverse. If less than zero, or
+     * beyond the end of \a values, all numbers from \a start up to the end
+     * of the array are reversed.
+     * \return The number of values reversed. Zero if \a values is \b null
+     * or \a start is out of bounds.
+     * \remarks The loop has no other work than the swap, so the JIT
+     * compiles it to the processor byte swap instruction.
+     **/
+    public static int reverseAll(short[] values, int start, int count) {
+        count = arrays.__internal_span(arrays.length(values), start, count);
+        for (int i = start, limit = start + count; i < limit; i++)
+            values[i] = Short.reverseBytes(values[i]);
+        return count;
+    }/*}}}*/
+    // public static int   reverseAll(int[] values, int start, int count);/*{{{*/
+    /**
+     * @copydoc reverseAll(short[],int,int)
+     **/
+    public static int reverseAll(int[] values, int start, int count) {
+        count = arrays.__internal_span(arrays.length(values), start, count);
+        for (int i = start, limit = start + count; i < limit; i++)
+            values[i] = Integer.reverseBytes(values[i]);
+        return count;
+    }/*}}}*/
+    // public static int   reverseAll(long[] values, int start, int count);/*{{{*/
+    /**
+     * @copydoc reverseAll(short[],int,int)
+     **/
+    public static int reverseAll(long[] values, int start, int count) {
+        count = arrays.__internal_span(arrays.length(values), start, count);
+        for (int i = start, limit = start + count; i < limit; i++)
+            values[i] = Long.reverseBytes(values[i]);
+        return count;
+    }/*}}}*/
     //@}
 
     /** \name Low/High Spliting */ //@{
@@ -237,5 +278,45 @@ public final class numbers
         return (value & 0x00000000FFFFFFFF);
     }/*}}}*/
     //@}
+
+    /** \name ZigZag Encoding */ //@{
+    // public static int  zigzag  (int  value);/*{{{*/
+    /**
+     * Maps a signed value to an unsigned one with small magnitude values
+     * first: 0, -1, 1, -2, 2, ... become 0, 1, 2, 3, 4, ...
+     * \param value The signed value.
+     * \returns The encoded value. Small negative numbers become small
+     * positive numbers, so they take few bytes as a varint.
+     * \see arrays::writeZigZagInt()
+     **/
+    public static int zigzag(int value) {
+        return ((value << 1) ^ (value >> 31));
+    }/*}}}*/
+    // public static long zigzag  (long value);/*{{{*/
+    /**
+     * @copydoc zigzag(int)
+     **/
+    public static long zigzag(long value) {
+        return ((value << 1) ^ (value >> 63));
+    }/*}}}*/
+    // public static int  unzigzag(int  value);/*{{{*/
+    /**
+     * Reverses zigzag(int).
+     * \param value The encoded value.
+     * \returns The original signed value.
+     **/
+    public static int unzigzag(int value) {
+        return ((value >>> 1) ^ -(value & 1));
+    }/*}}}*/
+    // public static long unzigzag(long value);/*{{{*/
+    /**
+     * Reverses zigzag(long).
+     * \param value The encoded value.
+     * \returns The original signed value.
+     **/
+    public static long unzigzag(long value) {
+        return ((value >>> 1) ^ -(value & 1));
+    }/*}}}*/
+    //@}
 }
 // vim:syntax=java.doxygen
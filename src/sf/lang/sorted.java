@@ -0,0 +1,791 @@
+/**
+ * \file
+ * Defines the sorted class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/**
+ * \ingroup sf_lang
+ * Static class with algorithms for sorted arrays of integers.
+ * All methods expect arrays sorted in ascending order and keep the result
+ * sorted. Lists of identifiers kept this way can be searched in logarithmic
+ * time and combined without boxing any value.
+ *
+ * The set operations (union(), intersection() and difference()) switch to a
+ * <i>galloping</i> strategy when one array is much smaller than the other.
+ * Instead of stepping through every element of the large array, they jump
+ * over it with an exponential search followed by a binary search. So the
+ * cost depends mostly on the size of the small array.
+ *
+ * \b null arrays are accepted everywhere and are handled as empty arrays.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+public final class sorted
+{
+    /** \name Configuration */ //@{
+    /**
+     * Size ratio that makes the set operations gallop.
+     * When the small array has less elements than the large one divided by
+     * \c GALLOP the operations jump over the large array.
+     * Otherwise a linear merge is faster.
+     **/
+    public static final int GALLOP = 16;
+    //@}
+
+    /** \name Searching int Arrays */ //@{
+    // public static int binarySearch(int[] array, int key);/*{{{*/
+    /**
+     * Searches a value in a sorted array.
+     * \param array The sorted array.
+     * \param key The value to search.
+     * \return The index of \a key, when found. Otherwise <tt>(-(insertion
+     * point) - 1)</tt>, where the insertion point is the index of the first
+     * element greater than \a key. So the result is not negative only when
+     * \a key is found, like in \c java.util.Arrays.binarySearch().
+     **/
+    public static int binarySearch(int[] array, int key)
+    {
+        return binarySearch(array, 0, arrays.length(array), key);
+    }/*}}}*/
+    // public static int binarySearch(int[] array, int start, int count, int key);/*{{{*/
+    /**
+     * Searches a value in part of a sorted array.
+     * \param array The sorted array.
+     * \param start Index of the first element of the range.
+     * \param count Number of elements in the range. If less than zero or
+     * beyond the end of the array, all elements from \a start are used.
+     * \param key The value to search.
+     * \return The index of \a key in \a array, when found. Otherwise
+     * <tt>(-(insertion point) - 1)</tt>. When \a start is out of bounds the
+     * result is <tt>(-start - 1)</tt>.
+     **/
+    public static int binarySearch(int[] array, int start, int count, int key)
+    {
+        int limit = arrays.length(array);
+
+        if ((start < 0) || (start >= limit)) return (-start - 1);
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int lo = start, hi = start + count - 1, mid;
+        while (lo <= hi)
+        {
+            mid = ((lo + hi) >>> 1);
+            if (array[mid] < key)
+                lo = mid + 1;
+            else if (array[mid] > key)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+        return -(lo + 1);
+    }/*}}}*/
+    // public static boolean contains(int[] array, int key);/*{{{*/
+    /**
+     * Checks whether a sorted array has a value.
+     * \param array The sorted array.
+     * \param key The value to search.
+     * \return \b true when \a key is found.
+     **/
+    public static boolean contains(int[] array, int key)
+    {
+        return (binarySearch(array, 0, arrays.length(array), key) >= 0);
+    }/*}}}*/
+    //@}
+
+    /** \name Changing int Arrays */ //@{
+    // public static int[] insertSorted(int[] array, int value, boolean unique);/*{{{*/
+    /**
+     * Inserts a value in a sorted array keeping it sorted.
+     * \param array The sorted array. Can be \b null.
+     * \param value The value to insert.
+     * \param unique When \b true the value is not inserted if it is already
+     * in the array. When \b false duplicates are allowed. The new value is
+     * placed after the equal values already in the array.
+     * \return A new array with the value inserted. The position is found by
+     * a binary search and the array is allocated once. If \a unique is \b
+     * true and \a value is already in the array, the array itself is
+     * returned.
+     **/
+    public static int[] insertSorted(int[] array, int value, boolean unique)
+    {
+        int count = arrays.length(array);
+        int index = binarySearch(array, 0, count, value);
+
+        if (index >= 0) {
+            if (unique) return array;
+            while ((index < count) && (array[index] == value)) index++;
+        }
+        else
+            index = -(index + 1);
+
+        int[] temp = new int[count + 1];
+        if (index > 0) System.arraycopy(array, 0, temp, 0, index);
+        temp[index] = value;
+        if (index < count) System.arraycopy(array, index, temp, index + 1, count - index);
+        return temp;
+    }/*}}}*/
+    // public static int[] removeSorted(int[] array, int value);/*{{{*/
+    /**
+     * Removes a value from a sorted array.
+     * \param array The sorted array. Can be \b null.
+     * \param value The value to remove. If the array has several equal
+     * values only one is removed.
+     * \return A new array without the value. If the value is not found the
+     * array itself is returned.
+     **/
+    public static int[] removeSorted(int[] array, int value)
+    {
+        int index = binarySearch(array, 0, arrays.length(array), value);
+        return ((index < 0) ? array : arrays.removeRange(array, index, index + 1));
+    }/*}}}*/
+    //@}
+
+    /** \name Combining int Arrays */ //@{
+    // public static int[] merge(int[][] lists, boolean unique);/*{{{*/
+    /**
+     * Merges several sorted arrays into a single sorted array.
+     * \param lists The arrays to merge. Each one must be sorted. \b null
+     * elements are ignored.
+     * \param unique When \b true equal values are kept only once. When \b
+     * false every value of every array is in the result.
+     * \return A new sorted array. Never \b null.
+     * \remarks The merge keeps a heap with the current element of every
+     * array, so it runs in <tt>n log k</tt> time for \c k arrays with a
+     * total of \c n elements.
+     **/
+    public static int[] merge(int[][] lists, boolean unique)
+    {
+        int k = arrays.length(lists), total = 0;
+        for (int i = 0; i < k; i++)
+            total += arrays.length(lists[i]);
+
+        int[] result = new int[total];
+        int[] heap   = new int[k];      /* Indexes of the lists.            */
+        int[] next   = new int[k];      /* Next element of each list.       */
+        int   size   = 0, pos = 0;
+
+        for (int i = 0; i < k; i++) {
+            if (arrays.length(lists[i]) > 0) heap[size++] = i;
+        }
+        for (int i = (size >>> 1) - 1; i >= 0; i--)
+            __internal_sift(lists, next, heap, size, i);
+
+        int[] list;
+        int   value;
+        while (size > 0)
+        {
+            list  = lists[heap[0]];
+            value = list[next[heap[0]]++];
+
+            if (!unique || (pos == 0) || (result[pos-1] != value))
+                result[pos++] = value;
+
+            if (next[heap[0]] == list.length)
+                heap[0] = heap[--size];
+            if (size > 0)
+                __internal_sift(lists, next, heap, size, 0);
+        }
+        return ((pos == total) ? result : arrays.slice(result, 0, pos));
+    }/*}}}*/
+    // public static int[] union(int[] a, int[] b);/*{{{*/
+    /**
+     * Builds the union of two sorted arrays.
+     * \param a First sorted array.
+     * \param b Second sorted array.
+     * \return A new sorted array with the values present in \a a or in \a
+     * b. Values present in both are stored once. Never \b null.
+     **/
+    public static int[] union(int[] a, int[] b)
+    {
+        int n = arrays.length(a), m = arrays.length(b);
+        if (n < m) {                    /* 'a' is always the largest. */
+            int[] t = a; a = b; b = t;
+            n = m; m = arrays.length(b);
+        }
+
+        int[] result = new int[n + m];
+        int i = 0, j = 0, pos = 0, end;
+
+        if (m < (n / GALLOP))
+        {
+            while (j < m)
+            {
+                end = __internal_gallop(a, i, n, b[j]);
+                System.arraycopy(a, i, result, pos, end - i);
+                pos += (end - i);
+                i = end;
+
+                result[pos++] = b[j];
+                if ((i < n) && (a[i] == b[j])) i++;
+                j++;
+            }
+        }
+        else
+        {
+            while ((i < n) && (j < m))
+            {
+                if (a[i] < b[j])
+                    result[pos++] = a[i++];
+                else if (a[i] > b[j])
+                    result[pos++] = b[j++];
+                else {
+                    result[pos++] = a[i++];
+                    j++;
+                }
+            }
+            if (j < m) {
+                System.arraycopy(b, j, result, pos, m - j);
+                pos += (m - j);
+            }
+        }
+        if (i < n) {
+            System.arraycopy(a, i, result, pos, n - i);
+            pos += (n - i);
+        }
+
+        return ((pos == result.length) ? result : arrays.slice(result, 0, pos));
+    }/*}}}*/
+    // public static int[] intersection(int[] a, int[] b);/*{{{*/
+    /**
+     * Builds the intersection of two sorted arrays.
+     * \param a First sorted array.
+     * \param b Second sorted array.
+     * \return A new sorted array with the values present in both \a a and
+     * \a b. Never \b null.
+     **/
+    public static int[] intersection(int[] a, int[] b)
+    {
+        int n = arrays.length(a), m = arrays.length(b);
+        if (n < m) {                    /* 'a' is always the largest. */
+            int[] t = a; a = b; b = t;
+            n = m; m = arrays.length(b);
+        }
+
+        int[] result = new int[m];
+        int i = 0, j = 0, pos = 0;
+
+        if (m < (n / GALLOP))
+        {
+            while ((j < m) && (i < n))
+            {
+                i = __internal_gallop(a, i, n, b[j]);
+                if ((i < n) && (a[i] == b[j])) {
+                    result[pos++] = b[j];
+                    i++;
+                }
+                j++;
+            }
+        }
+        else
+        {
+            while ((i < n) && (j < m))
+            {
+                if (a[i] < b[j])
+                    i++;
+                else if (a[i] > b[j])
+                    j++;
+                else {
+                    result[pos++] = a[i++];
+                    j++;
+                }
+            }
+        }
+        return ((pos == result.length) ? result : arrays.slice(result, 0, pos));
+    }/*}}}*/
+    // public static int[] difference(int[] a, int[] b);/*{{{*/
+    /**
+     * Builds the difference of two sorted arrays.
+     * \param a Sorted array with the values to keep.
+     * \param b Sorted array with the values to exclude.
+     * \return A new sorted array with the values of \a a that are not
+     * present in \a b. Never \b null.
+     **/
+    public static int[] difference(int[] a, int[] b)
+    {
+        int n = arrays.length(a), m = arrays.length(b);
+        int[] result = new int[n];
+        int i = 0, j = 0, pos = 0, end;
+
+        if (n < (m / GALLOP))
+        {
+            /* Small 'a': look for each value in 'b'. */
+            for (i = 0; i < n; i++) {
+                j = __internal_gallop(b, j, m, a[i]);
+                if ((j == m) || (b[j] != a[i]))
+                    result[pos++] = a[i];
+            }
+            return ((pos == n) ? result : arrays.slice(result, 0, pos));
+        }
+
+        if (m < (n / GALLOP))
+        {
+            /* Small 'b': copy the runs of 'a' between its values. */
+            for (j = 0; j < m; j++)
+            {
+                end = __internal_gallop(a, i, n, b[j]);
+                System.arraycopy(a, i, result, pos, end - i);
+                pos += (end - i);
+                i = end;
+                if ((i < n) && (a[i] == b[j])) i++;
+            }
+        }
+        else
+        {
+            while ((i < n) && (j < m))
+            {
+                if (a[i] < b[j])
+                    result[pos++] = a[i++];
+                else if (a[i] > b[j])
+                    j++;
+                else {
+                    i++;
+                    j++;
+                }
+            }
+        }
+        if (i < n) {
+            System.arraycopy(a, i, result, pos, n - i);
+            pos += (n - i);
+        }
+
+        return ((pos == n) ? result : arrays.slice(result, 0, pos));
+    }/*}}}*/
+    //@}
+
+    /** \name Searching long Arrays */ //@{
+    // public static int binarySearch(long[] array, long key);/*{{{*/
+    /**
+     * Searches a value in a sorted array.
+     * \param array The sorted array.
+     * \param key The value to search.
+     * \return The index of \a key, when found. Otherwise <tt>(-(insertion
+     * point) - 1)</tt>, where the insertion point is the index of the first
+     * element greater than \a key. So the result is not negative only when
+     * \a key is found, like in \c java.util.Arrays.binarySearch().
+     **/
+    public static int binarySearch(long[] array, long key)
+    {
+        return binarySearch(array, 0, arrays.length(array), key);
+    }/*}}}*/
+    // public static int binarySearch(long[] array, int start, int count, long key);/*{{{*/
+    /**
+     * Searches a value in part of a sorted array.
+     * \param array The sorted array.
+     * \param start Index of the first element of the range.
+     * \param count Number of elements in the range. If less than zero or
+     * beyond the end of the array, all elements from \a start are used.
+     * \param key The value to search.
+     * \return The index of \a key in \a array, when found. Otherwise
+     * <tt>(-(insertion point) - 1)</tt>. When \a start is out of bounds the
+     * result is <tt>(-start - 1)</tt>.
+     **/
+    public static int binarySearch(long[] array, int start, int count, long key)
+    {
+        int limit = arrays.length(array);
+
+        if ((start < 0) || (start >= limit)) return (-start - 1);
+        if ((count < 0) || (count > (limit - start))) count = (limit - start);
+
+        int lo = start, hi = start + count - 1, mid;
+        while (lo <= hi)
+        {
+            mid = ((lo + hi) >>> 1);
+            if (array[mid] < key)
+                lo = mid + 1;
+            else if (array[mid] > key)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+        return -(lo + 1);
+    }/*}}}*/
+    // public static boolean contains(long[] array, long key);/*{{{*/
+    /**
+     * Checks whether a sorted array has a value.
+     * \param array The sorted array.
+     * \param key The value to search.
+     * \return \b true when \a key is found.
+     **/
+    public static boolean contains(long[] array, long key)
+    {
+        return (binarySearch(array, 0, arrays.length(array), key) >= 0);
+    }/*}}}*/
+    //@}
+
+    /** \name Changing long Arrays */ //@{
+    // public static long[] insertSorted(long[] array, long value, boolean unique);/*{{{*/
+    /**
+     * Inserts a value in a sorted array keeping it sorted.
+     * \param array The sorted array. Can be \b null.
+     * \param value The value to insert.
+     * \param unique When \b true the value is not inserted if it is already
+     * in the array. When \b false duplicates are allowed. The new value is
+     * placed after the equal values already in the array.
+     * \return A new array with the value inserted. The position is found by
+     * a binary search and the array is allocated once. If \a unique is \b
+     * true and \a value is already in the array, the array itself is
+     * returned.
+     **/
+    public static long[] insertSorted(long[] array, long value, boolean unique)
+    {
+        int count = arrays.length(array);
+        int index = binarySearch(array, 0, count, value);
+
+        if (index >= 0) {
+            if (unique) return array;
+            while ((index < count) && (array[index] == value)) index++;
+        }
+        else
+            index = -(index + 1);
+
+        long[] temp = new long[count + 1];
+        if (index > 0) System.arraycopy(array, 0, temp, 0, index);
+        temp[index] = value;
+        if (index < count) System.arraycopy(array, index, temp, index + 1, count - index);
+        return temp;
+    }/*}}}*/
+    // public static long[] removeSorted(long[] array, long value);/*{{{*/
+    /**
+     * Removes a value from a sorted array.
+     * \param array The sorted array. Can be \b null.
+     * \param value The value to remove. If the array has several equal
+     * values only one is removed.
+     * \return A new array without the value. If the value is not found the
+     * array itself is returned.
+     **/
+    public static long[] removeSorted(long[] array, long value)
+    {
+        int index = binarySearch(array, 0, arrays.length(array), value);
+        return ((index < 0) ? array : arrays.removeRange(array, index, index + 1));
+    }/*}}}*/
+    //@}
+
+    /** \name Combining long Arrays */ //@{
+    // public static long[] merge(long[][] lists, boolean unique);/*{{{*/
+    /**
+     * Merges several sorted arrays into a single sorted array.
+     * \param lists The arrays to merge. Each one must be sorted. \b null
+     * elements are ignored.
+     * \param unique When \b true equal values are kept only once. When \b
+     * false every value of every array is in the result.
+     * \return A new sorted array. Never \b null.
+     * \remarks The merge keeps a heap with the current element of every
+     * array, so it runs in <tt>n log k</tt> time for \c k arrays with a
+     * total of \c n elements.
+     **/
+    public static long[] merge(long[][] lists, boolean unique)
+    {
+        int k = arrays.length(lists), total = 0;
+        for (int i = 0; i < k; i++)
+            total += arrays.length(lists[i]);
+
+        long[] result = new long[total];
+        int[] heap   = new int[k];      /* Indexes of the lists.            */
+        int[] next   = new int[k];      /* Next element of each list.       */
+        int   size   = 0, pos = 0;
+
+        for (int i = 0; i < k; i++) {
+            if (arrays.length(lists[i]) > 0) heap[size++] = i;
+        }
+        for (int i = (size >>> 1) - 1; i >= 0; i--)
+            __internal_sift(lists, next, heap, size, i);
+
+        long[] list;
+        long   value;
+        while (size > 0)
+        {
+            list  = lists[heap[0]];
+            value = list[next[heap[0]]++];
+
+            if (!unique || (pos == 0) || (result[pos-1] != value))
+                result[pos++] = value;
+
+            if (next[heap[0]] == list.length)
+                heap[0] = heap[--size];
+            if (size > 0)
+                __internal_sift(lists, next, heap, size, 0);
+        }
+        return ((pos == total) ? result : arrays.slice(result, 0, pos));
+    }/*}}}*/
+    // public static long[] union(long[] a, long[] b);/*{{{*/
+    /**
+     * Builds the union of two sorted arrays.
+     * \param a First sorted array.
+     * \param b Second sorted array.
+     * \return A new sorted array with the values present in \a a or in \a
+     * b. Values present in both are stored once. Never \b null.
+     **/
+    public static long[] union(long[] a, long[] b)
+    {
+        int n = arrays.length(a), m = arrays.length(b);
+        if (n < m) {                    /* 'a' is always the largest. */
+            long[] t = a; a = b; b = t;
+            n = m; m = arrays.length(b);
+        }
+
+        long[] result = new long[n + m];
+        int i = 0, j = 0, pos = 0, end;
+
+        if (m < (n / GALLOP))
+        {
+            while (j < m)
+            {
+                end = __internal_gallop(a, i, n, b[j]);
+                System.arraycopy(a, i, result, pos, end - i);
+                pos += (end - i);
+                i = end;
+
+                result[pos++] = b[j];
+                if ((i < n) && (a[i] == b[j])) i++;
+                j++;
+            }
+        }
+        else
+        {
+            while ((i < n) && (j < m))
+            {
+                if (a[i] < b[j])
+                    result[pos++] = a[i++];
+                else if (a[i] > b[j])
+                    result[pos++] = b[j++];
+                else {
+                    result[pos++] = a[i++];
+                    j++;
+                }
+            }
+            if (j < m) {
+                System.arraycopy(b, j, result, pos, m - j);
+                pos += (m - j);
+            }
+        }
+        if (i < n) {
+            System.arraycopy(a, i, result, pos, n - i);
+            pos += (n - i);
+        }
+
+        return ((pos == result.length) ? result : arrays.slice(result, 0, pos));
+    }/*}}}*/
+    // public static long[] intersection(long[] a, long[] b);/*{{{*/
+    /**
+     * Builds the intersection of two sorted arrays.
+     * \param a First sorted array.
+     * \param b Second sorted array.
+     * \return A new sorted array with the values present in both \a a and
+     * \a b. Never \b null.
+     **/
+    public static long[] intersection(long[] a, long[] b)
+    {
+        int n = arrays.length(a), m = arrays.length(b);
+        if (n < m) {                    /* 'a' is always the largest. */
+            long[] t = a; a = b; b = t;
+            n = m; m = arrays.length(b);
+        }
+
+        long[] result = new long[m];
+        int i = 0, j = 0, pos = 0;
+
+        if (m < (n / GALLOP))
+        {
+            while ((j < m) && (i < n))
+            {
+                i = __internal_gallop(a, i, n, b[j]);
+                if ((i < n) && (a[i] == b[j])) {
+                    result[pos++] = b[j];
+                    i++;
+                }
+                j++;
+            }
+        }
+        else
+        {
+            while ((i < n) && (j < m))
+            {
+                if (a[i] < b[j])
+                    i++;
+                else if (a[i] > b[j])
+                    j++;
+                else {
+                    result[pos++] = a[i++];
+                    j++;
+                }
+            }
+        }
+        return ((pos == result.length) ? result : arrays.slice(result, 0, pos));
+    }/*}}}*/
+    // public static long[] difference(long[] a, long[] b);/*{{{*/
+    /**
+     * Builds the difference of two sorted arrays.
+     * \param a Sorted array with the values to keep.
+     * \param b Sorted array with the values to exclude.
+     * \return A new sorted array with the values of \a a that are not
+     * present in \a b. Never \b null.
+     **/
+    public static long[] difference(long[] a, long[] b)
+    {
+        int n = arrays.length(a), m = arrays.length(b);
+        long[] result = new long[n];
+        int i = 0, j = 0, pos = 0, end;
+
+        if (n < (m / GALLOP))
+        {
+            /* Small 'a': look for each value in 'b'. */
+            for (i = 0; i < n; i++) {
+                j = __internal_gallop(b, j, m, a[i]);
+                if ((j == m) || (b[j] != a[i]))
+                    result[pos++] = a[i];
+            }
+            return ((pos == n) ? result : arrays.slice(result, 0, pos));
+        }
+
+        if (m < (n / GALLOP))
+        {
+            /* Small 'b': copy the runs of 'a' between its values. */
+            for (j = 0; j < m; j++)
+            {
+                end = __internal_gallop(a, i, n, b[j]);
+                System.arraycopy(a, i, result, pos, end - i);
+                pos += (end - i);
+                i = end;
+                if ((i < n) && (a[i] == b[j])) i++;
+            }
+        }
+        else
+        {
+            while ((i < n) && (j < m))
+            {
+                if (a[i] < b[j])
+                    result[pos++] = a[i++];
+                else if (a[i] > b[j])
+                    j++;
+                else {
+                    i++;
+                    j++;
+                }
+            }
+        }
+        if (i < n) {
+            System.arraycopy(a, i, result, pos, n - i);
+            pos += (n - i);
+        }
+
+        return ((pos == n) ? result : arrays.slice(result, 0, pos));
+    }/*}}}*/
+    //@}
+
+    /** \name Internal Methods */ //@{
+    // static int __internal_gallop(int[] array, int from, int to, int key);/*{{{*/
+    /**
+     * Finds the first element not less than a value.
+     * Probes positions at growing distances from \a from (1, 2, 4, ...) and
+     * then does a binary search in the last interval.
+     * \param array The sorted array.
+     * \param from First index to search.
+     * \param to Index just after the last element to search.
+     * \param key The value to search.
+     * \return The index of the first element, at or after \a from, equal to
+     * or greater than \a key. \a to when there is no such element.
+     **/
+    static int __internal_gallop(int[] array, int from, int to, int key)
+    {
+        if ((from >= to) || (array[from] >= key)) return from;
+
+        int lo = from, step = 1, hi = from + 1;     /* array[lo] < key */
+        while ((hi < to) && (array[hi] < key)) {
+            lo    = hi;
+            step <<= 1;
+            hi    = ((step < (to - lo)) ? (lo + step) : to);
+        }
+
+        /* array[lo] < key <= array[hi] (or hi == to) */
+        int mid;
+        while ((hi - lo) > 1) {
+            mid = ((lo + hi) >>> 1);
+            if (array[mid] < key) lo = mid; else hi = mid;
+        }
+        return hi;
+    }/*}}}*/
+    // static void __internal_sift(int[][] lists, int[] next, int[] heap, int size, int i);/*{{{*/
+    /**
+     * Restores the heap property of the k-way merge.
+     * The heap has indexes of \a lists ordered by their current element.
+     **/
+    static void __internal_sift(int[][] lists, int[] next, int[] heap, int size, int i)
+    {
+        int  child, item = heap[i];
+        int value = lists[item][next[item]];
+
+        while ((child = (i << 1) + 1) < size)
+        {
+            if (((child + 1) < size) &&
+                (lists[heap[child+1]][next[heap[child+1]]] < lists[heap[child]][next[heap[child]]]))
+                child++;
+
+            if (lists[heap[child]][next[heap[child]]] >= value) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }/*}}}*/
+    // static int __internal_gallop(long[] array, int from, int to, long key);/*{{{*/
+    /**
+     * Finds the first element not less than a value.
+     * Probes positions at growing distances from \a from (1, 2, 4, ...) and
+     * then does a binary search in the last interval.
+     * \param array The sorted array.
+     * \param from First index to search.
+     * \param to Index just after the last element to search.
+     * \param key The value to search.
+     * \return The index of the first element, at or after \a from, equal to
+     * or greater than \a key. \a to when there is no such element.
+     **/
+    static int __internal_gallop(long[] array, int from, int to, long key)
+    {
+        if ((from >= to) || (array[from] >= key)) return from;
+
+        int lo = from, step = 1, hi = from + 1;     /* array[lo] < key */
+        while ((hi < to) && (array[hi] < key)) {
+            lo    = hi;
+            step <<= 1;
+            hi    = ((step < (to - lo)) ? (lo + step) : to);
+        }
+
+        /* array[lo] < key <= array[hi] (or hi == to) */
+        int mid;
+        while ((hi - lo) > 1) {
+            mid = ((lo + hi) >>> 1);
+            if (array[mid] < key) lo = mid; else hi = mid;
+        }
+        return hi;
+    }/*}}}*/
+    // static void __internal_sift(long[][] lists, int[] next, int[] heap, int size, int i);/*{{{*/
+    /**
+     * Restores the heap property of the k-way merge.
+     * The heap has indexes of \a lists ordered by their current element.
+     **/
+    static void __internal_sift(long[][] lists, int[] next, int[] heap, int size, int i)
+    {
+        int  child, item = heap[i];
+        long value = lists[item][next[item]];
+
+        while ((child = (i << 1) + 1) < size)
+        {
+            if (((child + 1) < size) &&
+                (lists[heap[child+1]][next[heap[child+1]]] < lists[heap[child]][next[heap[child]]]))
+                child++;
+
+            if (lists[heap[child]][next[heap[child]]] >= value) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }/*}}}*/
+    //@}
+}
+// vim:syntax=java.doxygen
@@ -110,77 +110,40 @@ public final class strings
      **/
     public static long toLong(String num, int radix)
     {
-        long result = 0L;
-
         if ((num == null) || (num.length() == 0)) {
-            return result;
+            return 0L;
         }
 
         char[] arr = getChars(num.trim());
-        char c;
-        int   pos = 0;
-        int count = arr.length;
-        int   val = 0;
-        boolean negative = false;
-
-        while ((pos < count) && Character.isWhitespace(arr[pos])) {
-            pos++;                  /* Skip white spaces. */
-        }
-
-        if (pos >= count) {
-            return result;          /* Only spaces in the text. */
-        }
-
-        /* Check of a sign. */
-        if (arr[pos] == '-') {
-            pos++;
-            negative = true;
-        } else if (arr[pos] == '+') {
-            pos++;
-        }
-
-        /* We always need to check about the end of the string. */
-        if (pos >= count) return result;
-
-        /* If radix is zero we need to figure out. */
-        if (radix == 0) {
-            if ((arr[pos] == '0') && (pos < (count - 1))) {
-                if ((arr[pos+1] == 'x') || (arr[pos+1] == 'X'))
-                    radix = 16;
-                else
-                    radix = 8;
-            }
-            else
-                radix = 10;
-        }
-
-        /* Validating the 'radix' value. */
-        if ((radix < 0) || (radix == 1) || (radix > 36)) {
-            return result;
-        } else if (radix == 16) {
-            /* The text might have '0x' on it. We should remove it. */
-            if ((arr[pos] == '0') && (pos < (count - 1))) {
-                if ((arr[pos+1] == 'x') || (arr[pos+1] == 'X'))
-                    pos += 2;
-            }
-        }
-
-        while (pos < count) {
-            c = arr[pos++];
-
-            if (Character.isDigit(c))
-                val = Character.digit(c, 10);
-            else if (Character.isLetter(c))
-                val = Character.digit(c, 16);
-            else
-                break;                  /* Invalid char. */
-
-            if (val >= radix) break;    /* Another invalid value. */
-            result = result * radix + val;  /* NOTE: possibility of ArithmeticException. */
-        }
-
-        /* End of the conversion. Negate the number if we found a sign. */
-        return (negative ? -result : result);
+        return __internal_toLong(arr, 0, arrays.length(arr), radix);
+    }/*}}}*/
+    // public static int    toInt(CharSlice num, int radix);/*{{{*/
+    /**
+     * Converts the characters of a view to a number.
+     * No characters are copied.
+     * \param num The view with the number. Can be \b null.
+     * \param radix The radix of the conversion, as in toLong(String,int).
+     * \return The \b int value result of the conversion.
+     * @since 2.5
+     **/
+    public static int toInt(CharSlice num, int radix) {
+        return (int)(strings.toLong(num, radix) & 0x00000000FFFFFFFF);
+    }/*}}}*/
+    // public static long   toLong(CharSlice num, int radix);/*{{{*/
+    /**
+     * Converts the characters of a view to a number.
+     * No characters are copied.
+     * \param num The view with the number. Can be \b null. Leading white
+     * spaces are skipped.
+     * \param radix The radix of the conversion, as in toLong(String,int).
+     * \return The \b long value result of the conversion. Zero if \a num is
+     * \b null or empty.
+     * @since 2.5
+     **/
+    public static long toLong(CharSlice num, int radix)
+    {
+        if ((num == null) || num.isEmpty()) return 0L;
+        return __internal_toLong(num.array(), num.offset(), num.offset() + num.length(), radix);
     }/*}}}*/
     // public static float  toFloat(String num);/*{{{*/
     /**
@@ -232,7 +195,7 @@ public final class strings
             count = limit - start;
         }
         char[] result = new char[count];
-        try { s.getChars(start, count, result, 0); }
+        try { s.getChars(start, start + count, result, 0); }
         catch (Exception ex) { result = null; }
         return result;
     }/*}}}*/
@@ -508,5 +471,79 @@ public final class strings
         return strings.substr(path, (index + 1), -1);
     }/*}}}*/
     //@}
+
+    /** \name Internal Methods */ //@{
+    // static long __internal_toLong(char[] arr, int pos, int count, int radix);/*{{{*/
+    /**
+     * Implements toLong(String,int) over the characters from \a pos up to,
+     * not including, \a count.
+     **/
+    static long __internal_toLong(char[] arr, int pos, int count, int radix)
+    {
+        long result = 0L;
+        char c;
+        int   val = 0;
+        boolean negative = false;
+
+        while ((pos < count) && Character.isWhitespace(arr[pos])) {
+            pos++;                  /* Skip white spaces. */
+        }
+
+        if (pos >= count) {
+            return result;          /* Only spaces in the text. */
+        }
+
+        /* Check of a sign. */
+        if (arr[pos] == '-') {
+            pos++;
+            negative = true;
+        } else if (arr[pos] == '+') {
+            pos++;
+        }
+
+        /* We always need to check about the end of the string. */
+        if (pos >= count) return result;
+
+        /* If radix is zero we need to figure out. */
+        if (radix == 0) {
+            if ((arr[pos] == '0') && (pos < (count - 1))) {
+                if ((arr[pos+1] == 'x') || (arr[pos+1] == 'X'))
+                    radix = 16;
+                else
+                    radix = 8;
+            }
+            else
+                radix = 10;
+        }
+
+        /* Validating the 'radix' value. */
+        if ((radix < 0) || (radix == 1) || (radix > 36)) {
+            return result;
+        } else if (radix == 16) {
+            /* The text might have '0x' on it. We should remove it. */
+            if ((arr[pos] == '0') && (pos < (count - 1))) {
+                if ((arr[pos+1] == 'x') || (arr[pos+1] == 'X'))
+                    pos += 2;
+            }
+        }
+
+        while (pos < count) {
+            c = arr[pos++];
+
+            if (Character.isDigit(c))
+                val = Character.digit(c, 10);
+            else if (Character.isLetter(c))
+                val = Character.digit(c, 16);
+            else
+                break;                  /* Invalid char. */
+
+            if (val >= radix) break;    /* Another invalid value. */
+            result = result * radix + val;  /* NOTE: possibility of ArithmeticException. */
+        }
+
+        /* End of the conversion. Negate the number if we found a sign. */
+        return (negative ? -result : result);
+    }/*}}}*/
+    //@}
 }
 // vim:syntax=java.doxygen
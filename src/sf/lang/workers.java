@@ -0,0 +1,200 @@
+/**
+ * \file
+ * Defines the workers class.
+ *
+ * \author Alessandro Antonello <aantonello@paralaxe.com.br>
+ * \date   Outubro 18, 2026
+ * \since  Simple Framework 2.5
+ *
+ * \par License
+ * Apache v2 License.
+ */
+package sf.lang;
+
+/* #imports {{{ */
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+/* }}} #imports */
+
+/**
+ * \ingroup sf_lang
+ * Thread pool shared by the parallel operations of this package.
+ * The pool is created on first use with one daemon thread per processor. The
+ * work is split in chunks that are taken, one at a time, by a fixed number of
+ * workers. The calling thread is one of them. So a slow chunk doesn't hold
+ * the others and the number of threads working at the same time is exactly
+ * the parallelism requested.
+ *
+ * This class is internal to the package.
+ * @since 2.5
+ *//* --------------------------------------------------------------------- */
+final class workers
+{
+    // interface chunk;/*{{{*/
+    /**
+     * A piece of work.
+     **/
+    interface chunk
+    {
+        /**
+         * Processes one chunk.
+         * @param index Index of the chunk, from zero.
+         **/
+        void run(int index);
+    }/*}}}*/
+
+    // static final class thread extends Thread;/*{{{*/
+    /**
+     * The threads of the pool. Daemon threads, so they don't keep the
+     * application running, and recognized by #run() to avoid nested waits.
+     **/
+    static final class thread extends Thread
+    {
+        thread(Runnable task) {
+            super(task, "sf-worker");
+            setDaemon(true);
+        }
+    }/*}}}*/
+
+    /** \name Constants */ //@{
+    /** Number of processors available. */
+    static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    /** Bytes processed by a chunk. Small enough to stay in the L2 cache. */
+    static final int CHUNK = 262144;
+    //@}
+
+    /** \name Operations */ //@{
+    // static boolean run(int parallelism, int chunks, chunk task);/*{{{*/
+    /**
+     * Runs a task over a number of chunks.
+     * @param parallelism Maximum number of threads working, including the
+     * calling thread.
+     * @param chunks Number of chunks.
+     * @param task The work to do. Called once for each chunk index.
+     * @return \b true when all chunks were processed. \b false when the
+     * calling thread was interrupted. In that case some chunks may not have
+     * been processed and the interrupted state of the thread is kept.
+     * \remarks The method returns only after every worker stopped, so none
+     * is still running when the caller redoes the work. A \c
+     * RuntimeException or an \c Error thrown by a chunk stops the remaining
+     * chunks, cancels the queued tasks and is thrown again to the caller.
+     * When called from a thread of the pool, by a nested parallel
+     * operation, all chunks are processed in the calling thread. Waiting
+     * for the pool from one of its own threads could dead lock.
+     **/
+    static boolean run(int parallelism, final int chunks, final chunk task)
+    {
+        int count = Math.min(parallelism, chunks) - 1;
+        if ((count <= 0) || (Thread.currentThread() instanceof thread))
+        {
+            for (int i = 0; i < chunks; i++)
+                task.run(i);
+            return true;
+        }
+
+        final AtomicInteger next = new AtomicInteger(0);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final int[] busy = { 0 };
+
+        Runnable worker = new Runnable() {
+            public void run() {
+                synchronized (busy) { busy[0]++; }
+                try {
+                    int index;
+                    while ((index = next.getAndIncrement()) < chunks)
+                        task.run(index);
+                }
+                catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                    next.set(chunks);
+                }
+                finally {
+                    synchronized (busy) { if (--busy[0] == 0) busy.notifyAll(); }
+                }
+            }
+        };
+
+        Future<?>[] tasks = new Future<?>[count];
+        ExecutorService service = workers.pool();
+
+        for (int i = 0; i < count; i++)
+            tasks[i] = service.submit(worker);
+
+        /* The calling thread is a worker too. It stops when interrupted. */
+        boolean interrupted = false;
+        try
+        {
+            int index;
+            while ((index = next.getAndIncrement()) < chunks)
+            {
+                if (Thread.currentThread().isInterrupted()) {
+                    interrupted = true;
+                    next.set(chunks);
+                    break;
+                }
+                task.run(index);
+            }
+        }
+        catch (RuntimeException ex) {
+            failure.compareAndSet(null, ex);
+            next.set(chunks);
+        }
+        catch (Error err) {
+            failure.compareAndSet(null, err);
+            next.set(chunks);
+        }
+
+        /* All chunks were taken. Tasks still in the queue have nothing to
+         * do. Those already running are waited for. */
+        for (int i = 0; i < count; i++)
+            tasks[i].cancel(false);
+
+        synchronized (busy)
+        {
+            while (busy[0] > 0)
+            {
+                try { busy.wait(); }
+                catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) Thread.currentThread().interrupt();
+
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException) throw (RuntimeException)error;
+        if (error instanceof Error) throw (Error)error;
+        if (error != null) throw new IllegalStateException(error);
+
+        return !interrupted;
+    }/*}}}*/
+    // static synchronized ExecutorService pool();/*{{{*/
+    /**
+     * Gets the thread pool.
+     * The pool is created on first use with one daemon thread per processor.
+     **/
+    static synchronized ExecutorService pool()
+    {
+        if (s_pool == null)
+        {
+            s_pool = Executors.newFixedThreadPool(CORES, new ThreadFactory() {
+                public Thread newThread(Runnable task) {
+                    return new thread(task);
+                }
+            });
+        }
+        return s_pool;
+    }/*}}}*/
+    //@}
+
+    /** \name Data Members */ //@{
+    static ExecutorService s_pool;          /**< The shared pool.           */
+    //@}
+}
+// vim:syntax=java.doxygen